@@ -22,10 +22,13 @@
 package org.uma.jmetal.algorithm.multiobjective.gde3;
 
 import org.uma.jmetal.algorithm.impl.AbstractDifferentialEvolution;
+import org.uma.jmetal.algorithm.impl.DifferentialEvolutionEngine;
 import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
 import org.uma.jmetal.operator.impl.selection.DifferentialEvolutionSelection;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.util.SolutionPool;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.comparator.DominanceComparator;
@@ -53,6 +56,9 @@ public class GDE3 extends AbstractDifferentialEvolution<List<DoubleSolution>> {
 
   protected SolutionListEvaluator evaluator;
 
+  private SolutionPool<DoubleSolution> solutionPool;
+  private Set<DoubleSolution> survivors;
+
   /**
    * Constructor
    */
@@ -99,7 +105,24 @@ public class GDE3 extends AbstractDifferentialEvolution<List<DoubleSolution>> {
     return pop;
   }
 
+  /**
+   * Sets an engine generating the trial vectors. As GDE3 has no single best solution, the
+   * best/1/bin variant is not supported
+   */
+  @Override public void setEngine(DifferentialEvolutionEngine engine) {
+    if ((engine != null)
+        && (engine.getVariant() == DifferentialEvolutionEngine.Variant.BEST_1_BIN)) {
+      throw new JMetalException("The best/1/bin variant is not supported by GDE3") ;
+    }
+    super.setEngine(engine);
+    solutionPool = (engine == null) ? null : new SolutionPool<DoubleSolution>(populationSize) ;
+  }
+
   @Override protected List<DoubleSolution> selection(List<DoubleSolution> population) {
+    if (engine != null) {
+      return population;
+    }
+
     List<DoubleSolution> matingPopulation = new LinkedList<>();
     for (int i = 0; i < populationSize; i++) {
       // Obtain parents. Two parameters are required: the population and the
@@ -114,6 +137,10 @@ public class GDE3 extends AbstractDifferentialEvolution<List<DoubleSolution>> {
   }
 
   @Override protected List<DoubleSolution> reproduction(List<DoubleSolution> matingPopulation) {
+    if (engine != null) {
+      return generateTrials(matingPopulation);
+    }
+
     List<DoubleSolution> offspringPopulation = new ArrayList<>();
 
     for (int i = 0; i < populationSize; i++) {
@@ -156,9 +183,57 @@ public class GDE3 extends AbstractDifferentialEvolution<List<DoubleSolution>> {
     Ranking ranking = computeRanking(tmpList);
     List<DoubleSolution> pop = crowdingDistanceSelection(ranking);
 
+    if (engine != null) {
+      releaseDiscardedSolutions(population, offspringPopulation, pop);
+    }
+
     return pop;
   }
 
+  /**
+   * Generates the trial vectors with the engine. The population is reloaded each generation, as
+   * the replacement changes its order; the trial solutions are taken from the solution pool
+   */
+  private List<DoubleSolution> generateTrials(List<DoubleSolution> population) {
+    engine.load(population);
+    engine.generateTrials(-1);
+
+    List<DoubleSolution> offspringPopulation = new ArrayList<>(populationSize);
+    for (int i = 0; i < populationSize; i++) {
+      offspringPopulation.add(solutionPool.acquire(population.get(i)));
+    }
+    engine.storeTrials(offspringPopulation);
+
+    return offspringPopulation;
+  }
+
+  private void releaseDiscardedSolutions(List<DoubleSolution> population,
+      List<DoubleSolution> offspringPopulation, List<DoubleSolution> pop) {
+    if (survivors == null) {
+      survivors = Collections.newSetFromMap(new IdentityHashMap<DoubleSolution, Boolean>()) ;
+    }
+    survivors.addAll(pop) ;
+    for (int i = 0; i < populationSize; i++) {
+      if (survivors.add(population.get(i))) {
+        solutionPool.release(population.get(i));
+      }
+      if (survivors.add(offspringPopulation.get(i))) {
+        solutionPool.release(offspringPopulation.get(i));
+      }
+    }
+    survivors.clear();
+  }
+
+  @Override public void run() {
+    try {
+      super.run();
+    } finally {
+      if (engine != null) {
+        engine.shutdown();
+      }
+    }
+  }
+
   @Override public List<DoubleSolution> getResult() {
     return getNonDominatedSolutions(getPopulation());
   }
@@ -22,6 +22,7 @@
 package org.uma.jmetal.algorithm.multiobjective.gde3;
 
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.impl.DifferentialEvolutionEngine;
 import org.uma.jmetal.operator.Operator;
 import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
 import org.uma.jmetal.operator.impl.selection.DifferentialEvolutionSelection;
@@ -42,6 +43,7 @@ public class GDE3Builder implements AlgorithmBuilder {
   protected DifferentialEvolutionSelection selectionOperator;
 
   protected SolutionListEvaluator evaluator;
+  protected DifferentialEvolutionEngine engine;
 
   /** Constructor */
   public GDE3Builder(DoubleProblem problem) {
@@ -84,8 +86,18 @@ public class GDE3Builder implements AlgorithmBuilder {
     return this ;
   }
 
+  public GDE3Builder setEngine(DifferentialEvolutionEngine engine) {
+    this.engine = engine ;
+
+    return this ;
+  }
+
   public Algorithm build() {
-    return new GDE3(problem, populationSize, maxIterations, selectionOperator, crossoverOperator, evaluator) ;
+    GDE3 algorithm = new GDE3(problem, populationSize, maxIterations, selectionOperator,
+        crossoverOperator, evaluator) ;
+    algorithm.setEngine(engine);
+
+    return algorithm ;
   }
 
   /* Getters */
@@ -105,5 +117,9 @@ public class GDE3Builder implements AlgorithmBuilder {
     return maxIterations;
   }
 
+  public DifferentialEvolutionEngine getEngine() {
+    return engine;
+  }
+
 }
 
@@ -0,0 +1,494 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.mocell;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.multiobjective.mocell.MOCellBuilder.MOCellVariant;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.neighborhood.Neighborhood;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+
+/**
+ * This class implements the MOCell algorithm, as described in
+ *
+ * A.J. Nebro, J.J. Durillo, F. Luna, B. Dorronsoro, E. Alba. MOCell: A Cellular Genetic Algorithm
+ * for Multiobjective Optimization. International Journal of Intelligent Systems 24 (2009) 726-746
+ *
+ * The population is placed on the cells of a grid. The parents of the offspring of a cell are
+ * selected among the cell and its neighbors (or, in some variants, one of them from the archive),
+ * and the offspring replaces the solution of the cell if it dominates it. If both are
+ * non-dominated, the offspring replaces the solution of the cell, or the worst solution of the
+ * neighborhood in some variants, unless it is the worst one of the neighborhood according to its
+ * rank and crowding distance. The non-dominated solutions are kept in a bounded archive, and after
+ * each sweep of the grid some random cells are replaced by archive members (feedback).
+ *
+ * The synchronous variants compute the offspring of all the cells from the current population, so
+ * the evaluations can be done in parallel by the {@link SolutionListEvaluator}. The asynchronous
+ * variants update the cells in place, and with more than one thread the cells are updated
+ * concurrently: each thread takes the next cell, evaluates its offspring without holding any lock,
+ * and only locks the stripes of the cells it may write, in ascending order, to take the
+ * replacement decision. The archive is locked when it is accessed. The problem and the operators
+ * must be thread safe; installing a
+ * {@link org.uma.jmetal.util.pseudorandom.impl.PerThreadRandomGenerator} avoids the contention of
+ * the threads on the random generator.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+@SuppressWarnings("serial")
+public class MOCell<S extends Solution> implements Algorithm<List<S>> {
+  protected final Problem<S> problem ;
+  protected final int maxEvaluations ;
+  protected final int populationSize ;
+  protected final int feedback ;
+  protected final BoundedArchive<S> archive ;
+  protected final Neighborhood neighborhood ;
+
+  protected final CrossoverOperator<List<S>, List<S>> crossoverOperator ;
+  protected final MutationOperator<S> mutationOperator ;
+  protected final SelectionOperator<List<S>, S> selectionOperator ;
+  protected final SolutionListEvaluator<S> evaluator ;
+
+  private final boolean asynchronous ;
+  private final boolean parentFromArchive ;
+  private final boolean worstNeighborReplacement ;
+  private final int numberOfThreads ;
+
+  private final Comparator<Solution> dominanceComparator ;
+  private final ReentrantLock[] locks ;
+
+  private AtomicReferenceArray<S> cells ;
+  private AtomicInteger evaluations ;
+  private AtomicInteger nextCell ;
+
+  /**
+   * Constructor
+   *
+   * @param feedback Number of cells replaced by archive members after each sweep of the grid
+   * @param numberOfThreads Number of threads updating the cells in the asynchronous variants
+   */
+  public MOCell(Problem<S> problem, int maxEvaluations, int populationSize,
+      BoundedArchive<S> archive, int feedback, Neighborhood neighborhood,
+      CrossoverOperator<List<S>, List<S>> crossoverOperator, MutationOperator<S> mutationOperator,
+      SelectionOperator<List<S>, S> selectionOperator, SolutionListEvaluator<S> evaluator,
+      MOCellVariant variant, int numberOfThreads) {
+    if (neighborhood.getSize() != populationSize) {
+      throw new JMetalException("The neighborhood has " + neighborhood.getSize()
+          + " positions instead of " + populationSize) ;
+    }
+
+    this.problem = problem ;
+    this.maxEvaluations = maxEvaluations ;
+    this.populationSize = populationSize ;
+    this.archive = archive ;
+    this.feedback = feedback ;
+    this.neighborhood = neighborhood ;
+
+    this.crossoverOperator = crossoverOperator ;
+    this.mutationOperator = mutationOperator ;
+    this.selectionOperator = selectionOperator ;
+    this.evaluator = evaluator ;
+
+    asynchronous = variant.name().startsWith("Async") ;
+    parentFromArchive = (variant == MOCellVariant.SyncMOCell2)
+        || (variant == MOCellVariant.AsyncMOCell2) || (variant == MOCellVariant.AsyncMOCell4) ;
+    worstNeighborReplacement = (variant == MOCellVariant.AsyncMOCell3)
+        || (variant == MOCellVariant.AsyncMOCell4) ;
+    this.numberOfThreads = asynchronous ? numberOfThreads : 1 ;
+
+    dominanceComparator = new DominanceComparator() ;
+    locks = new ReentrantLock[Math.min(populationSize, 16 * this.numberOfThreads)] ;
+    for (int i = 0; i < locks.length; i++) {
+      locks[i] = new ReentrantLock() ;
+    }
+  }
+
+  @Override
+  public void run() {
+    List<S> population = new ArrayList<>(populationSize) ;
+    for (int i = 0; i < populationSize; i++) {
+      population.add(problem.createSolution()) ;
+    }
+    population = evaluator.evaluate(population, problem) ;
+
+    cells = new AtomicReferenceArray<>(populationSize) ;
+    for (int i = 0; i < populationSize; i++) {
+      cells.set(i, population.get(i));
+      addToArchive(population.get(i));
+    }
+    evaluations = new AtomicInteger(populationSize) ;
+    nextCell = new AtomicInteger(0) ;
+
+    if (!asynchronous) {
+      runSynchronously() ;
+    } else if (numberOfThreads == 1) {
+      updateCells() ;
+    } else {
+      runConcurrently() ;
+    }
+  }
+
+  /** Computes the offspring of every cell from the current grid, and replaces the grid at once */
+  private void runSynchronously() {
+    while (evaluations.get() < maxEvaluations) {
+      List<S> offspringPopulation = new ArrayList<>(populationSize) ;
+      for (int i = 0; i < populationSize; i++) {
+        offspringPopulation.add(createOffspring(i)) ;
+      }
+      offspringPopulation = evaluator.evaluate(offspringPopulation, problem) ;
+      evaluations.addAndGet(populationSize) ;
+
+      List<S> neighbors = new ArrayList<>(9) ;
+      List<S> newPopulation = new ArrayList<>(populationSize) ;
+      for (int i = 0; i < populationSize; i++) {
+        int[] positions = getPositions(i) ;
+        getSolutions(positions, neighbors);
+        S offspring = offspringPopulation.get(i) ;
+        if (getReplacedPosition(positions, neighbors, offspring) >= 0) {
+          newPopulation.add(offspring) ;
+          addToArchive(offspring);
+        } else {
+          newPopulation.add(cells.get(i)) ;
+        }
+      }
+
+      for (int i = 0; i < populationSize; i++) {
+        cells.set(i, newPopulation.get(i));
+      }
+      applyFeedback();
+    }
+  }
+
+  private void runConcurrently() {
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads, new ThreadFactory() {
+      @Override public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "MOCell") ;
+        thread.setDaemon(true);
+        return thread ;
+      }
+    }) ;
+
+    List<Callable<Object>> tasks = new ArrayList<>(numberOfThreads) ;
+    for (int i = 0; i < numberOfThreads; i++) {
+      tasks.add(new Callable<Object>() {
+        @Override public Object call() {
+          updateCells();
+          return null ;
+        }
+      }) ;
+    }
+
+    try {
+      for (Future<Object> future : executor.invokeAll(tasks)) {
+        future.get() ;
+      }
+    } catch (InterruptedException e) {
+      JMetalLogger.logger.log(Level.SEVERE, "Error updating the cells", e);
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Error in MOCell.run()") ;
+    } catch (ExecutionException e) {
+      JMetalLogger.logger.log(Level.SEVERE, "Error updating the cells", e);
+      throw new JMetalException("Error in MOCell.run()") ;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /** Updates the cells in place, one after another, until the evaluations are exhausted */
+  private void updateCells() {
+    List<S> neighbors = new ArrayList<>(9) ;
+    while (evaluations.getAndIncrement() < maxEvaluations) {
+      int step = nextCell.getAndIncrement() ;
+      int cell = step % populationSize ;
+
+      S offspring = createOffspring(cell) ;
+      problem.evaluate(offspring);
+
+      int[] positions = getPositions(cell) ;
+      int[] stripes = getStripes(worstNeighborReplacement ? positions : new int[] {cell}) ;
+      int replacedPosition ;
+      lock(stripes) ;
+      try {
+        getSolutions(positions, neighbors);
+        replacedPosition = getReplacedPosition(positions, neighbors, offspring) ;
+        if (replacedPosition >= 0) {
+          cells.set(replacedPosition, offspring);
+        }
+      } finally {
+        unlock(stripes) ;
+      }
+
+      if (replacedPosition >= 0) {
+        addToArchive(offspring);
+      }
+      if ((step + 1) % populationSize == 0) {
+        applyFeedback();
+      }
+    }
+  }
+
+  private S createOffspring(int cell) {
+    List<S> neighbors = new ArrayList<>(9) ;
+    getSolutions(getPositions(cell), neighbors);
+
+    List<S> parents = new ArrayList<>(2) ;
+    parents.add(selectionOperator.execute(neighbors)) ;
+    S archiveMember = parentFromArchive ? selectArchiveMember() : null ;
+    parents.add(archiveMember != null ? archiveMember : selectionOperator.execute(neighbors)) ;
+
+    S offspring = crossoverOperator.execute(parents).get(0) ;
+    mutationOperator.execute(offspring) ;
+
+    return offspring ;
+  }
+
+  /**
+   * Takes the replacement decision of the offspring of a cell
+   *
+   * @param positions The cell followed by its neighbors
+   * @param solutions Solutions of those positions
+   * @return The position replaced by the offspring, or -1 if the offspring is discarded
+   */
+  protected int getReplacedPosition(int[] positions, List<S> solutions, S offspring) {
+    int flag = dominanceComparator.compare(solutions.get(0), offspring) ;
+    if (flag == -1) {
+      return -1 ;
+    } else if (flag == 1) {
+      return positions[0] ;
+    }
+
+    solutions.add(offspring) ;
+    int worst = findWorstSolution(solutions) ;
+    solutions.remove(solutions.size() - 1) ;
+    if (worst == solutions.size()) {
+      return -1 ;
+    }
+
+    return worstNeighborReplacement ? positions[worst] : positions[0] ;
+  }
+
+  /**
+   * Returns the index of the solution of the last front with the lowest crowding distance. The
+   * ranks and distances are computed locally, as the solutions of the grid can be read by other
+   * threads and their attributes are not modified
+   */
+  private int findWorstSolution(final List<S> solutions) {
+    int size = solutions.size() ;
+    boolean[] ranked = new boolean[size] ;
+    boolean[] front = new boolean[size] ;
+    int remaining = size ;
+    while (true) {
+      int frontSize = 0 ;
+      for (int i = 0; i < size; i++) {
+        front[i] = false ;
+        if (!ranked[i]) {
+          boolean dominated = false ;
+          for (int j = 0; (j < size) && !dominated; j++) {
+            dominated = !ranked[j] && (j != i)
+                && (dominanceComparator.compare(solutions.get(j), solutions.get(i)) == -1) ;
+          }
+          front[i] = !dominated ;
+          frontSize += dominated ? 0 : 1 ;
+        }
+      }
+
+      if (frontSize == remaining) {
+        break ;
+      }
+      for (int i = 0; i < size; i++) {
+        ranked[i] |= front[i] ;
+      }
+      remaining -= frontSize ;
+    }
+
+    Integer[] members = new Integer[remaining] ;
+    for (int i = 0, k = 0; i < size; i++) {
+      if (front[i]) {
+        members[k++] = i ;
+      }
+    }
+    if (members.length <= 2) {
+      return members[0] ;
+    }
+
+    double[] distances = new double[size] ;
+    for (int objective = 0; objective < problem.getNumberOfObjectives(); objective++) {
+      final int index = objective ;
+      Arrays.sort(members, new Comparator<Integer>() {
+        @Override public int compare(Integer member1, Integer member2) {
+          return Double.compare(solutions.get(member1).getObjective(index),
+              solutions.get(member2).getObjective(index)) ;
+        }
+      });
+
+      double minimum = solutions.get(members[0]).getObjective(objective) ;
+      double maximum = solutions.get(members[members.length - 1]).getObjective(objective) ;
+      distances[members[0]] = Double.POSITIVE_INFINITY ;
+      distances[members[members.length - 1]] = Double.POSITIVE_INFINITY ;
+      if (maximum > minimum) {
+        for (int k = 1; k < members.length - 1; k++) {
+          distances[members[k]] += (solutions.get(members[k + 1]).getObjective(objective)
+              - solutions.get(members[k - 1]).getObjective(objective)) / (maximum - minimum) ;
+        }
+      }
+    }
+
+    int worst = -1 ;
+    for (int i = 0; i < size; i++) {
+      if (front[i] && ((worst == -1) || (distances[i] < distances[worst]))) {
+        worst = i ;
+      }
+    }
+
+    return worst ;
+  }
+
+  /** Replaces random cells by copies of random archive members */
+  private void applyFeedback() {
+    List<S> archiveMembers = new ArrayList<>(feedback) ;
+    for (int i = 0; i < feedback; i++) {
+      S archiveMember = selectArchiveMember() ;
+      if (archiveMember != null) {
+        archiveMembers.add(archiveMember) ;
+      }
+    }
+
+    JMetalRandom randomGenerator = JMetalRandom.getInstance() ;
+    for (S archiveMember : archiveMembers) {
+      int cell = randomGenerator.nextInt(0, populationSize - 1) ;
+      int[] stripes = getStripes(new int[] {cell}) ;
+      lock(stripes) ;
+      try {
+        cells.set(cell, archiveMember);
+      } finally {
+        unlock(stripes) ;
+      }
+    }
+  }
+
+  /** Returns a copy of a random archive member, or null if the archive is empty */
+  @SuppressWarnings("unchecked")
+  private S selectArchiveMember() {
+    synchronized (archive) {
+      List<S> solutionList = archive.getSolutionList() ;
+      if (solutionList.isEmpty()) {
+        return null ;
+      }
+      int index = JMetalRandom.getInstance().nextInt(0, solutionList.size() - 1) ;
+
+      return (S) solutionList.get(index).copy() ;
+    }
+  }
+
+  /** Adds a copy of a solution to the archive, which can modify the attributes of its members */
+  @SuppressWarnings("unchecked")
+  private void addToArchive(S solution) {
+    S copy = (S) solution.copy() ;
+    synchronized (archive) {
+      archive.add(copy) ;
+    }
+  }
+
+  /** Returns the position of a cell followed by the positions of its neighbors */
+  private int[] getPositions(int cell) {
+    int[] neighbors = neighborhood.getNeighbors(cell) ;
+    int[] positions = new int[neighbors.length + 1] ;
+    positions[0] = cell ;
+    System.arraycopy(neighbors, 0, positions, 1, neighbors.length);
+
+    return positions ;
+  }
+
+  private void getSolutions(int[] positions, List<S> solutions) {
+    solutions.clear();
+    for (int position : positions) {
+      solutions.add(cells.get(position)) ;
+    }
+  }
+
+  /** Returns the distinct locks of a set of positions, in ascending order to avoid deadlocks */
+  private int[] getStripes(int[] positions) {
+    int[] stripes = new int[positions.length] ;
+    for (int i = 0; i < positions.length; i++) {
+      stripes[i] = positions[i] % locks.length ;
+    }
+    Arrays.sort(stripes);
+
+    int size = 0 ;
+    for (int i = 0; i < stripes.length; i++) {
+      if ((size == 0) || (stripes[i] != stripes[size - 1])) {
+        stripes[size++] = stripes[i] ;
+      }
+    }
+
+    return Arrays.copyOf(stripes, size) ;
+  }
+
+  private void lock(int[] stripes) {
+    for (int stripe : stripes) {
+      locks[stripe].lock();
+    }
+  }
+
+  private void unlock(int[] stripes) {
+    for (int i = stripes.length - 1; i >= 0; i--) {
+      locks[stripes[i]].unlock();
+    }
+  }
+
+  @Override
+  public List<S> getResult() {
+    synchronized (archive) {
+      return new ArrayList<>(archive.getSolutionList()) ;
+    }
+  }
+
+  /** Returns the solutions of the grid */
+  public List<S> getPopulation() {
+    List<S> population = new ArrayList<>(populationSize) ;
+    for (int i = 0; i < populationSize; i++) {
+      population.add(cells.get(i)) ;
+    }
+
+    return population ;
+  }
+
+  public int getEvaluations() {
+    return Math.min(evaluations.get(), maxEvaluations) ;
+  }
+}
@@ -0,0 +1,246 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.mocell;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.neighborhood.Neighborhood;
+import org.uma.jmetal.util.neighborhood.impl.C9;
+import org.uma.jmetal.util.solutionattribute.AlgorithmBuilder;
+
+/**
+ * Builder class for {@link MOCell}
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class MOCellBuilder implements AlgorithmBuilder {
+  /**
+   * Variants of MOCell:
+   * - SyncMOCell1: synchronous, both parents taken from the neighborhood
+   * - SyncMOCell2: synchronous, the second parent taken from the archive
+   * - AsyncMOCell1: asynchronous, both parents taken from the neighborhood
+   * - AsyncMOCell2: asynchronous, the second parent taken from the archive
+   * - AsyncMOCell3: as AsyncMOCell1, but the offspring replaces the worst neighbor
+   * - AsyncMOCell4: as AsyncMOCell2, but the offspring replaces the worst neighbor
+   */
+  public enum MOCellVariant {SyncMOCell1, SyncMOCell2, AsyncMOCell1, AsyncMOCell2, AsyncMOCell3,
+    AsyncMOCell4}
+
+  private final Problem problem;
+  private int maxEvaluations;
+  private int populationSize;
+  private BoundedArchive archive;
+  private int feedback;
+  private Neighborhood neighborhood;
+  private CrossoverOperator crossoverOperator;
+  private MutationOperator mutationOperator;
+  private SelectionOperator selectionOperator;
+  private SolutionListEvaluator evaluator;
+  private MOCellVariant variant;
+  private int numberOfThreads;
+
+  /**
+   * MOCellBuilder constructor
+   */
+  public MOCellBuilder(Problem problem, MOCellVariant variant) {
+    this.problem = problem;
+    this.variant = variant;
+    maxEvaluations = 25000;
+    populationSize = 100;
+    archive = new CrowdingDistanceArchive(100);
+    feedback = 20;
+    crossoverOperator = new SBXCrossover(0.9, 20.0);
+    mutationOperator = new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0);
+    selectionOperator = new BinaryTournamentSelection();
+    evaluator = new SequentialSolutionListEvaluator();
+    numberOfThreads = 1;
+  }
+
+  /**
+   * MOCellBuilder constructor
+   */
+  public MOCellBuilder(Problem problem) {
+    this(problem, MOCellVariant.AsyncMOCell4);
+  }
+
+  public MOCellBuilder setMaxEvaluations(int maxEvaluations) {
+    if (maxEvaluations < 0) {
+      throw new JMetalException("maxEvaluations is negative: " + maxEvaluations);
+    }
+    this.maxEvaluations = maxEvaluations;
+
+    return this;
+  }
+
+  /** Sets the number of cells; if no neighborhood is set, it must fit a grid of at least 3x3 */
+  public MOCellBuilder setPopulationSize(int populationSize) {
+    if (populationSize < 0) {
+      throw new JMetalException("Population size is negative: " + populationSize);
+    }
+
+    this.populationSize = populationSize;
+
+    return this;
+  }
+
+  public MOCellBuilder setArchive(BoundedArchive archive) {
+    if (archive == null) {
+      throw new JMetalException("archive is null");
+    }
+    this.archive = archive;
+
+    return this;
+  }
+
+  /** Sets the number of cells replaced by archive members after each sweep of the grid */
+  public MOCellBuilder setFeedback(int feedback) {
+    if (feedback < 0) {
+      throw new JMetalException("feedback is negative: " + feedback);
+    }
+    this.feedback = feedback;
+
+    return this;
+  }
+
+  /** Sets the neighborhood of the cells (by default, a {@link C9} of the population size) */
+  public MOCellBuilder setNeighborhood(Neighborhood neighborhood) {
+    this.neighborhood = neighborhood;
+
+    return this;
+  }
+
+  public MOCellBuilder setCrossoverOperator(CrossoverOperator crossoverOperator) {
+    if (crossoverOperator == null) {
+      throw new JMetalException("crossoverOperator is null");
+    }
+    this.crossoverOperator = crossoverOperator;
+
+    return this;
+  }
+
+  public MOCellBuilder setMutationOperator(MutationOperator mutationOperator) {
+    if (mutationOperator == null) {
+      throw new JMetalException("mutationOperator is null");
+    }
+    this.mutationOperator = mutationOperator;
+
+    return this;
+  }
+
+  public MOCellBuilder setSelectionOperator(SelectionOperator selectionOperator) {
+    if (selectionOperator == null) {
+      throw new JMetalException("selectionOperator is null");
+    }
+    this.selectionOperator = selectionOperator;
+
+    return this;
+  }
+
+  /** Sets the evaluator of the synchronous variants */
+  public MOCellBuilder setSolutionListEvaluator(SolutionListEvaluator evaluator) {
+    if (evaluator == null) {
+      throw new JMetalException("evaluator is null");
+    }
+    this.evaluator = evaluator;
+
+    return this;
+  }
+
+  public MOCellBuilder setVariant(MOCellVariant variant) {
+    if (variant == null) {
+      throw new JMetalException("variant is null");
+    }
+    this.variant = variant;
+
+    return this;
+  }
+
+  /** Sets the number of threads updating the cells concurrently in the asynchronous variants */
+  public MOCellBuilder setNumberOfThreads(int numberOfThreads) {
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads);
+    }
+    this.numberOfThreads = numberOfThreads;
+
+    return this;
+  }
+
+  @SuppressWarnings("unchecked")
+  public Algorithm build() {
+    return new MOCell(problem, maxEvaluations, populationSize, archive, feedback,
+        neighborhood != null ? neighborhood : new C9(populationSize), crossoverOperator,
+        mutationOperator, selectionOperator, evaluator, variant, numberOfThreads);
+  }
+
+  /* Getters */
+  public Problem getProblem() {
+    return problem;
+  }
+
+  public int getMaxEvaluations() {
+    return maxEvaluations;
+  }
+
+  public int getPopulationSize() {
+    return populationSize;
+  }
+
+  public BoundedArchive getArchive() {
+    return archive;
+  }
+
+  public int getFeedback() {
+    return feedback;
+  }
+
+  public Neighborhood getNeighborhood() {
+    return neighborhood;
+  }
+
+  public CrossoverOperator getCrossoverOperator() {
+    return crossoverOperator;
+  }
+
+  public MutationOperator getMutationOperator() {
+    return mutationOperator;
+  }
+
+  public SelectionOperator getSelectionOperator() {
+    return selectionOperator;
+  }
+
+  public SolutionListEvaluator getSolutionListEvaluator() {
+    return evaluator;
+  }
+
+  public MOCellVariant getVariant() {
+    return variant;
+  }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads;
+  }
+}
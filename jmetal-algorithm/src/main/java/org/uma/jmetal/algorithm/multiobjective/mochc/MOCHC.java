@@ -27,9 +27,8 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.BinaryProblem;
 import org.uma.jmetal.solution.BinarySolution;
-import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SolutionFingerprint;
 import org.uma.jmetal.util.SolutionListUtils;
-import org.uma.jmetal.util.binarySet.BinarySet;
 import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 
@@ -184,7 +183,11 @@ public class MOCHC extends AbstractEvolutionaryAlgorithm<BinarySolution, List<Bi
   }
 
   /**
-   * Compares two solutionSets to determine if both are equals
+   * Compares two solutionSets to determine if both are equals, i.e. if every solution of the first
+   * set has the decision variables of a solution of the new one. The solutions are compared by the
+   * fingerprints of their bits (see {@link SolutionFingerprint}), which are kept up to date by the
+   * operators, so the cost is linear in the size of the sets and does not depend on the number of
+   * bits
    *
    * @param solutionSet    A <code>SolutionSet</code>
    * @param newSolutionSet A <code>SolutionSet</code>
@@ -192,22 +195,7 @@ public class MOCHC extends AbstractEvolutionaryAlgorithm<BinarySolution, List<Bi
    */
   public boolean solutionSetsAreEquals(List<BinarySolution> solutionSet,
       List<BinarySolution> newSolutionSet) {
-    boolean found;
-    for (int i = 0; i < solutionSet.size(); i++) {
-
-      int j = 0;
-      found = false;
-      while (j < newSolutionSet.size()) {
-        if (solutionSet.get(i).equals(newSolutionSet.get(j))) {
-          found = true;
-        }
-        j++;
-      }
-      if (!found) {
-        return false;
-      }
-    }
-    return true;
+    return SolutionFingerprint.containsAll(newSolutionSet, solutionSet);
   }
 
   /**
@@ -221,24 +209,8 @@ public class MOCHC extends AbstractEvolutionaryAlgorithm<BinarySolution, List<Bi
   private int hammingDistance(BinarySolution solutionOne, BinarySolution solutionTwo) {
     int distance = 0;
     for (int i = 0; i < problem.getNumberOfVariables(); i++) {
-      distance += hammingDistance(solutionOne.getVariableValue(i), solutionTwo.getVariableValue(i));
-    }
-
-    return distance;
-  }
-
-  private int hammingDistance(BinarySet bitSet1, BinarySet bitSet2) {
-    if (bitSet1.getBinarySetLength() != bitSet2.getBinarySetLength()) {
-      throw new JMetalException("The bitsets have different length: "
-          + bitSet1.getBinarySetLength() +", " + bitSet2.getBinarySetLength()) ;
-    }
-    int distance = 0;
-    int i = 0;
-    while (i < bitSet1.getBinarySetLength()) {
-      if (bitSet1.get(i) != bitSet2.get(i)) {
-        distance++;
-      }
-      i++;
+      distance +=
+          solutionOne.getVariableValue(i).getHammingDistance(solutionTwo.getVariableValue(i));
     }
 
     return distance;
@@ -276,6 +276,15 @@ public abstract class AbstractMOEAD<S extends Solution> implements Algorithm<Lis
   }
 
   double fitnessFunction(Solution individual, double[] lambda) throws JMetalException {
+    return fitnessFunction(individual, lambda, idealPoint) ;
+  }
+
+  /**
+   * Computes the fitness of a solution for a subproblem with a given ideal point (e.g. a snapshot of
+   * an ideal point updated by several threads)
+   */
+  protected double fitnessFunction(Solution individual, double[] lambda, double[] idealPoint)
+      throws JMetalException {
     double fitness;
 
     if (MOEAD.FunctionType.TCHE.equals(functionType)) {
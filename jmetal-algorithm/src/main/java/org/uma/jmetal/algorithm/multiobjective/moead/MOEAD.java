@@ -18,7 +18,12 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.checkpoint.CheckpointManager;
+import org.uma.jmetal.util.checkpoint.Checkpointable;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.List;
 
 /**
@@ -30,8 +35,9 @@ import java.util.List;
  * @author Antonio J. Nebro
  * @version 1.0
  */
-public class MOEAD extends AbstractMOEAD<DoubleSolution> {
+public class MOEAD extends AbstractMOEAD<DoubleSolution> implements Checkpointable {
   private DifferentialEvolutionCrossover differentialEvolutionCrossover ;
+  private CheckpointManager checkpointManager ;
 
   public MOEAD(Problem problem,
       int populationSize,
@@ -52,12 +58,14 @@ public class MOEAD extends AbstractMOEAD<DoubleSolution> {
   }
 
   @Override public void run() {
-    initializePopulation() ;
     initializeUniformWeight();
     initializeNeighborhood();
-    initializeIdealPoint() ;
+    if ((checkpointManager == null) || !checkpointManager.restore(this)) {
+      initializePopulation() ;
+      initializeIdealPoint() ;
 
-    evaluations = populationSize ;
+      evaluations = populationSize ;
+    }
     do {
       int[] permutation = new int[populationSize];
       Utils.randomPermutation(permutation, populationSize);
@@ -80,8 +88,14 @@ public class MOEAD extends AbstractMOEAD<DoubleSolution> {
         updateIdealPoint(child);
         updateNeighborhood(child, subProblemId, neighborType);
       }
+      if (checkpointManager != null) {
+        checkpointManager.update(this);
+      }
     } while (evaluations < maxEvaluations);
 
+    if (checkpointManager != null) {
+      checkpointManager.close();
+    }
   }
 
   protected void initializePopulation() {
@@ -96,4 +110,34 @@ public class MOEAD extends AbstractMOEAD<DoubleSolution> {
   @Override public List<DoubleSolution> getResult() {
     return population ;
   }
+
+  public CheckpointManager getCheckpointManager() {
+    return checkpointManager ;
+  }
+
+  /**
+   * Sets a manager to take a checkpoint every a number of generations (populationSize
+   * evaluations); if its file exists, the run resumes from it
+   */
+  public void setCheckpointManager(CheckpointManager checkpointManager) {
+    this.checkpointManager = checkpointManager ;
+  }
+
+  @Override public Problem getProblem() {
+    return problem ;
+  }
+
+  /** The weight vectors and the neighborhoods are not stored, as they are computed again */
+  @Override public void saveState(ObjectOutputStream out) throws IOException {
+    out.writeInt(evaluations);
+    out.writeObject(idealPoint);
+    out.writeObject(population);
+  }
+
+  @Override @SuppressWarnings("unchecked")
+  public void restoreState(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    evaluations = in.readInt() ;
+    idealPoint = (double[]) in.readObject() ;
+    population = (List<DoubleSolution>) in.readObject() ;
+  }
 }
@@ -19,6 +19,8 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
 import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checkpoint.CheckpointManager;
 import org.uma.jmetal.util.solutionattribute.AlgorithmBuilder;
 
 /**
@@ -28,7 +30,7 @@ import org.uma.jmetal.util.solutionattribute.AlgorithmBuilder;
  * @version 1.0
  */
 public class MOEADBuilder implements AlgorithmBuilder {
-  public enum Variant {MOEAD, ConstraintMOEAD, MOEADDRA} ;
+  public enum Variant {MOEAD, ConstraintMOEAD, MOEADDRA, ParallelMOEAD} ;
 
   private Problem problem ;
 
@@ -54,6 +56,8 @@ public class MOEADBuilder implements AlgorithmBuilder {
 
   private Variant moeadVariant ;
 
+  private CheckpointManager checkpointManager ;
+
   /** Constructor */
   public MOEADBuilder(Problem problem, Variant variant) {
     this.problem = problem ;
@@ -116,6 +120,10 @@ public class MOEADBuilder implements AlgorithmBuilder {
     return numberOfThreads ;
   }
 
+  public CheckpointManager getCheckpointManager() {
+    return checkpointManager ;
+  }
+
   public MOEADBuilder setPopulationSize(int populationSize) {
     this.populationSize = populationSize;
 
@@ -176,18 +184,35 @@ public class MOEADBuilder implements AlgorithmBuilder {
     return this ;
   }
 
+  /** Sets the number of threads (only used by the ParallelMOEAD variant) */
   public MOEADBuilder setNumberOfThreads(int numberOfThreads) {
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+    }
     this.numberOfThreads = numberOfThreads ;
 
     return this ;
   }
 
+  /** Sets a manager to take checkpoints of the run (only supported by the MOEAD variant) */
+  public MOEADBuilder setCheckpointManager(CheckpointManager checkpointManager) {
+    this.checkpointManager = checkpointManager ;
+
+    return this ;
+  }
+
   public Algorithm build() {
+    if ((checkpointManager != null) && !moeadVariant.equals(Variant.MOEAD)) {
+      throw new JMetalException("Checkpoints are not supported by " + moeadVariant) ;
+    }
+
     Algorithm algorithm = null ;
     if (moeadVariant.equals(Variant.MOEAD)) {
-      algorithm = new MOEAD(problem, populationSize, resultPopulationSize, maxEvaluations, mutation,
-          crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
+      MOEAD moead = new MOEAD(problem, populationSize, resultPopulationSize, maxEvaluations,
+          mutation, crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
           maximumNumberOfReplacedSolutions, neighborSize);
+      moead.setCheckpointManager(checkpointManager);
+      algorithm = moead ;
     } else if (moeadVariant.equals(Variant.ConstraintMOEAD)) {
       algorithm =  new ConstraintMOEAD(problem, populationSize, resultPopulationSize, maxEvaluations, mutation,
           crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
@@ -196,6 +221,10 @@ public class MOEADBuilder implements AlgorithmBuilder {
       algorithm =  new MOEADDRA(problem, populationSize, resultPopulationSize, maxEvaluations, mutation,
           crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
           maximumNumberOfReplacedSolutions, neighborSize);
+    } else if (moeadVariant.equals(Variant.ParallelMOEAD)) {
+      algorithm = new ParallelMOEAD(problem, populationSize, resultPopulationSize, maxEvaluations,
+          mutation, crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
+          maximumNumberOfReplacedSolutions, neighborSize, numberOfThreads);
     }
 
     return algorithm ;
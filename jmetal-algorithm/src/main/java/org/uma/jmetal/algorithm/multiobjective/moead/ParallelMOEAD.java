@@ -0,0 +1,259 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.parallel.impl.ParallelRangeExecutor;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Parallel version of {@link MOEAD}. The subproblems are split into as many contiguous ranges of
+ * weight vectors as threads, and each thread evolves the subproblems of its range, in a random
+ * order, without waiting for the others:
+ *
+ * - The solution of each subproblem is replaced under a lock of the subproblem, so the
+ *   replacements of a neighborhood crossing the ranges of several threads are safe; as most
+ *   neighbors are in the range of the same thread, the locks are rarely contended.
+ * - The ideal point is updated by compare-and-set of each component, and each thread computes the
+ *   fitness of the replacements with a snapshot of it.
+ * - The stored solutions are never modified, so they are read without locks to select parents.
+ *
+ * Each thread has its own differential evolution crossover and its own random generator for the
+ * selection of parents and the order of the subproblems. The problem and the mutation operator
+ * must be thread safe; the operators use the random generator of
+ * {@link org.uma.jmetal.util.pseudorandom.JMetalRandom}, which can be a
+ * {@link org.uma.jmetal.util.pseudorandom.impl.PerThreadRandomGenerator} to avoid contention.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+@SuppressWarnings("serial")
+public class ParallelMOEAD extends AbstractMOEAD<DoubleSolution> {
+  private final DifferentialEvolutionCrossover differentialEvolutionCrossover ;
+
+  private AtomicReferenceArray<DoubleSolution> solutions ;
+  private ReentrantLock[] locks ;
+  private AtomicLongArray sharedIdealPoint ;
+  private AtomicInteger evaluationCounter ;
+
+  public ParallelMOEAD(Problem problem,
+      int populationSize,
+      int resultPopulationSize,
+      int maxEvaluations,
+      MutationOperator mutation,
+      CrossoverOperator crossover,
+      FunctionType functionType,
+      String dataDirectory,
+      double neighborhoodSelectionProbability,
+      int maximumNumberOfReplacedSolutions,
+      int neighborSize,
+      int numberOfThreads) {
+    super(problem, populationSize, resultPopulationSize, maxEvaluations, crossover, mutation,
+        functionType, dataDirectory, neighborhoodSelectionProbability,
+        maximumNumberOfReplacedSolutions, neighborSize);
+
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+    }
+    this.numberOfThreads = numberOfThreads ;
+    differentialEvolutionCrossover = (DifferentialEvolutionCrossover)crossoverOperator ;
+  }
+
+  @Override public void run() {
+    initializeUniformWeight();
+    initializeNeighborhood();
+
+    solutions = new AtomicReferenceArray<>(populationSize) ;
+    locks = new ReentrantLock[populationSize] ;
+    for (int i = 0; i < populationSize; i++) {
+      locks[i] = new ReentrantLock() ;
+    }
+    sharedIdealPoint = new AtomicLongArray(problem.getNumberOfObjectives()) ;
+    for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
+      sharedIdealPoint.set(i, Double.doubleToLongBits(1.0e+30));
+    }
+    evaluationCounter = new AtomicInteger(populationSize) ;
+
+    ParallelRangeExecutor executor = new ParallelRangeExecutor(numberOfThreads,
+        randomGenerator.nextInt(0, Integer.MAX_VALUE - 1)) ;
+    try {
+      executor.execute(populationSize, new ParallelRangeExecutor.RangeTask() {
+        @Override public void execute(int from, int to, PseudoRandomGenerator randomGenerator) {
+          initializeSubproblems(from, to);
+        }
+      });
+      executor.execute(populationSize, new ParallelRangeExecutor.RangeTask() {
+        @Override public void execute(int from, int to, PseudoRandomGenerator randomGenerator) {
+          evolveSubproblems(from, to, randomGenerator);
+        }
+      });
+    } finally {
+      executor.shutdown();
+    }
+
+    population = new ArrayList<>(populationSize) ;
+    for (int i = 0; i < populationSize; i++) {
+      population.add(solutions.get(i)) ;
+    }
+    for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
+      idealPoint[i] = Double.longBitsToDouble(sharedIdealPoint.get(i)) ;
+    }
+    evaluations = Math.min(evaluationCounter.get(), maxEvaluations) ;
+  }
+
+  private void initializeSubproblems(int from, int to) {
+    for (int i = from; i < to; i++) {
+      DoubleSolution newSolution = (DoubleSolution)problem.createSolution();
+      problem.evaluate(newSolution);
+      solutions.set(i, newSolution);
+      updateSharedIdealPoint(newSolution);
+    }
+  }
+
+  /** Evolves the subproblems [from, to) until the evaluations are exhausted */
+  private void evolveSubproblems(int from, int to, PseudoRandomGenerator randomGenerator) {
+    DifferentialEvolutionCrossover crossover = new DifferentialEvolutionCrossover(
+        differentialEvolutionCrossover.getCr(), differentialEvolutionCrossover.getF(),
+        differentialEvolutionCrossover.getK(), differentialEvolutionCrossover.getVariant()) ;
+    int[] permutation = new int[to - from] ;
+    double[] idealPointSnapshot = new double[problem.getNumberOfObjectives()] ;
+
+    while (true) {
+      randomPermutation(permutation, randomGenerator);
+      for (int i = 0; i < permutation.length; i++) {
+        if (evaluationCounter.getAndIncrement() >= maxEvaluations) {
+          return ;
+        }
+        int subProblemId = from + permutation[i] ;
+
+        NeighborType neighborType =
+            randomGenerator.nextDouble() < neighborhoodSelectionProbability ?
+                NeighborType.NEIGHBOR : NeighborType.POPULATION ;
+        List<DoubleSolution> parents = selectParents(subProblemId, neighborType, randomGenerator) ;
+
+        crossover.setCurrentSolution(solutions.get(subProblemId));
+        DoubleSolution child = crossover.execute(parents).get(0) ;
+        mutationOperator.execute(child);
+        problem.evaluate(child);
+
+        updateSharedIdealPoint(child);
+        for (int n = 0; n < idealPointSnapshot.length; n++) {
+          idealPointSnapshot[n] = Double.longBitsToDouble(sharedIdealPoint.get(n)) ;
+        }
+        updateNeighborhood(child, subProblemId, neighborType, idealPointSnapshot, randomGenerator);
+      }
+    }
+  }
+
+  /** Lowers the components of the ideal point improved by a solution */
+  private void updateSharedIdealPoint(Solution solution) {
+    for (int n = 0; n < sharedIdealPoint.length(); n++) {
+      double value = solution.getObjective(n) ;
+      long current = sharedIdealPoint.get(n) ;
+      while ((value < Double.longBitsToDouble(current))
+          && !sharedIdealPoint.compareAndSet(n, current, Double.doubleToLongBits(value))) {
+        current = sharedIdealPoint.get(n) ;
+      }
+    }
+  }
+
+  /** Returns two different parents of the neighborhood or the population, and the current one */
+  private List<DoubleSolution> selectParents(int subProblemId, NeighborType neighborType,
+      PseudoRandomGenerator randomGenerator) {
+    int first = selectSubproblem(subProblemId, neighborType, randomGenerator) ;
+    int second = selectSubproblem(subProblemId, neighborType, randomGenerator) ;
+    while (second == first) {
+      second = selectSubproblem(subProblemId, neighborType, randomGenerator) ;
+    }
+
+    List<DoubleSolution> parents = new ArrayList<>(3) ;
+    parents.add(solutions.get(first)) ;
+    parents.add(solutions.get(second)) ;
+    parents.add(solutions.get(subProblemId)) ;
+
+    return parents ;
+  }
+
+  private int selectSubproblem(int subProblemId, NeighborType neighborType,
+      PseudoRandomGenerator randomGenerator) {
+    if (neighborType == NeighborType.NEIGHBOR) {
+      return neighborhood[subProblemId][randomGenerator.nextInt(0, neighborSize - 1)] ;
+    } else {
+      return randomGenerator.nextInt(0, populationSize - 1) ;
+    }
+  }
+
+  /** Replaces, under their locks, the solutions of up to nr subproblems improved by the child */
+  private void updateNeighborhood(DoubleSolution child, int subProblemId,
+      NeighborType neighborType, double[] idealPoint, PseudoRandomGenerator randomGenerator) {
+    int size = neighborType == NeighborType.NEIGHBOR ? neighborSize : populationSize ;
+    int[] permutation = new int[size] ;
+    randomPermutation(permutation, randomGenerator);
+
+    DoubleSolution copy = null ;
+    int time = 0 ;
+    for (int i = 0; (i < size) && (time < maximumNumberOfReplacedSolutions); i++) {
+      int k = neighborType == NeighborType.NEIGHBOR ?
+          neighborhood[subProblemId][permutation[i]] : permutation[i] ;
+      double childFitness = fitnessFunction(child, lambda[k], idealPoint) ;
+      if (copy == null) {
+        copy = (DoubleSolution)child.copy() ;
+      }
+
+      locks[k].lock();
+      try {
+        if (childFitness < fitnessFunction(solutions.get(k), lambda[k], idealPoint)) {
+          solutions.set(k, copy);
+          copy = null ;
+          time++ ;
+        }
+      } finally {
+        locks[k].unlock();
+      }
+    }
+  }
+
+  private void randomPermutation(int[] permutation, PseudoRandomGenerator randomGenerator) {
+    for (int i = 0; i < permutation.length; i++) {
+      permutation[i] = i ;
+    }
+    for (int i = permutation.length - 1; i > 0; i--) {
+      int j = randomGenerator.nextInt(0, i) ;
+      int aux = permutation[i] ;
+      permutation[i] = permutation[j] ;
+      permutation[j] = aux ;
+    }
+  }
+
+  @Override public List<DoubleSolution> getResult() {
+    return population ;
+  }
+
+  public int getEvaluations() {
+    return evaluations ;
+  }
+}
@@ -7,12 +7,16 @@ import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.checkpoint.Checkpointable;
 import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.solutionattribute.Ranking;
 import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
 import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -20,7 +24,8 @@ import java.util.List;
 /**
  * Created by Antonio J. Nebro on 30/10/14.
  */
-public class NSGAII extends AbstractGeneticAlgorithm<Solution, List<Solution>> {
+public class NSGAII extends AbstractGeneticAlgorithm<Solution, List<Solution>>
+    implements Checkpointable {
   protected final int maxIterations;
   protected final int populationSize;
 
@@ -110,6 +115,7 @@ public class NSGAII extends AbstractGeneticAlgorithm<Solution, List<Solution>> {
 
     Ranking ranking = computeRanking(jointPopulation);
     List<Solution> pop = crowdingDistanceSelection(ranking);
+    releaseDiscardedSolutions(jointPopulation, pop);
 
     return pop;
   }
@@ -118,6 +124,22 @@ public class NSGAII extends AbstractGeneticAlgorithm<Solution, List<Solution>> {
     return getNonDominatedSolutions(getPopulation());
   }
 
+  @Override public Problem getProblem() {
+    return problem;
+  }
+
+  /** The ranks and crowding distances used by the selection are stored with the solutions */
+  @Override public void saveState(ObjectOutputStream out) throws IOException {
+    out.writeInt(iterations);
+    out.writeObject(getPopulation());
+  }
+
+  @Override @SuppressWarnings("unchecked")
+  public void restoreState(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    iterations = in.readInt();
+    setPopulation((List<Solution>) in.readObject());
+  }
+
   protected Ranking computeRanking(List<Solution> solutionList) {
     Ranking ranking = new DominanceRanking();
     ranking.computeRanking(solutionList);
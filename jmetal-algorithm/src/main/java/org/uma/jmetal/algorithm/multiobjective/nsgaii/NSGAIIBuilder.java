@@ -8,7 +8,9 @@ import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
 import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
 import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checkpoint.CheckpointManager;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 import org.uma.jmetal.util.solutionattribute.AlgorithmBuilder;
@@ -29,6 +31,8 @@ public class NSGAIIBuilder implements AlgorithmBuilder {
   private MutationOperator mutationOperator;
   private SelectionOperator selectionOperator;
   private SolutionListEvaluator evaluator;
+  private SolutionPool solutionPool;
+  private CheckpointManager checkpointManager;
 
   private NSGAIIVariant variant;
 
@@ -110,8 +114,25 @@ public class NSGAIIBuilder implements AlgorithmBuilder {
     return this;
   }
 
+  /**
+   * Sets a pool to recycle the discarded solutions. It should also be given to the crossover
+   * operator, e.g. {@link SBXCrossover#setSolutionPool(SolutionPool)}
+   */
+  public NSGAIIBuilder setSolutionPool(SolutionPool solutionPool) {
+    this.solutionPool = solutionPool;
+
+    return this;
+  }
+
+  /** Sets a manager to take checkpoints of the run; if its file exists, the run resumes from it */
+  public NSGAIIBuilder setCheckpointManager(CheckpointManager checkpointManager) {
+    this.checkpointManager = checkpointManager;
+
+    return this;
+  }
+
   public Algorithm build() {
-    Algorithm algorithm = null ;
+    NSGAII algorithm = null ;
     if (variant.equals(NSGAIIVariant.NSGAII)) {
       algorithm = new NSGAII(problem, maxIterations, populationSize, crossoverOperator,
           mutationOperator, selectionOperator, evaluator);
@@ -119,6 +140,10 @@ public class NSGAIIBuilder implements AlgorithmBuilder {
       algorithm = new SteadyStateNSGAII(problem, maxIterations, populationSize, crossoverOperator,
           mutationOperator, selectionOperator, evaluator);
     }
+    if (algorithm != null) {
+      algorithm.setSolutionPool(solutionPool);
+      algorithm.setCheckpointManager(checkpointManager);
+    }
 
     return algorithm ;
   }
@@ -151,4 +176,12 @@ public class NSGAIIBuilder implements AlgorithmBuilder {
   public SolutionListEvaluator getSolutionListEvaluator() {
     return evaluator;
   }
+
+  public SolutionPool getSolutionPool() {
+    return solutionPool;
+  }
+
+  public CheckpointManager getCheckpointManager() {
+    return checkpointManager;
+  }
 }
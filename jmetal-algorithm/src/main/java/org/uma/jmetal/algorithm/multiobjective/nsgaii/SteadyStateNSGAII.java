@@ -5,8 +5,14 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+import org.uma.jmetal.util.solutionattribute.impl.IncrementalDominanceRanking;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,6 +20,9 @@ import java.util.List;
  * Created by ajnebro on 30/10/14.
  */
 public class SteadyStateNSGAII extends NSGAII {
+  private final IncrementalDominanceRanking<Solution> ranking;
+  private final CrowdingDistanceComparator crowdingDistanceComparator;
+
   /**
    * Constructor
    */
@@ -22,6 +31,31 @@ public class SteadyStateNSGAII extends NSGAII {
       SelectionOperator selectionOperator, SolutionListEvaluator evaluator) {
     super(problem, maxIterations, populationSize, crossoverOperator, mutationOperator,
         selectionOperator, evaluator);
+
+    ranking = new IncrementalDominanceRanking<>(new CrowdingDistance<Solution>());
+    crowdingDistanceComparator = new CrowdingDistanceComparator();
+  }
+
+  @Override protected void initProgress() {
+    super.initProgress();
+    ranking.computeRanking(getPopulation());
+  }
+
+  /** The subfronts are stored as they are, as their order breaks the ties of the replacement */
+  @Override public void saveState(ObjectOutputStream out) throws IOException {
+    super.saveState(out);
+
+    List<List<Solution>> subfronts = new ArrayList<>(ranking.getNumberOfSubfronts());
+    for (int i = 0; i < ranking.getNumberOfSubfronts(); i++) {
+      subfronts.add(ranking.getSubfront(i));
+    }
+    out.writeObject(subfronts);
+  }
+
+  @Override @SuppressWarnings("unchecked")
+  public void restoreState(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    super.restoreState(in);
+    ranking.setSubfronts((List<List<Solution>>) in.readObject());
   }
 
   @Override protected List<Solution> selection(List<Solution> population) {
@@ -43,8 +77,45 @@ public class SteadyStateNSGAII extends NSGAII {
     List<Solution> offspring = crossoverOperator.execute(parents);
 
     mutationOperator.execute(offspring.get(0));
+    if (solutionPool != null) {
+      solutionPool.release(offspring.get(1));
+    }
 
     offspringPopulation.add(offspring.get(0));
     return offspringPopulation;
   }
+
+  /**
+   * The offspring is inserted into the ranking, and the solution of the last subfront with the
+   * lowest crowding distance is removed from it. Both operations only update the subfronts whose
+   * members change, and their crowding distances, instead of ranking the N+1 solutions again
+   */
+  @Override protected List<Solution> replacement(List<Solution> population,
+      List<Solution> offspringPopulation) {
+    Solution offspring = offspringPopulation.get(0);
+    ranking.add(offspring);
+    population.add(offspring);
+
+    List<Solution> lastSubfront = ranking.getSubfront(ranking.getNumberOfSubfronts() - 1);
+    Solution worst = lastSubfront.get(0);
+    for (Solution solution : lastSubfront) {
+      if (crowdingDistanceComparator.compare(solution, worst) >= 0) {
+        worst = solution;
+      }
+    }
+    ranking.remove(worst);
+
+    for (int i = 0; i < population.size(); i++) {
+      if (population.get(i) == worst) {
+        population.set(i, population.get(population.size() - 1));
+        population.remove(population.size() - 1);
+        break;
+      }
+    }
+    if (solutionPool != null) {
+      solutionPool.release(worst);
+    }
+
+    return population;
+  }
 }
@@ -22,17 +22,22 @@
 package org.uma.jmetal.algorithm.multiobjective.omopso;
 
 import org.uma.jmetal.algorithm.impl.AbstractParticleSwarmOptimization;
+import org.uma.jmetal.operator.BatchMutationOperator;
 import org.uma.jmetal.operator.impl.mutation.NonUniformMutation;
 import org.uma.jmetal.operator.impl.mutation.UniformMutation;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
 import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
 import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.parallel.impl.ParallelArchiveFilter;
+import org.uma.jmetal.util.parallel.impl.ParallelRangeExecutor;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
 import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
 
 import java.util.ArrayList;
@@ -69,9 +74,31 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
   private JMetalRandom randomGenerator;
   private CrowdingDistance crowdingDistance;
 
+  private ParallelRangeExecutor swarmExecutor;
+  private ParallelArchiveFilter<DoubleSolution> leadersFilter;
+  private BatchMutationOperator<double[]> batchUniformMutation;
+  private BatchMutationOperator<double[]> batchNonUniformMutation;
+  private double[][] mutationBuffer;
+
   /** Constructor */
   public OMOPSO(DoubleProblem problem, SolutionListEvaluator evaluator, int swarmSize, int maxIterations,
       int archiveSize, UniformMutation uniformMutation, NonUniformMutation nonUniformMutation) {
+    this(problem, evaluator, swarmSize, maxIterations, archiveSize, uniformMutation,
+        nonUniformMutation, 1) ;
+  }
+
+  /**
+   * Constructor. If the number of threads is greater than one, the swarm is split into as many
+   * chunks, and the velocity, position and perturbation updates of each chunk run in a different
+   * thread with its own random generator (seeded from {@link JMetalRandom}). The particles
+   * dominated by a leader are filtered out in parallel before updating the leaders archive.
+   */
+  public OMOPSO(DoubleProblem problem, SolutionListEvaluator evaluator, int swarmSize, int maxIterations,
+      int archiveSize, UniformMutation uniformMutation, NonUniformMutation nonUniformMutation,
+      int numberOfThreads) {
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+    }
     this.problem = problem ;
     this.evaluator = evaluator ;
 
@@ -93,6 +120,15 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
 
     randomGenerator = JMetalRandom.getInstance() ;
     crowdingDistance = new CrowdingDistance();
+
+    if (numberOfThreads > 1) {
+      swarmExecutor = new ParallelRangeExecutor(numberOfThreads,
+          randomGenerator.nextInt(0, Integer.MAX_VALUE - 1)) ;
+      leadersFilter = new ParallelArchiveFilter<>(swarmExecutor) ;
+      batchUniformMutation = uniformMutation.createBatchOperator(problem) ;
+      batchNonUniformMutation = nonUniformMutation.createBatchOperator(problem) ;
+      mutationBuffer = new double[swarmSize][problem.getNumberOfVariables()] ;
+    }
   }
 
   @Override public void run() {
@@ -163,11 +199,24 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
   }
 
   @Override
-  protected void updateVelocity(List<DoubleSolution> swarm)  {
+  protected void updateVelocity(final List<DoubleSolution> swarm)  {
+    if (swarmExecutor == null) {
+      updateVelocity(swarm, 0, swarmSize, randomGenerator.getRandomGenerator());
+    } else {
+      swarmExecutor.execute(swarmSize, new ParallelRangeExecutor.RangeTask() {
+        @Override public void execute(int from, int to, PseudoRandomGenerator randomGenerator) {
+          updateVelocity(swarm, from, to, randomGenerator);
+        }
+      });
+    }
+  }
+
+  private void updateVelocity(List<DoubleSolution> swarm, int from, int to,
+      PseudoRandomGenerator randomGenerator) {
     double r1, r2, W, C1, C2;
     DoubleSolution bestGlobal;
 
-    for (int i = 0; i < swarmSize; i++) {
+    for (int i = from; i < to; i++) {
       DoubleSolution particle = swarm.get(i);
       DoubleSolution bestParticle = (DoubleSolution) localBest[i];
 
@@ -204,8 +253,20 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
 
   /** Update the position of each particle */
   @Override
-  protected void updatePosition(List<DoubleSolution> swarm)  {
-    for (int i = 0; i < swarmSize; i++) {
+  protected void updatePosition(final List<DoubleSolution> swarm)  {
+    if (swarmExecutor == null) {
+      updatePosition(swarm, 0, swarmSize);
+    } else {
+      swarmExecutor.execute(swarmSize, new ParallelRangeExecutor.RangeTask() {
+        @Override public void execute(int from, int to, PseudoRandomGenerator randomGenerator) {
+          updatePosition(swarm, from, to);
+        }
+      });
+    }
+  }
+
+  private void updatePosition(List<DoubleSolution> swarm, int from, int to) {
+    for (int i = from; i < to; i++) {
       DoubleSolution particle = swarm.get(i);
       for (int var = 0; var < particle.getNumberOfVariables(); var++) {
         particle.setVariableValue(var, particle.getVariableValue(var) + speed[i][var]);
@@ -254,22 +315,53 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
 
   /**  Apply a mutation operator to all particles in the swarm (perturbation) */
   @Override
-  protected void perturbation(List<DoubleSolution> swarm)  {
+  protected void perturbation(final List<DoubleSolution> swarm)  {
     nonUniformMutation.setCurrentIteration(currentIteration);
 
-    for (int i = 0; i < swarm.size(); i++) {
-      if (i % 3 == 0) {
-        nonUniformMutation.execute(swarm.get(i));
-      } else if (i % 3 == 1) {
-        uniformMutation.execute(swarm.get(i));
-      } else {
+    if (swarmExecutor == null) {
+      for (int i = 0; i < swarm.size(); i++) {
+        if (i % 3 == 0) {
+          nonUniformMutation.execute(swarm.get(i));
+        } else if (i % 3 == 1) {
+          uniformMutation.execute(swarm.get(i));
+        } else {
+        }
       }
+    } else {
+      swarmExecutor.execute(swarm.size(), new ParallelRangeExecutor.RangeTask() {
+        @Override public void execute(int from, int to, PseudoRandomGenerator randomGenerator) {
+          for (int i = from; i < to; i++) {
+            if (i % 3 == 0) {
+              mutate(swarm.get(i), i, batchNonUniformMutation, randomGenerator);
+            } else if (i % 3 == 1) {
+              mutate(swarm.get(i), i, batchUniformMutation, randomGenerator);
+            }
+          }
+        }
+      });
+    }
+  }
+
+  private void mutate(DoubleSolution particle, int index, BatchMutationOperator<double[]> mutation,
+      PseudoRandomGenerator randomGenerator) {
+    double[] variables = mutationBuffer[index] ;
+    for (int var = 0; var < variables.length; var++) {
+      variables[var] = particle.getVariableValue(var) ;
+    }
+    mutation.execute(mutationBuffer, index, index + 1, randomGenerator);
+    for (int var = 0; var < variables.length; var++) {
+      particle.setVariableValue(var, variables[var]);
     }
   }
 
   @Override protected void updateLeaders(List<DoubleSolution> swarm) {
-    for (int i = 0; i < swarm.size(); i++) {
-      DoubleSolution particle = (DoubleSolution) swarm.get(i).copy();
+    List<DoubleSolution> candidates = swarm ;
+    if (leadersFilter != null) {
+      candidates = leadersFilter.filter(leaderArchive, swarm) ;
+    }
+
+    for (int i = 0; i < candidates.size(); i++) {
+      DoubleSolution particle = (DoubleSolution) candidates.get(i).copy();
       if (leaderArchive.add(particle)) {
         epsilonArchive.add((DoubleSolution) particle.copy());
       }
@@ -278,5 +370,8 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
 
   protected void tearDown() {
     evaluator.shutdown();
+    if (swarmExecutor != null) {
+      swarmExecutor.shutdown();
+    }
   }
 }
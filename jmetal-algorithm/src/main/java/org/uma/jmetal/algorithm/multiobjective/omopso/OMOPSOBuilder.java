@@ -26,6 +26,7 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.impl.mutation.NonUniformMutation;
 import org.uma.jmetal.operator.impl.mutation.UniformMutation;
 import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.solutionattribute.AlgorithmBuilder;
 
@@ -37,6 +38,7 @@ public class OMOPSOBuilder implements AlgorithmBuilder {
   private int swarmSize = 100 ;
   private int archiveSize = 100 ;
   private int maxIterations = 25000 ;
+  private int numberOfThreads = 1 ;
 
   private UniformMutation uniformMutation ;
   private NonUniformMutation nonUniformMutation ;
@@ -64,6 +66,16 @@ public class OMOPSOBuilder implements AlgorithmBuilder {
     return this ;
   }
 
+  /** Sets the number of threads updating the swarm (the evaluation depends on the evaluator) */
+  public OMOPSOBuilder setNumberOfThreads(int numberOfThreads) {
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+    }
+    this.numberOfThreads = numberOfThreads ;
+
+    return this ;
+  }
+
   public OMOPSOBuilder setUniformMutation(MutationOperator uniformMutation) {
     this.uniformMutation = (UniformMutation)uniformMutation ;
 
@@ -89,6 +101,10 @@ public class OMOPSOBuilder implements AlgorithmBuilder {
     return maxIterations;
   }
 
+  public int getNumberOfThreads() {
+    return numberOfThreads;
+  }
+
   public UniformMutation getUniformMutation() {
     return uniformMutation;
   }
@@ -99,6 +115,6 @@ public class OMOPSOBuilder implements AlgorithmBuilder {
 
   public OMOPSO build() {
     return new OMOPSO(problem, evaluator, swarmSize, maxIterations, archiveSize, uniformMutation,
-        nonUniformMutation) ;
+        nonUniformMutation, numberOfThreads) ;
   }
 }
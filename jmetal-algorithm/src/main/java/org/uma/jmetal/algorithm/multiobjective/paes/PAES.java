@@ -17,7 +17,7 @@ import org.uma.jmetal.algorithm.impl.AbstractEvolutionStrategy;
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.archive.impl.AdaptiveGridArchive;
+import org.uma.jmetal.util.archive.impl.HashedAdaptiveGridArchive;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 
 import java.util.ArrayList;
@@ -42,7 +42,7 @@ public class PAES extends AbstractEvolutionStrategy<Solution, List<Solution>> {
 
   private MutationOperator mutationOperator;
 
-  private AdaptiveGridArchive archive;
+  private HashedAdaptiveGridArchive<Solution> archive;
   private Comparator comparator;
 
   /**
@@ -57,7 +57,8 @@ public class PAES extends AbstractEvolutionStrategy<Solution, List<Solution>> {
     biSections = builder.biSections;
     mutationOperator = builder.mutationOperator;
 
-    archive = new AdaptiveGridArchive(archiveSize, biSections, problem.getNumberOfObjectives());
+    archive = new HashedAdaptiveGridArchive<>(archiveSize, biSections,
+        problem.getNumberOfObjectives());
     comparator = new DominanceComparator();
 
   }
@@ -189,10 +190,11 @@ public class PAES extends AbstractEvolutionStrategy<Solution, List<Solution>> {
    * @param solution        The actual guide of PAES
    * @param mutatedSolution A candidate guide
    */
-  public Solution test(Solution solution, Solution mutatedSolution, AdaptiveGridArchive archive) {
+  public Solution test(Solution solution, Solution mutatedSolution,
+      HashedAdaptiveGridArchive<Solution> archive) {
 
-    int originalLocation = archive.getGrid().location(solution);
-    int mutatedLocation = archive.getGrid().location(mutatedSolution);
+    long originalLocation = archive.getGrid().location(solution);
+    long mutatedLocation = archive.getGrid().location(mutatedSolution);
 
     if (originalLocation == -1) {
       return mutatedSolution.copy();
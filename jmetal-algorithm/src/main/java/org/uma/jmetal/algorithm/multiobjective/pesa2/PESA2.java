@@ -0,0 +1,159 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.pesa2;
+
+import org.uma.jmetal.algorithm.impl.AbstractGeneticAlgorithm;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.impl.selection.RegionBasedSelection;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.impl.HashedAdaptiveGridArchive;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class implements the PESA-II algorithm, as described in
+ *
+ * D. W. Corne, N. R. Jerram, J. D. Knowles, M. J. Oates. PESA-II: Region-based Selection in
+ * Evolutionary Multiobjective Optimization. GECCO 2001, pp. 283-290
+ *
+ * The population of this class is the internal population of PESA-II: at each generation its
+ * solutions are offered to a {@link HashedAdaptiveGridArchive}, and the parents of the next one
+ * are chosen from the regions of the archive by a {@link RegionBasedSelection}.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class PESA2 extends AbstractGeneticAlgorithm<Solution, List<Solution>> {
+  protected final int maxEvaluations;
+  protected final int populationSize;
+
+  protected final Problem problem;
+
+  protected final SolutionListEvaluator<Solution> evaluator;
+
+  protected int evaluations;
+
+  private final HashedAdaptiveGridArchive<Solution> archive;
+  private final RegionBasedSelection<Solution> regionBasedSelection;
+
+  /**
+   * Constructor
+   *
+   * @param populationSize Size of the internal population
+   * @param archiveSize Maximum size of the archive
+   * @param biSections Number of bi-divisions of each objective in the grid of the archive
+   */
+  public PESA2(Problem problem, int maxEvaluations, int populationSize, int archiveSize,
+      int biSections, CrossoverOperator crossoverOperator, MutationOperator mutationOperator,
+      SolutionListEvaluator evaluator) {
+    this.problem = problem;
+    this.maxEvaluations = maxEvaluations;
+    this.populationSize = populationSize;
+
+    this.crossoverOperator = crossoverOperator;
+    this.mutationOperator = mutationOperator;
+
+    this.evaluator = evaluator;
+
+    archive = new HashedAdaptiveGridArchive<>(archiveSize, biSections,
+        problem.getNumberOfObjectives());
+    regionBasedSelection = new RegionBasedSelection<>();
+  }
+
+  @Override protected void initProgress() {
+    evaluations = populationSize;
+    addToArchive(getPopulation());
+  }
+
+  @Override protected void updateProgress() {
+    evaluations += populationSize;
+  }
+
+  @Override protected boolean isStoppingConditionReached() {
+    return evaluations >= maxEvaluations;
+  }
+
+  @Override protected List<Solution> createInitialPopulation() {
+    List<Solution> population = new ArrayList<>(populationSize);
+    for (int i = 0; i < populationSize; i++) {
+      Solution newIndividual = problem.createSolution();
+      population.add(newIndividual);
+    }
+    return population;
+  }
+
+  @Override protected List<Solution> evaluatePopulation(List<Solution> population) {
+    population = evaluator.evaluate(population, problem);
+
+    return population;
+  }
+
+  /** The parents are selected from the archive, not from the population */
+  @Override protected List<Solution> selection(List<Solution> population) {
+    List<Solution> matingPopulation = new ArrayList<>(populationSize + 1);
+    while (matingPopulation.size() < populationSize + (populationSize % 2)) {
+      matingPopulation.add(regionBasedSelection.execute(archive));
+    }
+
+    return matingPopulation;
+  }
+
+  @Override protected List<Solution> reproduction(List<Solution> population) {
+    List<Solution> offspringPopulation = new ArrayList<>(populationSize);
+    for (int i = 0; offspringPopulation.size() < populationSize; i += 2) {
+      List<Solution> parents = new ArrayList<>(2);
+      parents.add(population.get(i));
+      parents.add(population.get(i + 1));
+
+      List<Solution> offspring = crossoverOperator.execute(parents);
+
+      mutationOperator.execute(offspring.get(0));
+      offspringPopulation.add(offspring.get(0));
+      if (offspringPopulation.size() < populationSize) {
+        mutationOperator.execute(offspring.get(1));
+        offspringPopulation.add(offspring.get(1));
+      }
+    }
+    return offspringPopulation;
+  }
+
+  @Override protected List<Solution> replacement(List<Solution> population,
+      List<Solution> offspringPopulation) {
+    addToArchive(offspringPopulation);
+
+    return offspringPopulation;
+  }
+
+  private void addToArchive(List<Solution> solutionList) {
+    for (Solution solution : solutionList) {
+      archive.add(solution);
+    }
+  }
+
+  @Override public List<Solution> getResult() {
+    return archive.getSolutionList();
+  }
+
+  public HashedAdaptiveGridArchive<Solution> getArchive() {
+    return archive;
+  }
+
+  public int getEvaluations() {
+    return evaluations;
+  }
+}
@@ -0,0 +1,161 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.pesa2;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.AlgorithmBuilder;
+
+/**
+ * Builder class for {@link PESA2}
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class PESA2Builder implements AlgorithmBuilder {
+  private final Problem problem;
+  private int maxEvaluations;
+  private int populationSize;
+  private int archiveSize;
+  private int biSections;
+  private CrossoverOperator crossoverOperator;
+  private MutationOperator mutationOperator;
+  private SolutionListEvaluator evaluator;
+
+  /**
+   * PESA2Builder constructor
+   */
+  public PESA2Builder(Problem problem) {
+    this.problem = problem;
+    maxEvaluations = 25000;
+    populationSize = 10;
+    archiveSize = 100;
+    biSections = 5;
+    crossoverOperator = new SBXCrossover(0.9, 20.0);
+    mutationOperator = new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0);
+    evaluator = new SequentialSolutionListEvaluator();
+  }
+
+  public PESA2Builder setMaxEvaluations(int maxEvaluations) {
+    if (maxEvaluations < 0) {
+      throw new JMetalException("maxEvaluations is negative: " + maxEvaluations);
+    }
+    this.maxEvaluations = maxEvaluations;
+
+    return this;
+  }
+
+  public PESA2Builder setPopulationSize(int populationSize) {
+    if (populationSize <= 0) {
+      throw new JMetalException("Population size is not positive: " + populationSize);
+    }
+    this.populationSize = populationSize;
+
+    return this;
+  }
+
+  public PESA2Builder setArchiveSize(int archiveSize) {
+    if (archiveSize <= 0) {
+      throw new JMetalException("Archive size is not positive: " + archiveSize);
+    }
+    this.archiveSize = archiveSize;
+
+    return this;
+  }
+
+  /**
+   * Sets the number of bi-divisions of each objective in the grid. The product of the
+   * bi-divisions and the number of objectives cannot be higher than 63
+   */
+  public PESA2Builder setBiSections(int biSections) {
+    if (biSections <= 0) {
+      throw new JMetalException("biSections is not positive: " + biSections);
+    }
+    this.biSections = biSections;
+
+    return this;
+  }
+
+  public PESA2Builder setCrossoverOperator(CrossoverOperator crossoverOperator) {
+    if (crossoverOperator == null) {
+      throw new JMetalException("crossoverOperator is null");
+    }
+    this.crossoverOperator = crossoverOperator;
+
+    return this;
+  }
+
+  public PESA2Builder setMutationOperator(MutationOperator mutationOperator) {
+    if (mutationOperator == null) {
+      throw new JMetalException("mutationOperator is null");
+    }
+    this.mutationOperator = mutationOperator;
+
+    return this;
+  }
+
+  public PESA2Builder setSolutionListEvaluator(SolutionListEvaluator evaluator) {
+    if (evaluator == null) {
+      throw new JMetalException("evaluator is null");
+    }
+    this.evaluator = evaluator;
+
+    return this;
+  }
+
+  public Algorithm build() {
+    return new PESA2(problem, maxEvaluations, populationSize, archiveSize, biSections,
+        crossoverOperator, mutationOperator, evaluator);
+  }
+
+  /* Getters */
+  public Problem getProblem() {
+    return problem;
+  }
+
+  public int getMaxEvaluations() {
+    return maxEvaluations;
+  }
+
+  public int getPopulationSize() {
+    return populationSize;
+  }
+
+  public int getArchiveSize() {
+    return archiveSize;
+  }
+
+  public int getBiSections() {
+    return biSections;
+  }
+
+  public CrossoverOperator getCrossoverOperator() {
+    return crossoverOperator;
+  }
+
+  public MutationOperator getMutationOperator() {
+    return mutationOperator;
+  }
+
+  public SolutionListEvaluator getSolutionListEvaluator() {
+    return evaluator;
+  }
+}
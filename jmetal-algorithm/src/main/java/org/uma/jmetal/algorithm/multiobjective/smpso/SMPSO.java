@@ -14,26 +14,44 @@
 package org.uma.jmetal.algorithm.multiobjective.smpso;
 
 import org.uma.jmetal.algorithm.impl.AbstractParticleSwarmOptimization;
+import org.uma.jmetal.operator.BatchMutationOperator;
 import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.mutation.UniformMutation;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.archive.impl.HypervolumeArchive;
+import org.uma.jmetal.util.checkpoint.CheckpointManager;
+import org.uma.jmetal.util.checkpoint.Checkpointable;
 import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.parallel.impl.ParallelArchiveFilter;
+import org.uma.jmetal.util.parallel.impl.ParallelRangeExecutor;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
 /**
  * Created by antonio on 24/09/14.
+ *
+ * The leaders are kept in a {@link CrowdingDistanceArchive} and selected by their crowding
+ * distance, or in a {@link HypervolumeArchive} (SMPSOhv) and selected by their hypervolume
+ * contribution.
  */
-public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, List<DoubleSolution>> {
+public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, List<DoubleSolution>>
+    implements Checkpointable {
   private DoubleProblem problem;
 
   private double c1Max;
@@ -52,6 +70,7 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
   private int swarmSize;
   private int maxIterations;
   private int iterations;
+  private List<DoubleSolution> swarm;
   private DoubleSolution[] best;
 
   private JMetalRandom randomGenerator;
@@ -59,7 +78,7 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
   private Archive<DoubleSolution> leaders;
   private double[][] speed;
   private Comparator<Solution> dominanceComparator;
-  private Comparator<Solution> crowdingDistanceComparator;
+  private Comparator<Solution> leadersComparator;
 
   private MutationOperator mutation;
 
@@ -68,6 +87,15 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
 
   private SolutionListEvaluator evaluator;
 
+  private SolutionPool<DoubleSolution> solutionPool;
+
+  private ParallelRangeExecutor swarmExecutor;
+  private ParallelArchiveFilter<DoubleSolution> leadersFilter;
+  private BatchMutationOperator<double[]> batchMutation;
+  private double[][] mutationBuffer;
+
+  private CheckpointManager checkpointManager;
+
   /**
    * Constructor
    */
@@ -76,6 +104,26 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
       double r2Min, double r2Max, double c1Min, double c1Max, double c2Min, double c2Max,
       double weightMin, double weightMax, double changeVelocity1, double changeVelocity2,
       SolutionListEvaluator evaluator) {
+    this(problem, swarmSize, leaders, mutationOperator, maxIterations, r1Min, r1Max, r2Min,
+        r2Max, c1Min, c1Max, c2Min, c2Max, weightMin, weightMax, changeVelocity1,
+        changeVelocity2, evaluator, 1);
+  }
+
+  /**
+   * Constructor. If the number of threads is greater than one, the swarm is split into as many
+   * chunks, and the velocity, position and perturbation updates of each chunk run in a different
+   * thread with its own random generator (seeded from {@link JMetalRandom}). The perturbation only
+   * runs in parallel with a polynomial or uniform mutation. The particles dominated by a leader
+   * are filtered out in parallel before updating the leaders archive.
+   */
+  public SMPSO(DoubleProblem problem, int swarmSize, Archive<DoubleSolution> leaders,
+      MutationOperator mutationOperator, int maxIterations, double r1Min, double r1Max,
+      double r2Min, double r2Max, double c1Min, double c1Max, double c2Min, double c2Max,
+      double weightMin, double weightMax, double changeVelocity1, double changeVelocity2,
+      SolutionListEvaluator evaluator, int numberOfThreads) {
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads);
+    }
     this.problem = problem;
     this.swarmSize = swarmSize;
     this.leaders = leaders;
@@ -99,8 +147,13 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     this.evaluator = evaluator;
 
     dominanceComparator = new DominanceComparator();
-    crowdingDistanceComparator = new CrowdingDistanceComparator();
+    if (leaders instanceof HypervolumeArchive) {
+      leadersComparator = ((HypervolumeArchive) leaders).getComparator();
+    } else {
+      leadersComparator = new CrowdingDistanceComparator();
+    }
     best = new DoubleSolution[swarmSize];
+    solutionPool = new SolutionPool<>(swarmSize);
     speed = new double[swarmSize][problem.getNumberOfVariables()];
 
     deltaMax = new double[problem.getNumberOfVariables()];
@@ -109,17 +162,30 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
       deltaMax[i] = (problem.getUpperBound(i) - problem.getLowerBound(i)) / 2.0;
       deltaMin[i] = -deltaMax[i];
     }
+
+    if (numberOfThreads > 1) {
+      swarmExecutor = new ParallelRangeExecutor(numberOfThreads,
+          randomGenerator.nextInt(0, Integer.MAX_VALUE - 1));
+      leadersFilter = new ParallelArchiveFilter<>(swarmExecutor);
+      if (mutation instanceof PolynomialMutation) {
+        batchMutation = ((PolynomialMutation) mutation).createBatchOperator(problem);
+      } else if (mutation instanceof UniformMutation) {
+        batchMutation = ((UniformMutation) mutation).createBatchOperator(problem);
+      }
+      mutationBuffer = new double[swarmSize][problem.getNumberOfVariables()];
+    }
   }
 
   @Override public void run() {
-    List<DoubleSolution> swarm;
-    swarm = createInitialSwarm();
-    swarm = evaluateSwarm(swarm);
-    initializeLeaders(swarm);
-    initializeParticlesMemory(swarm);
-    initializeLeaders(swarm);
-    updateLeadersDensityEstimator();
-    initProgress();
+    if ((checkpointManager == null) || !checkpointManager.restore(this)) {
+      swarm = createInitialSwarm();
+      swarm = evaluateSwarm(swarm);
+      initializeLeaders(swarm);
+      initializeParticlesMemory(swarm);
+      initializeLeaders(swarm);
+      updateLeadersDensityEstimator();
+      initProgress();
+    }
 
     while (!isStoppingConditionReached()) {
       updateVelocity(swarm);
@@ -130,12 +196,72 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
       updateParticlesMemory(swarm);
       updateLeadersDensityEstimator();
       updateProgress();
+      if (checkpointManager != null) {
+        checkpointManager.update(this);
+      }
+    }
+
+    if (swarmExecutor != null) {
+      swarmExecutor.shutdown();
+    }
+    if (checkpointManager != null) {
+      checkpointManager.close();
+    }
+  }
+
+  public CheckpointManager getCheckpointManager() {
+    return checkpointManager;
+  }
+
+  /** Sets a manager to take checkpoints; if its file exists, the run resumes from it */
+  public void setCheckpointManager(CheckpointManager checkpointManager) {
+    this.checkpointManager = checkpointManager;
+  }
+
+  @Override public DoubleProblem getProblem() {
+    return problem;
+  }
+
+  /**
+   * Stores the swarm, the velocities, the memory of the particles, the leaders (with their
+   * crowding distances) and the random generators of the threads, if any
+   */
+  @Override public void saveState(ObjectOutputStream out) throws IOException {
+    out.writeInt(iterations);
+    out.writeObject(swarm);
+    out.writeObject(speed);
+    out.writeObject(best);
+    out.writeObject(new ArrayList<>(leaders.getSolutionList()));
+    out.writeObject(swarmExecutor == null ? null : swarmExecutor.getRandomGenerators());
+  }
+
+  @Override @SuppressWarnings("unchecked")
+  public void restoreState(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    iterations = in.readInt();
+    swarm = (List<DoubleSolution>) in.readObject();
+    speed = (double[][]) in.readObject();
+    best = (DoubleSolution[]) in.readObject();
+
+    List<DoubleSolution> leaderList = (List<DoubleSolution>) in.readObject();
+    leaders.getSolutionList().clear();
+    leaders.getSolutionList().addAll(leaderList);
+
+    PseudoRandomGenerator[] randomGenerators = (PseudoRandomGenerator[]) in.readObject();
+    if (swarmExecutor != null) {
+      if (randomGenerators == null) {
+        throw new JMetalException("The checkpoint has been taken with a single thread");
+      }
+      swarmExecutor.setRandomGenerators(randomGenerators);
+    } else if (randomGenerators != null) {
+      throw new JMetalException("The checkpoint has been taken with several threads");
     }
   }
 
   protected void updateLeadersDensityEstimator() {
     if (leaders instanceof CrowdingDistanceArchive) {
       ((CrowdingDistanceArchive) leaders).computeDistance();
+    } else if (leaders instanceof HypervolumeArchive) {
+      ((HypervolumeArchive) leaders).computeContributions();
     } else {
       throw new JMetalException("Invalid setArchive type");
     }
@@ -193,16 +319,29 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     }
   }
 
-  @Override protected void updateVelocity(List<DoubleSolution> swarm) {
+  @Override protected void updateVelocity(final List<DoubleSolution> swarm) {
+    if (swarmExecutor == null) {
+      updateVelocity(swarm, 0, swarm.size(), randomGenerator.getRandomGenerator());
+    } else {
+      swarmExecutor.execute(swarm.size(), new ParallelRangeExecutor.RangeTask() {
+        @Override public void execute(int from, int to, PseudoRandomGenerator randomGenerator) {
+          updateVelocity(swarm, from, to, randomGenerator);
+        }
+      });
+    }
+  }
+
+  private void updateVelocity(List<DoubleSolution> swarm, int from, int to,
+      PseudoRandomGenerator randomGenerator) {
     double r1, r2, c1, c2;
     double wmax, wmin;
     DoubleSolution bestGlobal;
 
-    for (int i = 0; i < swarm.size(); i++) {
-      DoubleSolution particle = (DoubleSolution) swarm.get(i).copy();
-      DoubleSolution bestParticle = (DoubleSolution) best[i].copy();
+    for (int i = from; i < to; i++) {
+      DoubleSolution particle = swarm.get(i);
+      DoubleSolution bestParticle = best[i];
 
-      bestGlobal = selectGlobalBest();
+      bestGlobal = selectGlobalBest(randomGenerator);
 
       r1 = randomGenerator.nextDouble(r1Min, r1Max);
       r2 = randomGenerator.nextDouble(r2Min, r2Max);
@@ -221,8 +360,20 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     }
   }
 
-  @Override protected void updatePosition(List<DoubleSolution> swarm) {
-    for (int i = 0; i < swarmSize; i++) {
+  @Override protected void updatePosition(final List<DoubleSolution> swarm) {
+    if (swarmExecutor == null) {
+      updatePosition(swarm, 0, swarmSize);
+    } else {
+      swarmExecutor.execute(swarmSize, new ParallelRangeExecutor.RangeTask() {
+        @Override public void execute(int from, int to, PseudoRandomGenerator randomGenerator) {
+          updatePosition(swarm, from, to);
+        }
+      });
+    }
+  }
+
+  private void updatePosition(List<DoubleSolution> swarm, int from, int to) {
+    for (int i = from; i < to; i++) {
       DoubleSolution particle = swarm.get(i);
       for (int j = 0; j < particle.getNumberOfVariables(); j++) {
         double v = particle.getVariableValue(j);
@@ -240,18 +391,48 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     }
   }
 
-  @Override protected void perturbation(List<DoubleSolution> swarm) {
-    for (int i = 0; i < swarm.size(); i++) {
-      if ((i % 6) == 0) {
-        mutation.execute(swarm.get(i));
+  @Override protected void perturbation(final List<DoubleSolution> swarm) {
+    if ((swarmExecutor == null) || (batchMutation == null)) {
+      for (int i = 0; i < swarm.size(); i++) {
+        if ((i % 6) == 0) {
+          mutation.execute(swarm.get(i));
+        }
       }
+    } else {
+      swarmExecutor.execute(swarm.size(), new ParallelRangeExecutor.RangeTask() {
+        @Override public void execute(int from, int to, PseudoRandomGenerator randomGenerator) {
+          for (int i = from; i < to; i++) {
+            if ((i % 6) == 0) {
+              mutate(swarm.get(i), i, randomGenerator);
+            }
+          }
+        }
+      });
+    }
+  }
+
+  private void mutate(DoubleSolution particle, int index, PseudoRandomGenerator randomGenerator) {
+    double[] variables = mutationBuffer[index];
+    for (int j = 0; j < variables.length; j++) {
+      variables[j] = particle.getVariableValue(j);
+    }
+    batchMutation.execute(mutationBuffer, index, index + 1, randomGenerator);
+    for (int j = 0; j < variables.length; j++) {
+      particle.setVariableValue(j, variables[j]);
     }
   }
 
   @Override protected void updateLeaders(List<DoubleSolution> swarm) {
-    for (int i = 0; i < swarm.size(); i++) {
-      DoubleSolution particle = (DoubleSolution) swarm.get(i).copy();
-      leaders.add(particle);
+    List<DoubleSolution> candidates = swarm;
+    if (leadersFilter != null) {
+      candidates = leadersFilter.filter(leaders, swarm);
+    }
+
+    for (int i = 0; i < candidates.size(); i++) {
+      DoubleSolution particle = solutionPool.acquire(candidates.get(i));
+      if (!leaders.add(particle)) {
+        solutionPool.release(particle);
+      }
     }
   }
 
@@ -259,8 +440,8 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     for (int i = 0; i < swarm.size(); i++) {
       int flag = dominanceComparator.compare(swarm.get(i), best[i]);
       if (flag != 1) {
-        DoubleSolution particle = (DoubleSolution) swarm.get(i).copy();
-        best[i] = particle;
+        solutionPool.release(best[i]);
+        best[i] = solutionPool.acquire(swarm.get(i));
       }
     }
   }
@@ -269,7 +450,12 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     return this.leaders.getSolutionList();
   }
 
+  /** Returns one of the leaders, which must not be modified, by binary tournament */
   protected DoubleSolution selectGlobalBest() {
+    return selectGlobalBest(randomGenerator.getRandomGenerator());
+  }
+
+  private DoubleSolution selectGlobalBest(PseudoRandomGenerator randomGenerator) {
     Solution one, two;
     DoubleSolution bestGlobal;
     int pos1 = randomGenerator.nextInt(0, leaders.getSolutionList().size() - 1);
@@ -277,10 +463,10 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     one = leaders.getSolutionList().get(pos1);
     two = leaders.getSolutionList().get(pos2);
 
-    if (crowdingDistanceComparator.compare(one, two) < 1) {
-      bestGlobal = (DoubleSolution) one.copy();
+    if (leadersComparator.compare(one, two) < 1) {
+      bestGlobal = (DoubleSolution) one;
     } else {
-      bestGlobal = (DoubleSolution) two.copy();
+      bestGlobal = (DoubleSolution) two;
     }
 
     return bestGlobal;
@@ -17,7 +17,9 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.checkpoint.CheckpointManager;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -54,6 +56,10 @@ public class SMPSOBuilder implements AlgorithmBuilder {
 
   private SolutionListEvaluator evaluator;
 
+  private int numberOfThreads;
+
+  private CheckpointManager checkpointManager;
+
   public SMPSOBuilder(DoubleProblem problem, Archive leaders) {
     this.problem = problem;
     this.leaders = leaders;
@@ -76,6 +82,7 @@ public class SMPSOBuilder implements AlgorithmBuilder {
 
     mutationOperator = new PolynomialMutation(1.0/problem.getNumberOfVariables(), 20.0) ;
     evaluator = new SequentialSolutionListEvaluator() ;
+    numberOfThreads = 1 ;
   }
 
   /* Getters */
@@ -139,6 +146,14 @@ public class SMPSOBuilder implements AlgorithmBuilder {
     return changeVelocity2;
   }
 
+  public int getNumberOfThreads() {
+    return numberOfThreads;
+  }
+
+  public CheckpointManager getCheckpointManager() {
+    return checkpointManager;
+  }
+
   /* Setters */
   public SMPSOBuilder setSwarmSize(int swarmSize) {
     this.swarmSize = swarmSize;
@@ -242,10 +257,33 @@ public class SMPSOBuilder implements AlgorithmBuilder {
     return this ;
   }
 
+  /**
+   * Sets the number of threads updating the swarm. It does not affect the evaluation, which is
+   * parallelized by the solution list evaluator
+   */
+  public SMPSOBuilder setNumberOfThreads(int numberOfThreads) {
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads);
+    }
+    this.numberOfThreads = numberOfThreads;
+
+    return this;
+  }
+
+  /** Sets a manager to take checkpoints of the run; if its file exists, the run resumes from it */
+  public SMPSOBuilder setCheckpointManager(CheckpointManager checkpointManager) {
+    this.checkpointManager = checkpointManager;
+
+    return this;
+  }
+
   public SMPSO build() {
-    return new SMPSO(problem, swarmSize, leaders, mutationOperator, maxIterations, r1Min, r1Max,
-        r2Min, r2Max, c1Min, c1Max, c2Min, c2Max, weightMin, weightMax, changeVelocity1,
-        changeVelocity2, evaluator);
+    SMPSO algorithm = new SMPSO(problem, swarmSize, leaders, mutationOperator, maxIterations,
+        r1Min, r1Max, r2Min, r2Max, c1Min, c1Max, c2Min, c2Max, weightMin, weightMax,
+        changeVelocity1, changeVelocity2, evaluator, numberOfThreads);
+    algorithm.setCheckpointManager(checkpointManager);
+
+    return algorithm;
   }
 }
 
@@ -0,0 +1,196 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.smsemoa;
+
+import org.uma.jmetal.algorithm.impl.AbstractGeneticAlgorithm;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContribution;
+import org.uma.jmetal.util.solutionattribute.impl.IncrementalDominanceRanking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class implements the SMS-EMOA algorithm, as described in
+ *
+ * N. Beume, B. Naujoks, M. Emmerich. SMS-EMOA: Multiobjective selection based on dominated
+ * hypervolume. European Journal of Operational Research 181 (2007) 1653-1669
+ *
+ * It is a steady-state algorithm: each iteration produces one offspring, and the solution of the
+ * last front with the lowest hypervolume contribution is removed from the population. The fronts
+ * are kept by an incremental ranking, and the contributions of the last front are only computed
+ * again for the solutions affected by the changes of that front. The reference point is the
+ * maximum of each objective in the last front plus an offset.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class SMSEMOA extends AbstractGeneticAlgorithm<Solution, List<Solution>> {
+  protected final int maxEvaluations;
+  protected final int populationSize;
+  protected final double offset;
+
+  protected final Problem problem;
+
+  protected final SolutionListEvaluator<Solution> evaluator;
+
+  protected int evaluations;
+
+  private final IncrementalDominanceRanking<Solution> ranking;
+  private final HypervolumeContribution<Solution> hypervolumeContribution;
+
+  /**
+   * Constructor
+   *
+   * @param offset Offset added to the maximum of each objective to get the reference point
+   * @param numberOfSamples Number of samples to estimate the contributions with more than three
+   *                        objectives
+   */
+  public SMSEMOA(Problem problem, int maxEvaluations, int populationSize, double offset,
+      int numberOfSamples, CrossoverOperator crossoverOperator, MutationOperator mutationOperator,
+      SelectionOperator selectionOperator, SolutionListEvaluator evaluator) {
+    this.problem = problem;
+    this.maxEvaluations = maxEvaluations;
+    this.populationSize = populationSize;
+    this.offset = offset;
+
+    this.crossoverOperator = crossoverOperator;
+    this.mutationOperator = mutationOperator;
+    this.selectionOperator = selectionOperator;
+
+    this.evaluator = evaluator;
+
+    ranking = new IncrementalDominanceRanking<>();
+    hypervolumeContribution = new HypervolumeContribution<>(numberOfSamples);
+  }
+
+  @Override protected void initProgress() {
+    evaluations = populationSize;
+    ranking.computeRanking(getPopulation());
+  }
+
+  @Override protected void updateProgress() {
+    evaluations++;
+  }
+
+  @Override protected boolean isStoppingConditionReached() {
+    return evaluations >= maxEvaluations;
+  }
+
+  @Override protected List<Solution> createInitialPopulation() {
+    List<Solution> population = new ArrayList<>(populationSize);
+    for (int i = 0; i < populationSize; i++) {
+      Solution newIndividual = problem.createSolution();
+      population.add(newIndividual);
+    }
+    return population;
+  }
+
+  @Override protected List<Solution> evaluatePopulation(List<Solution> population) {
+    population = evaluator.evaluate(population, problem);
+
+    return population;
+  }
+
+  @Override protected List<Solution> selection(List<Solution> population) {
+    List<Solution> matingPopulation = new ArrayList<>(2);
+
+    matingPopulation.add(selectionOperator.execute(population));
+    matingPopulation.add(selectionOperator.execute(population));
+
+    return matingPopulation;
+  }
+
+  @Override protected List<Solution> reproduction(List<Solution> population) {
+    List<Solution> offspringPopulation = new ArrayList<>(1);
+
+    List<Solution> offspring = crossoverOperator.execute(population);
+
+    mutationOperator.execute(offspring.get(0));
+    if (solutionPool != null) {
+      solutionPool.release(offspring.get(1));
+    }
+
+    offspringPopulation.add(offspring.get(0));
+    return offspringPopulation;
+  }
+
+  @Override protected List<Solution> replacement(List<Solution> population,
+      List<Solution> offspringPopulation) {
+    Solution offspring = offspringPopulation.get(0);
+    ranking.add(offspring);
+    population.add(offspring);
+
+    Solution worst = selectWorstSolution(ranking.getSubfront(ranking.getNumberOfSubfronts() - 1));
+    ranking.remove(worst);
+
+    for (int i = 0; i < population.size(); i++) {
+      if (population.get(i) == worst) {
+        population.set(i, population.get(population.size() - 1));
+        population.remove(population.size() - 1);
+        break;
+      }
+    }
+    hypervolumeContribution.remove(worst);
+    if (solutionPool != null) {
+      solutionPool.release(worst);
+    }
+
+    return population;
+  }
+
+  /** Returns the solution of the last front with the lowest hypervolume contribution */
+  protected Solution selectWorstSolution(List<Solution> lastSubfront) {
+    if (lastSubfront.size() == 1) {
+      return lastSubfront.get(0);
+    }
+
+    int numberOfObjectives = problem.getNumberOfObjectives();
+    double[] referencePoint = new double[numberOfObjectives];
+    for (int i = 0; i < numberOfObjectives; i++) {
+      referencePoint[i] = Double.NEGATIVE_INFINITY;
+      for (Solution solution : lastSubfront) {
+        referencePoint[i] = Math.max(referencePoint[i], solution.getObjective(i));
+      }
+      referencePoint[i] += offset;
+    }
+    hypervolumeContribution.updateContributions(lastSubfront, referencePoint);
+
+    Solution worst = lastSubfront.get(0);
+    double lowestContribution = hypervolumeContribution.getAttribute(worst);
+    for (Solution solution : lastSubfront) {
+      double contribution = hypervolumeContribution.getAttribute(solution);
+      if (contribution < lowestContribution) {
+        lowestContribution = contribution;
+        worst = solution;
+      }
+    }
+
+    return worst;
+  }
+
+  @Override public List<Solution> getResult() {
+    return SolutionListUtils.getNondominatedSolutions(getPopulation());
+  }
+
+  public int getEvaluations() {
+    return evaluations;
+  }
+}
@@ -0,0 +1,195 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.smsemoa;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.util.SolutionPool;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.AlgorithmBuilder;
+
+/**
+ * Builder class for {@link SMSEMOA}
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class SMSEMOABuilder implements AlgorithmBuilder {
+  private final Problem problem;
+  private int maxEvaluations;
+  private int populationSize;
+  private double offset;
+  private int numberOfSamples;
+  private CrossoverOperator crossoverOperator;
+  private MutationOperator mutationOperator;
+  private SelectionOperator selectionOperator;
+  private SolutionListEvaluator evaluator;
+  private SolutionPool solutionPool;
+
+  /**
+   * SMSEMOABuilder constructor
+   */
+  public SMSEMOABuilder(Problem problem) {
+    this.problem = problem;
+    maxEvaluations = 25000;
+    populationSize = 100;
+    offset = 100.0;
+    numberOfSamples = 10000;
+    crossoverOperator = new SBXCrossover(0.9, 20.0);
+    mutationOperator = new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0);
+    selectionOperator = new BinaryTournamentSelection();
+    evaluator = new SequentialSolutionListEvaluator();
+  }
+
+  public SMSEMOABuilder setMaxEvaluations(int maxEvaluations) {
+    if (maxEvaluations < 0) {
+      throw new JMetalException("maxEvaluations is negative: " + maxEvaluations);
+    }
+    this.maxEvaluations = maxEvaluations;
+
+    return this;
+  }
+
+  public SMSEMOABuilder setPopulationSize(int populationSize) {
+    if (populationSize < 0) {
+      throw new JMetalException("Population size is negative: " + populationSize);
+    }
+
+    this.populationSize = populationSize;
+
+    return this;
+  }
+
+  public SMSEMOABuilder setOffset(double offset) {
+    if (offset <= 0) {
+      throw new JMetalException("offset is not positive: " + offset);
+    }
+    this.offset = offset;
+
+    return this;
+  }
+
+  /**
+   * Sets the number of samples used to estimate the hypervolume contributions of problems with
+   * more than three objectives
+   */
+  public SMSEMOABuilder setNumberOfSamples(int numberOfSamples) {
+    if (numberOfSamples <= 0) {
+      throw new JMetalException("numberOfSamples is not positive: " + numberOfSamples);
+    }
+    this.numberOfSamples = numberOfSamples;
+
+    return this;
+  }
+
+  public SMSEMOABuilder setCrossoverOperator(CrossoverOperator crossoverOperator) {
+    if (crossoverOperator == null) {
+      throw new JMetalException("crossoverOperator is null");
+    }
+    this.crossoverOperator = crossoverOperator;
+
+    return this;
+  }
+
+  public SMSEMOABuilder setMutationOperator(MutationOperator mutationOperator) {
+    if (mutationOperator == null) {
+      throw new JMetalException("mutationOperator is null");
+    }
+
+    this.mutationOperator = mutationOperator;
+
+    return this;
+  }
+
+  public SMSEMOABuilder setSelectionOperator(SelectionOperator selectionOperator) {
+    if (selectionOperator == null) {
+      throw new JMetalException("selectionOperator is null");
+    }
+    this.selectionOperator = selectionOperator;
+
+    return this;
+  }
+
+  public SMSEMOABuilder setSolutionListEvaluator(SolutionListEvaluator evaluator) {
+    if (evaluator == null) {
+      throw new JMetalException("evaluator is null");
+    }
+    this.evaluator = evaluator;
+
+    return this;
+  }
+
+  public SMSEMOABuilder setSolutionPool(SolutionPool solutionPool) {
+    this.solutionPool = solutionPool;
+
+    return this;
+  }
+
+  public Algorithm build() {
+    SMSEMOA algorithm = new SMSEMOA(problem, maxEvaluations, populationSize, offset,
+        numberOfSamples, crossoverOperator, mutationOperator, selectionOperator, evaluator);
+    algorithm.setSolutionPool(solutionPool);
+
+    return algorithm ;
+  }
+
+  /* Getters */
+  public Problem getProblem() {
+    return problem;
+  }
+
+  public int getMaxEvaluations() {
+    return maxEvaluations;
+  }
+
+  public int getPopulationSize() {
+    return populationSize;
+  }
+
+  public double getOffset() {
+    return offset;
+  }
+
+  public int getNumberOfSamples() {
+    return numberOfSamples;
+  }
+
+  public CrossoverOperator getCrossoverOperator() {
+    return crossoverOperator;
+  }
+
+  public MutationOperator getMutationOperator() {
+    return mutationOperator;
+  }
+
+  public SelectionOperator getSelectionOperator() {
+    return selectionOperator;
+  }
+
+  public SolutionListEvaluator getSolutionListEvaluator() {
+    return evaluator;
+  }
+
+  public SolutionPool getSolutionPool() {
+    return solutionPool;
+  }
+}
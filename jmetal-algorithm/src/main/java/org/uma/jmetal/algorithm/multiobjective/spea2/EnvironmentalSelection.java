@@ -0,0 +1,213 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.spea2;
+
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.FitnessComparator;
+import org.uma.jmetal.util.dominance.ObjectiveMatrix;
+import org.uma.jmetal.util.solutionattribute.impl.Fitness;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Environmental selection of SPEA2. The solutions must have a fitness computed by
+ * {@link org.uma.jmetal.util.solutionattribute.impl.StrengthRawFitness}. The non-dominated
+ * solutions (fitness lower than 1) are selected; if there are not enough of them, the archive is
+ * filled with the best dominated ones, and if there are too many, the truncation operator
+ * repeatedly removes the solution whose list of distances to the remaining ones, sorted in
+ * increasing order, is lexicographically the smallest.
+ *
+ * The truncation does not sort the distance lists: as the first element of the smallest list is
+ * the smallest nearest neighbor distance, only the solutions with that distance are candidates.
+ * The nearest neighbor of each solution is kept and only searched again when it is removed, and
+ * the ties between candidates are broken by extracting their distances from a heap until they
+ * differ. Each removal costs O(N) in the usual case, instead of the O(N^2 log N) of sorting all
+ * the lists again.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class EnvironmentalSelection<S extends Solution>
+    implements SelectionOperator<List<S>, List<S>> {
+  private final int solutionsToSelect ;
+  private final Fitness fitness ;
+
+  /** Constructor */
+  public EnvironmentalSelection(int solutionsToSelect) {
+    if (solutionsToSelect < 1) {
+      throw new JMetalException("The number of solutions to select must be positive: "
+          + solutionsToSelect) ;
+    }
+    this.solutionsToSelect = solutionsToSelect ;
+    fitness = new Fitness() ;
+  }
+
+  @Override
+  public List<S> execute(List<S> solutionList) {
+    if (null == solutionList) {
+      throw new JMetalException("The solution list is null") ;
+    }
+
+    List<S> archive = new ArrayList<>(solutionsToSelect) ;
+    List<S> dominatedSolutions = new ArrayList<>() ;
+    for (S solution : solutionList) {
+      if (fitness.getAttribute(solution) < 1.0) {
+        archive.add(solution) ;
+      } else {
+        dominatedSolutions.add(solution) ;
+      }
+    }
+
+    if (archive.size() < solutionsToSelect) {
+      Collections.sort(dominatedSolutions, new FitnessComparator());
+      for (int i = 0; (i < dominatedSolutions.size()) && (archive.size() < solutionsToSelect);
+           i++) {
+        archive.add(dominatedSolutions.get(i)) ;
+      }
+    } else if (archive.size() > solutionsToSelect) {
+      archive = truncate(archive) ;
+    }
+
+    return archive ;
+  }
+
+  private List<S> truncate(List<S> solutionList) {
+    int size = solutionList.size() ;
+    double[] distances = ObjectiveMatrix.of(solutionList).computeDistances() ;
+    boolean[] removed = new boolean[size] ;
+    int[] nearestNeighbor = new int[size] ;
+    for (int i = 0; i < size; i++) {
+      updateNearestNeighbor(i, distances, removed, nearestNeighbor) ;
+    }
+
+    double[] firstHeap = new double[size] ;
+    double[] secondHeap = new double[size] ;
+    for (int remaining = size; remaining > solutionsToSelect; remaining--) {
+      int worst = -1 ;
+      double smallestDistance = Double.POSITIVE_INFINITY ;
+      for (int i = 0; i < size; i++) {
+        if (!removed[i]) {
+          double distance = distances[i * size + nearestNeighbor[i]] ;
+          if (distance < smallestDistance) {
+            smallestDistance = distance ;
+            worst = i ;
+          } else if ((distance == smallestDistance)
+              && isCloser(i, worst, distances, removed, firstHeap, secondHeap)) {
+            worst = i ;
+          }
+        }
+      }
+
+      removed[worst] = true ;
+      for (int i = 0; i < size; i++) {
+        if (!removed[i] && (nearestNeighbor[i] == worst)) {
+          updateNearestNeighbor(i, distances, removed, nearestNeighbor) ;
+        }
+      }
+    }
+
+    List<S> archive = new ArrayList<>(solutionsToSelect) ;
+    for (int i = 0; i < size; i++) {
+      if (!removed[i]) {
+        archive.add(solutionList.get(i)) ;
+      }
+    }
+
+    return archive ;
+  }
+
+  private void updateNearestNeighbor(int solution, double[] distances, boolean[] removed,
+      int[] nearestNeighbor) {
+    int size = removed.length ;
+    int nearest = -1 ;
+    for (int j = 0; j < size; j++) {
+      if ((j != solution) && !removed[j]
+          && ((nearest == -1) || (distances[solution * size + j]
+          < distances[solution * size + nearest]))) {
+        nearest = j ;
+      }
+    }
+    nearestNeighbor[solution] = nearest ;
+  }
+
+  /**
+   * Returns true if the sorted distances from the first solution to the remaining ones are
+   * lexicographically smaller than the ones of the second solution
+   */
+  private boolean isCloser(int first, int second, double[] distances, boolean[] removed,
+      double[] firstHeap, double[] secondHeap) {
+    int heapSize = fillHeap(first, distances, removed, firstHeap) ;
+    fillHeap(second, distances, removed, secondHeap) ;
+
+    for (int i = heapSize; i > 0; i--) {
+      double firstDistance = poll(firstHeap, i) ;
+      double secondDistance = poll(secondHeap, i) ;
+      if (firstDistance != secondDistance) {
+        return firstDistance < secondDistance ;
+      }
+    }
+
+    return false ;
+  }
+
+  /** Builds a min-heap with the distances from a solution to the remaining ones */
+  private int fillHeap(int solution, double[] distances, boolean[] removed, double[] heap) {
+    int size = removed.length ;
+    int heapSize = 0 ;
+    for (int j = 0; j < size; j++) {
+      if ((j != solution) && !removed[j]) {
+        heap[heapSize++] = distances[solution * size + j] ;
+      }
+    }
+    for (int i = heapSize / 2 - 1; i >= 0; i--) {
+      siftDown(heap, i, heapSize) ;
+    }
+
+    return heapSize ;
+  }
+
+  /** Removes and returns the minimum of a heap of the given size */
+  private double poll(double[] heap, int heapSize) {
+    double minimum = heap[0] ;
+    heap[0] = heap[heapSize - 1] ;
+    siftDown(heap, 0, heapSize - 1) ;
+
+    return minimum ;
+  }
+
+  private void siftDown(double[] heap, int position, int heapSize) {
+    double value = heap[position] ;
+    int child = 2 * position + 1 ;
+    while (child < heapSize) {
+      if ((child + 1 < heapSize) && (heap[child + 1] < heap[child])) {
+        child++ ;
+      }
+      if (heap[child] >= value) {
+        break ;
+      }
+      heap[position] = heap[child] ;
+      position = child ;
+      child = 2 * position + 1 ;
+    }
+    heap[position] = value ;
+  }
+
+  public int getSolutionsToSelect() {
+    return solutionsToSelect ;
+  }
+}
@@ -0,0 +1,161 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.spea2;
+
+import org.uma.jmetal.algorithm.impl.AbstractGeneticAlgorithm;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.impl.StrengthRawFitness;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class implements the SPEA2 algorithm, as described in
+ *
+ * E. Zitzler, M. Laumanns, L. Thiele. SPEA2: Improving the Strength Pareto Evolutionary
+ * Algorithm. TIK-Report 103, ETH Zurich, 2001
+ *
+ * The population of this class is the archive: at each generation the offspring are created from
+ * the archive by binary tournament on the fitness, and the next archive is chosen by the
+ * {@link EnvironmentalSelection} from the union of the archive and the offspring.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class SPEA2 extends AbstractGeneticAlgorithm<Solution, List<Solution>> {
+  protected final int maxEvaluations;
+  protected final int populationSize;
+  protected final int archiveSize;
+
+  protected final Problem problem;
+
+  protected final SolutionListEvaluator<Solution> evaluator;
+
+  protected int evaluations;
+
+  private final StrengthRawFitness<Solution> strengthRawFitness;
+  private final EnvironmentalSelection<Solution> environmentalSelection;
+
+  /**
+   * Constructor
+   *
+   * @param populationSize Number of offspring created at each generation
+   * @param archiveSize Number of solutions of the archive
+   */
+  public SPEA2(Problem problem, int maxEvaluations, int populationSize, int archiveSize,
+      CrossoverOperator crossoverOperator, MutationOperator mutationOperator,
+      SelectionOperator selectionOperator, SolutionListEvaluator evaluator) {
+    this.problem = problem;
+    this.maxEvaluations = maxEvaluations;
+    this.populationSize = populationSize;
+    this.archiveSize = archiveSize;
+
+    this.crossoverOperator = crossoverOperator;
+    this.mutationOperator = mutationOperator;
+    this.selectionOperator = selectionOperator;
+
+    this.evaluator = evaluator;
+
+    strengthRawFitness = new StrengthRawFitness<>();
+    environmentalSelection = new EnvironmentalSelection<>(archiveSize);
+  }
+
+  /** The first archive is selected from the initial population */
+  @Override protected void initProgress() {
+    evaluations = populationSize;
+    setPopulation(replacement(new ArrayList<Solution>(), getPopulation()));
+  }
+
+  @Override protected void updateProgress() {
+    evaluations += populationSize;
+  }
+
+  @Override protected boolean isStoppingConditionReached() {
+    return evaluations >= maxEvaluations;
+  }
+
+  @Override protected List<Solution> createInitialPopulation() {
+    List<Solution> population = new ArrayList<>(populationSize);
+    for (int i = 0; i < populationSize; i++) {
+      Solution newIndividual = problem.createSolution();
+      population.add(newIndividual);
+    }
+    return population;
+  }
+
+  @Override protected List<Solution> evaluatePopulation(List<Solution> population) {
+    population = evaluator.evaluate(population, problem);
+
+    return population;
+  }
+
+  @Override protected List<Solution> selection(List<Solution> population) {
+    List<Solution> matingPopulation = new ArrayList<>(populationSize + 1);
+    while (matingPopulation.size() < populationSize + (populationSize % 2)) {
+      Solution solution = selectionOperator.execute(population);
+      matingPopulation.add(solution);
+    }
+
+    return matingPopulation;
+  }
+
+  @Override protected List<Solution> reproduction(List<Solution> population) {
+    List<Solution> offspringPopulation = new ArrayList<>(populationSize);
+    for (int i = 0; offspringPopulation.size() < populationSize; i += 2) {
+      List<Solution> parents = new ArrayList<>(2);
+      parents.add(population.get(i));
+      parents.add(population.get(i + 1));
+
+      List<Solution> offspring = crossoverOperator.execute(parents);
+
+      mutationOperator.execute(offspring.get(0));
+      offspringPopulation.add(offspring.get(0));
+      if (offspringPopulation.size() < populationSize) {
+        mutationOperator.execute(offspring.get(1));
+        offspringPopulation.add(offspring.get(1));
+      } else if (solutionPool != null) {
+        solutionPool.release(offspring.get(1));
+      }
+    }
+    return offspringPopulation;
+  }
+
+  @Override protected List<Solution> replacement(List<Solution> population,
+      List<Solution> offspringPopulation) {
+    List<Solution> jointPopulation = new ArrayList<>(population.size()
+        + offspringPopulation.size());
+    jointPopulation.addAll(population);
+    jointPopulation.addAll(offspringPopulation);
+
+    strengthRawFitness.computeFitness(jointPopulation);
+    List<Solution> archive = environmentalSelection.execute(jointPopulation);
+    releaseDiscardedSolutions(jointPopulation, archive);
+
+    return archive;
+  }
+
+  @Override public List<Solution> getResult() {
+    return SolutionListUtils.getNondominatedSolutions(getPopulation());
+  }
+
+  public int getEvaluations() {
+    return evaluations;
+  }
+}
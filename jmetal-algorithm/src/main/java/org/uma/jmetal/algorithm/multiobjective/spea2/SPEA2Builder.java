@@ -0,0 +1,176 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.spea2;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.util.SolutionPool;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.FitnessComparator;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.AlgorithmBuilder;
+
+/**
+ * Builder class for {@link SPEA2}
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class SPEA2Builder implements AlgorithmBuilder {
+  private final Problem problem;
+  private int maxEvaluations;
+  private int populationSize;
+  private int archiveSize;
+  private CrossoverOperator crossoverOperator;
+  private MutationOperator mutationOperator;
+  private SelectionOperator selectionOperator;
+  private SolutionListEvaluator evaluator;
+  private SolutionPool solutionPool;
+
+  /**
+   * SPEA2Builder constructor
+   */
+  public SPEA2Builder(Problem problem) {
+    this.problem = problem;
+    maxEvaluations = 25000;
+    populationSize = 100;
+    archiveSize = 100;
+    crossoverOperator = new SBXCrossover(0.9, 20.0);
+    mutationOperator = new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0);
+    selectionOperator = new BinaryTournamentSelection(new FitnessComparator());
+    evaluator = new SequentialSolutionListEvaluator();
+  }
+
+  public SPEA2Builder setMaxEvaluations(int maxEvaluations) {
+    if (maxEvaluations < 0) {
+      throw new JMetalException("maxEvaluations is negative: " + maxEvaluations);
+    }
+    this.maxEvaluations = maxEvaluations;
+
+    return this;
+  }
+
+  public SPEA2Builder setPopulationSize(int populationSize) {
+    if (populationSize <= 0) {
+      throw new JMetalException("Population size is not positive: " + populationSize);
+    }
+    this.populationSize = populationSize;
+
+    return this;
+  }
+
+  public SPEA2Builder setArchiveSize(int archiveSize) {
+    if (archiveSize <= 0) {
+      throw new JMetalException("Archive size is not positive: " + archiveSize);
+    }
+    this.archiveSize = archiveSize;
+
+    return this;
+  }
+
+  public SPEA2Builder setCrossoverOperator(CrossoverOperator crossoverOperator) {
+    if (crossoverOperator == null) {
+      throw new JMetalException("crossoverOperator is null");
+    }
+    this.crossoverOperator = crossoverOperator;
+
+    return this;
+  }
+
+  public SPEA2Builder setMutationOperator(MutationOperator mutationOperator) {
+    if (mutationOperator == null) {
+      throw new JMetalException("mutationOperator is null");
+    }
+    this.mutationOperator = mutationOperator;
+
+    return this;
+  }
+
+  /** Sets the mating selection, which has to compare the solutions by their SPEA2 fitness */
+  public SPEA2Builder setSelectionOperator(SelectionOperator selectionOperator) {
+    if (selectionOperator == null) {
+      throw new JMetalException("selectionOperator is null");
+    }
+    this.selectionOperator = selectionOperator;
+
+    return this;
+  }
+
+  public SPEA2Builder setSolutionListEvaluator(SolutionListEvaluator evaluator) {
+    if (evaluator == null) {
+      throw new JMetalException("evaluator is null");
+    }
+    this.evaluator = evaluator;
+
+    return this;
+  }
+
+  public SPEA2Builder setSolutionPool(SolutionPool solutionPool) {
+    this.solutionPool = solutionPool;
+
+    return this;
+  }
+
+  public Algorithm build() {
+    SPEA2 algorithm = new SPEA2(problem, maxEvaluations, populationSize, archiveSize,
+        crossoverOperator, mutationOperator, selectionOperator, evaluator);
+    algorithm.setSolutionPool(solutionPool);
+
+    return algorithm ;
+  }
+
+  /* Getters */
+  public Problem getProblem() {
+    return problem;
+  }
+
+  public int getMaxEvaluations() {
+    return maxEvaluations;
+  }
+
+  public int getPopulationSize() {
+    return populationSize;
+  }
+
+  public int getArchiveSize() {
+    return archiveSize;
+  }
+
+  public CrossoverOperator getCrossoverOperator() {
+    return crossoverOperator;
+  }
+
+  public MutationOperator getMutationOperator() {
+    return mutationOperator;
+  }
+
+  public SelectionOperator getSelectionOperator() {
+    return selectionOperator;
+  }
+
+  public SolutionListEvaluator getSolutionListEvaluator() {
+    return evaluator;
+  }
+
+  public SolutionPool getSolutionPool() {
+    return solutionPool;
+  }
+}
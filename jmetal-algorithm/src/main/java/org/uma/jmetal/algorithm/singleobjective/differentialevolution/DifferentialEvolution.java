@@ -43,6 +43,7 @@ public class DifferentialEvolution extends AbstractDifferentialEvolution<Solutio
   private Comparator<Solution> comparator;
 
   private int evaluations;
+  private List<DoubleSolution> trialPopulation;
 
   /**
    * Constructor
@@ -107,6 +108,10 @@ public class DifferentialEvolution extends AbstractDifferentialEvolution<Solutio
   }
 
   @Override protected List<DoubleSolution> reproduction(List<DoubleSolution> matingPopulation) {
+    if (engine != null) {
+      return generateTrials(matingPopulation);
+    }
+
     List<DoubleSolution> offspringPopulation = new ArrayList<>();
 
     for (int i = 0; i < populationSize; i++) {
@@ -124,6 +129,10 @@ public class DifferentialEvolution extends AbstractDifferentialEvolution<Solutio
 
   @Override protected List<DoubleSolution> replacement(List<DoubleSolution> population,
       List<DoubleSolution> offspringPopulation) {
+    if (engine != null) {
+      return replaceInPlace(population, offspringPopulation);
+    }
+
     List<DoubleSolution> pop = new ArrayList<>();
 
     for (int i = 0; i < populationSize; i++) {
@@ -138,12 +147,65 @@ public class DifferentialEvolution extends AbstractDifferentialEvolution<Solutio
     return pop;
   }
 
+  /**
+   * Generates the trial vectors with the engine. The population is only loaded into the engine in
+   * the first generation, as the replacement keeps both of them in the same order; the trial
+   * solutions are reused from one generation to the next
+   */
+  private List<DoubleSolution> generateTrials(List<DoubleSolution> population) {
+    if (trialPopulation == null) {
+      engine.load(population);
+      trialPopulation = new ArrayList<>(populationSize);
+      for (DoubleSolution solution : population) {
+        trialPopulation.add((DoubleSolution) solution.copy());
+      }
+    }
+
+    int bestIndex = 0;
+    for (int i = 1; i < populationSize; i++) {
+      if (comparator.compare(population.get(i), population.get(bestIndex)) < 0) {
+        bestIndex = i;
+      }
+    }
+
+    engine.generateTrials(bestIndex);
+    engine.storeTrials(trialPopulation);
+
+    return trialPopulation;
+  }
+
+  /**
+   * One-to-one selection: each trial replacing its target swaps places with it, both in the lists
+   * and in the engine, so the losers become the trial solutions of the next generation
+   */
+  private List<DoubleSolution> replaceInPlace(List<DoubleSolution> population,
+      List<DoubleSolution> trials) {
+    for (int i = 0; i < populationSize; i++) {
+      if (comparator.compare(population.get(i), trials.get(i)) >= 0) {
+        DoubleSolution target = population.set(i, trials.get(i));
+        trialPopulation.set(i, target);
+        engine.acceptTrial(i);
+      }
+    }
+
+    return population;
+  }
+
+  @Override public void run() {
+    trialPopulation = null;
+    try {
+      super.run();
+    } finally {
+      if (engine != null) {
+        engine.shutdown();
+      }
+    }
+  }
+
   /**
    * Returns the best individual
    */
   @Override public DoubleSolution getResult() {
-    Collections.sort(getPopulation(), comparator) ;
-
-    return getPopulation().get(0);
+    return Collections.min(getPopulation(), comparator);
   }
 }
@@ -1,5 +1,6 @@
 package org.uma.jmetal.algorithm.singleobjective.differentialevolution;
 
+import org.uma.jmetal.algorithm.impl.DifferentialEvolutionEngine;
 import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
 import org.uma.jmetal.operator.impl.selection.DifferentialEvolutionSelection;
 import org.uma.jmetal.problem.DoubleProblem;
@@ -18,6 +19,7 @@ public class DifferentialEvolutionBuilder {
   private DifferentialEvolutionCrossover crossoverOperator;
   private DifferentialEvolutionSelection selectionOperator;
   private SolutionListEvaluator evaluator;
+  private DifferentialEvolutionEngine engine;
 
   public DifferentialEvolutionBuilder(DoubleProblem problem) {
     this.problem = problem;
@@ -66,9 +68,18 @@ public class DifferentialEvolutionBuilder {
     return this;
   }
 
+  public DifferentialEvolutionBuilder setEngine(DifferentialEvolutionEngine engine) {
+    this.engine = engine;
+
+    return this;
+  }
+
   public DifferentialEvolution build() {
-    return new DifferentialEvolution(problem, maxEvaluations, populationSize, crossoverOperator,
-        selectionOperator, evaluator);
+    DifferentialEvolution algorithm = new DifferentialEvolution(problem, maxEvaluations,
+        populationSize, crossoverOperator, selectionOperator, evaluator);
+    algorithm.setEngine(engine);
+
+    return algorithm;
   }
 
   /* Getters */
@@ -95,5 +106,9 @@ public class DifferentialEvolutionBuilder {
   public SolutionListEvaluator getSolutionListEvaluator() {
     return evaluator;
   }
+
+  public DifferentialEvolutionEngine getEngine() {
+    return engine;
+  }
 }
 
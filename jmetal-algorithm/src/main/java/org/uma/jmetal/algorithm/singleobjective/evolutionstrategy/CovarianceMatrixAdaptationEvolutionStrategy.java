@@ -24,16 +24,54 @@ import org.uma.jmetal.algorithm.impl.AbstractEvolutionStrategy;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.checkpoint.CheckpointManager;
+import org.uma.jmetal.util.checkpoint.Checkpointable;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
 
 /**
  * Class implementing the CMA-ES algorithm
+ *
+ * The covariance matrix, the coordinate system and C^-1/2 are stored as flat row-major arrays.
+ * The rank-mu update, the computation of C^-1/2 and the sampling of the offspring can be split
+ * among several threads, and the eigendecomposition of C can be computed in a background thread
+ * while the search goes on with the previous one. In the separable mode (sep-CMA-ES) only the
+ * diagonal of C is adapted, so the cost of each iteration is linear in the number of variables.
+ * In the limited-memory mode (LM-CMA, Loshchilov 2017) C is not stored: its Cholesky factor is
+ * rebuilt on the fly from the last m evolution paths, stored every few generations, so each
+ * iteration costs O(m n) in time and memory and no eigendecomposition is needed.
+ *
+ * The offspring of each generation are evaluated as a batch by a {@link SolutionListEvaluator}.
+ * Optionally, the search stops when the strategy has stagnated (no improvement of the best
+ * fitness, a negligible step size or an ill-conditioned covariance matrix), which is what the
+ * restart strategies in {@link RestartCovarianceMatrixAdaptationEvolutionStrategy} need.
  */
 public class CovarianceMatrixAdaptationEvolutionStrategy
-    extends AbstractEvolutionStrategy<DoubleSolution, DoubleSolution> {
+    extends AbstractEvolutionStrategy<DoubleSolution, DoubleSolution> implements Checkpointable {
+  // Eigendecompositions of larger matrices are not checked, as the check is O(n^3)
+  private static final int MAX_DIMENSION_TO_CHECK_EIGENSYSTEM = 200 ;
+  // Rows of the block used when computing C^-1/2
+  private static final int BLOCK_SIZE = 64 ;
+  // Stagnation thresholds (Hansen, 2009)
+  private static final double TOL_FUN = 1e-12 ;
+  private static final double TOL_X = 1e-12 ;
+  private static final double MAX_CONDITION = 1e14 ;
+
   private Comparator<Solution> comparator ;
   private int lambda ;
   private int evaluations ;
@@ -41,6 +79,15 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
   private double[] typicalX;
 
   private DoubleProblem problem;
+  private int numberOfVariables ;
+
+  private boolean separable ;
+  private boolean limitedMemory ;
+  private int numberOfDirectionVectors ;
+  private boolean asynchronousEigendecomposition ;
+  private int numberOfThreads ;
+  private SolutionListEvaluator<DoubleSolution> evaluator ;
+  private boolean stopOnStagnation ;
 
   /**
    * CMA-ES state variables
@@ -51,9 +98,11 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
   // coordinate wise standard deviation (step size)
   private double sigma;
+  private double initialSigma;
 
-  // Symmetric and positive definitive covariance matrix
-  private double[][] c;
+  // Symmetric and positive definitive covariance matrix (lower triangle, row-major), or its
+  // diagonal in the separable mode
+  private double[] c;
 
   // Evolution paths for c and sigma
   private double[] pathsC;
@@ -93,24 +142,58 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
    * Dynamic (internal) strategy parameters and constants
    */
 
-  // coordinate system
-  private double[][] b;
+  // coordinate system (row-major); not used in the separable mode
+  private double[] b;
 
   // diagonal D defines the scaling
   private double[] diagD;
 
-  // c^1/2
-  private double[][] invSqrtC;
+  // c^-1/2 (row-major); not used in the separable mode
+  private double[] invSqrtC;
 
   // track update of b and c
   private int eigenEval;
 
   private double chiN;
 
+  /*
+   * Limited-memory mode: C = A * A' with A = a^k I + sum_j a^(k-j) b_j p_j v_j', where p_j are
+   * the stored evolution paths (oldest first) and v_j = A_(j-1)^-1 p_j
+   */
+
+  // stored evolution paths p_j and their transforms v_j (row-major)
+  private double[] directionVectors ;
+  private double[] inverseDirectionVectors ;
+
+  // coefficients b_j of A and d_j of its inverse
+  private double[] factorCoefficients ;
+  private double[] inverseFactorCoefficients ;
+
+  private int numberOfStoredVectors ;
+
+  // a = sqrt(1 - c1)
+  private double factorScale ;
+
+  // generations between two stored evolution paths
+  private int storageInterval ;
+
+  // best fitness of the last generations, used to detect stagnation
+  private double[] bestFitnessHistory ;
+  private int generations ;
+  private boolean numericalError ;
+
+  // Working areas: steps of the mu best solutions and standard normal vectors of the offspring
+  private double[] steps ;
+  private double[] normalVectors ;
+  private double[] offspringVariables ;
+
   private DoubleSolution bestSolutionEver = null;
 
   private Random rand;
 
+  private ExecutorService executor ;
+  private Future<EigenSystem> pendingEigenSystem ;
+
   /** Constructor */
   private CovarianceMatrixAdaptationEvolutionStrategy (Builder builder) {
     this.problem = builder.problem ;
@@ -118,13 +201,21 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     this.maxEvaluations = builder.maxEvaluations ;
     this.typicalX = builder.typicalX;
     this.sigma = builder.sigma;
-
-    long seed = System.currentTimeMillis();
-    rand = new Random(seed);
+    this.initialSigma = builder.sigma;
+    this.separable = builder.separable ;
+    this.limitedMemory = builder.limitedMemory ;
+    this.numberOfDirectionVectors = builder.numberOfDirectionVectors ;
+    this.asynchronousEigendecomposition = builder.asynchronousEigendecomposition ;
+    this.numberOfThreads = builder.numberOfThreads ;
+    this.evaluator = builder.evaluator ;
+    this.stopOnStagnation = builder.stopOnStagnation ;
+
+    rand = new Random(builder.seed);
     comparator = new ObjectiveComparator(0);
 
     initializeInternalParameters();
 
+    setCheckpointManager(builder.checkpointManager);
   }
 
   /* Getters */
@@ -136,6 +227,23 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     return maxEvaluations;
   }
 
+  public boolean isSeparable() {
+    return separable ;
+  }
+
+  public boolean isLimitedMemory() {
+    return limitedMemory ;
+  }
+
+  public double getSigma() {
+    return initialSigma ;
+  }
+
+  /** Returns the number of solutions evaluated in the last execution */
+  public int getEvaluations() {
+    return evaluations ;
+  }
+
   /**
    * Buider class
    */
@@ -149,12 +257,30 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     private int maxEvaluations ;
     private double [] typicalX;
     private double sigma;
+    private boolean separable ;
+    private boolean limitedMemory ;
+    private int numberOfDirectionVectors ;
+    private boolean asynchronousEigendecomposition ;
+    private int numberOfThreads ;
+    private long seed ;
+    private SolutionListEvaluator<DoubleSolution> evaluator ;
+    private boolean stopOnStagnation ;
+    private CheckpointManager checkpointManager ;
 
     public Builder(DoubleProblem problem) {
       this.problem = problem;
       lambda = DEFAULT_LAMBDA;
       maxEvaluations = DEFAULT_MAX_EVALUATIONS;
       sigma = DEFAULT_SIGMA;
+      separable = false ;
+      limitedMemory = false ;
+      numberOfDirectionVectors =
+          4 + (int) Math.floor(3 * Math.log(problem.getNumberOfVariables())) ;
+      asynchronousEigendecomposition = false ;
+      numberOfThreads = 1 ;
+      seed = System.currentTimeMillis() ;
+      evaluator = new SequentialSolutionListEvaluator<>() ;
+      stopOnStagnation = false ;
     }
 
     public Builder setLambda(int lambda) {
@@ -177,13 +303,99 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
       return this;
     }
 
+    /** Adapts only the diagonal of the covariance matrix (sep-CMA-ES) */
+    public Builder setSeparable (boolean separable) {
+      this.separable = separable ;
+      return this ;
+    }
+
+    /**
+     * Represents the covariance matrix by the last evolution paths (LM-CMA). Only the rank-one
+     * update of C is used, and there is no eigendecomposition to compute
+     */
+    public Builder setLimitedMemory (boolean limitedMemory) {
+      this.limitedMemory = limitedMemory ;
+      return this ;
+    }
+
+    /** Number of evolution paths kept in the limited-memory mode (default: 4 + 3 ln(n)) */
+    public Builder setNumberOfDirectionVectors (int numberOfDirectionVectors) {
+      if (numberOfDirectionVectors < 1) {
+        throw new JMetalException("The number of direction vectors must be positive: "
+            + numberOfDirectionVectors) ;
+      }
+      this.numberOfDirectionVectors = numberOfDirectionVectors ;
+      return this ;
+    }
+
+    /**
+     * Computes the eigendecomposition of the covariance matrix in a background thread. The
+     * offspring are sampled with the previous decomposition until the new one is available.
+     */
+    public Builder setAsynchronousEigendecomposition (boolean asynchronousEigendecomposition) {
+      this.asynchronousEigendecomposition = asynchronousEigendecomposition ;
+      return this ;
+    }
+
+    /** Number of threads used to update the matrices and to sample the offspring */
+    public Builder setNumberOfThreads (int numberOfThreads) {
+      if (numberOfThreads < 1) {
+        throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+      }
+      this.numberOfThreads = numberOfThreads ;
+      return this ;
+    }
+
+    /** Seed of the random generator used to initialize the mean and to sample the offspring */
+    public Builder setSeed (long seed) {
+      this.seed = seed ;
+      return this ;
+    }
+
+    public Builder setSolutionListEvaluator (SolutionListEvaluator<DoubleSolution> evaluator) {
+      if (evaluator == null) {
+        throw new JMetalException("The evaluator is null") ;
+      }
+      this.evaluator = evaluator ;
+      return this ;
+    }
+
+    /** Stops the search before maxEvaluations if the strategy has stagnated */
+    public Builder setStopOnStagnation (boolean stopOnStagnation) {
+      this.stopOnStagnation = stopOnStagnation ;
+      return this ;
+    }
+
+    /** Takes checkpoints of the run; if the checkpoint file exists, the run resumes from it */
+    public Builder setCheckpointManager (CheckpointManager checkpointManager) {
+      this.checkpointManager = checkpointManager ;
+      return this ;
+    }
+
     public CovarianceMatrixAdaptationEvolutionStrategy build() {
+      if (separable && limitedMemory) {
+        throw new JMetalException("The separable and the limited-memory modes are exclusive") ;
+      }
       return new CovarianceMatrixAdaptationEvolutionStrategy(this);
     }
   }
 
+  @Override public void run() {
+    try {
+      super.run();
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow() ;
+        executor = null ;
+      }
+      pendingEigenSystem = null ;
+    }
+  }
+
   @Override protected void initProgress() {
     evaluations = 0;
+    generations = 0;
+    numericalError = false ;
   }
 
   @Override protected void updateProgress() {
@@ -192,23 +404,20 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
   }
 
   @Override protected boolean isStoppingConditionReached() {
-    return evaluations >= maxEvaluations;
+    return (evaluations >= maxEvaluations) || numericalError
+        || (stopOnStagnation && hasStagnated()) ;
   }
 
+  /**
+   * The offspring are sampled from the initial distribution in the first call to reproduction(),
+   * and the replacement discards the parents, so no initial population is created
+   */
   @Override protected List<DoubleSolution> createInitialPopulation() {
-    List<DoubleSolution> population = new ArrayList<>(lambda);
-    for (int i = 0; i < lambda; i++) {
-      DoubleSolution newIndividual = problem.createSolution();
-      population.add(newIndividual);
-    }
-    return population;
+    return new ArrayList<>(0);
   }
 
   @Override protected List<DoubleSolution> evaluatePopulation(List<DoubleSolution> population) {
-    for (DoubleSolution solution : population) {
-      problem.evaluate(solution);
-    }
-    return population;
+    return evaluator.evaluate(population, problem);
   }
 
   @Override protected List<DoubleSolution> selection(List<DoubleSolution> population) {
@@ -219,8 +428,15 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
     List<DoubleSolution> offspringPopulation = new ArrayList<>(lambda);
 
+    sampleOffspringVariables() ;
+
     for (int iNk = 0; iNk < lambda; iNk++) {
-      offspringPopulation.add(sampleSolution());
+      DoubleSolution solution = problem.createSolution() ;
+      int offset = iNk * numberOfVariables ;
+      for (int i = 0; i < numberOfVariables; i++) {
+        solution.setVariableValue(i, offspringVariables[offset + i]);
+      }
+      offspringPopulation.add(solution);
     }
 
     return offspringPopulation;
@@ -235,10 +451,70 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     return bestSolutionEver;
   }
 
+  @Override public DoubleProblem getProblem() {
+    return problem ;
+  }
+
+  /**
+   * Stores the distribution, the evolution paths, the decomposition of C, the counters and the
+   * random generator. A decomposition being computed in the background is not stored, so with an
+   * asynchronous eigendecomposition (which is not reproducible anyway) the resumed run computes
+   * it again later
+   */
+  @Override public void saveState(ObjectOutputStream out) throws IOException {
+    out.writeInt(evaluations);
+    out.writeInt(generations);
+    out.writeBoolean(numericalError);
+    out.writeInt(eigenEval);
+    out.writeDouble(sigma);
+    out.writeObject(distributionMean);
+    out.writeObject(c);
+    out.writeObject(pathsC);
+    out.writeObject(pathsSigma);
+    out.writeObject(b);
+    out.writeObject(diagD);
+    out.writeObject(invSqrtC);
+    out.writeObject(bestFitnessHistory);
+    out.writeObject(bestSolutionEver);
+    out.writeObject(rand);
+    out.writeObject(getPopulation());
+    out.writeObject(directionVectors);
+    out.writeObject(inverseDirectionVectors);
+    out.writeObject(factorCoefficients);
+    out.writeObject(inverseFactorCoefficients);
+    out.writeInt(numberOfStoredVectors);
+  }
+
+  @Override @SuppressWarnings("unchecked")
+  public void restoreState(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    evaluations = in.readInt() ;
+    generations = in.readInt() ;
+    numericalError = in.readBoolean() ;
+    eigenEval = in.readInt() ;
+    sigma = in.readDouble() ;
+    distributionMean = (double[]) in.readObject() ;
+    c = (double[]) in.readObject() ;
+    pathsC = (double[]) in.readObject() ;
+    pathsSigma = (double[]) in.readObject() ;
+    b = (double[]) in.readObject() ;
+    diagD = (double[]) in.readObject() ;
+    invSqrtC = (double[]) in.readObject() ;
+    bestFitnessHistory = (double[]) in.readObject() ;
+    bestSolutionEver = (DoubleSolution) in.readObject() ;
+    rand = (Random) in.readObject() ;
+    setPopulation((List<DoubleSolution>) in.readObject());
+    directionVectors = (double[]) in.readObject() ;
+    inverseDirectionVectors = (double[]) in.readObject() ;
+    factorCoefficients = (double[]) in.readObject() ;
+    inverseFactorCoefficients = (double[]) in.readObject() ;
+    numberOfStoredVectors = in.readInt() ;
+    pendingEigenSystem = null ;
+  }
+
   private void initializeInternalParameters() {
 
     // number of objective variables/problem dimension
-    int numberOfVariables = problem.getNumberOfVariables();
+    numberOfVariables = problem.getNumberOfVariables();
 
     // objective variables initial point
     // TODO: Initialize the mean in a better way
@@ -294,6 +570,19 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     cmu = Math.min(1 - c1,
         2 * (muEff - 2 + 1 / muEff) / ((numberOfVariables + 2) * (numberOfVariables + 2) + muEff));
 
+    // a diagonal matrix can be learned faster (Ros and Hansen, 2008)
+    if (separable) {
+      c1 = c1 * (numberOfVariables + 1.5) / 3.0 ;
+      cmu = Math.min(1 - c1, cmu * (numberOfVariables + 1.5) / 3.0) ;
+    }
+
+    // settings of LM-CMA (Loshchilov, 2017), which only has the rank-one update
+    if (limitedMemory) {
+      c1 = 1 / (10 * Math.log(numberOfVariables + 1)) ;
+      cmu = 0 ;
+      cumulationC = 0.5 / Math.sqrt(numberOfVariables) ;
+    }
+
     // damping for sigma, usually close to 1
     dampingSigma = 1 +
         2 * Math.max(0, Math.sqrt((muEff - 1) / (numberOfVariables + 1)) - 1) + cumulationSigma;
@@ -302,38 +591,47 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
     // diagonal D defines the scaling
     diagD = new double[numberOfVariables];
+    Arrays.fill(diagD, 1.0);
 
     // evolution paths for C and sigma
     pathsC = new double[numberOfVariables];
     pathsSigma = new double[numberOfVariables];
 
-    // b defines the coordinate system
-    b = new double[numberOfVariables][numberOfVariables];
-    // covariance matrix C
-    c = new double[numberOfVariables][numberOfVariables];
-
-    // C^-1/2
-    invSqrtC = new double[numberOfVariables][numberOfVariables];
+    if (separable) {
+      c = new double[numberOfVariables] ;
+      Arrays.fill(c, 1.0);
+    } else if (limitedMemory) {
+      directionVectors = new double[numberOfDirectionVectors * numberOfVariables] ;
+      inverseDirectionVectors = new double[numberOfDirectionVectors * numberOfVariables] ;
+      factorCoefficients = new double[numberOfDirectionVectors] ;
+      inverseFactorCoefficients = new double[numberOfDirectionVectors] ;
+      numberOfStoredVectors = 0 ;
+      factorScale = Math.sqrt(1 - c1) ;
+      storageInterval = Math.max(1, (int) Math.floor(Math.log(numberOfVariables))) ;
+    } else {
+      // b defines the coordinate system
+      b = new double[numberOfVariables * numberOfVariables];
+      // covariance matrix C
+      c = new double[numberOfVariables * numberOfVariables];
+      // C^-1/2
+      invSqrtC = new double[numberOfVariables * numberOfVariables];
 
-    for (int i = 0; i < numberOfVariables; i++) {
-      pathsC[i] = 0;
-      pathsSigma[i] = 0;
-      diagD[i] = 1;
-      for (int j = 0; j < numberOfVariables; j++) {
-        b[i][j] = 0;
-        invSqrtC[i][j] = 0;
-      }
-      for (int j = 0; j < i; j++) {
-        c[i][j] = 0;
+      for (int i = 0; i < numberOfVariables; i++) {
+        b[i * numberOfVariables + i] = 1;
+        c[i * numberOfVariables + i] = diagD[i] * diagD[i];
+        invSqrtC[i * numberOfVariables + i] = 1;
       }
-      b[i][i] = 1;
-      c[i][i] = diagD[i] * diagD[i];
-      invSqrtC[i][i] = 1;
     }
 
+    steps = new double[mu * numberOfVariables] ;
+    normalVectors = new double[lambda * numberOfVariables] ;
+    offspringVariables = new double[lambda * numberOfVariables] ;
+
     // track update of b and D
     eigenEval = 0;
 
+    bestFitnessHistory = new double[10 + (int) Math.ceil(30.0 * numberOfVariables / lambda)] ;
+
     chiN = Math.sqrt(numberOfVariables) * (1 - 1 / (4 * numberOfVariables) + 1 / (21
         * numberOfVariables * numberOfVariables));
 
@@ -341,7 +639,9 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
   private void updateInternalParameters() {
 
-    int numberOfVariables = problem.getNumberOfVariables();
+    if (pendingEigenSystem != null && pendingEigenSystem.isDone()) {
+      installEigenSystem(getPendingEigenSystem());
+    }
 
     double[] oldDistributionMean = new double[numberOfVariables];
     System.arraycopy( distributionMean, 0, oldDistributionMean, 0, numberOfVariables );
@@ -350,6 +650,18 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     // minimization
     Collections.sort(getPopulation(), comparator);
     storeBest();
+    bestFitnessHistory[generations % bestFitnessHistory.length] =
+        getPopulation().get(0).getObjective(0) ;
+    generations++ ;
+
+    // copy the mu best solutions into the steps array
+    for (int k = 0; k < mu; k++) {
+      DoubleSolution solution = getPopulation().get(k) ;
+      int offset = k * numberOfVariables ;
+      for (int i = 0; i < numberOfVariables; i++) {
+        steps[offset + i] = solution.getVariableValue(i) ;
+      }
+    }
 
     // calculate new distribution mean and BDz~N(0,C)
     updateDistributionMean();
@@ -371,13 +683,11 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
   private void updateDistributionMean() {
 
-    int numberOfVariables = problem.getNumberOfVariables();
-
-    for (int i = 0; i < numberOfVariables; i++) {
-      distributionMean[i] = 0.;
-      for (int iNk = 0; iNk < mu; iNk++) {
-        double variableValue = (double) getPopulation().get(iNk).getVariableValue(i);
-        distributionMean[i] += weights[iNk] * variableValue;
+    Arrays.fill(distributionMean, 0.0);
+    for (int iNk = 0; iNk < mu; iNk++) {
+      int offset = iNk * numberOfVariables ;
+      for (int i = 0; i < numberOfVariables; i++) {
+        distributionMean[i] += weights[iNk] * steps[offset + i];
       }
     }
 
@@ -385,15 +695,27 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
   private int updateEvolutionPaths(double[] oldDistributionMean) {
 
-    int numberOfVariables = problem.getNumberOfVariables();
-
     double[] artmp = new double[numberOfVariables];
-    for (int i = 0; i < numberOfVariables; i++) {
-      artmp[i] = 0;
+    if (separable) {
+      for (int i = 0; i < numberOfVariables; i++) {
+        artmp[i] = (distributionMean[i] - oldDistributionMean[i]) / sigma / diagD[i];
+      }
+    } else if (limitedMemory) {
+      double[] delta = new double[numberOfVariables];
       for (int j = 0; j < numberOfVariables; j++) {
-        artmp[i] += invSqrtC[i][j] * (distributionMean[j] - oldDistributionMean[j]) / sigma;
+        delta[j] = (distributionMean[j] - oldDistributionMean[j]) / sigma;
+      }
+      artmp = multiplyByInverseFactor(delta, 0, numberOfStoredVectors) ;
+    } else {
+      double[] delta = new double[numberOfVariables];
+      for (int j = 0; j < numberOfVariables; j++) {
+        delta[j] = (distributionMean[j] - oldDistributionMean[j]) / sigma;
+      }
+      for (int i = 0; i < numberOfVariables; i++) {
+        artmp[i] = dot(invSqrtC, i * numberOfVariables, delta, 0, numberOfVariables) ;
       }
     }
+
     // cumulation for sigma (pathsSigma)
     for (int i = 0; i < numberOfVariables; i++) {
       pathsSigma[i] = (1. - cumulationSigma) * pathsSigma[i]
@@ -421,127 +743,335 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
   }
 
-  private void adaptCovarianceMatrix(double[] oldDistributionMean, int hsig) {
+  private void adaptCovarianceMatrix(double[] oldDistributionMean, final int hsig) {
 
-    int numberOfVariables = problem.getNumberOfVariables();
+    if (limitedMemory) {
+      if (generations % storageInterval == 0) {
+        storeDirectionVector(pathsC);
+      }
+      return ;
+    }
 
-    for (int i = 0; i < numberOfVariables; i++) {
-      for (int j = 0; j <= i; j++) {
-        c[i][j] = (1 - c1 - cmu) * c[i][j]
-              + c1
-              * (pathsC[i] * pathsC[j] + (1 - hsig) * cumulationC
-              * (2. - cumulationC) * c[i][j]);
+    // steps of the mu best solutions: y_k = (x_k - oldMean) / sigma
+    for (int k = 0; k < mu; k++) {
+      int offset = k * numberOfVariables ;
+      for (int i = 0; i < numberOfVariables; i++) {
+        steps[offset + i] = (steps[offset + i] - oldDistributionMean[i]) / sigma ;
+      }
+    }
+
+    if (separable) {
+      for (int i = 0; i < numberOfVariables; i++) {
+        double rankMu = 0.0 ;
         for (int k = 0; k < mu; k++) {
-          /*
-           * additional rank mu
-           * update
-           */
-          double valueI = getPopulation().get(k).getVariableValue(i);
-          double valueJ = getPopulation().get(k).getVariableValue(j);
-          c[i][j] += cmu
-                * weights[k]
-                * (valueI - oldDistributionMean[i])
-                * (valueJ - oldDistributionMean[j]) /sigma
-                / sigma;
+          double step = steps[k * numberOfVariables + i] ;
+          rankMu += weights[k] * step * step ;
         }
+        c[i] = (1 - c1 - cmu) * c[i]
+            + c1 * (pathsC[i] * pathsC[i] + (1 - hsig) * cumulationC * (2. - cumulationC) * c[i])
+            + cmu * rankMu ;
       }
+    } else {
+      // rows of the lower triangle are interleaved among the tasks to balance their work
+      runInParallel(new Partition() {
+        @Override public void compute(int part, int parts) {
+          for (int i = part; i < numberOfVariables; i += parts) {
+            int row = i * numberOfVariables ;
+            for (int j = 0; j <= i; j++) {
+              c[row + j] = (1 - c1 - cmu) * c[row + j]
+                  + c1 * (pathsC[i] * pathsC[j] + (1 - hsig) * cumulationC
+                  * (2. - cumulationC) * c[row + j]);
+            }
+            for (int k = 0; k < mu; k++) {
+              int offset = k * numberOfVariables ;
+              double factor = cmu * weights[k] * steps[offset + i] ;
+              for (int j = 0; j <= i; j++) {
+                c[row + j] += factor * steps[offset + j] ;
+              }
+            }
+          }
+        }
+      });
     }
 
   }
 
   private void decomposeCovarianceMatrix() {
 
-    int numberOfVariables = problem.getNumberOfVariables();
+    if (separable) {
+      for (int i = 0; i < numberOfVariables; i++) {
+        diagD[i] = Math.sqrt(c[i]) ;
+      }
+    } else if (!limitedMemory
+        && (evaluations - eigenEval > lambda / (c1 + cmu) / numberOfVariables / 10)) {
+
+      if (asynchronousEigendecomposition) {
+        if (pendingEigenSystem == null) {
+          eigenEval = evaluations;
+          final double[] covariance = c.clone() ;
+          pendingEigenSystem = getExecutor().submit(new Callable<EigenSystem>() {
+            @Override public EigenSystem call() {
+              return computeEigenSystem(covariance, 1) ;
+            }
+          }) ;
+        }
+      } else {
+        eigenEval = evaluations;
+        installEigenSystem(computeEigenSystem(c, numberOfThreads));
+      }
 
-    if (evaluations - eigenEval > lambda / (c1 + cmu) / numberOfVariables / 10) {
+    }
 
-      eigenEval = evaluations;
+  }
 
-      // enforce symmetry
-      for (int i = 0; i < numberOfVariables; i++) {
-        for (int j = 0; j <= i; j++) {
-          b[i][j] = b[j][i] = c[i][j];
-        }
+  /**
+   * Computes the eigenvectors and the square roots of the eigenvalues of a covariance matrix, and
+   * its inverse square root
+   */
+  private EigenSystem computeEigenSystem(double[] covariance, int threads) {
+    final int n = numberOfVariables ;
+
+    // enforce symmetry
+    double[][] eigenVectors = new double[n][n] ;
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j <= i; j++) {
+        eigenVectors[i][j] = eigenVectors[j][i] = covariance[i * n + j];
       }
+    }
 
-      // eigen decomposition, b==normalized eigenvectors
-      double[] offdiag = new double[numberOfVariables];
-      CMAESUtils.tred2(numberOfVariables, b, diagD, offdiag);
-      CMAESUtils.tql2(numberOfVariables, diagD, offdiag, b);
+    double[][] symmetricCovariance = null ;
+    if (n <= MAX_DIMENSION_TO_CHECK_EIGENSYSTEM) {
+      symmetricCovariance = new double[n][] ;
+      for (int i = 0; i < n; i++) {
+        symmetricCovariance[i] = eigenVectors[i].clone() ;
+      }
+    }
 
-      checkEigenCorrectness();
+    // eigen decomposition, b==normalized eigenvectors
+    final EigenSystem eigenSystem = new EigenSystem(n) ;
+    double[] offdiag = new double[n];
+    CMAESUtils.tred2(n, eigenVectors, eigenSystem.diagD, offdiag);
+    CMAESUtils.tql2(n, eigenSystem.diagD, offdiag, eigenVectors);
 
-      double[][] artmp2 = new double[numberOfVariables][numberOfVariables];
-      for (int i = 0; i < numberOfVariables; i++) {
-        if (diagD[i] > 0) {
-          diagD[i] = Math.sqrt(diagD[i]);
-        }
-        for (int j = 0; j < numberOfVariables; j++) {
-          artmp2[i][j] = b[i][j] * (1 / diagD[j]);
-        }
+    if (symmetricCovariance != null) {
+      eigenSystem.errors = CMAESUtils.checkEigenSystem(n, symmetricCovariance, eigenSystem.diagD,
+          eigenVectors) ;
+    }
+
+    for (int i = 0; i < n; i++) {
+      // Numerical problem?
+      if (eigenSystem.diagD[i] < 0) {
+        JMetalLogger.logger.severe(
+            "CovarianceMatrixAdaptationEvolutionStrategy.updateDistribution:" +
+                " WARNING - an eigenvalue has become negative.");
+        eigenSystem.errors++ ;
+      } else if (eigenSystem.diagD[i] > 0) {
+        eigenSystem.diagD[i] = Math.sqrt(eigenSystem.diagD[i]);
       }
-      for (int i = 0; i < numberOfVariables; i++) {
-        for (int j = 0; j < numberOfVariables; j++) {
-          invSqrtC[i][j] = 0.0;
-          for (int k = 0; k < numberOfVariables; k++) {
-            invSqrtC[i][j] += artmp2[i][k] * b[j][k];
+      System.arraycopy(eigenVectors[i], 0, eigenSystem.b, i * n, n);
+    }
+
+    // invSqrtC = b * diag(1/D) * b'; only the lower triangle is computed, by blocks of rows
+    final double[] scaledB = new double[n * n] ;
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        scaledB[i * n + j] = eigenSystem.b[i * n + j] * (1 / eigenSystem.diagD[j]);
+      }
+    }
+
+    Partition partition = new Partition() {
+      @Override public void compute(int part, int parts) {
+        for (int block = 0; block < n; block += BLOCK_SIZE) {
+          int blockEnd = Math.min(n, block + BLOCK_SIZE) ;
+          for (int i = block + part; i < n; i += parts) {
+            int jEnd = Math.min(blockEnd, i + 1) ;
+            for (int j = block; j < jEnd; j++) {
+              double value = dot(scaledB, i * n, eigenSystem.b, j * n, n) ;
+              eigenSystem.invSqrtC[i * n + j] = value ;
+              eigenSystem.invSqrtC[j * n + i] = value ;
+            }
           }
         }
       }
-
+    } ;
+    if (threads > 1) {
+      runInParallel(partition);
+    } else {
+      partition.compute(0, 1);
     }
 
+    return eigenSystem ;
   }
 
-  private void checkEigenCorrectness() {
-
-    int numberOfVariables = problem.getNumberOfVariables();
+  private void installEigenSystem(EigenSystem eigenSystem) {
+    b = eigenSystem.b ;
+    diagD = eigenSystem.diagD ;
+    invSqrtC = eigenSystem.invSqrtC ;
+    pendingEigenSystem = null ;
 
-    if (CMAESUtils.checkEigenSystem(numberOfVariables, c, diagD, b) > 0) {
-      evaluations = maxEvaluations;
+    if (eigenSystem.errors > 0) {
+      numericalError = true ;
     }
+  }
 
-    for (int i = 0; i < numberOfVariables; i++) {
-      // Numerical problem?
-      if (diagD[i] < 0) {
-        JMetalLogger.logger.severe(
-              "CovarianceMatrixAdaptationEvolutionStrategy.updateDistribution:" +
-                    " WARNING - an eigenvalue has become negative.");
-        evaluations = maxEvaluations;
+  /**
+   * Checks the TolHistFun, TolX and ConditionCov stopping criteria: the range of the best fitness
+   * values of the last generations is negligible, the steps in all the coordinates are negligible
+   * or the condition number of C is too large
+   */
+  private boolean hasStagnated() {
+    if (generations >= bestFitnessHistory.length) {
+      double min = Double.POSITIVE_INFINITY ;
+      double max = Double.NEGATIVE_INFINITY ;
+      for (double value : bestFitnessHistory) {
+        min = Math.min(min, value) ;
+        max = Math.max(max, value) ;
+      }
+      if (max - min < TOL_FUN) {
+        return true ;
       }
     }
 
-  }
-
-  private DoubleSolution sampleSolution() {
+    boolean negligibleSteps = true ;
+    for (int i = 0; (i < numberOfVariables) && negligibleSteps; i++) {
+      // the variances are not available in the limited-memory mode, where A is normalized
+      double variance = separable ? c[i] : (limitedMemory ? 1.0 : c[i * numberOfVariables + i]) ;
+      negligibleSteps = (sigma * Math.abs(pathsC[i]) < TOL_X * initialSigma)
+          && (sigma * Math.sqrt(variance) < TOL_X * initialSigma) ;
+    }
+    if (negligibleSteps) {
+      return true ;
+    }
 
-    DoubleSolution solution = problem.createSolution();
+    double minD = Double.POSITIVE_INFINITY ;
+    double maxD = 0.0 ;
+    for (double value : diagD) {
+      minD = Math.min(minD, value) ;
+      maxD = Math.max(maxD, value) ;
+    }
+    return maxD * maxD > MAX_CONDITION * minD * minD ;
+  }
 
-    int numberOfVariables = problem.getNumberOfVariables();
-    double[] artmp = new double[numberOfVariables];
-    double sum;
+  private EigenSystem getPendingEigenSystem() {
+    try {
+      return pendingEigenSystem.get() ;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while decomposing the covariance matrix", e) ;
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error decomposing the covariance matrix", e) ;
+    }
+  }
 
-    for (int i = 0; i < numberOfVariables; i++) {
+  /**
+   * Samples the variables of the offspring. The normal vectors are drawn sequentially, so the
+   * result does not depend on the number of threads
+   */
+  private void sampleOffspringVariables() {
+    for (int i = 0; i < normalVectors.length; i++) {
       //TODO: Check the correctness of this random (http://en.wikipedia.org/wiki/CMA-ES)
-      artmp[i] = diagD[i] * rand.nextGaussian();
+      normalVectors[i] = rand.nextGaussian() ;
     }
-    for (int i = 0; i < numberOfVariables; i++) {
-      sum = 0.0;
-      for (int j = 0; j < numberOfVariables; j++) {
-        sum += b[i][j] * artmp[j];
+
+    final double[] currentB = b ;
+    final double[] currentDiagD = diagD ;
+    runInParallel(new Partition() {
+      @Override public void compute(int part, int parts) {
+        double[] artmp = new double[numberOfVariables];
+        for (int iNk = part; iNk < lambda; iNk += parts) {
+          int offset = iNk * numberOfVariables ;
+          if (limitedMemory) {
+            multiplyByFactor(normalVectors, offset, artmp);
+          } else {
+            for (int i = 0; i < numberOfVariables; i++) {
+              artmp[i] = currentDiagD[i] * normalVectors[offset + i];
+            }
+          }
+
+          for (int i = 0; i < numberOfVariables; i++) {
+            double sum = (separable || limitedMemory) ? artmp[i] :
+                dot(currentB, i * numberOfVariables, artmp, 0, numberOfVariables) ;
+
+            double value = distributionMean[i] + sigma * sum;
+            if (value > problem.getUpperBound(i)) {
+              value = problem.getUpperBound(i);
+            } else if (value < problem.getLowerBound(i)) {
+              value = problem.getLowerBound(i);
+            }
+
+            offspringVariables[offset + i] = value ;
+          }
+        }
       }
+    });
+  }
+
+  /**
+   * Adds an evolution path to the ones defining the Cholesky factor A of C, which amounts to the
+   * rank-one update C = (1 - c1) C + c1 p p'. When there are already m of them, the oldest one is
+   * dropped and the transforms of the rest are computed again
+   */
+  private void storeDirectionVector(double[] vector) {
+    if (numberOfStoredVectors == numberOfDirectionVectors) {
+      System.arraycopy(directionVectors, numberOfVariables, directionVectors, 0,
+          (numberOfStoredVectors - 1) * numberOfVariables);
+      numberOfStoredVectors-- ;
+      for (int j = 0; j < numberOfStoredVectors; j++) {
+        updateInverseDirectionVector(j);
+      }
+    }
+
+    System.arraycopy(vector, 0, directionVectors, numberOfStoredVectors * numberOfVariables,
+        numberOfVariables);
+    updateInverseDirectionVector(numberOfStoredVectors);
+    numberOfStoredVectors++ ;
+  }
+
+  /** Computes v_j = A_(j-1)^-1 p_j and the coefficients b_j and d_j of the j-th stored vector */
+  private void updateInverseDirectionVector(int j) {
+    int offset = j * numberOfVariables ;
+    double[] vector = multiplyByInverseFactor(directionVectors, offset, j) ;
+    System.arraycopy(vector, 0, inverseDirectionVectors, offset, numberOfVariables);
+
+    double norm = CMAESUtils.norm(vector) ;
+    if (norm > 0) {
+      double a = factorScale ;
+      factorCoefficients[j] = a / norm * (Math.sqrt(1 + c1 / (1 - c1) * norm) - 1) ;
+      inverseFactorCoefficients[j] =
+          factorCoefficients[j] / (a * (a + factorCoefficients[j] * norm)) ;
+    } else {
+      factorCoefficients[j] = 0.0 ;
+      inverseFactorCoefficients[j] = 0.0 ;
+    }
+  }
 
-      double value = distributionMean[i] + sigma * sum;
-      if (value > problem.getUpperBound(i)) {
-        value = problem.getUpperBound(i);
-      } else if (value < problem.getLowerBound(i)) {
-        value = problem.getLowerBound(i);
+  /** Computes A z, with A defined by all the stored vectors */
+  private void multiplyByFactor(double[] z, int zOffset, double[] result) {
+    System.arraycopy(z, zOffset, result, 0, numberOfVariables);
+    for (int j = 0; j < numberOfStoredVectors; j++) {
+      int offset = j * numberOfVariables ;
+      double factor = factorCoefficients[j]
+          * dot(inverseDirectionVectors, offset, z, zOffset, numberOfVariables) ;
+      for (int i = 0; i < numberOfVariables; i++) {
+        result[i] = factorScale * result[i] + factor * directionVectors[offset + i] ;
       }
+    }
+  }
 
-      solution.setVariableValue(i, value);
+  /** Returns A^-1 x, with A defined by the first stored vectors */
+  private double[] multiplyByInverseFactor(double[] x, int xOffset, int numberOfVectors) {
+    double[] result = new double[numberOfVariables] ;
+    System.arraycopy(x, xOffset, result, 0, numberOfVariables);
+    for (int j = 0; j < numberOfVectors; j++) {
+      int offset = j * numberOfVariables ;
+      double factor = inverseFactorCoefficients[j]
+          * dot(inverseDirectionVectors, offset, result, 0, numberOfVariables) ;
+      for (int i = 0; i < numberOfVariables; i++) {
+        result[i] = result[i] / factorScale - factor * inverseDirectionVectors[offset + i] ;
+      }
     }
 
-    return solution;
+    return result ;
   }
 
   private void storeBest() {
@@ -551,4 +1081,78 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     }
   }
 
+  private static double dot(double[] x, int xOffset, double[] y, int yOffset, int length) {
+    double sum = 0.0 ;
+    for (int i = 0; i < length; i++) {
+      sum += x[xOffset + i] * y[yOffset + i] ;
+    }
+    return sum ;
+  }
+
+  /** Runs the parts of a partition in the pool of threads, or in the caller if there is one */
+  private void runInParallel(final Partition partition) {
+    final int parts = numberOfThreads ;
+    if (parts == 1) {
+      partition.compute(0, 1);
+      return ;
+    }
+
+    List<Callable<Void>> tasks = new ArrayList<>(parts) ;
+    for (int i = 0; i < parts; i++) {
+      final int part = i ;
+      tasks.add(new Callable<Void>() {
+        @Override public Void call() {
+          partition.compute(part, parts);
+          return null ;
+        }
+      }) ;
+    }
+
+    try {
+      for (Future<Void> future : getExecutor().invokeAll(tasks)) {
+        future.get() ;
+      }
+    } catch (InterruptedException e) {
+      JMetalLogger.logger.log(Level.SEVERE, "Error in CMA-ES", e);
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Error in CovarianceMatrixAdaptationEvolutionStrategy") ;
+    } catch (ExecutionException e) {
+      JMetalLogger.logger.log(Level.SEVERE, "Error in CMA-ES", e);
+      throw new JMetalException("Error in CovarianceMatrixAdaptationEvolutionStrategy") ;
+    }
+  }
+
+  private ExecutorService getExecutor() {
+    if (executor == null) {
+      // one more thread for the asynchronous eigendecomposition
+      int threads = numberOfThreads + (asynchronousEigendecomposition ? 1 : 0) ;
+      executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+        @Override public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "CMA-ES worker") ;
+          thread.setDaemon(true);
+          return thread ;
+        }
+      }) ;
+    }
+    return executor ;
+  }
+
+  /** Work divided into a number of parts */
+  private interface Partition {
+    void compute(int part, int parts) ;
+  }
+
+  /** Result of the eigendecomposition of the covariance matrix */
+  private static class EigenSystem {
+    private final double[] b ;
+    private final double[] diagD ;
+    private final double[] invSqrtC ;
+    private int errors ;
+
+    EigenSystem(int numberOfVariables) {
+      b = new double[numberOfVariables * numberOfVariables] ;
+      diagD = new double[numberOfVariables] ;
+      invSqrtC = new double[numberOfVariables * numberOfVariables] ;
+    }
+  }
 }
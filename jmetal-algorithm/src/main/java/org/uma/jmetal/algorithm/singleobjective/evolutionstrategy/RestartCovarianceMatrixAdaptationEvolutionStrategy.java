@@ -0,0 +1,395 @@
+//  RestartCovarianceMatrixAdaptationEvolutionStrategy.java
+//
+//  Author:
+//       Antonio J. Nebro <antonio@lcc.uma.es>
+//
+//  Copyright (c) 2014 Antonio J. Nebro
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.singleobjective.evolutionstrategy;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+/**
+ * CMA-ES with restarts. Each run of {@link CovarianceMatrixAdaptationEvolutionStrategy} stops
+ * when it stagnates, and a new run is started from a random point of the search space until the
+ * budget of evaluations is exhausted. The initial step size is given relative to the range of the
+ * variables, so a run starts with a step size of sigma times the mean width of the bounds. Two
+ * strategies are supported:
+ * - IPOP: the population size is multiplied by a factor (2 by default) in each restart
+ *   (Auger and Hansen, 2005)
+ * - BIPOP: restarts alternate between a regime of increasing population sizes and a regime of
+ *   small populations and step sizes, choosing the regime that has used fewer evaluations
+ *   (Hansen, 2009)
+ *
+ * All the random numbers come from the seed: each run gets its own seed, derived from the seed
+ * and the index of the run, so the result does not depend on the scheduling of the runs. Several
+ * runs can be executed concurrently; they are planned in rounds of as many runs as threads, and
+ * the remaining budget is split among the runs of a round in proportion to their population
+ * sizes. In that case the evaluator is shared by the concurrent runs, so it must be thread-safe.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+@SuppressWarnings("serial")
+public class RestartCovarianceMatrixAdaptationEvolutionStrategy implements Algorithm<DoubleSolution> {
+  public enum RestartStrategy {IPOP, BIPOP}
+
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L ;
+
+  private DoubleProblem problem ;
+  private int maxEvaluations ;
+  private int lambda ;
+  private double sigma ;
+  private RestartStrategy restartStrategy ;
+  private int populationIncreaseFactor ;
+  private long seed ;
+  private SolutionListEvaluator<DoubleSolution> evaluator ;
+  private int numberOfThreads ;
+
+  private int evaluations ;
+  private int numberOfRuns ;
+  private double initialStepSize ;
+  private int largeLambda ;
+  private int largeRegimeEvaluations ;
+  private int smallRegimeEvaluations ;
+  private int lastLargeRunEvaluations ;
+  private Random rand ;
+  private DoubleSolution bestSolutionEver ;
+
+  /** Constructor */
+  private RestartCovarianceMatrixAdaptationEvolutionStrategy(Builder builder) {
+    problem = builder.problem ;
+    maxEvaluations = builder.maxEvaluations ;
+    lambda = builder.lambda ;
+    sigma = builder.sigma ;
+    restartStrategy = builder.restartStrategy ;
+    populationIncreaseFactor = builder.populationIncreaseFactor ;
+    seed = builder.seed ;
+    evaluator = builder.evaluator ;
+    numberOfThreads = builder.numberOfThreads ;
+  }
+
+  /* Getters */
+  public int getMaxEvaluations() {
+    return maxEvaluations;
+  }
+
+  public int getLambda() {
+    return lambda;
+  }
+
+  public RestartStrategy getRestartStrategy() {
+    return restartStrategy ;
+  }
+
+  /** Returns the number of solutions evaluated in the last execution */
+  public int getEvaluations() {
+    return evaluations ;
+  }
+
+  /** Returns the number of runs of CMA-ES of the last execution (the first one included) */
+  public int getNumberOfRuns() {
+    return numberOfRuns ;
+  }
+
+  /**
+   * Builder class
+   */
+  public static class Builder {
+    private DoubleProblem problem ;
+    private int maxEvaluations ;
+    private int lambda ;
+    private double sigma ;
+    private RestartStrategy restartStrategy ;
+    private int populationIncreaseFactor ;
+    private long seed ;
+    private SolutionListEvaluator<DoubleSolution> evaluator ;
+    private int numberOfThreads ;
+
+    public Builder(DoubleProblem problem) {
+      this.problem = problem ;
+      maxEvaluations = 1000000 ;
+      lambda = 4 + (int) Math.floor(3 * Math.log(problem.getNumberOfVariables())) ;
+      sigma = 0.3 ;
+      restartStrategy = RestartStrategy.IPOP ;
+      populationIncreaseFactor = 2 ;
+      seed = System.currentTimeMillis() ;
+      evaluator = new SequentialSolutionListEvaluator<>() ;
+      numberOfThreads = 1 ;
+    }
+
+    public Builder setMaxEvaluations(int maxEvaluations) {
+      if (maxEvaluations < 0) {
+        throw new JMetalException("MaxEvaluations is negative: " + maxEvaluations) ;
+      }
+      this.maxEvaluations = maxEvaluations ;
+      return this ;
+    }
+
+    /** Population size of the first run */
+    public Builder setLambda(int lambda) {
+      if (lambda < 2) {
+        throw new JMetalException("Lambda must be at least 2: " + lambda) ;
+      }
+      this.lambda = lambda ;
+      return this ;
+    }
+
+    /** Initial step size, relative to the range of the variables */
+    public Builder setSigma(double sigma) {
+      if (sigma <= 0) {
+        throw new JMetalException("Sigma must be positive: " + sigma) ;
+      }
+      this.sigma = sigma ;
+      return this ;
+    }
+
+    public Builder setRestartStrategy(RestartStrategy restartStrategy) {
+      this.restartStrategy = restartStrategy ;
+      return this ;
+    }
+
+    public Builder setPopulationIncreaseFactor(int populationIncreaseFactor) {
+      if (populationIncreaseFactor < 1) {
+        throw new JMetalException("The population increase factor must be positive: "
+            + populationIncreaseFactor) ;
+      }
+      this.populationIncreaseFactor = populationIncreaseFactor ;
+      return this ;
+    }
+
+    public Builder setSeed(long seed) {
+      this.seed = seed ;
+      return this ;
+    }
+
+    /** Evaluator of the offspring of each generation */
+    public Builder setSolutionListEvaluator(SolutionListEvaluator<DoubleSolution> evaluator) {
+      if (evaluator == null) {
+        throw new JMetalException("The evaluator is null") ;
+      }
+      this.evaluator = evaluator ;
+      return this ;
+    }
+
+    /** Number of runs of CMA-ES executed concurrently */
+    public Builder setNumberOfThreads(int numberOfThreads) {
+      if (numberOfThreads < 1) {
+        throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+      }
+      this.numberOfThreads = numberOfThreads ;
+      return this ;
+    }
+
+    public RestartCovarianceMatrixAdaptationEvolutionStrategy build() {
+      return new RestartCovarianceMatrixAdaptationEvolutionStrategy(this) ;
+    }
+  }
+
+  @Override public void run() {
+    evaluations = 0 ;
+    numberOfRuns = 0 ;
+    largeLambda = lambda ;
+    largeRegimeEvaluations = 0 ;
+    smallRegimeEvaluations = 0 ;
+    lastLargeRunEvaluations = 0 ;
+    bestSolutionEver = null ;
+    rand = new Random(seed) ;
+
+    double range = 0.0 ;
+    for (int i = 0; i < problem.getNumberOfVariables(); i++) {
+      range += problem.getUpperBound(i) - problem.getLowerBound(i) ;
+    }
+    initialStepSize = sigma * range / problem.getNumberOfVariables() ;
+
+    ExecutorService executor = null ;
+    if (numberOfThreads > 1) {
+      executor = Executors.newFixedThreadPool(numberOfThreads) ;
+    }
+
+    try {
+      List<Run> runs = planRuns() ;
+      while (!runs.isEmpty()) {
+        execute(runs, executor) ;
+        for (Run run : runs) {
+          int runEvaluations = run.algorithm.getEvaluations() ;
+          evaluations += runEvaluations ;
+          if (run.largeRegime) {
+            largeRegimeEvaluations += runEvaluations ;
+            lastLargeRunEvaluations = runEvaluations ;
+          } else {
+            smallRegimeEvaluations += runEvaluations ;
+          }
+
+          DoubleSolution solution = run.algorithm.getResult() ;
+          if ((solution != null) && ((bestSolutionEver == null)
+              || (solution.getObjective(0) < bestSolutionEver.getObjective(0)))) {
+            bestSolutionEver = solution ;
+          }
+          JMetalLogger.logger.fine("Run " + run.index + ": lambda = " + run.algorithm.getLambda()
+              + ", evaluations = " + runEvaluations + ", best = "
+              + (solution == null ? "-" : solution.getObjective(0))) ;
+        }
+        runs = planRuns() ;
+      }
+    } finally {
+      if (executor != null) {
+        executor.shutdown();
+      }
+    }
+  }
+
+  @Override public DoubleSolution getResult() {
+    return bestSolutionEver ;
+  }
+
+  /**
+   * Plans the next round of runs. The regime of each run is chosen as if the previous runs of the
+   * round used an equal share of the remaining budget
+   */
+  private List<Run> planRuns() {
+    int remaining = maxEvaluations - evaluations ;
+    int share = remaining / numberOfThreads ;
+    long smallEvaluations = smallRegimeEvaluations ;
+    long largeEvaluations = largeRegimeEvaluations ;
+
+    List<Run> runs = new ArrayList<>(numberOfThreads) ;
+    int totalLambda = 0 ;
+    for (int i = 0; i < numberOfThreads; i++) {
+      int index = numberOfRuns + runs.size() ;
+      Run run ;
+      if ((index == 0) || (restartStrategy == RestartStrategy.IPOP)
+          || (smallEvaluations >= largeEvaluations)) {
+        int runLambda = (index == 0) ? lambda : largeLambda * populationIncreaseFactor ;
+        run = new Run(index, runLambda, initialStepSize, true) ;
+        largeEvaluations += share ;
+      } else {
+        double u = rand.nextDouble() ;
+        int smallLambda = (int) Math.floor(lambda * Math.pow(0.5 * largeLambda / lambda, u * u)) ;
+        run = new Run(index, Math.max(2, smallLambda),
+            initialStepSize * Math.pow(10, -2 * rand.nextDouble()), false) ;
+        smallEvaluations += share ;
+      }
+
+      if (totalLambda + run.lambda > remaining) {
+        break ;
+      }
+      if (run.largeRegime) {
+        largeLambda = run.lambda ;
+      }
+      totalLambda += run.lambda ;
+      runs.add(run) ;
+    }
+
+    for (Run run : runs) {
+      run.budget = (int) ((long) remaining * run.lambda / totalLambda) ;
+      if (!run.largeRegime && (lastLargeRunEvaluations > 0)) {
+        // small runs use at most half the budget of the last large run
+        run.budget = Math.max(run.lambda, Math.min(run.budget, lastLargeRunEvaluations / 2)) ;
+      }
+      // CMA-ES evaluates whole generations
+      run.budget -= run.budget % run.lambda ;
+
+      Random runRandom = new Random(splitSeed(seed, run.index)) ;
+      double[] x0 = new double[problem.getNumberOfVariables()] ;
+      for (int i = 0; i < x0.length; i++) {
+        x0[i] = problem.getLowerBound(i)
+            + runRandom.nextDouble() * (problem.getUpperBound(i) - problem.getLowerBound(i)) ;
+      }
+
+      run.algorithm = new CovarianceMatrixAdaptationEvolutionStrategy.Builder(problem)
+          .setLambda(run.lambda)
+          .setSigma(run.sigma)
+          .setMaxEvaluations(run.budget)
+          .setTypicalX(x0)
+          .setSeed(runRandom.nextLong())
+          .setSolutionListEvaluator(evaluator)
+          .setStopOnStagnation(true)
+          .build() ;
+    }
+
+    numberOfRuns += runs.size() ;
+    return runs ;
+  }
+
+  private void execute(List<Run> runs, ExecutorService executor) {
+    if (executor == null) {
+      for (Run run : runs) {
+        run.algorithm.run();
+      }
+      return ;
+    }
+
+    List<Callable<Object>> tasks = new ArrayList<>(runs.size()) ;
+    for (Run run : runs) {
+      tasks.add(Executors.callable(run.algorithm)) ;
+    }
+
+    try {
+      for (Future<Object> future : executor.invokeAll(tasks)) {
+        future.get() ;
+      }
+    } catch (InterruptedException e) {
+      JMetalLogger.logger.log(Level.SEVERE, "Error running CMA-ES", e);
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Error in RestartCovarianceMatrixAdaptationEvolutionStrategy.run()") ;
+    } catch (ExecutionException e) {
+      JMetalLogger.logger.log(Level.SEVERE, "Error running CMA-ES", e);
+      throw new JMetalException("Error in RestartCovarianceMatrixAdaptationEvolutionStrategy.run()") ;
+    }
+  }
+
+  /** Derives the seed of a run from the seed of the algorithm (SplitMix64 mixing function) */
+  private static long splitSeed(long seed, int index) {
+    long z = seed + (index + 1) * GOLDEN_GAMMA ;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L ;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL ;
+    return z ^ (z >>> 31) ;
+  }
+
+  /** Configuration of a run of CMA-ES */
+  private static class Run {
+    private final int index ;
+    private final int lambda ;
+    private final double sigma ;
+    private final boolean largeRegime ;
+    private int budget ;
+    private CovarianceMatrixAdaptationEvolutionStrategy algorithm ;
+
+    Run(int index, int lambda, double sigma, boolean largeRegime) {
+      this.index = index ;
+      this.lambda = lambda ;
+      this.sigma = sigma ;
+      this.largeRegime = largeRegime ;
+    }
+  }
+}
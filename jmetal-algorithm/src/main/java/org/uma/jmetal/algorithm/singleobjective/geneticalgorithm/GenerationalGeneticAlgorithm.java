@@ -61,8 +61,11 @@ public class GenerationalGeneticAlgorithm extends AbstractGeneticAlgorithm<Solut
     offspringPopulation.add(population.get(0));
     offspringPopulation.add(population.get(1));
     Collections.sort(offspringPopulation, comparator) ;
-    offspringPopulation.remove(offspringPopulation.size() - 1);
-    offspringPopulation.remove(offspringPopulation.size() - 1);
+
+    List<Solution> discardedSolutions = new ArrayList<>(population) ;
+    discardedSolutions.add((Solution) offspringPopulation.remove(offspringPopulation.size() - 1));
+    discardedSolutions.add((Solution) offspringPopulation.remove(offspringPopulation.size() - 1));
+    releaseDiscardedSolutions(discardedSolutions, offspringPopulation);
 
     return offspringPopulation;
   }
@@ -4,6 +4,7 @@ import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 
@@ -21,6 +22,7 @@ public class GenerationalGeneticAlgorithmBuilder {
     private MutationOperator mutationOperator;
     private SelectionOperator selectionOperator;
     private SolutionListEvaluator evaluator;
+    private SolutionPool solutionPool;
 
     /**
      * Builder constructor
@@ -68,8 +70,18 @@ public class GenerationalGeneticAlgorithmBuilder {
       return this;
     }
 
+    public GenerationalGeneticAlgorithmBuilder setSolutionPool(SolutionPool solutionPool) {
+      this.solutionPool = solutionPool;
+
+      return this;
+    }
+
     public GenerationalGeneticAlgorithm build() {
-      return new GenerationalGeneticAlgorithm(problem, maxIterations, populationSize,
-          crossoverOperator, mutationOperator, selectionOperator, evaluator);
+      GenerationalGeneticAlgorithm algorithm = new GenerationalGeneticAlgorithm(problem,
+          maxIterations, populationSize, crossoverOperator, mutationOperator, selectionOperator,
+          evaluator);
+      algorithm.setSolutionPool(solutionPool);
+
+      return algorithm;
     }
 }
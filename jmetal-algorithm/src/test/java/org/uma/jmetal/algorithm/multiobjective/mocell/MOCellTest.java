@@ -0,0 +1,81 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.mocell;
+
+import org.junit.Test;
+import org.uma.jmetal.algorithm.multiobjective.mocell.MOCellBuilder.MOCellVariant;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class MOCellTest {
+  @Test public void shouldEveryVariantReturnANonDominatedArchive() {
+    for (MOCellVariant variant : MOCellVariant.values()) {
+      MOCell<Solution> algorithm = buildAlgorithm(variant, 1) ;
+      algorithm.run();
+
+      List<Solution> result = algorithm.getResult() ;
+      assertTrue(variant.name(), (result.size() > 0) && (result.size() <= 36)) ;
+      assertEquals(variant.name(), result.size(),
+          SolutionListUtils.getNondominatedSolutions(result).size()) ;
+    }
+  }
+
+  @Test public void shouldTheAsynchronousVariantUseExactlyTheMaximumNumberOfEvaluations() {
+    MOCell<Solution> algorithm = buildAlgorithm(MOCellVariant.AsyncMOCell4, 4) ;
+    algorithm.run();
+
+    assertEquals(2000, algorithm.getEvaluations()) ;
+    assertEquals(36, algorithm.getPopulation().size()) ;
+    for (Solution solution : algorithm.getPopulation()) {
+      assertTrue(solution != null) ;
+    }
+  }
+
+  @Test public void shouldSeveralThreadsReturnANonDominatedArchive() {
+    MOCell<Solution> algorithm = buildAlgorithm(MOCellVariant.AsyncMOCell3, 4) ;
+    algorithm.run();
+
+    List<Solution> result = algorithm.getResult() ;
+    assertTrue(result.size() > 0) ;
+    assertEquals(result.size(), SolutionListUtils.getNondominatedSolutions(result).size()) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldTheBuilderRaiseAnExceptionIfThePopulationDoesNotFitAGrid() {
+    new MOCellBuilder(new ZDT1()).setPopulationSize(14).build() ;
+  }
+
+  @SuppressWarnings("unchecked")
+  private MOCell<Solution> buildAlgorithm(MOCellVariant variant, int numberOfThreads) {
+    return (MOCell<Solution>) new MOCellBuilder(new ZDT1(), variant)
+        .setPopulationSize(36)
+        .setMaxEvaluations(2000)
+        .setFeedback(5)
+        .setArchive(new CrowdingDistanceArchive<Solution>(36))
+        .setNumberOfThreads(numberOfThreads)
+        .build() ;
+  }
+}
@@ -0,0 +1,79 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import org.junit.Test;
+import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class ParallelMOEADTest {
+  @Test public void shouldUseExactlyTheMaximumNumberOfEvaluations() {
+    ParallelMOEAD algorithm = buildAlgorithm(new DTLZ2(7, 3), 4) ;
+    algorithm.run();
+
+    assertEquals(15000, algorithm.getEvaluations()) ;
+    assertEquals(300, algorithm.getResult().size()) ;
+    for (DoubleSolution solution : algorithm.getResult()) {
+      assertTrue(solution != null) ;
+    }
+  }
+
+  @Test public void shouldSeveralThreadsConvergeToTheParetoFrontOfDTLZ2() {
+    ParallelMOEAD algorithm = buildAlgorithm(new DTLZ2(7, 3), 4) ;
+    algorithm.run();
+
+    List<DoubleSolution> result = algorithm.getResult() ;
+    double meanRadius = 0.0 ;
+    for (DoubleSolution solution : result) {
+      double sum = 0.0 ;
+      for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+        sum += solution.getObjective(i) * solution.getObjective(i) ;
+      }
+      meanRadius += Math.sqrt(sum) / result.size() ;
+    }
+
+    assertTrue("Mean radius: " + meanRadius, meanRadius < 1.05) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldTheBuilderRaiseAnExceptionIfTheNumberOfThreadsIsNotPositive() {
+    new MOEADBuilder(new DTLZ2(7, 3), MOEADBuilder.Variant.ParallelMOEAD).setNumberOfThreads(0) ;
+  }
+
+  private ParallelMOEAD buildAlgorithm(DoubleProblem problem, int numberOfThreads) {
+    return (ParallelMOEAD) new MOEADBuilder(problem, MOEADBuilder.Variant.ParallelMOEAD)
+        .setCrossover(new DifferentialEvolutionCrossover(1.0, 0.5, "rand/1/bin"))
+        .setMutation(new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+        .setPopulationSize(300)
+        .setResultPopulationSize(300)
+        .setMaxEvaluations(15000)
+        .setNeighborhoodSelectionProbability(0.9)
+        .setDataDirectory("MOEAD_Weights")
+        .setNumberOfThreads(numberOfThreads)
+        .build() ;
+  }
+}
@@ -0,0 +1,140 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.nsgaii;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAIIBuilder.NSGAIIVariant;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.checkpoint.CheckpointManager;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Runs NSGA-II with a fixed seed, interrupts it, resumes it from its last checkpoint and compares
+ * the result with the one of an uninterrupted run
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class NSGAIICheckpointTest {
+  private static final long SEED = 12345 ;
+  private static final int POPULATION_SIZE = 20 ;
+  private static final int CRASH_EVALUATION = 603 ;
+
+  private File file ;
+
+  @Before public void setup() throws IOException {
+    file = File.createTempFile("nsgaii", ".ckpt") ;
+    file.delete() ;
+  }
+
+  @After public void cleanup() {
+    file.delete() ;
+    new File(file.getPath() + ".tmp").delete() ;
+  }
+
+  @Test public void shouldAResumedRunOfNSGAIIGiveTheSameResultAsAnUninterruptedRun() {
+    checkResumedRun(NSGAIIVariant.NSGAII, 60) ;
+  }
+
+  @Test public void shouldAResumedRunOfSteadyStateNSGAIIGiveTheSameResultAsAnUninterruptedRun() {
+    // each iteration evaluates a single solution
+    checkResumedRun(NSGAIIVariant.SteadyStateNSGAII, 1200) ;
+  }
+
+  private void checkResumedRun(NSGAIIVariant variant, int maxIterations) {
+    JMetalRandom.getInstance().setSeed(SEED);
+    Algorithm<List<Solution<?>>> uninterrupted =
+        builder(new ZDT1(), variant, maxIterations).build() ;
+    uninterrupted.run();
+    List<Solution<?>> expected = uninterrupted.getResult() ;
+
+    // the run fails in the middle of a generation, after some checkpoints have been taken
+    JMetalRandom.getInstance().setSeed(SEED);
+    CheckpointManager manager = new CheckpointManager(file.getPath(), 7) ;
+    Algorithm<List<Solution<?>>> interrupted =
+        builder(new CrashingZDT1(CRASH_EVALUATION), variant, maxIterations)
+            .setCheckpointManager(manager)
+            .build() ;
+    try {
+      interrupted.run();
+      fail("The run has not been interrupted") ;
+    } catch (SimulatedCrash e) {
+      manager.close();
+    }
+    assertTrue(file.exists()) ;
+
+    // the resumed run gets its random numbers from the checkpoint
+    JMetalRandom.getInstance().setSeed(SEED + 1);
+    Algorithm<List<Solution<?>>> resumed = builder(new ZDT1(), variant, maxIterations)
+        .setCheckpointManager(new CheckpointManager(file.getPath(), 7))
+        .build() ;
+    resumed.run();
+    List<Solution<?>> result = resumed.getResult() ;
+
+    assertEquals(expected.size(), result.size()) ;
+    for (int i = 0; i < expected.size(); i++) {
+      DoubleSolution expectedSolution = (DoubleSolution) expected.get(i) ;
+      DoubleSolution solution = (DoubleSolution) result.get(i) ;
+      for (int j = 0; j < expectedSolution.getNumberOfVariables(); j++) {
+        assertEquals(expectedSolution.getVariableValue(j), solution.getVariableValue(j), 0.0) ;
+      }
+      for (int j = 0; j < expectedSolution.getNumberOfObjectives(); j++) {
+        assertEquals(expectedSolution.getObjective(j), solution.getObjective(j), 0.0) ;
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private NSGAIIBuilder builder(Problem<?> problem, NSGAIIVariant variant, int maxIterations) {
+    return new NSGAIIBuilder(problem, variant)
+        .setPopulationSize(POPULATION_SIZE)
+        .setMaxIterations(maxIterations) ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class SimulatedCrash extends RuntimeException {
+  }
+
+  /** ZDT1 problem which fails when a number of solutions have been evaluated */
+  @SuppressWarnings("serial")
+  private static class CrashingZDT1 extends ZDT1 {
+    private final int crashEvaluation ;
+    private int evaluations ;
+
+    CrashingZDT1(int crashEvaluation) {
+      this.crashEvaluation = crashEvaluation ;
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+      if (++evaluations == crashEvaluation) {
+        throw new SimulatedCrash() ;
+      }
+      super.evaluate(solution);
+    }
+  }
+}
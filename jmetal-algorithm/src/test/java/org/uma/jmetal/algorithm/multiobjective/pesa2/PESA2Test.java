@@ -0,0 +1,48 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.pesa2;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.SolutionListUtils;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class PESA2Test {
+  @Test public void shouldReturnANonDominatedArchiveOnZDT1() {
+    PESA2 algorithm = (PESA2) new PESA2Builder(new ZDT1())
+        .setPopulationSize(10)
+        .setArchiveSize(50)
+        .setMaxEvaluations(10000)
+        .build() ;
+    algorithm.run();
+
+    assertEquals(10000, algorithm.getEvaluations()) ;
+
+    List<Solution> result = algorithm.getResult() ;
+    assertTrue((result.size() > 10) && (result.size() <= 50)) ;
+    assertEquals(result.size(), SolutionListUtils.getNondominatedSolutions(result).size()) ;
+    for (Solution solution : result) {
+      assertTrue(solution.getObjective(1) < 1.5) ;
+    }
+  }
+}
@@ -0,0 +1,151 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.spea2;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.solutionattribute.impl.Fitness;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class EnvironmentalSelectionTest {
+  @Test public void shouldExecuteFillTheArchiveWithTheBestDominatedSolutions() {
+    MockProblem problem = new MockProblem(2) ;
+    List<Solution> solutionList = new ArrayList<>() ;
+    solutionList.add(createSolution(problem, 0.5, 0.0, 0.0)) ;
+    solutionList.add(createSolution(problem, 3.5, 1.0, 1.0)) ;
+    solutionList.add(createSolution(problem, 1.5, 2.0, 2.0)) ;
+    solutionList.add(createSolution(problem, 2.5, 3.0, 3.0)) ;
+
+    List<Solution> archive = new EnvironmentalSelection<Solution>(3).execute(solutionList) ;
+
+    assertEquals(3, archive.size()) ;
+    assertTrue(archive.contains(solutionList.get(0))) ;
+    assertTrue(archive.contains(solutionList.get(2))) ;
+    assertTrue(archive.contains(solutionList.get(3))) ;
+  }
+
+  @Test public void shouldExecuteBreakTheTiesOfTheClosestSolutionsWithTheNextDistances() {
+    MockProblem problem = new MockProblem(2) ;
+    List<Solution> solutionList = new ArrayList<>() ;
+    solutionList.add(createSolution(problem, 0.5, 0.0, 4.0)) ;
+    solutionList.add(createSolution(problem, 0.5, 1.0, 3.0)) ;
+    solutionList.add(createSolution(problem, 0.5, 1.1, 2.9)) ;
+    solutionList.add(createSolution(problem, 0.5, 4.0, 0.0)) ;
+
+    List<Solution> archive = new EnvironmentalSelection<Solution>(3).execute(solutionList) ;
+
+    assertEquals(3, archive.size()) ;
+    assertTrue(archive.contains(solutionList.get(0))) ;
+    assertTrue(archive.contains(solutionList.get(2))) ;
+    assertTrue(archive.contains(solutionList.get(3))) ;
+  }
+
+  @Test public void shouldTruncationRemoveTheSameSolutionsAsSortingTheDistances() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives = 2; numberOfObjectives <= 3; numberOfObjectives++) {
+      MockProblem problem = new MockProblem(numberOfObjectives) ;
+      for (int test = 0; test < 20; test++) {
+        List<Solution> solutionList = new ArrayList<>() ;
+        for (int i = 0; i < 60; i++) {
+          double[] objectives = new double[numberOfObjectives] ;
+          for (int j = 0; j < numberOfObjectives; j++) {
+            objectives[j] = random.nextInt(8) ;
+          }
+          solutionList.add(createSolution(problem, 0.5, objectives)) ;
+        }
+
+        List<Solution> archive = new EnvironmentalSelection<Solution>(20).execute(solutionList) ;
+
+        assertEquals(truncate(solutionList, 20), archive) ;
+      }
+    }
+  }
+
+  /** Truncation operator of SPEA2 sorting all the distance lists at each removal */
+  private List<Solution> truncate(List<Solution> solutionList, int size) {
+    List<Solution> archive = new ArrayList<>(solutionList) ;
+    while (archive.size() > size) {
+      int worst = 0 ;
+      double[] worstDistances = sortedDistances(archive, 0) ;
+      for (int i = 1; i < archive.size(); i++) {
+        double[] distances = sortedDistances(archive, i) ;
+        int j = 0 ;
+        while ((j < distances.length) && (distances[j] == worstDistances[j])) {
+          j++ ;
+        }
+        if ((j < distances.length) && (distances[j] < worstDistances[j])) {
+          worst = i ;
+          worstDistances = distances ;
+        }
+      }
+      archive.remove(worst) ;
+    }
+
+    return archive ;
+  }
+
+  private double[] sortedDistances(List<Solution> solutionList, int index) {
+    double[] distances = new double[solutionList.size() - 1] ;
+    int position = 0 ;
+    for (int i = 0; i < solutionList.size(); i++) {
+      if (i != index) {
+        double sum = 0.0 ;
+        for (int j = 0; j < solutionList.get(i).getNumberOfObjectives(); j++) {
+          double difference = solutionList.get(i).getObjective(j)
+              - solutionList.get(index).getObjective(j) ;
+          sum += difference * difference ;
+        }
+        distances[position++] = Math.sqrt(sum) ;
+      }
+    }
+    Arrays.sort(distances);
+
+    return distances ;
+  }
+
+  private Solution createSolution(MockProblem problem, double fitness, double... objectives) {
+    DoubleSolution solution = problem.createSolution() ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+    new Fitness().setAttribute(solution, fitness);
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem extends AbstractDoubleProblem {
+    MockProblem(int numberOfObjectives) {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(numberOfObjectives);
+      setLowerLimit(Arrays.asList(0.0));
+      setUpperLimit(Arrays.asList(1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
@@ -0,0 +1,53 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.spea2;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class SPEA2Test {
+  @Test public void shouldTheArchiveKeepItsSizeAndConvergeOnZDT1() {
+    SPEA2 algorithm = (SPEA2) new SPEA2Builder(new ZDT1())
+        .setPopulationSize(51)
+        .setArchiveSize(40)
+        .setMaxEvaluations(10000)
+        .build() ;
+    algorithm.run();
+
+    assertEquals(40, algorithm.getPopulation().size()) ;
+    assertTrue(algorithm.getEvaluations() >= 10000) ;
+
+    List<Solution> result = algorithm.getResult() ;
+    assertEquals(40, result.size()) ;
+    for (Solution solution : result) {
+      assertTrue(solution.getObjective(1) < 1.5) ;
+    }
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldTheBuilderRaiseAnExceptionIfTheArchiveSizeIsNotPositive() {
+    new SPEA2Builder(new ZDT1()).setArchiveSize(0) ;
+  }
+}
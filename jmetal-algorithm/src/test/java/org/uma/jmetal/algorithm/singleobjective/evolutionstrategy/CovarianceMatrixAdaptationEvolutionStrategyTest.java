@@ -0,0 +1,327 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.singleobjective.evolutionstrategy;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.problem.singleobjective.Sphere;
+import org.uma.jmetal.solution.DoubleSolution;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class CovarianceMatrixAdaptationEvolutionStrategyTest {
+  private static final int LAMBDA = 10 ;
+
+  @Test public void shouldTheStandardModeConvergeOnSphereAndOnAnIllConditionedEllipsoid() {
+    assertConverges(builder(new Sphere(10), 3000), 1e-10) ;
+    assertConverges(builder(new Ellipsoid(10, 1e6), 20000), 1e-10) ;
+  }
+
+  @Test public void shouldTheSeparableModeConvergeOnSphereAndOnAnIllConditionedEllipsoid() {
+    assertConverges(builder(new Sphere(10), 3000).setSeparable(true), 1e-10) ;
+    assertConverges(builder(new Ellipsoid(10, 1e6), 20000).setSeparable(true), 1e-10) ;
+  }
+
+  /**
+   * The limited memory model learns the covariance matrix slowly when there are few variables, so
+   * the ellipsoid is less ill-conditioned than in the other modes
+   */
+  @Test public void shouldTheLimitedMemoryModeConvergeOnSphereAndOnAnIllConditionedEllipsoid() {
+    assertConverges(builder(new Sphere(10), 3000).setLimitedMemory(true), 1e-10) ;
+    assertConverges(builder(new Ellipsoid(10, 1e3), 20000).setLimitedMemory(true), 1e-10) ;
+  }
+
+  @Test public void shouldTheAsynchronousEigendecompositionConvergeOnSphereAndOnAnEllipsoid() {
+    assertConverges(builder(new Sphere(10), 3000).setAsynchronousEigendecomposition(true), 1e-10) ;
+    assertConverges(builder(new Ellipsoid(10, 1e6), 20000).setAsynchronousEigendecomposition(true)
+        .setNumberOfThreads(2), 1e-10) ;
+  }
+
+  @Test public void shouldTheResultNotDependOnTheNumberOfThreads() {
+    CovarianceMatrixAdaptationEvolutionStrategy sequential =
+        builder(new Ellipsoid(20, 1e6), 5000).build() ;
+    CovarianceMatrixAdaptationEvolutionStrategy parallel =
+        builder(new Ellipsoid(20, 1e6), 5000).setNumberOfThreads(3).build() ;
+    sequential.run();
+    parallel.run();
+
+    assertEquals(sequential.getResult().getObjective(0),
+        parallel.getResult().getObjective(0), 0.0) ;
+    for (int i = 0; i < 20; i++) {
+      assertEquals(sequential.getResult().getVariableValue(i),
+          parallel.getResult().getVariableValue(i), 0.0) ;
+    }
+  }
+
+  /**
+   * Checks each generation of a run against the update of the implementation storing the matrices
+   * as double[][], applied to the state of the previous generation and the offspring of the
+   * current one
+   */
+  @Test public void shouldTheUpdateOfTheFlatArraysMatchTheUpdateWithTwoDimensionalArrays()
+      throws IOException, ClassNotFoundException {
+    int n = 6 ;
+    State previous = new State(builder(new Ellipsoid(n, 1e6), 0).build()) ;
+    int decompositions = 0 ;
+    for (int generation = 1; generation <= 15; generation++) {
+      CovarianceMatrixAdaptationEvolutionStrategy algorithm =
+          builder(new Ellipsoid(n, 1e6), generation * LAMBDA).build() ;
+      algorithm.run();
+      State current = new State(algorithm) ;
+
+      State expected = previous.update(current.population, current.evaluations) ;
+      assertArrayEquals(expected.mean, current.mean) ;
+      assertArrayEquals(expected.pathsSigma, current.pathsSigma) ;
+      assertArrayEquals(expected.pathsC, current.pathsC) ;
+      assertArrayEquals(expected.c, current.c) ;
+      assertEquals(expected.sigma, current.sigma, 1e-12 * expected.sigma) ;
+
+      if (current.eigenEval == current.evaluations) {
+        current.checkEigensystem() ;
+        decompositions++ ;
+      }
+      previous = current ;
+    }
+    assertTrue(decompositions > 0) ;
+  }
+
+  private CovarianceMatrixAdaptationEvolutionStrategy.Builder builder(DoubleProblem problem,
+      int maxEvaluations) {
+    return new CovarianceMatrixAdaptationEvolutionStrategy.Builder(problem)
+        .setLambda(LAMBDA)
+        .setMaxEvaluations(maxEvaluations)
+        .setSeed(3) ;
+  }
+
+  private void assertConverges(CovarianceMatrixAdaptationEvolutionStrategy.Builder builder,
+      double tolerance) {
+    CovarianceMatrixAdaptationEvolutionStrategy algorithm = builder.build() ;
+    algorithm.run();
+
+    double fitness = algorithm.getResult().getObjective(0) ;
+    assertTrue("Fitness " + fitness, fitness < tolerance) ;
+  }
+
+  private static void assertArrayEquals(double[] expected, double[] actual) {
+    assertEquals(expected.length, actual.length) ;
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i], actual[i], 1e-10 * Math.max(1.0, Math.abs(expected[i]))) ;
+    }
+  }
+
+  /** State of a run, as stored in a checkpoint (standard mode) */
+  private static class State {
+    private final int n ;
+    private int evaluations ;
+    private int eigenEval ;
+    private double sigma ;
+    private double[] mean ;
+    private double[] c ;
+    private double[] pathsC ;
+    private double[] pathsSigma ;
+    private double[] b ;
+    private double[] diagD ;
+    private double[] invSqrtC ;
+    private List<DoubleSolution> population ;
+
+    State(int n) {
+      this.n = n ;
+    }
+
+    @SuppressWarnings("unchecked")
+    State(CovarianceMatrixAdaptationEvolutionStrategy algorithm)
+        throws IOException, ClassNotFoundException {
+      n = algorithm.getProblem().getNumberOfVariables() ;
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+      try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+        algorithm.saveState(out);
+      }
+      try (ObjectInputStream in =
+          new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+        evaluations = in.readInt() ;
+        in.readInt() ;
+        in.readBoolean() ;
+        eigenEval = in.readInt() ;
+        sigma = in.readDouble() ;
+        mean = (double[]) in.readObject() ;
+        c = (double[]) in.readObject() ;
+        pathsC = (double[]) in.readObject() ;
+        pathsSigma = (double[]) in.readObject() ;
+        b = (double[]) in.readObject() ;
+        diagD = (double[]) in.readObject() ;
+        invSqrtC = (double[]) in.readObject() ;
+        in.readObject() ;
+        in.readObject() ;
+        in.readObject() ;
+        population = (List<DoubleSolution>) in.readObject() ;
+      }
+    }
+
+    /**
+     * Applies the update of the previous implementation, which stored the matrices as double[][]
+     * and read the variables of the solutions inside the loops, to the offspring of a generation
+     */
+    State update(List<DoubleSolution> offspring, int evaluations) {
+      int mu = LAMBDA / 2 ;
+      double[] weights = new double[mu] ;
+      double sum = 0 ;
+      for (int i = 0; i < mu; i++) {
+        weights[i] = Math.log(mu) - Math.log(i + 1) ;
+        sum += weights[i] ;
+      }
+      double sum2 = 0 ;
+      for (int i = 0; i < mu; i++) {
+        weights[i] /= sum ;
+        sum2 += weights[i] * weights[i] ;
+      }
+      double muEff = 1 / sum2 ;
+      double cumulationC = (4 + muEff / n) / (n + 4 + 2 * muEff / n) ;
+      double cumulationSigma = (muEff + 2) / (n + muEff + 5) ;
+      double c1 = 2 / ((n + 1.3) * (n + 1.3) + muEff) ;
+      double cmu = Math.min(1 - c1, 2 * (muEff - 2 + 1 / muEff) / ((n + 2) * (n + 2) + muEff)) ;
+      double dampingSigma = 1 + 2 * Math.max(0, Math.sqrt((muEff - 1) / (n + 1)) - 1)
+          + cumulationSigma ;
+      double chiN = Math.sqrt(n) * (1 - 1 / (4 * n) + 1 / (21 * n * n)) ;
+
+      double[][] variables = new double[mu][n] ;
+      for (int k = 0; k < mu; k++) {
+        for (int i = 0; i < n; i++) {
+          variables[k][i] = offspring.get(k).getVariableValue(i) ;
+        }
+      }
+      double[][] invSqrtCMatrix = new double[n][n] ;
+      double[][] cMatrix = new double[n][n] ;
+      for (int i = 0; i < n; i++) {
+        invSqrtCMatrix[i] = Arrays.copyOfRange(invSqrtC, i * n, (i + 1) * n) ;
+        cMatrix[i] = Arrays.copyOfRange(c, i * n, (i + 1) * n) ;
+      }
+
+      State next = new State(n) ;
+      next.mean = new double[n] ;
+      for (int i = 0; i < n; i++) {
+        for (int k = 0; k < mu; k++) {
+          next.mean[i] += weights[k] * variables[k][i] ;
+        }
+      }
+
+      double[] artmp = new double[n] ;
+      for (int i = 0; i < n; i++) {
+        for (int j = 0; j < n; j++) {
+          artmp[i] += invSqrtCMatrix[i][j] * (next.mean[j] - mean[j]) / sigma ;
+        }
+      }
+      next.pathsSigma = new double[n] ;
+      double psxps = 0 ;
+      for (int i = 0; i < n; i++) {
+        next.pathsSigma[i] = (1. - cumulationSigma) * pathsSigma[i]
+            + Math.sqrt(cumulationSigma * (2. - cumulationSigma) * muEff) * artmp[i] ;
+        psxps += next.pathsSigma[i] * next.pathsSigma[i] ;
+      }
+      int hsig = (Math.sqrt(psxps)
+          / Math.sqrt(1. - Math.pow(1. - cumulationSigma, 2. * evaluations / LAMBDA)) / chiN)
+          < (1.4 + 2. / (n + 1.)) ? 1 : 0 ;
+      next.pathsC = new double[n] ;
+      for (int i = 0; i < n; i++) {
+        next.pathsC[i] = (1. - cumulationC) * pathsC[i]
+            + hsig * Math.sqrt(cumulationC * (2. - cumulationC) * muEff)
+            * (next.mean[i] - mean[i]) / sigma ;
+      }
+
+      for (int i = 0; i < n; i++) {
+        for (int j = 0; j <= i; j++) {
+          cMatrix[i][j] = (1 - c1 - cmu) * cMatrix[i][j]
+              + c1 * (next.pathsC[i] * next.pathsC[j]
+              + (1 - hsig) * cumulationC * (2. - cumulationC) * cMatrix[i][j]) ;
+          for (int k = 0; k < mu; k++) {
+            cMatrix[i][j] += cmu * weights[k] * (variables[k][i] - mean[i])
+                * (variables[k][j] - mean[j]) / sigma / sigma ;
+          }
+        }
+      }
+      next.c = new double[n * n] ;
+      for (int i = 0; i < n; i++) {
+        System.arraycopy(cMatrix[i], 0, next.c, i * n, n);
+      }
+
+      next.sigma = sigma
+          * Math.exp((cumulationSigma / dampingSigma) * (Math.sqrt(psxps) / chiN - 1)) ;
+
+      return next ;
+    }
+
+    /** Checks that C = B diag(D^2) B' and C^-1/2 = B diag(1/D) B' */
+    void checkEigensystem() {
+      for (int i = 0; i < n; i++) {
+        for (int j = 0; j <= i; j++) {
+          double covariance = 0 ;
+          double inverseSquareRoot = 0 ;
+          for (int k = 0; k < n; k++) {
+            covariance += b[i * n + k] * diagD[k] * diagD[k] * b[j * n + k] ;
+            inverseSquareRoot += b[i * n + k] / diagD[k] * b[j * n + k] ;
+          }
+          assertEquals(c[i * n + j], covariance, 1e-10) ;
+          assertEquals(invSqrtC[i * n + j], inverseSquareRoot, 1e-10) ;
+          assertEquals(invSqrtC[i * n + j], invSqrtC[j * n + i], 0.0) ;
+        }
+      }
+    }
+  }
+
+  /** Ellipsoid whose Hessian has the given condition number */
+  @SuppressWarnings("serial")
+  private static class Ellipsoid extends AbstractDoubleProblem {
+    private final double conditionNumber ;
+
+    Ellipsoid(int numberOfVariables, double conditionNumber) {
+      this.conditionNumber = conditionNumber ;
+      setNumberOfVariables(numberOfVariables);
+      setNumberOfObjectives(1);
+      setName("Ellipsoid");
+
+      List<Double> lowerLimit = new ArrayList<>(numberOfVariables) ;
+      List<Double> upperLimit = new ArrayList<>(numberOfVariables) ;
+      for (int i = 0; i < numberOfVariables; i++) {
+        lowerLimit.add(-5.0);
+        upperLimit.add(5.0);
+      }
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+      int n = getNumberOfVariables() ;
+      double value = 0.0 ;
+      for (int i = 0; i < n; i++) {
+        double x = solution.getVariableValue(i) ;
+        value += Math.pow(conditionNumber, i / (n - 1.0)) * x * x ;
+      }
+      solution.setObjective(0, value);
+    }
+  }
+}
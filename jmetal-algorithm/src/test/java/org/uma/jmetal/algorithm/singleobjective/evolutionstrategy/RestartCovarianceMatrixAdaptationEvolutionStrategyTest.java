@@ -0,0 +1,228 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.singleobjective.evolutionstrategy;
+
+import org.junit.Test;
+import org.uma.jmetal.algorithm.singleobjective.evolutionstrategy.RestartCovarianceMatrixAdaptationEvolutionStrategy.RestartStrategy;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.problem.singleobjective.Rastrigin;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class RestartCovarianceMatrixAdaptationEvolutionStrategyTest {
+  private static final int LAMBDA = 10 ;
+
+  @Test public void shouldIpopMultiplyThePopulationSizeByTheIncreaseFactorInEachRestart() {
+    for (int factor = 2; factor <= 3; factor++) {
+      RecordingEvaluator evaluator = new RecordingEvaluator() ;
+      RestartCovarianceMatrixAdaptationEvolutionStrategy algorithm =
+          builder(new Rastrigin(10), 100000, evaluator)
+              .setRestartStrategy(RestartStrategy.IPOP)
+              .setPopulationIncreaseFactor(factor)
+              .build() ;
+      algorithm.run();
+
+      List<int[]> runs = evaluator.getRuns() ;
+      assertTrue(runs.size() > 2) ;
+      assertEquals(algorithm.getNumberOfRuns(), runs.size()) ;
+      assertEquals(LAMBDA, runs.get(0)[0]) ;
+      for (int i = 1; i < runs.size(); i++) {
+        assertEquals(factor * runs.get(i - 1)[0], runs.get(i)[0]) ;
+      }
+      assertEquals(evaluator.getEvaluations(), algorithm.getEvaluations()) ;
+      assertTrue(algorithm.getEvaluations() <= 100000) ;
+    }
+  }
+
+  @Test public void shouldBipopStartASmallRunOnlyWhenTheSmallRegimeHasUsedFewerEvaluations() {
+    RecordingEvaluator evaluator = new RecordingEvaluator() ;
+    RestartCovarianceMatrixAdaptationEvolutionStrategy algorithm =
+        builder(new Rastrigin(10), 200000, evaluator)
+            .setRestartStrategy(RestartStrategy.BIPOP)
+            .build() ;
+    algorithm.run();
+
+    List<int[]> runs = evaluator.getRuns() ;
+    assertEquals(algorithm.getNumberOfRuns(), runs.size()) ;
+    assertEquals(LAMBDA, runs.get(0)[0]) ;
+
+    int largeLambda = LAMBDA ;
+    int largeRegimeEvaluations = runs.get(0)[1] ;
+    int lastLargeRunEvaluations = runs.get(0)[1] ;
+    int smallRegimeEvaluations = 0 ;
+    int numberOfLargeRuns = 1 ;
+    int numberOfSmallRuns = 0 ;
+    for (int i = 1; i < runs.size(); i++) {
+      int lambda = runs.get(i)[0] ;
+      int evaluations = runs.get(i)[1] ;
+      if (lambda == 2 * largeLambda) {
+        largeLambda = lambda ;
+        largeRegimeEvaluations += evaluations ;
+        lastLargeRunEvaluations = evaluations ;
+        numberOfLargeRuns++ ;
+      } else {
+        assertTrue(smallRegimeEvaluations < largeRegimeEvaluations) ;
+        assertTrue(lambda >= 2) ;
+        assertTrue(lambda <= Math.max(LAMBDA, largeLambda / 2)) ;
+        assertTrue(evaluations <= lastLargeRunEvaluations / 2) ;
+        smallRegimeEvaluations += evaluations ;
+        numberOfSmallRuns++ ;
+      }
+    }
+
+    assertTrue(numberOfLargeRuns > 1) ;
+    assertTrue(numberOfSmallRuns > 1) ;
+    assertEquals(evaluator.getEvaluations(), algorithm.getEvaluations()) ;
+    assertTrue(algorithm.getEvaluations() <= 200000) ;
+  }
+
+  @Test public void shouldTheStepSizeBeRelativeToTheRangeOfTheVariables() {
+    RecordingEvaluator evaluator = new RecordingEvaluator() ;
+    builder(new ScaledSphere(5, 1.0), 200, evaluator).build().run();
+    RecordingEvaluator scaledEvaluator = new RecordingEvaluator() ;
+    builder(new ScaledSphere(5, 100.0), 200, scaledEvaluator).build().run();
+
+    List<double[]> solutions = evaluator.getVariables() ;
+    List<double[]> scaledSolutions = scaledEvaluator.getVariables() ;
+    assertEquals(200, solutions.size()) ;
+    assertEquals(solutions.size(), scaledSolutions.size()) ;
+    for (int i = 0; i < solutions.size(); i++) {
+      for (int j = 0; j < 5; j++) {
+        assertEquals(100.0 * solutions.get(i)[j], scaledSolutions.get(i)[j], 1e-6) ;
+      }
+    }
+  }
+
+  @Test public void shouldTheConcurrentRunsBeReproducibleAndRespectTheBudget() {
+    for (RestartStrategy strategy : RestartStrategy.values()) {
+      RestartCovarianceMatrixAdaptationEvolutionStrategy first =
+          builder(new Rastrigin(10), 50000, new SequentialSolutionListEvaluator<DoubleSolution>())
+              .setRestartStrategy(strategy)
+              .setNumberOfThreads(3)
+              .build() ;
+      RestartCovarianceMatrixAdaptationEvolutionStrategy second =
+          builder(new Rastrigin(10), 50000, new SequentialSolutionListEvaluator<DoubleSolution>())
+              .setRestartStrategy(strategy)
+              .setNumberOfThreads(3)
+              .build() ;
+      first.run();
+      second.run();
+
+      assertTrue(first.getNumberOfRuns() > 3) ;
+      assertTrue(first.getEvaluations() <= 50000) ;
+      assertEquals(first.getNumberOfRuns(), second.getNumberOfRuns()) ;
+      assertEquals(first.getEvaluations(), second.getEvaluations()) ;
+      assertEquals(first.getResult().getObjective(0), second.getResult().getObjective(0), 0.0) ;
+    }
+  }
+
+  private RestartCovarianceMatrixAdaptationEvolutionStrategy.Builder builder(
+      DoubleProblem problem, int maxEvaluations,
+      SolutionListEvaluator<DoubleSolution> evaluator) {
+    return new RestartCovarianceMatrixAdaptationEvolutionStrategy.Builder(problem)
+        .setLambda(LAMBDA)
+        .setMaxEvaluations(maxEvaluations)
+        .setSolutionListEvaluator(evaluator)
+        .setSeed(1) ;
+  }
+
+  /**
+   * Records the size and the variables of the offspring of each generation. Each run of CMA-ES
+   * starts by evaluating its initial population, which is empty
+   */
+  @SuppressWarnings("serial")
+  private static class RecordingEvaluator extends SequentialSolutionListEvaluator<DoubleSolution> {
+    private final List<Integer> sizes = new ArrayList<>() ;
+    private final List<double[]> variables = new ArrayList<>() ;
+
+    @Override public List<DoubleSolution> evaluate(List<DoubleSolution> solutionList,
+        Problem problem) {
+      sizes.add(solutionList.size()) ;
+      for (DoubleSolution solution : solutionList) {
+        double[] values = new double[solution.getNumberOfVariables()] ;
+        for (int i = 0; i < values.length; i++) {
+          values[i] = solution.getVariableValue(i) ;
+        }
+        variables.add(values) ;
+      }
+      return super.evaluate(solutionList, problem) ;
+    }
+
+    int getEvaluations() {
+      return variables.size() ;
+    }
+
+    List<double[]> getVariables() {
+      return variables ;
+    }
+
+    /** Returns the population size and the evaluations of each run, as {lambda, evaluations} */
+    List<int[]> getRuns() {
+      List<int[]> runs = new ArrayList<>() ;
+      for (int size : sizes) {
+        if (size == 0) {
+          runs.add(new int[] {0, 0}) ;
+        } else {
+          runs.get(runs.size() - 1)[0] = size ;
+          runs.get(runs.size() - 1)[1] += size ;
+        }
+      }
+      return runs ;
+    }
+  }
+
+  /** Sphere whose variables are multiplied by a scale factor, along with their bounds */
+  @SuppressWarnings("serial")
+  private static class ScaledSphere extends AbstractDoubleProblem {
+    private final double scale ;
+
+    ScaledSphere(int numberOfVariables, double scale) {
+      this.scale = scale ;
+      setNumberOfVariables(numberOfVariables);
+      setNumberOfObjectives(1);
+      setName("ScaledSphere");
+
+      List<Double> lowerLimit = new ArrayList<>(numberOfVariables) ;
+      List<Double> upperLimit = new ArrayList<>(numberOfVariables) ;
+      for (int i = 0; i < numberOfVariables; i++) {
+        lowerLimit.add(-5.0 * scale);
+        upperLimit.add(5.0 * scale);
+      }
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+      double value = 0.0 ;
+      for (int i = 0; i < getNumberOfVariables(); i++) {
+        double x = solution.getVariableValue(i) / scale ;
+        value += x * x ;
+      }
+      solution.setObjective(0, value);
+    }
+  }
+}
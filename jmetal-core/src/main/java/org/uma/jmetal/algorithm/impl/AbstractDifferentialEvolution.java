@@ -26,4 +26,17 @@ import org.uma.jmetal.solution.DoubleSolution;
 public abstract class AbstractDifferentialEvolution<Result> extends AbstractEvolutionaryAlgorithm<DoubleSolution, Result> {
   protected DifferentialEvolutionCrossover crossoverOperator ;
   protected DifferentialEvolutionSelection selectionOperator ;
+  protected DifferentialEvolutionEngine engine ;
+
+  public DifferentialEvolutionEngine getEngine() {
+    return engine ;
+  }
+
+  /**
+   * Sets an engine generating the trial vectors of each generation from a double[][] copy of the
+   * population. If there is an engine, the crossover and selection operators are not used
+   */
+  public void setEngine(DifferentialEvolutionEngine engine) {
+    this.engine = engine ;
+  }
 }
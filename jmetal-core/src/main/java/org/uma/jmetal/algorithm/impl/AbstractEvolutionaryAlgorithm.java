@@ -2,6 +2,9 @@ package org.uma.jmetal.algorithm.impl;
 
 import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checkpoint.CheckpointManager;
+import org.uma.jmetal.util.checkpoint.Checkpointable;
 
 import java.util.List;
 
@@ -12,6 +15,8 @@ import java.util.List;
  */
 public abstract class AbstractEvolutionaryAlgorithm<S extends Solution, R> implements Algorithm <R> {
   private List<S> population ;
+  private CheckpointManager checkpointManager ;
+
   public List<S> getPopulation() {
     return population ;
   }
@@ -19,6 +24,21 @@ public abstract class AbstractEvolutionaryAlgorithm<S extends Solution, R> imple
     this.population = population ;
   }
 
+  public CheckpointManager getCheckpointManager() {
+    return checkpointManager ;
+  }
+
+  /**
+   * Sets a manager to take checkpoints of the algorithm, which must implement
+   * {@link Checkpointable}. If its checkpoint file exists, the run resumes from it
+   */
+  public void setCheckpointManager(CheckpointManager checkpointManager) {
+    if ((checkpointManager != null) && !(this instanceof Checkpointable)) {
+      throw new JMetalException(getClass().getName() + " does not support checkpoints") ;
+    }
+    this.checkpointManager = checkpointManager ;
+  }
+
   protected abstract void initProgress() ;
   protected abstract void updateProgress() ;
 
@@ -37,15 +57,23 @@ public abstract class AbstractEvolutionaryAlgorithm<S extends Solution, R> imple
     List<S> offspringPopulation ;
     List<S> matingPopulation ;
 
-    population = createInitialPopulation();
-    population = evaluatePopulation(population);
-    initProgress();
+    if ((checkpointManager == null) || !checkpointManager.restore((Checkpointable) this)) {
+      population = createInitialPopulation();
+      population = evaluatePopulation(population);
+      initProgress();
+    }
     while (!isStoppingConditionReached()) {
       matingPopulation = selection(population) ;
       offspringPopulation = reproduction(matingPopulation) ;
       offspringPopulation = evaluatePopulation(offspringPopulation);
       population = replacement(population, offspringPopulation) ;
       updateProgress();
+      if (checkpointManager != null) {
+        checkpointManager.update((Checkpointable) this);
+      }
+    }
+    if (checkpointManager != null) {
+      checkpointManager.close();
     }
   }
 }
@@ -4,8 +4,12 @@ import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.SolutionPool;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Created by ajnebro on 26/10/14.
@@ -14,4 +18,43 @@ public abstract class AbstractGeneticAlgorithm<S extends Solution, Result> exten
   protected SelectionOperator<List<S>, S> selectionOperator ;
   protected CrossoverOperator<List<S>, List<S>> crossoverOperator ;
   protected MutationOperator<S> mutationOperator ;
+
+  protected SolutionPool<S> solutionPool ;
+  private Set<S> survivors ;
+
+  public SolutionPool<S> getSolutionPool() {
+    return solutionPool ;
+  }
+
+  /**
+   * Sets a pool into which the solutions discarded in the replacement are released. To recycle
+   * them as offspring, the same pool has to be given to the crossover operator
+   */
+  public void setSolutionPool(SolutionPool<S> solutionPool) {
+    this.solutionPool = solutionPool ;
+  }
+
+  /**
+   * Releases into the solution pool, if there is one, the solutions of a list which are not among
+   * the survivors. The discarded solutions must not be referenced anywhere else
+   *
+   * @param solutionList Solutions taking part in the replacement
+   * @param survivors Solutions kept by the replacement
+   */
+  protected void releaseDiscardedSolutions(List<S> solutionList, List<S> survivors) {
+    if (solutionPool == null) {
+      return ;
+    }
+
+    if (this.survivors == null) {
+      this.survivors = Collections.newSetFromMap(new IdentityHashMap<S, Boolean>()) ;
+    }
+    this.survivors.addAll(survivors) ;
+    for (S solution : solutionList) {
+      if (this.survivors.add(solution)) {
+        solutionPool.release(solution);
+      }
+    }
+    this.survivors.clear();
+  }
 }
@@ -0,0 +1,258 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.impl;
+
+import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.parallel.impl.ParallelRangeExecutor;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Engine generating all the trial vectors of a differential evolution generation in one pass. The
+ * population and the trials are stored as rows of two double[][] matrices; the parents are chosen
+ * and combined inside the engine, so no parent lists are created and the engine, unlike
+ * {@link DifferentialEvolutionCrossover}, keeps no per-call state. The rows are split among
+ * threads, each one with its own random generator.
+ *
+ * A generation consists of:
+ * - {@link #load(List)}: copying the variables of the population (it is only needed once if the
+ *   replacement is done through {@link #acceptTrial(int)}),
+ * - {@link #generateTrials(int)},
+ * - {@link #storeTrials(List)}: copying the trial vectors into solutions to be evaluated,
+ * - {@link #acceptTrial(int)} for each trial replacing its target vector.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+@SuppressWarnings("serial")
+public class DifferentialEvolutionEngine implements Serializable {
+  /** Supported DE variants */
+  public enum Variant {
+    RAND_1_BIN("rand/1/bin"), BEST_1_BIN("best/1/bin"), CURRENT_TO_RAND_1("current-to-rand/1") ;
+
+    private final String name ;
+
+    Variant(String name) {
+      this.name = name ;
+    }
+
+    public String getName() {
+      return name ;
+    }
+
+    /** Returns the variant with a name such as "rand/1/bin" */
+    public static Variant getVariant(String name) {
+      for (Variant variant : values()) {
+        if (variant.name.equals(name)) {
+          return variant ;
+        }
+      }
+      throw new JMetalException("Unsupported DE variant: " + name) ;
+    }
+  }
+
+  private final Variant variant ;
+  private final double cr ;
+  private final double f ;
+  private final double k ;
+  private final double[] lowerBounds ;
+  private final double[] upperBounds ;
+  private final ParallelRangeExecutor executor ;
+
+  private double[][] population ;
+  private double[][] trials ;
+
+  /**
+   * Constructor
+   *
+   * @param problem Problem, which provides the bounds of the variables
+   * @param variant DE variant
+   * @param cr Crossover rate
+   * @param f Scale factor of the difference vector
+   * @param k Weight of the base vector in current-to-rand/1
+   * @param numberOfThreads Number of threads generating the trial vectors
+   * @param seed Seed of the random generators
+   */
+  public DifferentialEvolutionEngine(DoubleProblem problem, Variant variant, double cr, double f,
+      double k, int numberOfThreads, long seed) {
+    if ((cr < 0) || (cr > 1)) {
+      throw new JMetalException("CR is not in [0, 1]: " + cr) ;
+    } else if (f < 0) {
+      throw new JMetalException("F is negative: " + f) ;
+    }
+
+    this.variant = variant ;
+    this.cr = cr ;
+    this.f = f ;
+    this.k = k ;
+    executor = new ParallelRangeExecutor(numberOfThreads, seed) ;
+
+    lowerBounds = new double[problem.getNumberOfVariables()] ;
+    upperBounds = new double[problem.getNumberOfVariables()] ;
+    for (int i = 0; i < lowerBounds.length; i++) {
+      lowerBounds[i] = problem.getLowerBound(i) ;
+      upperBounds[i] = problem.getUpperBound(i) ;
+    }
+  }
+
+  /**
+   * Constructor taking the variant and the parameters of a DE crossover
+   */
+  public DifferentialEvolutionEngine(DoubleProblem problem,
+      DifferentialEvolutionCrossover crossover, int numberOfThreads, long seed) {
+    this(problem, Variant.getVariant(crossover.getVariant()), crossover.getCr(), crossover.getF(),
+        crossover.getK(), numberOfThreads, seed) ;
+  }
+
+  /** Copies the variables of a population into the rows of the population matrix */
+  public void load(List<DoubleSolution> solutionList) {
+    if (solutionList.size() < 4) {
+      throw new JMetalException("The population has less than four solutions: "
+          + solutionList.size()) ;
+    }
+
+    if ((population == null) || (population.length != solutionList.size())) {
+      population = new double[solutionList.size()][lowerBounds.length] ;
+      trials = new double[solutionList.size()][lowerBounds.length] ;
+    }
+
+    for (int i = 0; i < population.length; i++) {
+      DoubleSolution solution = solutionList.get(i) ;
+      for (int j = 0; j < lowerBounds.length; j++) {
+        population[i][j] = solution.getVariableValue(j) ;
+      }
+    }
+  }
+
+  /**
+   * Generates a trial vector for every row of the population matrix
+   *
+   * @param bestIndex Row of the best solution, used as base vector by best/1/bin
+   */
+  public void generateTrials(final int bestIndex) {
+    if (population == null) {
+      throw new JMetalException("No population has been loaded") ;
+    } else if ((variant == Variant.BEST_1_BIN)
+        && ((bestIndex < 0) || (bestIndex >= population.length))) {
+      throw new JMetalException("Invalid index of the best solution: " + bestIndex) ;
+    }
+
+    executor.execute(population.length, new ParallelRangeExecutor.RangeTask() {
+      @Override public void execute(int from, int to, PseudoRandomGenerator randomGenerator) {
+        for (int i = from; i < to; i++) {
+          generateTrial(i, bestIndex, randomGenerator);
+        }
+      }
+    });
+  }
+
+  private void generateTrial(int index, int bestIndex, PseudoRandomGenerator randomGenerator) {
+    int size = population.length ;
+    int r1, r2, r3;
+
+    do {
+      r1 = randomGenerator.nextInt(0, size - 1);
+    } while (r1 == index);
+    do {
+      r2 = randomGenerator.nextInt(0, size - 1);
+    } while (r2 == index || r2 == r1);
+    if (variant == Variant.BEST_1_BIN) {
+      r3 = bestIndex ;
+    } else {
+      do {
+        r3 = randomGenerator.nextInt(0, size - 1);
+      } while (r3 == index || r3 == r1 || r3 == r2);
+    }
+
+    double[] current = population[index] ;
+    double[] parent1 = population[r1] ;
+    double[] parent2 = population[r2] ;
+    double[] parent3 = population[r3] ;
+    double[] trial = trials[index] ;
+
+    switch (variant) {
+      case RAND_1_BIN:
+      case BEST_1_BIN:
+        int jrand = randomGenerator.nextInt(0, lowerBounds.length - 1);
+        for (int j = 0; j < lowerBounds.length; j++) {
+          if (randomGenerator.nextDouble() < cr || j == jrand) {
+            trial[j] = repair(parent3[j] + f * (parent1[j] - parent2[j]), j) ;
+          } else {
+            trial[j] = current[j] ;
+          }
+        }
+        break ;
+      case CURRENT_TO_RAND_1:
+        for (int j = 0; j < lowerBounds.length; j++) {
+          trial[j] = repair(current[j] + k * (parent3[j] - current[j])
+              + f * (parent1[j] - parent2[j]), j) ;
+        }
+        break ;
+      default:
+        throw new JMetalException("Unsupported DE variant: " + variant) ;
+    }
+  }
+
+  private double repair(double value, int index) {
+    if (value < lowerBounds[index]) {
+      return lowerBounds[index] ;
+    } else if (value > upperBounds[index]) {
+      return upperBounds[index] ;
+    }
+    return value ;
+  }
+
+  /** Copies the trial vectors into the variables of a list of solutions */
+  public void storeTrials(List<DoubleSolution> solutionList) {
+    for (int i = 0; i < trials.length; i++) {
+      DoubleSolution solution = solutionList.get(i) ;
+      double[] trial = trials[i] ;
+      for (int j = 0; j < trial.length; j++) {
+        solution.setVariableValue(j, trial[j]);
+      }
+    }
+  }
+
+  /** Replaces a row of the population with its trial vector (the rows are swapped) */
+  public void acceptTrial(int index) {
+    double[] row = population[index] ;
+    population[index] = trials[index] ;
+    trials[index] = row ;
+  }
+
+  public Variant getVariant() {
+    return variant ;
+  }
+
+  public double[][] getPopulation() {
+    return population ;
+  }
+
+  public double[][] getTrials() {
+    return trials ;
+  }
+
+  public int getNumberOfThreads() {
+    return executor.getNumberOfThreads() ;
+  }
+
+  public void shutdown() {
+    executor.shutdown();
+  }
+}
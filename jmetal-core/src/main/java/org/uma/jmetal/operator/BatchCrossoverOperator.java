@@ -0,0 +1,37 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator;
+
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.io.Serializable;
+
+/**
+ * Crossover operator applied to a whole mating pool. The decision variables of each solution are
+ * stored in a row (an array of type V) and the children are written into the rows of a
+ * preallocated offspring buffer, so implementations must not allocate memory. Disjoint ranges of
+ * pairs can be processed concurrently, each one with its own random generator.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ * @param <V> Type of the rows (e.g. double[] for real encodings, long[] for binary encodings)
+ */
+public interface BatchCrossoverOperator<V> extends Serializable {
+  /**
+   * Crosses the parents matingPool[2k] and matingPool[2k + 1] for fromPair <= k < toPair, and
+   * writes the children into offspring[2k] and offspring[2k + 1]
+   */
+  public void execute(V[] matingPool, V[] offspring, int fromPair, int toPair,
+      PseudoRandomGenerator randomGenerator) ;
+}
@@ -0,0 +1,31 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator;
+
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.io.Serializable;
+
+/**
+ * Mutation operator applied in place to a range of rows of a population buffer (see
+ * {@link BatchCrossoverOperator}). Implementations must not allocate memory.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ * @param <V> Type of the rows
+ */
+public interface BatchMutationOperator<V> extends Serializable {
+  /** Mutates the rows population[i], from <= i < to */
+  public void execute(V[] population, int from, int to, PseudoRandomGenerator randomGenerator) ;
+}
@@ -0,0 +1,205 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator.impl;
+
+import org.uma.jmetal.operator.BatchCrossoverOperator;
+import org.uma.jmetal.operator.BatchMutationOperator;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+/**
+ * Applies a batch crossover and a batch mutation to a whole mating pool, writing the offspring
+ * into a preallocated buffer, e.g. SBX and polynomial mutation:
+ *
+ *   new BatchVariation<double[]>(sbx.createBatchOperator(problem),
+ *       polynomialMutation.createBatchOperator(problem), 4, seed).execute(matingPool, offspring)
+ *
+ * Parents (2k, 2k + 1) produce the children (2k, 2k + 1); if the mating pool has an odd number of
+ * rows, the last one is copied and mutated. The pairs are split into as many ranges as threads,
+ * and each range uses its own random generator, so the offspring only depend on the seed and on
+ * the number of threads. Neither the operators nor the generators allocate memory; with one
+ * thread no pool is created.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ * @param <V> Type of the rows of the buffers
+ */
+@SuppressWarnings("serial")
+public class BatchVariation<V> implements Serializable {
+  private final BatchCrossoverOperator<V> crossoverOperator ;
+  private final BatchMutationOperator<V> mutationOperator ;
+  private final PseudoRandomGenerator[] randomGenerators ;
+  private transient ExecutorService executor ;
+
+  /**
+   * Constructor. It uses one thread, and its random generator is seeded from
+   * {@link JMetalRandom}.
+   */
+  public BatchVariation(BatchCrossoverOperator<V> crossoverOperator,
+      BatchMutationOperator<V> mutationOperator) {
+    this(crossoverOperator, mutationOperator, 1,
+        JMetalRandom.getInstance().nextInt(0, Integer.MAX_VALUE - 1)) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param crossoverOperator Crossover operator; if null, the parents are copied
+   * @param mutationOperator Mutation operator; if null, the offspring are not mutated
+   * @param numberOfThreads Number of threads
+   * @param seed Seed of the random generators
+   */
+  public BatchVariation(BatchCrossoverOperator<V> crossoverOperator,
+      BatchMutationOperator<V> mutationOperator, int numberOfThreads, long seed) {
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+    }
+
+    this.crossoverOperator = crossoverOperator ;
+    this.mutationOperator = mutationOperator ;
+
+    randomGenerators = new PseudoRandomGenerator[numberOfThreads] ;
+    for (int i = 0; i < numberOfThreads; i++) {
+      randomGenerators[i] = new JavaRandomGenerator(seed + i) ;
+    }
+  }
+
+  /**
+   * Produces the offspring of a mating pool
+   *
+   * @param matingPool Rows of the parents
+   * @param offspring Preallocated rows of the offspring, with the same shape as the mating pool.
+   *                  It can be the mating pool itself.
+   */
+  public void execute(final V[] matingPool, final V[] offspring) {
+    if (matingPool.length != offspring.length) {
+      throw new JMetalException("The mating pool has " + matingPool.length + " rows and the "
+          + "offspring buffer " + offspring.length) ;
+    }
+
+    final int pairs = matingPool.length / 2 ;
+    final int chunks = Math.max(1, Math.min(randomGenerators.length, pairs)) ;
+    if (chunks == 1) {
+      executeRange(matingPool, offspring, 0, pairs, randomGenerators[0]);
+      return ;
+    }
+
+    List<Callable<Object>> tasks = new ArrayList<>(chunks) ;
+    for (int i = 0; i < chunks; i++) {
+      final int from = (int) ((long) pairs * i / chunks) ;
+      final int to = (int) ((long) pairs * (i + 1) / chunks) ;
+      final PseudoRandomGenerator randomGenerator = randomGenerators[i] ;
+      tasks.add(new Callable<Object>() {
+        @Override public Object call() {
+          executeRange(matingPool, offspring, from, to, randomGenerator);
+          return null;
+        }
+      }) ;
+    }
+
+    try {
+      for (Future<Object> future : getExecutor().invokeAll(tasks)) {
+        future.get() ;
+      }
+    } catch (InterruptedException e) {
+      JMetalLogger.logger.log(Level.SEVERE, "Error applying the operators", e);
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Error in BatchVariation.execute()") ;
+    } catch (ExecutionException e) {
+      JMetalLogger.logger.log(Level.SEVERE, "Error applying the operators", e);
+      throw new JMetalException("Error in BatchVariation.execute()") ;
+    }
+  }
+
+  /** Produces the children of the pairs in [fromPair, toPair), and the odd row if it is the last */
+  private void executeRange(V[] matingPool, V[] offspring, int fromPair, int toPair,
+      PseudoRandomGenerator randomGenerator) {
+    int to = 2 * toPair ;
+    if ((toPair == matingPool.length / 2) && (matingPool.length % 2 == 1)) {
+      to++ ;
+      copy(matingPool[to - 1], offspring[to - 1]) ;
+    }
+
+    if (crossoverOperator != null) {
+      crossoverOperator.execute(matingPool, offspring, fromPair, toPair, randomGenerator);
+    } else {
+      for (int i = 2 * fromPair; i < 2 * toPair; i++) {
+        copy(matingPool[i], offspring[i]) ;
+      }
+    }
+
+    if (mutationOperator != null) {
+      mutationOperator.execute(offspring, 2 * fromPair, to, randomGenerator);
+    }
+  }
+
+  private void copy(V source, V destination) {
+    if (source != destination) {
+      System.arraycopy(source, 0, destination, 0, Array.getLength(source));
+    }
+  }
+
+  private synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      executor = Executors.newFixedThreadPool(randomGenerators.length) ;
+    }
+    return executor ;
+  }
+
+  public int getNumberOfThreads() {
+    return randomGenerators.length ;
+  }
+
+  public synchronized void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+      executor = null ;
+    }
+  }
+
+  /** Copies the variables of a list of solutions into the rows of a buffer */
+  public static void copyVariables(List<DoubleSolution> solutionList, double[][] buffer) {
+    for (int i = 0; i < solutionList.size(); i++) {
+      DoubleSolution solution = solutionList.get(i) ;
+      for (int j = 0; j < buffer[i].length; j++) {
+        buffer[i][j] = solution.getVariableValue(j) ;
+      }
+    }
+  }
+
+  /** Copies the rows of a buffer into the variables of a list of solutions */
+  public static void setVariables(double[][] buffer, List<DoubleSolution> solutionList) {
+    for (int i = 0; i < solutionList.size(); i++) {
+      DoubleSolution solution = solutionList.get(i) ;
+      for (int j = 0; j < buffer[i].length; j++) {
+        solution.setVariableValue(j, buffer[i][j]);
+      }
+    }
+  }
+}
@@ -13,12 +13,16 @@
 
 package org.uma.jmetal.operator.impl.crossover;
 
+import org.uma.jmetal.operator.BatchCrossoverOperator;
 import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.solution.util.RepairDoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolutionAtBounds;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -37,6 +41,7 @@ public class BLXAlphaCrossover implements CrossoverOperator<List<DoubleSolution>
   private RepairDoubleSolution solutionRepair ;
 
   private JMetalRandom randomGenerator ;
+  private SolutionPool<DoubleSolution> solutionPool ;
 
   /** Constructor */
   public BLXAlphaCrossover(double crossoverProbability, double alpha) {
@@ -54,6 +59,7 @@ public class BLXAlphaCrossover implements CrossoverOperator<List<DoubleSolution>
     this.crossoverProbability = crossoverProbability ;
     this.alpha = alpha ;
     randomGenerator = JMetalRandom.getInstance() ;
+    solutionPool = new SolutionPool<>(0) ;
     this.solutionRepair = solutionRepair ;
   }
 
@@ -66,6 +72,17 @@ public class BLXAlphaCrossover implements CrossoverOperator<List<DoubleSolution>
     return alpha;
   }
 
+  public SolutionPool<DoubleSolution> getSolutionPool() {
+    return solutionPool ;
+  }
+
+  public void setSolutionPool(SolutionPool<DoubleSolution> solutionPool) {
+    if (solutionPool == null) {
+      throw new JMetalException("The solution pool is null") ;
+    }
+    this.solutionPool = solutionPool ;
+  }
+
   /** Execute() method */
   @Override
   public List<DoubleSolution> execute(List<DoubleSolution> solutions) {
@@ -83,8 +100,8 @@ public class BLXAlphaCrossover implements CrossoverOperator<List<DoubleSolution>
       double probability, DoubleSolution parent1, DoubleSolution parent2) {
     List<DoubleSolution> offspring = new ArrayList<DoubleSolution>(2);
 
-    offspring.add((DoubleSolution) parent1.copy()) ;
-    offspring.add((DoubleSolution) parent2.copy()) ;
+    offspring.add(solutionPool.acquire(parent1)) ;
+    offspring.add(solutionPool.acquire(parent2)) ;
 
     int i;
     double random;
@@ -138,5 +155,65 @@ public class BLXAlphaCrossover implements CrossoverOperator<List<DoubleSolution>
 
     return offspring;
   }
+
+  /**
+   * Returns a batch version of this operator, which works on arrays of decision variables within
+   * the bounds of the given problem
+   */
+  public BatchCrossoverOperator<double[]> createBatchOperator(DoubleProblem problem) {
+    return new BatchBLXAlphaCrossover(this, problem) ;
+  }
+
+  /** Batch version of the BLX-alpha crossover. It draws the same random numbers as doCrossover() */
+  private static class BatchBLXAlphaCrossover implements BatchCrossoverOperator<double[]> {
+    private final double crossoverProbability ;
+    private final double alpha ;
+    private final RepairDoubleSolution solutionRepair ;
+    private final double[] lowerBounds ;
+    private final double[] upperBounds ;
+
+    BatchBLXAlphaCrossover(BLXAlphaCrossover crossover, DoubleProblem problem) {
+      crossoverProbability = crossover.crossoverProbability ;
+      alpha = crossover.alpha ;
+      solutionRepair = crossover.solutionRepair ;
+      lowerBounds = new double[problem.getNumberOfVariables()] ;
+      upperBounds = new double[problem.getNumberOfVariables()] ;
+      for (int i = 0; i < lowerBounds.length; i++) {
+        lowerBounds[i] = problem.getLowerBound(i) ;
+        upperBounds[i] = problem.getUpperBound(i) ;
+      }
+    }
+
+    @Override
+    public void execute(double[][] matingPool, double[][] offspring, int fromPair, int toPair,
+        PseudoRandomGenerator randomGenerator) {
+      for (int k = fromPair; k < toPair; k++) {
+        double[] child1 = offspring[2 * k] ;
+        double[] child2 = offspring[2 * k + 1] ;
+
+        System.arraycopy(matingPool[2 * k], 0, child1, 0, lowerBounds.length);
+        System.arraycopy(matingPool[2 * k + 1], 0, child2, 0, lowerBounds.length);
+
+        if (randomGenerator.nextDouble() <= crossoverProbability) {
+          for (int i = 0; i < lowerBounds.length; i++) {
+            double max = Math.max(child1[i], child2[i]) ;
+            double min = Math.min(child1[i], child2[i]) ;
+            double range = max - min;
+
+            double minRange = min - range * alpha;
+            double maxRange = max + range * alpha;
+
+            double valueY1 = minRange + randomGenerator.nextDouble() * (maxRange - minRange);
+            double valueY2 = minRange + randomGenerator.nextDouble() * (maxRange - minRange);
+
+            child1[i] = solutionRepair.repairSolutionVariableValue(valueY1, lowerBounds[i],
+                upperBounds[i]) ;
+            child2[i] = solutionRepair.repairSolutionVariableValue(valueY2, lowerBounds[i],
+                upperBounds[i]) ;
+          }
+        }
+      }
+    }
+  }
 }
 
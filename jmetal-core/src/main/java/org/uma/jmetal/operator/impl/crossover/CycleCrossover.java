@@ -0,0 +1,128 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator.impl.crossover;
+
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.solution.PermutationSolution;
+import org.uma.jmetal.solution.util.SolutionPool;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.permutation.Permutation;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ *
+ * This class implements the cycle crossover (CX) operator: the positions are split into the cycles
+ * defined by the two parents, and the offspring take the elements of the cycles alternately from
+ * one parent and the other, so every element keeps the position it has in one of the parents.
+ */
+public class CycleCrossover implements
+    CrossoverOperator<List<PermutationSolution<Permutation>>,
+    List<PermutationSolution<Permutation>>> {
+  private double crossoverProbability ;
+  private JMetalRandom randomGenerator ;
+  private SolutionPool<PermutationSolution<Permutation>> solutionPool ;
+
+  /** Constructor */
+  public CycleCrossover(double crossoverProbability) {
+    if (crossoverProbability < 0) {
+      throw new JMetalException("Crossover probability is negative: " + crossoverProbability) ;
+    }
+    this.crossoverProbability = crossoverProbability ;
+    randomGenerator = JMetalRandom.getInstance() ;
+    solutionPool = new SolutionPool<>(0) ;
+  }
+
+  /* Getter */
+  public double getCrossoverProbability() {
+    return crossoverProbability;
+  }
+
+  public SolutionPool<PermutationSolution<Permutation>> getSolutionPool() {
+    return solutionPool ;
+  }
+
+  public void setSolutionPool(SolutionPool<PermutationSolution<Permutation>> solutionPool) {
+    if (solutionPool == null) {
+      throw new JMetalException("The solution pool is null") ;
+    }
+    this.solutionPool = solutionPool ;
+  }
+
+  @Override
+  public List<PermutationSolution<Permutation>> execute(
+      List<PermutationSolution<Permutation>> solutions) {
+    if (solutions == null) {
+      throw new JMetalException("Null parameter") ;
+    } else if (solutions.size() != 2) {
+      throw new JMetalException("There must be two parents instead of " + solutions.size()) ;
+    }
+
+    return doCrossover(crossoverProbability, solutions.get(0), solutions.get(1)) ;
+  }
+
+  /**
+   * Perform the crossover operation
+   *
+   * @param probability Crossover setProbability
+   * @param parent1     The first parent
+   * @param parent2     The second parent
+   * @return An array containing the two offspring
+   */
+  public List<PermutationSolution<Permutation>> doCrossover(double probability,
+      PermutationSolution<Permutation> parent1, PermutationSolution<Permutation> parent2) {
+    List<PermutationSolution<Permutation>> offspring = new ArrayList<>(2);
+    offspring.add(solutionPool.acquire(parent1)) ;
+    offspring.add(solutionPool.acquire(parent2)) ;
+
+    if (randomGenerator.nextDouble() < probability) {
+      for (int variable = 0; variable < parent1.getNumberOfVariables(); variable++) {
+        int[] elements1 = parent1.getVariableValue(variable).getElements() ;
+        int[] elements2 = parent2.getVariableValue(variable).getElements() ;
+        int[] offspring1 = new int[elements1.length] ;
+        int[] offspring2 = new int[elements2.length] ;
+
+        int length = elements1.length ;
+        int[] positions1 = new int[length] ;
+        for (int i = 0; i < length; i++) {
+          positions1[elements1[i]] = i ;
+        }
+
+        boolean[] visited = new boolean[length] ;
+        boolean fromFirstParent = true ;
+        for (int start = 0; start < length; start++) {
+          if (!visited[start]) {
+            int i = start ;
+            do {
+              visited[i] = true ;
+              offspring1[i] = fromFirstParent ? elements1[i] : elements2[i] ;
+              offspring2[i] = fromFirstParent ? elements2[i] : elements1[i] ;
+              i = positions1[elements2[i]] ;
+            } while (i != start) ;
+            fromFirstParent = !fromFirstParent ;
+          }
+        }
+
+        offspring.get(0).getVariableValue(variable).setElements(offspring1);
+        offspring.get(1).getVariableValue(variable).setElements(offspring2);
+      }
+    }
+
+    return offspring ;
+  }
+}
@@ -13,13 +13,15 @@
 
 package org.uma.jmetal.operator.impl.crossover;
 
+import org.uma.jmetal.operator.BatchCrossoverOperator;
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.binarySet.BinarySet;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
 
 import java.util.ArrayList;
-import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -28,6 +30,10 @@ import java.util.List;
  * NOTE: the operator is applied to the first encoding.variable of the solutions, and
  * the type of the solutions must be Binary
  *
+ * The bits in which the parents differ are found a word (64 bits) at a time, and each of them is
+ * exchanged with probability 0.5 by masking the differences with random bits, so words in which
+ * the parents are equal take no random numbers.
+ *
  * @author Antonio J. Nebro
  * @author Juan J. Durillo
  * @version 1.0
@@ -65,30 +71,101 @@ public class HUXCrossover implements CrossoverOperator<List<BinarySolution>, Lis
    * @param probability Crossover setProbability
    * @param parent1     The first parent
    * @param parent2     The second parent
-   * @return An array containing the two offspring
+   * @return An array containing the two offspring, which are copies of the parents (these are not
+   * modified)
    * @throws org.uma.jmetal.util.JMetalException
    */
   public List<BinarySolution> doCrossover(double probability,
                                           BinarySolution parent1,
                                           BinarySolution parent2) throws JMetalException {
+    BinarySolution offspring1 = (BinarySolution) parent1.copy() ;
+    BinarySolution offspring2 = (BinarySolution) parent2.copy() ;
+
     if (randomGenerator.nextDouble() < probability) {
-      for (int var = 0; var < parent1.getNumberOfVariables(); var++) {
-        BitSet p1 = parent1.getVariableValue(var) ;
-        BitSet p2 = parent1.getVariableValue(var) ;
-
-        for (int bit = 0; bit < parent1.getNumberOfBits(var); bit++) {
-          if ((p1.get(bit) != p2.get(bit)) && (randomGenerator.nextDouble() < 0.5)) {
-            parent1.getVariableValue(var).set(bit, p2.get(bit)) ;
-            parent2.getVariableValue(var).set(bit, p1.get(bit)) ;
+      for (int var = 0; var < offspring1.getNumberOfVariables(); var++) {
+        BinarySet p1 = offspring1.getVariableValue(var) ;
+        BinarySet p2 = offspring2.getVariableValue(var) ;
+        long[] words1 = p1.getWords() ;
+        long[] words2 = p2.getWords() ;
+
+        boolean exchanged = false ;
+        for (int word = 0; word < words1.length; word++) {
+          long differences = words1[word] ^ words2[word] ;
+          if (differences != 0) {
+            long mask = exchangeMask(differences, randomGenerator.getRandomGenerator()) ;
+            words1[word] ^= mask ;
+            words2[word] ^= mask ;
+            exchanged = true ;
           }
         }
+
+        if (exchanged) {
+          p1.setWords(words1);
+          p2.setWords(words2);
+        }
       }
     }
 
     List<BinarySolution> offSpring = new ArrayList<>();
-    offSpring.add(parent1) ;
-    offSpring.add(parent2) ;
+    offSpring.add(offspring1) ;
+    offSpring.add(offspring2) ;
 
     return offSpring;
   }
+
+  /**
+   * Returns a random subset of the bits of a word of differences. Each half of the word takes a
+   * random number only if it contains differences
+   */
+  private static long exchangeMask(long differences, PseudoRandomGenerator randomGenerator) {
+    long mask = 0 ;
+    if ((differences & 0xFFFFFFFFL) != 0) {
+      mask = BinarySet.nextRandomBits(randomGenerator) ;
+    }
+    if ((differences >>> 32) != 0) {
+      mask |= BinarySet.nextRandomBits(randomGenerator) << 32 ;
+    }
+
+    return differences & mask ;
+  }
+
+  /**
+   * Returns a batch version of this operator, which works on bit strings packed into arrays of
+   * longs (bit i of a string is bit i % 64 of word i / 64)
+   */
+  public BatchCrossoverOperator<long[]> createBatchOperator() {
+    return new BatchHUXCrossover(crossoverProbability) ;
+  }
+
+  /** Batch version of the HUX crossover. It draws the same random numbers as doCrossover() */
+  private static class BatchHUXCrossover implements BatchCrossoverOperator<long[]> {
+    private final double crossoverProbability ;
+
+    BatchHUXCrossover(double crossoverProbability) {
+      this.crossoverProbability = crossoverProbability ;
+    }
+
+    @Override
+    public void execute(long[][] matingPool, long[][] offspring, int fromPair, int toPair,
+        PseudoRandomGenerator randomGenerator) {
+      for (int k = fromPair; k < toPair; k++) {
+        long[] child1 = offspring[2 * k] ;
+        long[] child2 = offspring[2 * k + 1] ;
+
+        System.arraycopy(matingPool[2 * k], 0, child1, 0, child1.length);
+        System.arraycopy(matingPool[2 * k + 1], 0, child2, 0, child2.length);
+
+        if (randomGenerator.nextDouble() < crossoverProbability) {
+          for (int word = 0; word < child1.length; word++) {
+            long differences = child1[word] ^ child2[word] ;
+            if (differences != 0) {
+              long mask = exchangeMask(differences, randomGenerator) ;
+              child1[word] ^= mask ;
+              child2[word] ^= mask ;
+            }
+          }
+        }
+      }
+    }
+  }
 }
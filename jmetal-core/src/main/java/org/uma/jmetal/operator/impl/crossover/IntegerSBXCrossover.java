@@ -23,6 +23,7 @@ package org.uma.jmetal.operator.impl.crossover;
 
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.solution.IntegerSolution;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
@@ -38,6 +39,7 @@ public class IntegerSBXCrossover implements CrossoverOperator<List<IntegerSoluti
   private double crossoverProbability  ;
 
   private JMetalRandom randomGenerator ;
+  private SolutionPool<IntegerSolution> solutionPool ;
 
   /** Constructor */
   public IntegerSBXCrossover(double crossoverProbability, double distributionIndex) {
@@ -50,6 +52,7 @@ public class IntegerSBXCrossover implements CrossoverOperator<List<IntegerSoluti
     this.crossoverProbability = crossoverProbability ;
     this.distributionIndex = distributionIndex ;
     randomGenerator = JMetalRandom.getInstance() ;
+    solutionPool = new SolutionPool<>(0) ;
   }
 
   /* Getters */
@@ -61,6 +64,17 @@ public class IntegerSBXCrossover implements CrossoverOperator<List<IntegerSoluti
     return distributionIndex;
   }
 
+  public SolutionPool<IntegerSolution> getSolutionPool() {
+    return solutionPool ;
+  }
+
+  public void setSolutionPool(SolutionPool<IntegerSolution> solutionPool) {
+    if (solutionPool == null) {
+      throw new JMetalException("The solution pool is null") ;
+    }
+    this.solutionPool = solutionPool ;
+  }
+
   /** Execute() method */
   @Override
   public List<IntegerSolution> execute(List<IntegerSolution> solutions) {
@@ -78,8 +92,8 @@ public class IntegerSBXCrossover implements CrossoverOperator<List<IntegerSoluti
           double probability, IntegerSolution parent1, IntegerSolution parent2) {
     List<IntegerSolution> offspring = new ArrayList<IntegerSolution>(2);
 
-    offspring.add((IntegerSolution) parent1.copy()) ;
-    offspring.add((IntegerSolution) parent2.copy()) ;
+    offspring.add(solutionPool.acquire(parent1)) ;
+    offspring.add(solutionPool.acquire(parent2)) ;
 
     int i;
     double rand;
@@ -13,12 +13,16 @@
 
 package org.uma.jmetal.operator.impl.crossover;
 
+import org.uma.jmetal.operator.BatchCrossoverOperator;
 import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.solution.util.RepairDoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolutionAtBounds;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,6 +46,7 @@ public class SBXCrossover implements CrossoverOperator<List<DoubleSolution>, Lis
   private RepairDoubleSolution solutionRepair ;
 
   private JMetalRandom randomGenerator ;
+  private SolutionPool<DoubleSolution> solutionPool ;
 
   /** Constructor */
   public SBXCrossover(double crossoverProbability, double distributionIndex) {
@@ -61,6 +66,7 @@ public class SBXCrossover implements CrossoverOperator<List<DoubleSolution>, Lis
     this.solutionRepair = solutionRepair ;
 
     randomGenerator = JMetalRandom.getInstance() ;
+    solutionPool = new SolutionPool<>(0) ;
   }
 
   /* Getters */
@@ -72,6 +78,21 @@ public class SBXCrossover implements CrossoverOperator<List<DoubleSolution>, Lis
     return distributionIndex;
   }
 
+  public SolutionPool<DoubleSolution> getSolutionPool() {
+    return solutionPool ;
+  }
+
+  /**
+   * Sets the pool the offspring are taken from, instead of copying the parents. The pool is
+   * usually shared with an algorithm that releases its discarded solutions into it
+   */
+  public void setSolutionPool(SolutionPool<DoubleSolution> solutionPool) {
+    if (solutionPool == null) {
+      throw new JMetalException("The solution pool is null") ;
+    }
+    this.solutionPool = solutionPool ;
+  }
+
   /** Execute() method */
   @Override
   public List<DoubleSolution> execute(List<DoubleSolution> solutions) {
@@ -89,14 +110,14 @@ public class SBXCrossover implements CrossoverOperator<List<DoubleSolution>, Lis
       double probability, DoubleSolution parent1, DoubleSolution parent2) {
     List<DoubleSolution> offspring = new ArrayList<DoubleSolution>(2);
 
-    offspring.add((DoubleSolution) parent1.copy()) ;
-    offspring.add((DoubleSolution) parent2.copy()) ;
+    offspring.add(solutionPool.acquire(parent1)) ;
+    offspring.add(solutionPool.acquire(parent2)) ;
 
     int i;
     double rand;
     double y1, y2, lowerBound, upperBound;
     double c1, c2;
-    double alpha, beta, betaq;
+    double beta, betaq;
     double valueX1, valueX2;
 
     if (randomGenerator.nextDouble() <= probability) {
@@ -119,25 +140,11 @@ public class SBXCrossover implements CrossoverOperator<List<DoubleSolution>, Lis
 
             rand = randomGenerator.nextDouble();
             beta = 1.0 + (2.0 * (y1 - lowerBound) / (y2 - y1));
-            alpha = 2.0 - Math.pow(beta, -(distributionIndex + 1.0));
-
-            if (rand <= (1.0 / alpha)) {
-              betaq = Math.pow(rand * alpha, (1.0 / (distributionIndex + 1.0)));
-            } else {
-              betaq = Math
-                  .pow(1.0 / (2.0 - rand * alpha), 1.0 / (distributionIndex + 1.0));
-            }
+            betaq = computeBetaq(rand, beta, distributionIndex) ;
             c1 = 0.5 * (y1 + y2 - betaq * (y2 - y1));
 
             beta = 1.0 + (2.0 * (upperBound - y2) / (y2 - y1));
-            alpha = 2.0 - Math.pow(beta, -(distributionIndex + 1.0));
-
-            if (rand <= (1.0 / alpha)) {
-              betaq = Math.pow((rand * alpha), (1.0 / (distributionIndex + 1.0)));
-            } else {
-              betaq = Math
-                  .pow(1.0 / (2.0 - rand * alpha), 1.0 / (distributionIndex + 1.0));
-            }
+            betaq = computeBetaq(rand, beta, distributionIndex) ;
             c2 = 0.5 * (y1 + y2 + betaq * (y2 - y1));
 
             c1 = solutionRepair.repairSolutionVariableValue(c1, lowerBound, upperBound) ;
@@ -163,4 +170,87 @@ public class SBXCrossover implements CrossoverOperator<List<DoubleSolution>, Lis
 
     return offspring;
   }
+
+  /** Spread factor of the children for a random number and a bound-dependent value of beta */
+  private static double computeBetaq(double rand, double beta, double distributionIndex) {
+    double alpha = 2.0 - Math.pow(beta, -(distributionIndex + 1.0));
+
+    if (rand <= (1.0 / alpha)) {
+      return Math.pow(rand * alpha, (1.0 / (distributionIndex + 1.0)));
+    } else {
+      return Math.pow(1.0 / (2.0 - rand * alpha), 1.0 / (distributionIndex + 1.0));
+    }
+  }
+
+  /**
+   * Returns a batch version of this operator, which works on arrays of decision variables within
+   * the bounds of the given problem
+   */
+  public BatchCrossoverOperator<double[]> createBatchOperator(DoubleProblem problem) {
+    return new BatchSBXCrossover(this, problem) ;
+  }
+
+  /** Batch version of the SBX crossover. It draws the same random numbers as doCrossover() */
+  private static class BatchSBXCrossover implements BatchCrossoverOperator<double[]> {
+    private final double crossoverProbability ;
+    private final double distributionIndex ;
+    private final RepairDoubleSolution solutionRepair ;
+    private final double[] lowerBounds ;
+    private final double[] upperBounds ;
+
+    BatchSBXCrossover(SBXCrossover crossover, DoubleProblem problem) {
+      crossoverProbability = crossover.crossoverProbability ;
+      distributionIndex = crossover.distributionIndex ;
+      solutionRepair = crossover.solutionRepair ;
+      lowerBounds = new double[problem.getNumberOfVariables()] ;
+      upperBounds = new double[problem.getNumberOfVariables()] ;
+      for (int i = 0; i < lowerBounds.length; i++) {
+        lowerBounds[i] = problem.getLowerBound(i) ;
+        upperBounds[i] = problem.getUpperBound(i) ;
+      }
+    }
+
+    @Override
+    public void execute(double[][] matingPool, double[][] offspring, int fromPair, int toPair,
+        PseudoRandomGenerator randomGenerator) {
+      for (int k = fromPair; k < toPair; k++) {
+        double[] parent1 = matingPool[2 * k] ;
+        double[] parent2 = matingPool[2 * k + 1] ;
+        double[] child1 = offspring[2 * k] ;
+        double[] child2 = offspring[2 * k + 1] ;
+
+        System.arraycopy(parent1, 0, child1, 0, lowerBounds.length);
+        System.arraycopy(parent2, 0, child2, 0, lowerBounds.length);
+
+        if (randomGenerator.nextDouble() <= crossoverProbability) {
+          for (int i = 0; i < lowerBounds.length; i++) {
+            double valueX1 = child1[i] ;
+            double valueX2 = child2[i] ;
+            if ((randomGenerator.nextDouble() <= 0.5) && (Math.abs(valueX1 - valueX2) > EPS)) {
+              double y1 = Math.min(valueX1, valueX2) ;
+              double y2 = Math.max(valueX1, valueX2) ;
+
+              double rand = randomGenerator.nextDouble();
+              double beta = 1.0 + (2.0 * (y1 - lowerBounds[i]) / (y2 - y1));
+              double c1 = 0.5 * (y1 + y2 - computeBetaq(rand, beta, distributionIndex) * (y2 - y1));
+
+              beta = 1.0 + (2.0 * (upperBounds[i] - y2) / (y2 - y1));
+              double c2 = 0.5 * (y1 + y2 + computeBetaq(rand, beta, distributionIndex) * (y2 - y1));
+
+              c1 = solutionRepair.repairSolutionVariableValue(c1, lowerBounds[i], upperBounds[i]) ;
+              c2 = solutionRepair.repairSolutionVariableValue(c2, lowerBounds[i], upperBounds[i]) ;
+
+              if (randomGenerator.nextDouble() <= 0.5) {
+                child1[i] = c2 ;
+                child2[i] = c1 ;
+              } else {
+                child1[i] = c1 ;
+                child2[i] = c2 ;
+              }
+            }
+          }
+        }
+      }
+    }
+  }
 }
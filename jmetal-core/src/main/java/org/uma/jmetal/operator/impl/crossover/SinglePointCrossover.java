@@ -15,6 +15,7 @@ package org.uma.jmetal.operator.impl.crossover;
 
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.solution.BinarySolution;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.binarySet.BinarySet;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -31,6 +32,7 @@ import java.util.List;
 public class SinglePointCrossover implements CrossoverOperator<List<BinarySolution>, List<BinarySolution>> {
   private double crossoverProbability ;
   private JMetalRandom randomGenerator ;
+  private SolutionPool<BinarySolution> solutionPool ;
 
   /** Constructor */
   public SinglePointCrossover(double crossoverProbability) {
@@ -39,6 +41,7 @@ public class SinglePointCrossover implements CrossoverOperator<List<BinarySoluti
     }
     this.crossoverProbability = crossoverProbability;
     randomGenerator = JMetalRandom.getInstance() ;
+    solutionPool = new SolutionPool<>(0) ;
   }
 
   /* Getter */
@@ -46,6 +49,17 @@ public class SinglePointCrossover implements CrossoverOperator<List<BinarySoluti
     return crossoverProbability;
   }
 
+  public SolutionPool<BinarySolution> getSolutionPool() {
+    return solutionPool ;
+  }
+
+  public void setSolutionPool(SolutionPool<BinarySolution> solutionPool) {
+    if (solutionPool == null) {
+      throw new JMetalException("The solution pool is null") ;
+    }
+    this.solutionPool = solutionPool ;
+  }
+
   @Override
   public List<BinarySolution> execute(List<BinarySolution> solutions) {
     if (solutions == null) {
@@ -67,8 +81,8 @@ public class SinglePointCrossover implements CrossoverOperator<List<BinarySoluti
    */
   public List<BinarySolution> doCrossover(double probability, BinarySolution parent1, BinarySolution parent2)  {
     List<BinarySolution> offspring = new ArrayList<>(2);
-    offspring.add((BinarySolution) parent1.copy()) ;
-    offspring.add((BinarySolution) parent2.copy()) ;
+    offspring.add(solutionPool.acquire(parent1)) ;
+    offspring.add(solutionPool.acquire(parent2)) ;
 
     if (randomGenerator.nextDouble() < probability) {
       // 1. Get the total number of bits
@@ -13,16 +13,24 @@
 
 package org.uma.jmetal.operator.impl.mutation;
 
+import org.uma.jmetal.operator.BatchMutationOperator;
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.binarySet.BinarySet;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
 
 /**
  * @author Antonio J. Nebro
  * @version 1.0
  *
  * This class implements a bit flip mutation operator.
+ *
+ * Instead of drawing a random number per bit, the distance to the next flipped bit is drawn from
+ * the geometric distribution of the number of failures before a success with the mutation
+ * probability, so the cost depends on the number of flipped bits and not on the length of the
+ * solutions. The variables are considered as a single bit string.
  */
 public class BitFlipMutation implements MutationOperator<BinarySolution> {
   private double mutationProbability ;
@@ -60,10 +68,74 @@ public class BitFlipMutation implements MutationOperator<BinarySolution> {
    * @param solution    The solution to mutate
    */
   public void doMutation(double probability, BinarySolution solution)  {
-    for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-      for (int j = 0; j < solution.getVariableValue(i).getBinarySetLength(); j++) {
-        if (randomGenerator.nextDouble() <= probability) {
-          solution.getVariableValue(i).flip(j);
+    if (probability <= 0) {
+      return ;
+    }
+
+    int variable = 0 ;
+    long firstBit = 0 ;
+    long bit = skip(probability, randomGenerator.nextDouble()) ;
+    while (variable < solution.getNumberOfVariables()) {
+      BinarySet bits = solution.getVariableValue(variable) ;
+      if (bit < firstBit + bits.getBinarySetLength()) {
+        bits.flip((int) (bit - firstBit));
+        bit += 1 + skip(probability, randomGenerator.nextDouble()) ;
+      } else {
+        firstBit += bits.getBinarySetLength() ;
+        variable++ ;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of bits to leave unchanged before the next flipped one
+   *
+   * @param probability Mutation probability (positive)
+   * @param random Random number in [0, 1)
+   */
+  private static long skip(double probability, double random) {
+    if (probability >= 1) {
+      return 0 ;
+    }
+    double skip = Math.floor(Math.log(1.0 - random) / Math.log1p(-probability)) ;
+
+    return (long) Math.min(skip, Integer.MAX_VALUE) ;
+  }
+
+  /**
+   * Returns a batch version of this operator, which works on bit strings of the given length
+   * packed into arrays of longs (bit i of a string is bit i % 64 of word i / 64)
+   */
+  public BatchMutationOperator<long[]> createBatchOperator(int numberOfBits) {
+    return new BatchBitFlipMutation(mutationProbability, numberOfBits) ;
+  }
+
+  /** Batch version of the bit flip mutation. It draws the same random numbers as doMutation() */
+  private static class BatchBitFlipMutation implements BatchMutationOperator<long[]> {
+    private final double mutationProbability ;
+    private final int numberOfBits ;
+
+    BatchBitFlipMutation(double mutationProbability, int numberOfBits) {
+      if (numberOfBits < 0) {
+        throw new JMetalException("The number of bits is negative: " + numberOfBits) ;
+      }
+      this.mutationProbability = mutationProbability ;
+      this.numberOfBits = numberOfBits ;
+    }
+
+    @Override
+    public void execute(long[][] population, int from, int to,
+        PseudoRandomGenerator randomGenerator) {
+      if (mutationProbability <= 0) {
+        return ;
+      }
+
+      for (int k = from; k < to; k++) {
+        long[] bits = population[k] ;
+        long bit = skip(mutationProbability, randomGenerator.nextDouble()) ;
+        while (bit < numberOfBits) {
+          bits[(int) (bit >>> 6)] ^= 1L << bit ;
+          bit += 1 + skip(mutationProbability, randomGenerator.nextDouble()) ;
         }
       }
     }
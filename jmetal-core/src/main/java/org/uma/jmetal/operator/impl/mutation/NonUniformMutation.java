@@ -21,10 +21,13 @@
 
 package org.uma.jmetal.operator.impl.mutation;
 
+import org.uma.jmetal.operator.BatchMutationOperator;
 import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
 
 /**
  * This class implements a non-uniform mutation operator.
@@ -119,14 +122,70 @@ public class NonUniformMutation implements MutationOperator<DoubleSolution> {
 
   /** Calculates the delta value used in NonUniform mutation operator */
   private double delta(double y, double bMutationParameter) {
-    double rand = randomGenenerator.nextDouble();
-    int it, maxIt;
-    it = currentIteration;
-    maxIt = maxIterations;
+    return delta(y, bMutationParameter, randomGenenerator.nextDouble(), currentIteration,
+        maxIterations) ;
+  }
 
+  private static double delta(double y, double bMutationParameter, double rand, int it,
+      int maxIt) {
     return (y * (1.0 -
         Math.pow(rand,
             Math.pow((1.0 - it / (double) maxIt), bMutationParameter)
         )));
   }
+
+  /**
+   * Returns a batch version of this operator, which works on arrays of decision variables within
+   * the bounds of the given problem. It reads the current iteration of this operator each time it
+   * is executed
+   */
+  public BatchMutationOperator<double[]> createBatchOperator(DoubleProblem problem) {
+    return new BatchNonUniformMutation(this, problem) ;
+  }
+
+  /** Batch version of the non-uniform mutation. It draws the same random numbers as doMutation() */
+  private static class BatchNonUniformMutation implements BatchMutationOperator<double[]> {
+    private final NonUniformMutation mutation ;
+    private final double[] lowerBounds ;
+    private final double[] upperBounds ;
+
+    BatchNonUniformMutation(NonUniformMutation mutation, DoubleProblem problem) {
+      this.mutation = mutation ;
+      lowerBounds = new double[problem.getNumberOfVariables()] ;
+      upperBounds = new double[problem.getNumberOfVariables()] ;
+      for (int i = 0; i < lowerBounds.length; i++) {
+        lowerBounds[i] = problem.getLowerBound(i) ;
+        upperBounds[i] = problem.getUpperBound(i) ;
+      }
+    }
+
+    @Override
+    public void execute(double[][] population, int from, int to,
+        PseudoRandomGenerator randomGenerator) {
+      double probability = mutation.mutationProbability ;
+      double perturbation = mutation.perturbation ;
+      int currentIteration = mutation.currentIteration ;
+      int maxIterations = mutation.maxIterations ;
+
+      for (int k = from; k < to; k++) {
+        double[] variables = population[k] ;
+        for (int i = 0; i < lowerBounds.length; i++) {
+          if (randomGenerator.nextDouble() < probability) {
+            double rand = randomGenerator.nextDouble();
+            double y = (rand <= 0.5) ? upperBounds[i] - variables[i]
+                                     : lowerBounds[i] - variables[i] ;
+            double tmp = variables[i] + delta(y, perturbation, randomGenerator.nextDouble(),
+                currentIteration, maxIterations) ;
+
+            if (tmp < lowerBounds[i]) {
+              tmp = lowerBounds[i];
+            } else if (tmp > upperBounds[i]) {
+              tmp = upperBounds[i];
+            }
+            variables[i] = tmp ;
+          }
+        }
+      }
+    }
+  }
 }
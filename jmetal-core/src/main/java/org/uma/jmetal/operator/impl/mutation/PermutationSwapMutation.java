@@ -0,0 +1,78 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator.impl.mutation;
+
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.solution.PermutationSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.permutation.Permutation;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ *
+ * This class implements a swap mutation operator: two random positions of each permutation are
+ * exchanged. The move is recorded by the permutation, so the problem can update the objectives
+ * from the (at most four) changed edges.
+ */
+public class PermutationSwapMutation implements MutationOperator<PermutationSolution<Permutation>> {
+  private double mutationProbability ;
+  private JMetalRandom randomGenerator ;
+
+  /** Constructor */
+  public PermutationSwapMutation(double mutationProbability) {
+    if (mutationProbability < 0) {
+      throw new JMetalException("Mutation probability is negative: " + mutationProbability) ;
+    }
+    this.mutationProbability = mutationProbability ;
+    randomGenerator = JMetalRandom.getInstance() ;
+  }
+
+  /* Getter */
+  public double getMutationProbability() {
+    return mutationProbability;
+  }
+
+  /** Execute() method */
+  @Override
+  public PermutationSolution<Permutation> execute(PermutationSolution<Permutation> solution) {
+    if (null == solution) {
+      throw new JMetalException("Null parameter") ;
+    }
+
+    doMutation(mutationProbability, solution);
+    return solution;
+  }
+
+  /**
+   * Perform the mutation operation
+   *
+   * @param probability Mutation setProbability
+   * @param solution    The solution to mutate
+   */
+  public void doMutation(double probability, PermutationSolution<Permutation> solution) {
+    for (int variable = 0; variable < solution.getNumberOfVariables(); variable++) {
+      Permutation permutation = solution.getVariableValue(variable) ;
+      if ((permutation.size() > 1) && (randomGenerator.nextDouble() < probability)) {
+        int i = randomGenerator.nextInt(0, permutation.size() - 1) ;
+        int j = randomGenerator.nextInt(0, permutation.size() - 2) ;
+        if (j >= i) {
+          j++ ;
+        }
+        permutation.swap(i, j);
+      }
+    }
+  }
+}
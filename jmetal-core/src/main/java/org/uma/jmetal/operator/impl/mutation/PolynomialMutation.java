@@ -13,12 +13,15 @@
 
 package org.uma.jmetal.operator.impl.mutation;
 
+import org.uma.jmetal.operator.BatchMutationOperator;
 import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolutionAtBounds;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
 
 /**
  * This class implements a polynomial mutation operator
@@ -82,31 +85,83 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
   }
 
   private void doRealMutation(double probability, DoubleSolution solution) {
-    double rnd, delta1, delta2, mutPow, deltaq;
-    double y, yl, yu, val, xy;
+    double y, yl, yu ;
 
     for (int i = 0; i < solution.getNumberOfVariables(); i++) {
       if (randomGenerator.nextDouble() <= probability) {
         y = solution.getVariableValue(i);
         yl = solution.getLowerBound(i) ;
         yu = solution.getUpperBound(i) ;
-        delta1 = (y - yl) / (yu - yl);
-        delta2 = (yu - y) / (yu - yl);
-        rnd = randomGenerator.nextDouble();
-        mutPow = 1.0 / (distributionIndex + 1.0);
-        if (rnd <= 0.5) {
-          xy = 1.0 - delta1;
-          val = 2.0 * rnd + (1.0 - 2.0 * rnd) * (Math.pow(xy, distributionIndex + 1.0));
-          deltaq = Math.pow(val, mutPow) - 1.0;
-        } else {
-          xy = 1.0 - delta2;
-          val = 2.0 * (1.0 - rnd) + 2.0 * (rnd - 0.5) * (Math.pow(xy, distributionIndex + 1.0));
-          deltaq = 1.0 - Math.pow(val, mutPow);
-        }
-        y = y + deltaq * (yu - yl);
+        y = mutate(y, yl, yu, randomGenerator.nextDouble(), distributionIndex) ;
         y = solutionRepair.repairSolutionVariableValue(y, yl, yu) ;
         solution.setVariableValue(i, y);
       }
     }
   }
+
+  /** Returns the mutated value of a variable, before being repaired */
+  private static double mutate(double y, double yl, double yu, double rnd,
+      double distributionIndex) {
+    double delta1, delta2, mutPow, deltaq;
+    double val, xy;
+
+    delta1 = (y - yl) / (yu - yl);
+    delta2 = (yu - y) / (yu - yl);
+    mutPow = 1.0 / (distributionIndex + 1.0);
+    if (rnd <= 0.5) {
+      xy = 1.0 - delta1;
+      val = 2.0 * rnd + (1.0 - 2.0 * rnd) * (Math.pow(xy, distributionIndex + 1.0));
+      deltaq = Math.pow(val, mutPow) - 1.0;
+    } else {
+      xy = 1.0 - delta2;
+      val = 2.0 * (1.0 - rnd) + 2.0 * (rnd - 0.5) * (Math.pow(xy, distributionIndex + 1.0));
+      deltaq = 1.0 - Math.pow(val, mutPow);
+    }
+    return y + deltaq * (yu - yl);
+  }
+
+  /**
+   * Returns a batch version of this operator, which works on arrays of decision variables within
+   * the bounds of the given problem
+   */
+  public BatchMutationOperator<double[]> createBatchOperator(DoubleProblem problem) {
+    return new BatchPolynomialMutation(this, problem) ;
+  }
+
+  /** Batch version of the polynomial mutation. It draws the same random numbers as doMutation() */
+  private static class BatchPolynomialMutation implements BatchMutationOperator<double[]> {
+    private final double mutationProbability ;
+    private final double distributionIndex ;
+    private final RepairDoubleSolution solutionRepair ;
+    private final double[] lowerBounds ;
+    private final double[] upperBounds ;
+
+    BatchPolynomialMutation(PolynomialMutation mutation, DoubleProblem problem) {
+      mutationProbability = mutation.mutationProbability ;
+      distributionIndex = mutation.distributionIndex ;
+      solutionRepair = mutation.solutionRepair ;
+      lowerBounds = new double[problem.getNumberOfVariables()] ;
+      upperBounds = new double[problem.getNumberOfVariables()] ;
+      for (int i = 0; i < lowerBounds.length; i++) {
+        lowerBounds[i] = problem.getLowerBound(i) ;
+        upperBounds[i] = problem.getUpperBound(i) ;
+      }
+    }
+
+    @Override
+    public void execute(double[][] population, int from, int to,
+        PseudoRandomGenerator randomGenerator) {
+      for (int k = from; k < to; k++) {
+        double[] variables = population[k] ;
+        for (int i = 0; i < lowerBounds.length; i++) {
+          if (randomGenerator.nextDouble() <= mutationProbability) {
+            double y = mutate(variables[i], lowerBounds[i], upperBounds[i],
+                randomGenerator.nextDouble(), distributionIndex) ;
+            variables[i] = solutionRepair.repairSolutionVariableValue(y, lowerBounds[i],
+                upperBounds[i]) ;
+          }
+        }
+      }
+    }
+  }
 }
@@ -21,10 +21,13 @@
 
 package org.uma.jmetal.operator.impl.mutation;
 
+import org.uma.jmetal.operator.BatchMutationOperator;
 import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
 
 /**
  * This class implements a uniform mutation operator.
@@ -86,4 +89,52 @@ public class UniformMutation implements MutationOperator<DoubleSolution> {
 
     return solution;
   }
+
+  /**
+   * Returns a batch version of this operator, which works on arrays of decision variables within
+   * the bounds of the given problem
+   */
+  public BatchMutationOperator<double[]> createBatchOperator(DoubleProblem problem) {
+    return new BatchUniformMutation(this, problem) ;
+  }
+
+  /** Batch version of the uniform mutation. It draws the same random numbers as doMutation() */
+  private static class BatchUniformMutation implements BatchMutationOperator<double[]> {
+    private final double mutationProbability ;
+    private final double perturbation ;
+    private final double[] lowerBounds ;
+    private final double[] upperBounds ;
+
+    BatchUniformMutation(UniformMutation mutation, DoubleProblem problem) {
+      mutationProbability = mutation.mutationProbability ;
+      perturbation = mutation.perturbation ;
+      lowerBounds = new double[problem.getNumberOfVariables()] ;
+      upperBounds = new double[problem.getNumberOfVariables()] ;
+      for (int i = 0; i < lowerBounds.length; i++) {
+        lowerBounds[i] = problem.getLowerBound(i) ;
+        upperBounds[i] = problem.getUpperBound(i) ;
+      }
+    }
+
+    @Override
+    public void execute(double[][] population, int from, int to,
+        PseudoRandomGenerator randomGenerator) {
+      for (int k = from; k < to; k++) {
+        double[] variables = population[k] ;
+        for (int i = 0; i < lowerBounds.length; i++) {
+          if (randomGenerator.nextDouble() < mutationProbability) {
+            double tmp = variables[i] + (randomGenerator.nextDouble() - 0.5) * perturbation;
+
+            if (tmp < lowerBounds[i]) {
+              tmp = lowerBounds[i];
+            } else if (tmp > upperBounds[i]) {
+              tmp = upperBounds[i];
+            }
+
+            variables[i] = tmp ;
+          }
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,104 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator.impl.selection;
+
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.HashedAdaptiveGrid;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.archive.impl.HashedAdaptiveGridArchive;
+import org.uma.jmetal.util.pseudorandom.AliasTable;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.List;
+
+/**
+ * Region-based selection of PESA-II: two occupied hypercubes (regions) of the grid of the archive
+ * are chosen at random, the least crowded one wins (ties are broken at random), and a random
+ * solution of it is returned.
+ *
+ * Instead of simulating the tournament, the probability of winning it is computed for every
+ * region: with R occupied regions, a region wins with probability (1 + 2 G + T) / R^2, where G is
+ * the number of regions with more solutions and T the number of other regions with the same
+ * number. These probabilities are stored in an {@link AliasTable}, so each selection takes
+ * constant time; the table is only built again, in O(R), when the archive has changed.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class RegionBasedSelection<S extends Solution>
+    implements SelectionOperator<HashedAdaptiveGridArchive<S>, S> {
+  private final AliasTable aliasTable ;
+  private HashedAdaptiveGrid<S> grid ;
+  private long modificationCount ;
+  private double[] weights ;
+  private int[] regionsByDensity ;
+
+  /** Constructor */
+  public RegionBasedSelection() {
+    aliasTable = new AliasTable() ;
+    weights = new double[0] ;
+    regionsByDensity = new int[0] ;
+  }
+
+  @Override
+  public S execute(HashedAdaptiveGridArchive<S> archive) {
+    if (null == archive) {
+      throw new JMetalException("The archive is null") ;
+    } else if (archive.getSolutionList().isEmpty()) {
+      throw new JMetalException("The archive is empty") ;
+    }
+
+    if ((grid != archive.getGrid()) || (modificationCount != grid.getModificationCount())) {
+      grid = archive.getGrid() ;
+      modificationCount = grid.getModificationCount() ;
+      buildAliasTable();
+    }
+
+    List<S> region = archive.getRegion(grid.getOccupiedHypercube(aliasTable.sample())) ;
+
+    return region.get(JMetalRandom.getInstance().nextInt(0, region.size() - 1)) ;
+  }
+
+  private void buildAliasTable() {
+    int numberOfRegions = grid.occupiedHypercubes() ;
+    int maxDensity = grid.getMaxDensity() ;
+    if (weights.length < numberOfRegions) {
+      weights = new double[Math.max(numberOfRegions, 2 * weights.length)] ;
+    }
+    if (regionsByDensity.length < maxDensity + 2) {
+      regionsByDensity = new int[Math.max(maxDensity + 2, 2 * regionsByDensity.length)] ;
+    }
+
+    for (int density = 0; density <= maxDensity + 1; density++) {
+      regionsByDensity[density] = 0 ;
+    }
+    for (int i = 0; i < numberOfRegions; i++) {
+      regionsByDensity[grid.getLocationDensity(grid.getOccupiedHypercube(i))]++ ;
+    }
+
+    // Number of regions with a density higher than each one, computed from the highest density
+    int[] moreCrowdedRegions = new int[maxDensity + 1] ;
+    for (int density = maxDensity - 1; density >= 0; density--) {
+      moreCrowdedRegions[density] = moreCrowdedRegions[density + 1]
+          + regionsByDensity[density + 1] ;
+    }
+
+    for (int i = 0; i < numberOfRegions; i++) {
+      int density = grid.getLocationDensity(grid.getOccupiedHypercube(i)) ;
+      weights[i] = 1.0 + 2.0 * moreCrowdedRegions[density] + (regionsByDensity[density] - 1) ;
+    }
+    aliasTable.build(weights, numberOfRegions);
+  }
+}
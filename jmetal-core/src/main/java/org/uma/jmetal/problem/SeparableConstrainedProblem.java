@@ -0,0 +1,10 @@
+package org.uma.jmetal.problem;
+
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Interface representing constrained problems whose constraints depend only on the decision
+ * variables, so {@link #evaluateConstraints} can be invoked before (or without) {@link #evaluate}
+ */
+public interface SeparableConstrainedProblem<S extends Solution<?>> extends ConstrainedProblem<S> {
+}
@@ -0,0 +1,16 @@
+package org.uma.jmetal.problem.impl;
+
+import org.uma.jmetal.problem.PermutationProblem;
+import org.uma.jmetal.solution.PermutationSolution;
+import org.uma.jmetal.solution.impl.GenericIntegerPermutationSolution;
+import org.uma.jmetal.util.permutation.Permutation;
+
+public abstract class AbstractIntegerPermutationProblem
+    extends AbstractGenericProblem<PermutationSolution<Permutation>>
+    implements PermutationProblem<PermutationSolution<Permutation>> {
+
+  @Override
+  public PermutationSolution<Permutation> createSolution() {
+    return new GenericIntegerPermutationSolution(this) ;
+  }
+}
@@ -19,6 +19,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.dominance.ObjectiveMatrix;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.FrontUtils;
 
@@ -77,8 +78,9 @@ public class SetCoverage implements QualityIndicator {
     } else {
       dominance = new DominanceComparator();
 
+      ObjectiveMatrix matrix = ObjectiveMatrix.of(set1) ;
       for (int i = 0; i < set2.size(); i++) {
-        if (SolutionListUtils.isSolutionDominatedBySolutionList(set2.get(i), (List<Solution>) set1)) {
+        if (SolutionListUtils.isSolutionDominatedBySolutionList(set2.get(i), matrix)) {
           sum++;
         }
       }
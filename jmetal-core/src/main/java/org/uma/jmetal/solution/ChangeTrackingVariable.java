@@ -0,0 +1,31 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.solution;
+
+/**
+ * Decision variable which records the changes made to it since the solution holding it was last
+ * evaluated, so that a problem can update the objectives from those changes instead of evaluating
+ * the solution from scratch (e.g. {@link org.uma.jmetal.util.permutation.Permutation}).
+ *
+ * The problem forgets the changes after evaluating the solution. Code which sets the objectives
+ * of a solution without evaluating it, such as a cache copying the values of an equal solution,
+ * has to do the same through {@link org.uma.jmetal.util.SolutionUtils#markAsEvaluated(Solution)}.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public interface ChangeTrackingVariable {
+  /** Forgets the recorded changes, as the objectives of the solution are up to date */
+  void clearChanges() ;
+}
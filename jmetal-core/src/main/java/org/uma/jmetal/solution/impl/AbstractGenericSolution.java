@@ -87,6 +87,53 @@ public abstract class AbstractGenericSolution<T, P extends Problem> implements S
     this.numberOfViolatedConstraints = numberOfViolatedConstraints;
   }
 
+  /**
+   * Overwrites this solution with the state of another one of the same type, reusing its lists and
+   * its attribute map instead of allocating new ones as the copy constructors do
+   *
+   * @param solution Solution to copy
+   */
+  public void copyFrom(AbstractGenericSolution<T, P> solution) {
+    problem = solution.problem ;
+
+    if (objectives.size() != solution.objectives.size()) {
+      objectives.clear();
+      objectives.addAll(solution.objectives) ;
+    } else {
+      for (int i = 0; i < objectives.size(); i++) {
+        objectives.set(i, solution.objectives.get(i)) ;
+      }
+    }
+
+    if (variables.size() != solution.variables.size()) {
+      variables.clear();
+      for (int i = 0; i < solution.variables.size(); i++) {
+        variables.add(copyVariableValue(solution.variables.get(i), null)) ;
+      }
+    } else {
+      for (int i = 0; i < variables.size(); i++) {
+        variables.set(i, copyVariableValue(solution.variables.get(i), variables.get(i))) ;
+      }
+    }
+
+    overallConstraintViolationDegree = solution.overallConstraintViolationDegree ;
+    numberOfViolatedConstraints = solution.numberOfViolatedConstraints ;
+
+    attributes.clear();
+    attributes.putAll(solution.attributes);
+  }
+
+  /**
+   * Returns the copy of a variable value to be stored by {@link #copyFrom}. Immutable values are
+   * shared; the solutions with mutable values must override this method
+   *
+   * @param value Value to copy
+   * @param previousValue Value being overwritten, which can be reused (it can be null)
+   */
+  protected T copyVariableValue(T value, T previousValue) {
+    return value ;
+  }
+
   protected void initializeObjectiveValues() {
     for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
       objectives.add(new Double(0.0)) ;
@@ -74,15 +74,8 @@ public class GenericBinarySolution extends AbstractGenericSolution<BinarySet, Bi
 
   private BinarySet createNewBitSet(int numberOfBits) {
     BinarySet bitSet = new BinarySet(numberOfBits) ;
+    bitSet.randomize(randomGenerator.getRandomGenerator());
 
-    for (int i = 0; i < numberOfBits; i++) {
-      double rnd= randomGenerator.nextDouble() ;
-      if (rnd < 0.5) {
-        bitSet.set(i);
-      } else {
-        bitSet.clear(i);
-      }
-    }
     return bitSet ;
   }
 
@@ -96,6 +89,18 @@ public class GenericBinarySolution extends AbstractGenericSolution<BinarySet, Bi
     return new GenericBinarySolution(this);
   }
 
+  @Override
+  protected BinarySet copyVariableValue(BinarySet value, BinarySet previousValue) {
+    if ((previousValue == null) || (previousValue.getBinarySetLength() != value.getBinarySetLength())) {
+      return (BinarySet) value.clone() ;
+    }
+
+    previousValue.clear();
+    previousValue.or(value);
+
+    return previousValue ;
+  }
+
   @Override
   public int getTotalNumberOfBits() {
     int sum = 0 ;
@@ -101,6 +101,21 @@ public class GenericDoubleBinarySolution
     return new GenericDoubleBinarySolution(this);
   }
 
+  @Override
+  protected Object copyVariableValue(Object value, Object previousValue) {
+    if (!(value instanceof BitSet)) {
+      return value ;
+    } else if (!(previousValue instanceof BitSet)) {
+      return ((BitSet) value).clone() ;
+    }
+
+    BitSet bitset = (BitSet) previousValue ;
+    bitset.clear();
+    bitset.or((BitSet) value);
+
+    return bitset ;
+  }
+
   @Override
   public String getVariableValueString(int index) {
     return variables.get(index).toString() ;
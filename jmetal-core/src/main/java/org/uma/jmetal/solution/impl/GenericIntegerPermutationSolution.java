@@ -3,17 +3,19 @@ package org.uma.jmetal.solution.impl;
 import org.uma.jmetal.problem.PermutationProblem;
 import org.uma.jmetal.solution.PermutationSolution;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.permutation.Permutation;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 
 /**
+ * Defines an implementation of a solution composed of permutations of integers, each one stored
+ * in an int[] (see {@link Permutation})
  * Created by Antonio J. Nebro on 03/09/14.
  */
 public class GenericIntegerPermutationSolution
-        extends AbstractGenericSolution<List<Integer>, PermutationProblem>
-        implements PermutationSolution<List<Integer>> {
+        extends AbstractGenericSolution<Permutation, PermutationProblem>
+        implements PermutationSolution<Permutation> {
 
   /** Constructor */
   public GenericIntegerPermutationSolution(PermutationProblem problem) {
@@ -24,31 +26,23 @@ public class GenericIntegerPermutationSolution
     numberOfViolatedConstraints = 0 ;
 
     for (int i = 0; i < problem.getNumberOfVariables(); i++) {
-      List<Integer> randomSequence = new ArrayList<>(problem.getPermutationLength(i));
-
-      for (int j = 0; j < problem.getPermutationLength(i); j++) {
-        randomSequence.add(j);
-      }
+      Permutation permutation = new Permutation(problem.getPermutationLength(i)) ;
+      permutation.randomize(randomGenerator.getRandomGenerator());
+      variables.add(permutation) ;
+    }
 
-      java.util.Collections.shuffle(randomSequence);
-      variables.set(i, randomSequence) ;
+    for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
+      objectives.add(0.0) ;
     }
   }
 
   /** Copy Constructor */
   public GenericIntegerPermutationSolution(GenericIntegerPermutationSolution solution) {
     problem = solution.problem ;
-    objectives = new ArrayList<>() ;
-    for (Double obj : solution.objectives) {
-      objectives.add(new Double(obj)) ;
-    }
-    variables = new ArrayList<>() ;
-    for (List<Integer> var : solution.variables) {
-      List<Integer> list = new ArrayList<>() ;
-      for (Integer element : var) {
-        var.add(new Integer(element)) ;
-      }
-      variables.add(list) ;
+    objectives = new ArrayList<>(solution.objectives) ;
+    variables = new ArrayList<>(solution.variables.size()) ;
+    for (Permutation var : solution.variables) {
+      variables.add((Permutation) var.clone()) ;
     }
 
     overallConstraintViolationDegree = solution.overallConstraintViolationDegree ;
@@ -63,12 +57,18 @@ public class GenericIntegerPermutationSolution
   }
 
   @Override
-  public String getVariableValueString(int index) {
-    String result = "" ;
-    for (Integer element : variables.get(index)) {
-      result += element + " " ;
+  protected Permutation copyVariableValue(Permutation value, Permutation previousValue) {
+    if ((previousValue == null) || (previousValue.size() != value.size())) {
+      return (Permutation) value.clone() ;
     }
 
+    previousValue.copyFrom(value);
+
+    return previousValue ;
+  }
+
+  @Override
+  public String getVariableValueString(int index) {
     return variables.get(index).toString() ;
   }
 }
@@ -0,0 +1,128 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.solution.util;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.impl.AbstractGenericSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * Pool of discarded solutions which are recycled as copies of other solutions, so that an
+ * algorithm producing a new population each generation does not allocate new solutions once the
+ * pool has been filled.
+ *
+ * Ownership model:
+ * - {@link #release(Solution)} transfers the ownership of a solution to the pool. The caller must
+ *   not keep any reference to it (in a population, an archive, a result list, etc.), as it will be
+ *   overwritten by a later call to {@link #acquire(Solution)}.
+ * - {@link #acquire(Solution)} transfers the ownership of a solution to the caller, which can
+ *   store it anywhere; the pool keeps no reference to it.
+ *
+ * Only the subclasses of {@link AbstractGenericSolution} can be recycled, and a pooled solution is
+ * only used to copy solutions of its same class; otherwise, acquire() falls back to copy(). If the
+ * pool is full, released solutions are left to the garbage collector. This class is not
+ * thread-safe.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ * @param <S> Type of the solutions
+ */
+@SuppressWarnings("serial")
+public class SolutionPool<S extends Solution> implements Serializable {
+  private final int capacity ;
+  private final Deque<S> freeSolutions ;
+
+  private long numberOfRecycledSolutions ;
+  private long numberOfNewSolutions ;
+
+  /**
+   * Constructor
+   *
+   * @param capacity Maximum number of free solutions kept by the pool
+   */
+  public SolutionPool(int capacity) {
+    if (capacity < 0) {
+      throw new JMetalException("The capacity is negative: " + capacity) ;
+    }
+
+    this.capacity = capacity ;
+    freeSolutions = new ArrayDeque<>(capacity) ;
+  }
+
+  /**
+   * Returns a copy of a solution, overwriting a free solution of the pool if there is one
+   *
+   * @param solution Solution to copy
+   * @return A solution owned by the caller
+   */
+  @SuppressWarnings("unchecked")
+  public S acquire(S solution) {
+    S freeSolution = freeSolutions.pollLast() ;
+    if ((freeSolution != null) && (freeSolution.getClass() == solution.getClass())) {
+      ((AbstractGenericSolution) freeSolution).copyFrom((AbstractGenericSolution) solution);
+      numberOfRecycledSolutions++ ;
+
+      return freeSolution ;
+    }
+
+    numberOfNewSolutions++ ;
+    return (S) solution.copy() ;
+  }
+
+  /**
+   * Gives a solution back to the pool
+   *
+   * @param solution Solution no longer referenced by the caller
+   */
+  public void release(S solution) {
+    if ((freeSolutions.size() < capacity) && (solution instanceof AbstractGenericSolution)) {
+      freeSolutions.addLast(solution);
+    }
+  }
+
+  /** Gives a collection of solutions back to the pool */
+  public void release(Collection<? extends S> solutions) {
+    for (S solution : solutions) {
+      release(solution) ;
+    }
+  }
+
+  /** Drops all the free solutions */
+  public void clear() {
+    freeSolutions.clear();
+  }
+
+  public int getCapacity() {
+    return capacity ;
+  }
+
+  public int getNumberOfFreeSolutions() {
+    return freeSolutions.size() ;
+  }
+
+  /** Returns the number of calls to acquire() served by overwriting a free solution */
+  public long getNumberOfRecycledSolutions() {
+    return numberOfRecycledSolutions ;
+  }
+
+  /** Returns the number of calls to acquire() served by copy() */
+  public long getNumberOfNewSolutions() {
+    return numberOfNewSolutions ;
+  }
+}
@@ -0,0 +1,445 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse version of {@link AdaptiveGrid}. Only the occupied hypercubes are stored, in a hash map
+ * indexed by the location of the hypercube, so the memory needed does not depend on the number of
+ * hypercubes of the grid (2^(bisections * objectives)). Locations are longs, so the grid can be
+ * used while bisections * objectives <= 63.
+ *
+ * The occupied hypercubes are also kept in buckets indexed by density, so that
+ * {@link #getMostPopulatedHypercube()}, {@link #randomOccupiedHypercube()}, {@link #addSolution}
+ * and {@link #removeSolution} take constant time.
+ *
+ * When a solution falls out of the grid, the limits are recomputed adding a margin (a fraction
+ * of the range of each objective) at both sides, so that the grid is not rebuilt again until the
+ * front has moved that far. Removals never rebuild the grid; {@link #isRebuildRecommended()}
+ * tells when enough updates have been done since the last rebuild to shrink the limits again.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class HashedAdaptiveGrid<S extends Solution> {
+  public static final double DEFAULT_EXPANSION_MARGIN = 0.1 ;
+
+  private final int bisections;
+  private final int numberOfObjectives;
+  private final int divisionsPerObjective;
+  private final double expansionMargin;
+
+  private final double[] gridLowerLimits;
+  private final double[] gridUpperLimits;
+  private final double[] divisionSize;
+
+  private final Map<Long, Hypercube> hypercubes;
+  private final List<Hypercube> occupied;
+  private final List<List<Hypercube>> densityBuckets;
+  private int maxDensity;
+
+  private int updatesSinceRebuild;
+  private int numberOfSolutions;
+  private long modificationCount;
+
+  /**
+   * Constructor.
+   *
+   * @param bisections Number of bi-divisions of the objective space.
+   * @param numberOfObjectives Number of objectives of the problem.
+   */
+  public HashedAdaptiveGrid(int bisections, int numberOfObjectives) {
+    this(bisections, numberOfObjectives, DEFAULT_EXPANSION_MARGIN) ;
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param bisections Number of bi-divisions of the objective space.
+   * @param numberOfObjectives Number of objectives of the problem.
+   * @param expansionMargin Fraction of the range of each objective added at both sides of the
+   *                        grid when it is rebuilt
+   */
+  public HashedAdaptiveGrid(int bisections, int numberOfObjectives, double expansionMargin) {
+    if (bisections < 1) {
+      throw new JMetalException("The number of bisections must be positive: " + bisections) ;
+    } else if ((long)bisections * numberOfObjectives > 63) {
+      throw new JMetalException("The grid has " + bisections + " bisections and "
+          + numberOfObjectives + " objectives, and locations can use at most 63 bits") ;
+    } else if (expansionMargin < 0) {
+      throw new JMetalException("The expansion margin is negative: " + expansionMargin) ;
+    }
+
+    this.bisections = bisections;
+    this.numberOfObjectives = numberOfObjectives;
+    this.expansionMargin = expansionMargin ;
+    divisionsPerObjective = 1 << bisections ;
+
+    gridLowerLimits = new double[numberOfObjectives];
+    gridUpperLimits = new double[numberOfObjectives];
+    divisionSize = new double[numberOfObjectives];
+
+    hypercubes = new HashMap<>() ;
+    occupied = new ArrayList<>() ;
+    densityBuckets = new ArrayList<>() ;
+    densityBuckets.add(new ArrayList<Hypercube>()) ;
+    maxDensity = 0 ;
+  }
+
+  /**
+   * Recomputes the grid limits from the solutions of the list and adds them to the grid
+   *
+   * @param solutionList The list of solutions.
+   */
+  public void updateGrid(List<S> solutionList) {
+    rebuild(solutionList, null) ;
+  }
+
+  /**
+   * Updates the grid if the solution falls out of its limits. In that case the limits are
+   * recomputed taking into account the solution and the solution list, and the solutions of the
+   * list are added to the grid again; the solution itself is not added.
+   *
+   * @param solution The solution considered to update the grid.
+   * @param solutionList The list of solutions contained in the grid.
+   * @return true if the grid has been rebuilt
+   */
+  public boolean updateGrid(S solution, List<S> solutionList) {
+    if (location(solution) == -1) {
+      rebuild(solutionList, solution) ;
+      return true ;
+    }
+
+    return false ;
+  }
+
+  private void rebuild(List<S> solutionList, S solution) {
+    for (int obj = 0; obj < numberOfObjectives; obj++) {
+      gridLowerLimits[obj] = Double.MAX_VALUE;
+      gridUpperLimits[obj] = -Double.MAX_VALUE;
+    }
+
+    for (S element : solutionList) {
+      updateLimits(element) ;
+    }
+    if (solution != null) {
+      updateLimits(solution);
+    }
+
+    for (int obj = 0; obj < numberOfObjectives; obj++) {
+      if (gridLowerLimits[obj] > gridUpperLimits[obj]) {
+        // No solutions
+        gridLowerLimits[obj] = 0.0 ;
+        gridUpperLimits[obj] = 0.0 ;
+      }
+      double margin = (gridUpperLimits[obj] - gridLowerLimits[obj]) * expansionMargin ;
+      gridLowerLimits[obj] -= margin ;
+      gridUpperLimits[obj] += margin ;
+      divisionSize[obj] = gridUpperLimits[obj] - gridLowerLimits[obj];
+    }
+
+    hypercubes.clear();
+    occupied.clear();
+    for (List<Hypercube> bucket : densityBuckets) {
+      bucket.clear();
+    }
+    maxDensity = 0 ;
+    numberOfSolutions = 0 ;
+
+    for (S element : solutionList) {
+      addSolution(location(element));
+    }
+    updatesSinceRebuild = 0 ;
+    modificationCount++ ;
+  }
+
+  private void updateLimits(S solution) {
+    for (int obj = 0; obj < numberOfObjectives; obj++) {
+      double value = solution.getObjective(obj) ;
+      if (value < gridLowerLimits[obj]) {
+        gridLowerLimits[obj] = value;
+      }
+      if (value > gridUpperLimits[obj]) {
+        gridUpperLimits[obj] = value;
+      }
+    }
+  }
+
+  /**
+   * Calculates the hypercube of a solution
+   *
+   * @param solution The solution.
+   * @return The location of the hypercube, or -1 if the solution is out of the grid
+   */
+  public long location(S solution) {
+    long location = 0;
+    for (int obj = 0; obj < numberOfObjectives; obj++) {
+      double value = solution.getObjective(obj) ;
+      int position ;
+      if ((value > gridUpperLimits[obj]) || (value < gridLowerLimits[obj])) {
+        return -1;
+      } else if (value == gridUpperLimits[obj]) {
+        position = divisionsPerObjective - 1 ;
+      } else if (divisionSize[obj] == 0.0) {
+        position = 0 ;
+      } else {
+        position = (int)((value - gridLowerLimits[obj]) / divisionSize[obj] * divisionsPerObjective) ;
+        position = Math.min(position, divisionsPerObjective - 1) ;
+      }
+      location |= ((long)position) << (obj * bisections) ;
+    }
+
+    return location;
+  }
+
+  /**
+   * Increases the number of solutions into a specific hypercube.
+   *
+   * @param location Location of the hypercube.
+   */
+  public void addSolution(long location) {
+    checkLocation(location) ;
+    Hypercube hypercube = hypercubes.get(location) ;
+    if (hypercube == null) {
+      hypercube = new Hypercube(location) ;
+      hypercubes.put(location, hypercube) ;
+      hypercube.occupiedIndex = occupied.size() ;
+      occupied.add(hypercube) ;
+    } else {
+      removeFromBucket(hypercube);
+    }
+
+    hypercube.density++ ;
+    addToBucket(hypercube);
+    if (hypercube.density > maxDensity) {
+      maxDensity = hypercube.density ;
+    }
+
+    numberOfSolutions++ ;
+    updatesSinceRebuild++ ;
+    modificationCount++ ;
+  }
+
+  /**
+   * Decreases the number of solutions into a specific hypercube.
+   *
+   * @param location Location of the hypercube.
+   */
+  public void removeSolution(long location) {
+    Hypercube hypercube = hypercubes.get(location) ;
+    if (hypercube == null) {
+      throw new JMetalException("The hypercube " + location + " is empty") ;
+    }
+
+    removeFromBucket(hypercube);
+    hypercube.density-- ;
+    if (hypercube.density == 0) {
+      hypercubes.remove(location) ;
+      Hypercube last = occupied.remove(occupied.size() - 1) ;
+      if (last != hypercube) {
+        occupied.set(hypercube.occupiedIndex, last) ;
+        last.occupiedIndex = hypercube.occupiedIndex ;
+      }
+    } else {
+      addToBucket(hypercube);
+    }
+
+    while ((maxDensity > 0) && densityBuckets.get(maxDensity).isEmpty()) {
+      maxDensity-- ;
+    }
+
+    numberOfSolutions-- ;
+    updatesSinceRebuild++ ;
+    modificationCount++ ;
+  }
+
+  private void addToBucket(Hypercube hypercube) {
+    while (densityBuckets.size() <= hypercube.density) {
+      densityBuckets.add(new ArrayList<Hypercube>()) ;
+    }
+    List<Hypercube> bucket = densityBuckets.get(hypercube.density) ;
+    hypercube.bucketIndex = bucket.size() ;
+    bucket.add(hypercube) ;
+  }
+
+  private void removeFromBucket(Hypercube hypercube) {
+    List<Hypercube> bucket = densityBuckets.get(hypercube.density) ;
+    Hypercube last = bucket.remove(bucket.size() - 1) ;
+    if (last != hypercube) {
+      bucket.set(hypercube.bucketIndex, last) ;
+      last.bucketIndex = hypercube.bucketIndex ;
+    }
+  }
+
+  private void checkLocation(long location) {
+    if (location < 0) {
+      throw new JMetalException("Invalid location: " + location) ;
+    }
+  }
+
+  /**
+   * Returns the number of solutions into a specific hypercube.
+   *
+   * @param location Location of the hypercube.
+   * @return The number of solutions into the hypercube.
+   */
+  public int getLocationDensity(long location) {
+    Hypercube hypercube = hypercubes.get(location) ;
+    return (hypercube == null) ? 0 : hypercube.density ;
+  }
+
+  /**
+   * Returns the location of one of the hypercubes with the maximum number of solutions.
+   *
+   * @return The location of the hypercube, or -1 if the grid is empty
+   */
+  public long getMostPopulatedHypercube() {
+    if (maxDensity == 0) {
+      return -1 ;
+    }
+    return densityBuckets.get(maxDensity).get(0).location ;
+  }
+
+  /**
+   * Returns the number of solutions into the most populated hypercube.
+   */
+  public int getMaxDensity() {
+    return maxDensity ;
+  }
+
+  /**
+   * Returns the number of hypercubes with more than zero solutions.
+   */
+  public int occupiedHypercubes() {
+    return occupied.size() ;
+  }
+
+  /**
+   * Returns the location of an occupied hypercube. The indexes go from 0 to
+   * occupiedHypercubes() - 1, and they change when a hypercube becomes empty.
+   */
+  public long getOccupiedHypercube(int index) {
+    if ((index < 0) || (index >= occupied.size())) {
+      throw new JMetalException("Invalid index: " + index + ". Occupied hypercubes: "
+          + occupied.size()) ;
+    }
+    return occupied.get(index).location ;
+  }
+
+  /**
+   * Returns a counter increased by every addition, removal and rebuild, so that structures
+   * derived from the densities of the hypercubes can tell whether they are up to date.
+   */
+  public long getModificationCount() {
+    return modificationCount ;
+  }
+
+  /**
+   * Returns a random hypercube that has more than zero solutions.
+   *
+   * @return The location of the hypercube.
+   */
+  public long randomOccupiedHypercube() {
+    if (occupied.isEmpty()) {
+      throw new JMetalException("The grid is empty") ;
+    }
+    int index = JMetalRandom.getInstance().nextInt(0, occupied.size() - 1);
+    return occupied.get(index).location;
+  }
+
+  /**
+   * Returns a random occupied hypercube, with a probability inversely proportional to its
+   * density. All the hypercubes of a density bucket have the same probability, so the bucket is
+   * chosen first and a hypercube of it afterwards; the cost depends on the maximum density and
+   * not on the number of occupied hypercubes.
+   *
+   * @return The location of the selected hypercube.
+   */
+  public long rouletteWheel() {
+    if (occupied.isEmpty()) {
+      throw new JMetalException("The grid is empty") ;
+    }
+
+    double inverseSum = 0.0;
+    for (int density = 1; density <= maxDensity; density++) {
+      inverseSum += densityBuckets.get(density).size() / (double) density;
+    }
+
+    double random = JMetalRandom.getInstance().nextDouble(0.0, inverseSum);
+    double accumulatedSum = 0.0;
+    int density = 1 ;
+    for (; density < maxDensity; density++) {
+      accumulatedSum += densityBuckets.get(density).size() / (double) density;
+      if (accumulatedSum > random) {
+        break ;
+      }
+    }
+
+    List<Hypercube> bucket = densityBuckets.get(density) ;
+    while (bucket.isEmpty()) {
+      bucket = densityBuckets.get(++density) ;
+    }
+    return bucket.get(JMetalRandom.getInstance().nextInt(0, bucket.size() - 1)).location ;
+  }
+
+  /**
+   * Returns true when the number of additions and removals since the grid was last rebuilt is
+   * higher than twice the number of solutions it contains. Rebuilding at that point shrinks the limits
+   * to the current solutions with an amortized cost of O(objectives) per update.
+   */
+  public boolean isRebuildRecommended() {
+    return updatesSinceRebuild > 2 * Math.max(numberOfSolutions, 1) ;
+  }
+
+  /**
+   * Returns the number of bi-divisions performed in each objective.
+   *
+   * @return the number of bi-divisions.
+   */
+  public int getBisections() {
+    return bisections;
+  }
+
+  /**
+   * Returns a String representing the grid.
+   *
+   * @return The String.
+   */
+  public String toString() {
+    String result = "Grid\n";
+    for (int obj = 0; obj < numberOfObjectives; obj++) {
+      result += "Objective " + obj + " " + gridLowerLimits[obj] + " "
+          + gridUpperLimits[obj] + "\n";
+    }
+    return result;
+  }
+
+  private static class Hypercube {
+    private final long location ;
+    private int density ;
+    private int bucketIndex ;
+    private int occupiedIndex ;
+
+    Hypercube(long location) {
+      this.location = location ;
+    }
+  }
+}
@@ -0,0 +1,88 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fingerprints of the decision vectors of solutions, used to detect duplicated genomes without
+ * comparing them variable by variable. The fingerprints of binary variables are the ones kept up
+ * to date by {@link BinarySet}, so they cost one operation per variable; the rest of the values
+ * are hashed.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class SolutionFingerprint {
+  /** Returns a 64-bit fingerprint of the decision variables of a solution */
+  public static long getFingerprint(Solution<?> solution) {
+    long fingerprint = solution.getNumberOfVariables() ;
+    for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+      long value = getFingerprint(solution.getVariableValue(i)) ;
+      fingerprint = mix(fingerprint * 0x9E3779B97F4A7C15L + value) ;
+    }
+
+    return fingerprint ;
+  }
+
+  /** Returns the fingerprints of the solutions of a list */
+  public static Set<Long> getFingerprints(List<? extends Solution<?>> solutionList) {
+    Set<Long> fingerprints = new HashSet<>(2 * solutionList.size()) ;
+    for (Solution<?> solution : solutionList) {
+      fingerprints.add(getFingerprint(solution)) ;
+    }
+
+    return fingerprints ;
+  }
+
+  /**
+   * Returns true if every solution of a list has the decision variables of some solution of
+   * another list (up to collisions of the fingerprints)
+   */
+  public static boolean containsAll(List<? extends Solution<?>> solutionList,
+      List<? extends Solution<?>> otherSolutionList) {
+    Set<Long> fingerprints = getFingerprints(solutionList) ;
+    for (Solution<?> solution : otherSolutionList) {
+      if (!fingerprints.contains(getFingerprint(solution))) {
+        return false ;
+      }
+    }
+
+    return true ;
+  }
+
+  private static long getFingerprint(Object value) {
+    if (value instanceof BinarySet) {
+      return ((BinarySet) value).getFingerprint() ;
+    } else if (value instanceof Double) {
+      return Double.doubleToLongBits((Double) value) ;
+    } else if (value == null) {
+      return 0 ;
+    } else {
+      return value.hashCode() ;
+    }
+  }
+
+  private static long mix(long value) {
+    value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L ;
+    value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL ;
+
+    return value ^ (value >>> 31) ;
+  }
+}
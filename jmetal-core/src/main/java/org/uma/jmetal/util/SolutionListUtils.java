@@ -2,6 +2,8 @@ package org.uma.jmetal.util;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.dominance.DominanceKernel;
+import org.uma.jmetal.util.dominance.ObjectiveMatrix;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.solutionattribute.Ranking;
 import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
@@ -206,20 +208,77 @@ public class SolutionListUtils {
     return invertedFront;
   }
 
+  /**
+   * Checks whether a solution is dominated by any solution of a list, taking into account the
+   * overall constraint violation degree as {@link DominanceComparator} does. The solutions are
+   * compared directly, stopping at the first one dominating the solution.
+   *
+   * @param solution
+   * @param solutionSet
+   * @return true if some solution of the list dominates the solution
+   */
   public static <S extends Solution> boolean isSolutionDominatedBySolutionList(S solution, List<S> solutionSet) {
-    boolean result = false ;
-    Comparator<Solution> dominance = new DominanceComparator() ;
+    if (solution == null) {
+      throw new JMetalException("The solution is null") ;
+    }
 
-    int i = 0 ;
+    int numberOfObjectives = solution.getNumberOfObjectives() ;
+    double violation = solution.getOverallConstraintViolationDegree() ;
+    for (S other : solutionSet) {
+      if (other.getNumberOfObjectives() != numberOfObjectives) {
+        throw new JMetalException("Cannot compare because the solution has " + numberOfObjectives +
+            " objectives and a solution of the list has " + other.getNumberOfObjectives()) ;
+      }
 
-    while (!result && (i < solutionSet.size())) {
-      if (dominance.compare(solution, solutionSet.get(i)) == 1) {
-        result = true ;
+      int flag = DominanceKernel.compareViolation(violation,
+          other.getOverallConstraintViolationDegree()) ;
+      if (flag == 0) {
+        boolean better = false ;
+        boolean worse = false ;
+        for (int i = 0; (i < numberOfObjectives) && !better; i++) {
+          double value = solution.getObjective(i) ;
+          double otherValue = other.getObjective(i) ;
+          better = value < otherValue ;
+          worse |= value > otherValue ;
+        }
+        flag = (worse && !better) ? 1 : 0 ;
+      }
+      if (flag == 1) {
+        return true ;
       }
-      i++ ;
     }
 
-    return result ;
+    return false ;
+  }
+
+  /**
+   * Checks whether a solution is dominated by any row of an {@link ObjectiveMatrix}, taking into
+   * account the overall constraint violation degree. It avoids packing the list again when many
+   * solutions are compared against the same one.
+   *
+   * @param solution
+   * @param matrix Matrix of the solution list, e.g. built with {@link ObjectiveMatrix#of(List)}
+   * @return true if some row of the matrix dominates the solution
+   */
+  public static boolean isSolutionDominatedBySolutionList(Solution<?> solution,
+      ObjectiveMatrix matrix) {
+    if (solution == null) {
+      throw new JMetalException("The solution is null") ;
+    } else if (matrix.getNumberOfRows() == 0) {
+      return false ;
+    }
+
+    double[] point = new double[solution.getNumberOfObjectives()] ;
+    for (int i = 0; i < point.length; i++) {
+      point[i] = solution.getObjective(i) ;
+    }
+    if (point.length != matrix.getNumberOfObjectives()) {
+      throw new JMetalException("Cannot compare because the solution has " + point.length +
+          " objectives and the solutions of the list have " + matrix.getNumberOfObjectives()) ;
+    }
+
+    return DominanceKernel.isDominatedByAny(point, solution.getOverallConstraintViolationDegree(),
+        matrix) ;
   }
 
   /**
@@ -1,6 +1,7 @@
 package org.uma.jmetal.util;
 
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.ChangeTrackingVariable;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
@@ -38,4 +39,19 @@ public class SolutionUtils {
     return result ;
   }
 
+  /**
+   * Makes the variables of a solution forget the changes they have recorded (see
+   * {@link ChangeTrackingVariable}). It must be called when the objectives of a solution are set
+   * without evaluating it, e.g. copied from an equal solution, as the problem does it otherwise.
+   * @param solution
+   */
+  public static void markAsEvaluated(Solution<?> solution) {
+    for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+      Object value = solution.getVariableValue(i) ;
+      if (value instanceof ChangeTrackingVariable) {
+        ((ChangeTrackingVariable) value).clearChanges();
+      }
+    }
+  }
+
 }
@@ -50,15 +50,16 @@ public class CrowdingDistanceArchive<S extends Solution> implements BoundedArchi
         if (equalsComparator.compare(aux, solution) == 0) {
           return false;
         }
+        i++;
       }
-      i++;
     }
 
     solutionList.add(solution);
-    if (solutionList.size() > maxSize) { // FIXME: check whether the removed solution is the inserted one
+    if (solutionList.size() > maxSize) {
       crowdingDistance.computeDensityEstimator(solutionList);
       int index = new SolutionListUtils().findWorstSolution(solutionList, crowdingDistanceComparator) ;
       solutionList.remove(index);
+      return solutionList.size() != index ;
     }
     return true;
   }
@@ -0,0 +1,187 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.HashedAdaptiveGrid;
+import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class implements an archive based on a {@link HashedAdaptiveGrid}. It behaves as
+ * {@link AdaptiveGridArchive}, but removing a solution never rebuilds the grid, and the grid can
+ * be used with many objectives. The members of each occupied hypercube (region) are kept in a
+ * list, so a region can be sampled, or a solution of the most populated one removed, without
+ * scanning the archive.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class HashedAdaptiveGridArchive<S extends Solution> implements BoundedArchive<S> {
+
+  private HashedAdaptiveGrid<S> grid;
+  private List<S> solutionList;
+  private Map<Long, List<S>> regions;
+
+  private int maxSize;
+  private Comparator<Solution> dominanceComparator;
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize    The maximum size of the archive
+   * @param bisections The maximum number of bi-divisions for the adaptive grid.
+   * @param objectives The number of objectives.
+   */
+  public HashedAdaptiveGridArchive(int maxSize, int bisections, int objectives) {
+    this.maxSize = maxSize;
+    dominanceComparator = new DominanceComparator();
+    grid = new HashedAdaptiveGrid<>(bisections, objectives);
+    solutionList = new ArrayList<>(maxSize) ;
+    regions = new HashMap<>() ;
+  }
+
+  /**
+   * Adds a solution to the archive. If the solution is dominated by any member of the archive
+   * then it is discarded. If the solution dominates some members of the archive, these are
+   * removed. If the archive is full and the solution has to be inserted, one solution of the most
+   * populated hypercube of the grid is removed; if the solution belongs to one of the most
+   * populated hypercubes, it is discarded.
+   *
+   * @param solution The solution
+   * @return true if the solution has been inserted, false otherwise.
+   */
+  public boolean add(S solution) {
+    Iterator<S> iterator = solutionList.iterator();
+
+    while (iterator.hasNext()) {
+      S element = iterator.next();
+      int flag = dominanceComparator.compare(solution, element);
+      if (flag == -1) {
+        // The solution to insert dominates an element of the archive
+        iterator.remove();
+        long location = grid.location(element) ;
+        grid.removeSolution(location);
+        removeFromRegion(element, location);
+      } else if (flag == 1) {
+        // An element of the archive dominates the solution to insert
+        return false;
+      }
+    }
+
+    if (solutionList.size() == 0) {
+      solutionList.add(solution);
+      grid.updateGrid(solutionList);
+      updateRegions();
+      return true;
+    }
+
+    if (grid.updateGrid(solution, solutionList)) {
+      updateRegions();
+    }
+    long location = grid.location(solution);
+
+    if (solutionList.size() >= maxSize) {
+      if (grid.getLocationDensity(location) >= grid.getMaxDensity()) {
+        // The solution would be in the most populated hypercube
+        return false;
+      }
+
+      long mostPopulatedHypercube = grid.getMostPopulatedHypercube() ;
+      S removedSolution = regions.get(mostPopulatedHypercube).get(0) ;
+      removeFromRegion(removedSolution, mostPopulatedHypercube);
+      grid.removeSolution(mostPopulatedHypercube);
+      for (int i = 0; i < solutionList.size(); i++) {
+        if (solutionList.get(i) == removedSolution) {
+          solutionList.remove(i) ;
+          break ;
+        }
+      }
+    }
+
+    grid.addSolution(location);
+    solutionList.add(solution);
+    addToRegion(solution, location);
+
+    if (grid.isRebuildRecommended()) {
+      grid.updateGrid(solutionList);
+      updateRegions();
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the solutions of the archive in a hypercube of the grid. The list must not be modified
+   *
+   * @param location Location of the hypercube
+   * @return The solutions in the hypercube (an empty list if it is not occupied)
+   */
+  public List<S> getRegion(long location) {
+    List<S> region = regions.get(location) ;
+    return (region == null) ? Collections.<S>emptyList() : region ;
+  }
+
+  /** Assigns again the solutions to the regions after the grid has been rebuilt */
+  private void updateRegions() {
+    regions.clear();
+    for (S element : solutionList) {
+      addToRegion(element, grid.location(element));
+    }
+  }
+
+  private void addToRegion(S solution, long location) {
+    List<S> region = regions.get(location) ;
+    if (region == null) {
+      region = new ArrayList<>() ;
+      regions.put(location, region) ;
+    }
+    region.add(solution) ;
+  }
+
+  private void removeFromRegion(S solution, long location) {
+    List<S> region = regions.get(location) ;
+    for (int i = 0; i < region.size(); i++) {
+      if (region.get(i) == solution) {
+        region.remove(i) ;
+        break ;
+      }
+    }
+    if (region.isEmpty()) {
+      regions.remove(location) ;
+    }
+  }
+
+  public HashedAdaptiveGrid<S> getGrid() {
+    return grid;
+  }
+
+  @Override
+  public List<S> getSolutionList() {
+    return solutionList;
+  }
+
+  @Override
+  public int getMaxSize() {
+    return maxSize ;
+  }
+}
@@ -0,0 +1,194 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.comparator.EqualSolutionsComparator;
+import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContribution;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Bounded archive of non-dominated solutions which, when full, removes the solution with the
+ * lowest hypervolume contribution. The contributions are kept by a
+ * {@link HypervolumeContribution}, so after each insertion only the ones of the members sharing
+ * an exclusive region with the solutions entering or leaving the archive are computed again (they
+ * are exact with two and three objectives and estimated by sampling with more). The solutions
+ * leaving the archive, including a new one which is rejected, are removed from the tracker, so the
+ * caller can recycle them (as SMPSO does with a solution pool).
+ *
+ * The reference point is the maximum of each objective plus an offset. It is only moved when a
+ * member of the archive does not dominate it anymore, because any change of the reference point
+ * forces all the contributions to be computed from scratch.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class HypervolumeArchive<S extends Solution> implements BoundedArchive<S> {
+  private final int maxSize ;
+  private final double offset ;
+  private final List<S> solutionList;
+  private final Comparator<Solution> dominanceComparator;
+  private final Comparator<Solution> equalsComparator;
+  private final Comparator<Solution> contributionComparator;
+  private final HypervolumeContribution<S> hypervolumeContribution ;
+
+  private double[] referencePoint ;
+
+  /** Constructor. The offset of the reference point is 100.0 */
+  public HypervolumeArchive(int maxSize) {
+    this(maxSize, 100.0, 10000) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param maxSize Maximum number of solutions of the archive
+   * @param offset Offset added to the maximum of each objective to get the reference point
+   * @param numberOfSamples Number of samples to estimate the contributions with more than three
+   *                        objectives
+   */
+  public HypervolumeArchive(int maxSize, double offset, int numberOfSamples) {
+    if (maxSize <= 0) {
+      throw new JMetalException("The maximum size must be positive: " + maxSize) ;
+    } else if (offset <= 0) {
+      throw new JMetalException("The offset must be positive: " + offset) ;
+    }
+    this.maxSize = maxSize ;
+    this.offset = offset ;
+    solutionList = new ArrayList<>(maxSize + 1) ;
+    dominanceComparator = new DominanceComparator();
+    equalsComparator = new EqualSolutionsComparator() ;
+    contributionComparator = new HypervolumeContributionComparator() ;
+    hypervolumeContribution = new HypervolumeContribution<>(numberOfSamples) ;
+  }
+
+  @Override
+  public boolean add(S solution) {
+    int flag ;
+    int i = 0;
+    S aux;
+    while (i < solutionList.size()) {
+      aux = solutionList.get(i);
+
+      flag = dominanceComparator.compare(solution, aux);
+      if (flag == 1) {
+        return false;
+      } else if (flag == -1) {
+        hypervolumeContribution.remove(aux) ;
+        solutionList.set(i, solutionList.get(solutionList.size() - 1)) ;
+        solutionList.remove(solutionList.size() - 1) ;
+      } else {
+        if (equalsComparator.compare(aux, solution) == 0) {
+          return false;
+        }
+        i++;
+      }
+    }
+
+    solutionList.add(solution);
+    if (solutionList.size() > maxSize) {
+      computeContributions();
+      int index = findLowestContribution() ;
+      S worst = solutionList.get(index) ;
+      hypervolumeContribution.remove(worst) ;
+      solutionList.set(index, solutionList.get(solutionList.size() - 1)) ;
+      solutionList.remove(solutionList.size() - 1) ;
+      return worst != solution ;
+    }
+    return true;
+  }
+
+  /**
+   * Updates the hypervolume contributions of the members of the archive, which can then be
+   * compared with {@link #getComparator()}
+   */
+  public void computeContributions() {
+    if (solutionList.isEmpty()) {
+      return ;
+    }
+
+    if (!isReferencePointDominated()) {
+      int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+      referencePoint = new double[numberOfObjectives] ;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        referencePoint[i] = Double.NEGATIVE_INFINITY ;
+        for (S member : solutionList) {
+          referencePoint[i] = Math.max(referencePoint[i], member.getObjective(i)) ;
+        }
+        referencePoint[i] += offset ;
+      }
+    }
+    hypervolumeContribution.updateContributions(solutionList, referencePoint);
+  }
+
+  /** Returns true if all the members of the archive are below the reference point */
+  private boolean isReferencePointDominated() {
+    if (referencePoint == null) {
+      return false ;
+    }
+
+    for (S member : solutionList) {
+      for (int i = 0; i < referencePoint.length; i++) {
+        if (member.getObjective(i) >= referencePoint[i]) {
+          return false ;
+        }
+      }
+    }
+
+    return true ;
+  }
+
+  private int findLowestContribution() {
+    int index = 0 ;
+    for (int i = 1; i < solutionList.size(); i++) {
+      if (contributionComparator.compare(solutionList.get(i), solutionList.get(index)) > 0) {
+        index = i ;
+      }
+    }
+
+    return index ;
+  }
+
+  @Override
+  public List<S> getSolutionList() {
+    return solutionList;
+  }
+
+  @Override
+  public int getMaxSize() {
+    return maxSize ;
+  }
+
+  /** Returns a comparator preferring the solutions with the highest contribution */
+  public Comparator<Solution> getComparator() {
+    return contributionComparator ;
+  }
+
+  /** Returns the reference point used in the last update of the contributions */
+  public double[] getReferencePoint() {
+    return referencePoint ;
+  }
+
+  /** Returns the contribution of a member of the archive, as of the last update */
+  public double getContribution(S solution) {
+    return hypervolumeContribution.getAttribute(solution) ;
+  }
+}
@@ -1,13 +1,29 @@
 package org.uma.jmetal.util.binarySet;
 
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.util.Arrays;
 import java.util.BitSet;
 
 /**
  * Class representing a bit set including a method to get the total number of bits
  * Created by Antonio J. Nebro on 9/12/14.
+ *
+ * The bits are packed into words of 64 bits (bit i is bit i % 64 of word i / 64), so the methods
+ * working on whole words (random initialization, Hamming distance) take time proportional to the
+ * number of words instead of the number of bits.
+ *
+ * The set also keeps a 64-bit fingerprint: the xor of a pseudo-random key per set bit. Setting,
+ * clearing or flipping single bits and replacing the words update it with one key per changed
+ * bit, so the variation operators keep it current and comparing genomes does not need to read
+ * them. The bulk operations of {@link BitSet} mark it as outdated, and it is computed again the
+ * next time it is requested.
  */
 public class BinarySet extends BitSet {
   private int numberOfBits ;
+  private long fingerprint ;
+  private boolean fingerprintOutdated ;
 
   public BinarySet(int numberOfBits) {
     super(numberOfBits) ;
@@ -21,4 +37,160 @@ public class BinarySet extends BitSet {
   public int getBinarySetLength() {
     return numberOfBits;
   }
+
+  /** Returns a copy of the bits packed into (numberOfBits + 63) / 64 words */
+  public long[] getWords() {
+    return Arrays.copyOf(toLongArray(), getNumberOfWords()) ;
+  }
+
+  /** Replaces the bits by the ones packed into an array of words; extra bits are ignored */
+  public void setWords(long[] words) {
+    if (words.length != getNumberOfWords()) {
+      throw new JMetalException("Expected " + getNumberOfWords() + " words instead of "
+          + words.length) ;
+    }
+    if ((numberOfBits & 63) != 0) {
+      words[words.length - 1] &= (1L << numberOfBits) - 1 ;
+    }
+
+    long[] currentWords = getWords() ;
+    for (int i = 0; i < words.length; i++) {
+      updateFingerprint(i << 6, currentWords[i] ^ words[i]);
+    }
+    super.clear();
+    super.or(BitSet.valueOf(words));
+  }
+
+  /** Sets each bit to a random value, drawing the bits 32 at a time */
+  public void randomize(PseudoRandomGenerator randomGenerator) {
+    long[] words = new long[getNumberOfWords()] ;
+    for (int i = 0; i < numberOfBits; i += 32) {
+      words[i >>> 6] |= nextRandomBits(randomGenerator) << (i & 63) ;
+    }
+    setWords(words);
+  }
+
+  /** Returns the number of positions in which this set and another one of the same length differ */
+  public int getHammingDistance(BinarySet binarySet) {
+    if (numberOfBits != binarySet.numberOfBits) {
+      throw new JMetalException("The bitsets have different length: "
+          + numberOfBits + ", " + binarySet.numberOfBits) ;
+    }
+
+    BitSet differences = (BitSet) clone() ;
+    differences.xor(binarySet);
+
+    return differences.cardinality() ;
+  }
+
+  /**
+   * Returns the fingerprint of the bits. Two sets with the same bits have the same fingerprint,
+   * and two different sets have the same one with probability 2^-64
+   */
+  public long getFingerprint() {
+    if (fingerprintOutdated) {
+      fingerprint = 0 ;
+      for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+        fingerprint ^= getBitKey(i) ;
+      }
+      fingerprintOutdated = false ;
+    }
+
+    return fingerprint ;
+  }
+
+  @Override public void set(int bitIndex) {
+    if (!get(bitIndex)) {
+      fingerprint ^= getBitKey(bitIndex) ;
+    }
+    super.set(bitIndex);
+  }
+
+  @Override public void clear(int bitIndex) {
+    if (get(bitIndex)) {
+      fingerprint ^= getBitKey(bitIndex) ;
+    }
+    super.clear(bitIndex);
+  }
+
+  @Override public void flip(int bitIndex) {
+    fingerprint ^= getBitKey(bitIndex) ;
+    super.flip(bitIndex);
+  }
+
+  @Override public void clear() {
+    fingerprint = 0 ;
+    fingerprintOutdated = false ;
+    super.clear();
+  }
+
+  @Override public void xor(BitSet set) {
+    if ((set instanceof BinarySet) && !((BinarySet) set).fingerprintOutdated) {
+      fingerprint ^= ((BinarySet) set).fingerprint ;
+    } else {
+      fingerprintOutdated = true ;
+    }
+    super.xor(set);
+  }
+
+  @Override public void or(BitSet set) {
+    if (isEmpty() && (set instanceof BinarySet)) {
+      fingerprint = ((BinarySet) set).fingerprint ;
+      fingerprintOutdated = ((BinarySet) set).fingerprintOutdated ;
+    } else {
+      fingerprintOutdated = true ;
+    }
+    super.or(set);
+  }
+
+  @Override public void and(BitSet set) {
+    fingerprintOutdated = true ;
+    super.and(set);
+  }
+
+  @Override public void andNot(BitSet set) {
+    fingerprintOutdated = true ;
+    super.andNot(set);
+  }
+
+  @Override public void set(int fromIndex, int toIndex) {
+    fingerprintOutdated = true ;
+    super.set(fromIndex, toIndex);
+  }
+
+  @Override public void clear(int fromIndex, int toIndex) {
+    fingerprintOutdated = true ;
+    super.clear(fromIndex, toIndex);
+  }
+
+  @Override public void flip(int fromIndex, int toIndex) {
+    fingerprintOutdated = true ;
+    super.flip(fromIndex, toIndex);
+  }
+
+  /** Returns 32 random bits in the lower half of a long */
+  public static long nextRandomBits(PseudoRandomGenerator randomGenerator) {
+    return (long) (randomGenerator.nextDouble() * 0x1p32) ;
+  }
+
+  /** Xors the keys of the bits set in a word starting at a given bit into the fingerprint */
+  private void updateFingerprint(int firstBit, long changedBits) {
+    while (changedBits != 0) {
+      fingerprint ^= getBitKey(firstBit + Long.numberOfTrailingZeros(changedBits)) ;
+      changedBits &= changedBits - 1 ;
+    }
+  }
+
+  /** Key of a bit, obtained by mixing its index with the finalizer of SplitMix64 */
+  private static long getBitKey(int bitIndex) {
+    long key = (bitIndex + 1) * 0x9E3779B97F4A7C15L ;
+    key = (key ^ (key >>> 30)) * 0xBF58476D1CE4E5B9L ;
+    key = (key ^ (key >>> 27)) * 0x94D049BB133111EBL ;
+
+    return key ^ (key >>> 31) ;
+  }
+
+  private int getNumberOfWords() {
+    return (numberOfBits + 63) >>> 6 ;
+  }
 }
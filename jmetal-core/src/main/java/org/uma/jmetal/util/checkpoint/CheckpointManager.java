@@ -0,0 +1,287 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.checkpoint;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores the state of an algorithm in a file every a number of iterations, so that an interrupted
+ * run can be resumed. A checkpoint contains the state of the {@link JMetalRandom} generator and
+ * the one written by the {@link Checkpointable} algorithm, so a resumed run goes on exactly as
+ * the original one would have done.
+ *
+ * The state is serialized into memory in the calling thread, as the algorithm changes it in the
+ * next iteration, but it is compressed and written to disk by a background daemon thread. If a
+ * checkpoint is taken before the previous one has been written, the older one is dropped. The
+ * file is written under a temporary name and then renamed, so a crash while writing it does not
+ * destroy the previous checkpoint. The problem and the {@link JMetalRandom} instance referenced
+ * by the solutions are not stored; they are replaced by the ones of the resuming run.
+ *
+ * File format: magic number, version, name of the algorithm class and the gzipped state.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class CheckpointManager {
+  private static final int MAGIC_NUMBER = 0x4a4d4350 ;
+  private static final int VERSION = 1 ;
+
+  private final File file ;
+  private final int interval ;
+  private int iterations ;
+
+  private final AtomicReference<Snapshot> pendingSnapshot ;
+  private ExecutorService writer ;
+  private volatile IOException writeError ;
+
+  /**
+   * Constructor
+   *
+   * @param fileName Name of the checkpoint file
+   * @param interval Number of iterations between two checkpoints
+   */
+  public CheckpointManager(String fileName, int interval) {
+    if (interval < 1) {
+      throw new JMetalException("The checkpoint interval must be positive: " + interval) ;
+    }
+    this.file = new File(fileName) ;
+    this.interval = interval ;
+    pendingSnapshot = new AtomicReference<>() ;
+  }
+
+  /**
+   * Restores the state of an algorithm and of the {@link JMetalRandom} generator from the
+   * checkpoint file
+   *
+   * @return false if there is no checkpoint file, so the algorithm has to start from scratch
+   */
+  public boolean restore(Checkpointable algorithm) {
+    if (!file.exists()) {
+      return false ;
+    }
+
+    try (DataInputStream header =
+             new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (header.readInt() != MAGIC_NUMBER) {
+        throw new JMetalException("The file " + file + " is not a checkpoint") ;
+      }
+      int version = header.readInt() ;
+      if (version != VERSION) {
+        throw new JMetalException("Unsupported checkpoint version: " + version) ;
+      }
+      String className = header.readUTF() ;
+      if (!className.equals(algorithm.getClass().getName())) {
+        throw new JMetalException("The checkpoint " + file + " belongs to " + className) ;
+      }
+
+      ObjectInputStream in =
+          new CheckpointInputStream(new GZIPInputStream(header), algorithm.getProblem()) ;
+      PseudoRandomGenerator randomGenerator = (PseudoRandomGenerator) in.readObject() ;
+      algorithm.restoreState(in);
+      JMetalRandom.getInstance().setRandomGenerator(randomGenerator);
+    } catch (IOException | ClassNotFoundException e) {
+      throw new JMetalException("Error reading the checkpoint " + file, e) ;
+    }
+
+    iterations = 0 ;
+    JMetalLogger.logger.info("Resuming the search from the checkpoint " + file);
+
+    return true ;
+  }
+
+  /**
+   * Notifies the end of an iteration of the algorithm, taking a checkpoint if the interval has
+   * elapsed since the last one
+   */
+  public void update(Checkpointable algorithm) {
+    iterations++ ;
+    if (iterations % interval == 0) {
+      save(algorithm);
+    }
+  }
+
+  /** Takes a checkpoint of an algorithm; the file is written in the background */
+  public void save(Checkpointable algorithm) {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream() ;
+    try {
+      ObjectOutputStream out = new CheckpointOutputStream(buffer, algorithm.getProblem()) ;
+      out.writeObject(JMetalRandom.getInstance().getRandomGenerator());
+      algorithm.saveState(out);
+      out.close();
+    } catch (IOException e) {
+      throw new JMetalException("Error saving the state of " + algorithm.getClass().getName(), e) ;
+    }
+
+    Snapshot snapshot = new Snapshot(algorithm.getClass().getName(), buffer.toByteArray()) ;
+    if (pendingSnapshot.getAndSet(snapshot) == null) {
+      getWriter().submit(new Runnable() {
+        @Override public void run() {
+          write(pendingSnapshot.getAndSet(null));
+        }
+      }) ;
+    }
+  }
+
+  /**
+   * Waits until the last checkpoint has been written and stops the writer thread
+   *
+   * @throws JMetalException if a checkpoint could not be written
+   */
+  public void close() {
+    if (writer != null) {
+      writer.shutdown();
+      try {
+        writer.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS) ;
+      } catch (InterruptedException e) {
+        JMetalLogger.logger.log(Level.SEVERE, "Interrupted while writing a checkpoint", e);
+        throw new JMetalException("Interrupted while writing a checkpoint", e) ;
+      }
+      writer = null ;
+    }
+
+    if (writeError != null) {
+      IOException e = writeError ;
+      writeError = null ;
+      throw new JMetalException("Error writing the checkpoint " + file, e) ;
+    }
+  }
+
+  private void write(Snapshot snapshot) {
+    File temporaryFile = new File(file.getPath() + ".tmp") ;
+    try {
+      OutputStream stream = new BufferedOutputStream(new FileOutputStream(temporaryFile)) ;
+      try (DataOutputStream out = new DataOutputStream(stream)) {
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(VERSION);
+        out.writeUTF(snapshot.className);
+
+        GZIPOutputStream gzip = new GZIPOutputStream(out) ;
+        gzip.write(snapshot.state);
+        gzip.finish();
+      }
+
+      try {
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE) ;
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING) ;
+      }
+    } catch (IOException e) {
+      JMetalLogger.logger.log(Level.SEVERE, "Error writing the checkpoint " + file, e);
+      writeError = e ;
+    }
+  }
+
+  private ExecutorService getWriter() {
+    if (writer == null) {
+      writer = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "CheckpointManager") ;
+          thread.setDaemon(true);
+          return thread ;
+        }
+      }) ;
+    }
+    return writer ;
+  }
+
+  public String getFileName() {
+    return file.getPath() ;
+  }
+
+  public int getInterval() {
+    return interval ;
+  }
+
+  /** Serialized state of an algorithm waiting to be written */
+  private static class Snapshot {
+    private final String className ;
+    private final byte[] state ;
+
+    Snapshot(String className, byte[] state) {
+      this.className = className ;
+      this.state = state ;
+    }
+  }
+
+  /** Placeholders of the objects shared with the running algorithm */
+  private enum SharedObject {PROBLEM, RANDOM}
+
+  private static class CheckpointOutputStream extends ObjectOutputStream {
+    private final Problem<?> problem ;
+
+    CheckpointOutputStream(OutputStream out, Problem<?> problem) throws IOException {
+      super(out) ;
+      this.problem = problem ;
+      enableReplaceObject(true) ;
+    }
+
+    @Override protected Object replaceObject(Object object) {
+      if ((object == problem) && (problem != null)) {
+        return SharedObject.PROBLEM ;
+      } else if (object == JMetalRandom.getInstance()) {
+        return SharedObject.RANDOM ;
+      }
+      return object ;
+    }
+  }
+
+  private static class CheckpointInputStream extends ObjectInputStream {
+    private final Problem<?> problem ;
+
+    CheckpointInputStream(InputStream in, Problem<?> problem) throws IOException {
+      super(in) ;
+      this.problem = problem ;
+      enableResolveObject(true) ;
+    }
+
+    @Override protected Object resolveObject(Object object) {
+      if (object == SharedObject.PROBLEM) {
+        return problem ;
+      } else if (object == SharedObject.RANDOM) {
+        return JMetalRandom.getInstance() ;
+      }
+      return object ;
+    }
+  }
+}
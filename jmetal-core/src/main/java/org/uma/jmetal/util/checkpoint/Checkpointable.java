@@ -0,0 +1,43 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.checkpoint;
+
+import org.uma.jmetal.problem.Problem;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Interface of the algorithms whose state can be stored by a {@link CheckpointManager}. The state
+ * has to include everything needed to continue the search exactly as it would have gone on: the
+ * population, archives, counters and any random generator other than the one of
+ * {@link org.uma.jmetal.util.pseudorandom.JMetalRandom}, which is stored by the manager.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public interface Checkpointable {
+  /**
+   * Returns the problem being solved. The solutions in a checkpoint refer to it instead of
+   * storing copies of the problem
+   */
+  Problem<?> getProblem() ;
+
+  /** Writes the state of the algorithm */
+  void saveState(ObjectOutputStream out) throws IOException ;
+
+  /** Reads the state written by {@link #saveState(ObjectOutputStream)} and installs it */
+  void restoreState(ObjectInputStream in) throws IOException, ClassNotFoundException ;
+}
@@ -0,0 +1,67 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.comparator;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContribution;
+
+import java.util.Comparator;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ *
+ * Compares two solutions according to their hypervolume contribution attribute. The higher the
+ * contribution the better; a solution without contribution is worse than any other one
+ */
+public class HypervolumeContributionComparator implements Comparator<Solution> {
+  private final HypervolumeContribution<Solution> contribution = new HypervolumeContribution<>() ;
+
+  /**
+   * Compare two solutions.
+   *
+   * @param solution1 Object representing the first <code>Solution</code>.
+   * @param solution2 Object representing the second <code>Solution</code>.
+   * @return -1, or 0, or 1 if solution1 has greater, equal, or less contribution than solution2,
+   * respectively.
+   */
+  @Override
+  public int compare(Solution solution1, Solution solution2) {
+    int result ;
+    if (solution1 == null) {
+      if (solution2 == null) {
+        result = 0;
+      } else {
+        result = 1 ;
+      }
+    } else if (solution2 == null) {
+      result = -1;
+    } else {
+      double contribution1 = Double.NEGATIVE_INFINITY ;
+      double contribution2 = Double.NEGATIVE_INFINITY ;
+
+      if (contribution.getAttribute(solution1) != null) {
+        contribution1 = contribution.getAttribute(solution1) ;
+      }
+
+      if (contribution.getAttribute(solution2) != null) {
+        contribution2 = contribution.getAttribute(solution2) ;
+      }
+
+      result = Double.compare(contribution2, contribution1) ;
+    }
+
+    return result ;
+  }
+}
@@ -0,0 +1,211 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.dominance;
+
+import org.uma.jmetal.util.JMetalException;
+
+/**
+ * Low level dominance tests working on packed objective rows (see {@link ObjectiveMatrix}).
+ *
+ * The results follow the convention of
+ * {@link org.uma.jmetal.util.comparator.DominanceComparator} with its default
+ * {@link org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator}: -1, 0 or 1 if
+ * the first point dominates the second one, both are non-dominated, or the first one is dominated
+ * by the second one. The inner loops are free of branches and method calls, so that the JIT can
+ * unroll and vectorize them.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public final class DominanceKernel {
+  /** Maximum number of objectives supported by {@link #computeMasks} */
+  public static final int MAX_OBJECTIVES_IN_MASK = 64 ;
+
+  private DominanceKernel() {
+  }
+
+  /**
+   * Dominance test of two objective rows, ignoring constraints
+   *
+   * @param objectives1 Array containing the first row
+   * @param offset1 Position of the first row in objectives1
+   * @param objectives2 Array containing the second row
+   * @param offset2 Position of the second row in objectives2
+   * @param numberOfObjectives Length of the rows
+   * @return -1, 0 or 1
+   */
+  public static int dominanceTest(double[] objectives1, int offset1, double[] objectives2,
+      int offset2, int numberOfObjectives) {
+    int better = 0 ;
+    int worse = 0 ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      double value1 = objectives1[offset1 + i] ;
+      double value2 = objectives2[offset2 + i] ;
+      better |= (value1 < value2) ? 1 : 0 ;
+      worse |= (value1 > value2) ? 1 : 0 ;
+    }
+
+    // better only -> -1, worse only -> 1, both or none -> 0
+    return worse - better ;
+  }
+
+  /**
+   * Compares two overall constraint violation degrees as
+   * {@link org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator} does
+   */
+  public static int compareViolation(double violation1, double violation2) {
+    if ((violation1 < 0) && (violation2 < 0)) {
+      if (violation1 > violation2) {
+        return -1 ;
+      } else if (violation2 > violation1) {
+        return 1 ;
+      } else {
+        return 0 ;
+      }
+    } else if ((violation1 == 0) && (violation2 < 0)) {
+      return -1 ;
+    } else if ((violation1 < 0) && (violation2 == 0)) {
+      return 1 ;
+    } else {
+      return 0 ;
+    }
+  }
+
+  /** Compares two rows of the same matrix, taking constraints into account */
+  public static int compare(ObjectiveMatrix matrix, int row1, int row2) {
+    double[] violations = matrix.getViolations() ;
+    int result = compareViolation(violations[row1], violations[row2]) ;
+    if (result == 0) {
+      int numberOfObjectives = matrix.getNumberOfObjectives() ;
+      double[] objectives = matrix.getObjectives() ;
+      result = dominanceTest(objectives, row1 * numberOfObjectives, objectives,
+          row2 * numberOfObjectives, numberOfObjectives) ;
+    }
+
+    return result ;
+  }
+
+  /**
+   * Compares one row of a matrix against the block of rows [from, to) of the same matrix. The
+   * result of comparing row with row j is stored in result[j]; the rest of positions of the
+   * result array are not modified.
+   */
+  public static void compareToBlock(ObjectiveMatrix matrix, int row, int from, int to,
+      int[] result) {
+    int numberOfObjectives = matrix.getNumberOfObjectives() ;
+    compareToBlock(matrix.getObjectives(), row * numberOfObjectives,
+        matrix.getViolations()[row], matrix, from, to, result) ;
+  }
+
+  /**
+   * Compares a point (given by its objectives and its overall constraint violation degree) against
+   * the block of rows [from, to) of a matrix. The result of comparing the point with row j is
+   * stored in result[j].
+   */
+  public static void compareToBlock(double[] point, double violation, ObjectiveMatrix matrix,
+      int from, int to, int[] result) {
+    compareToBlock(point, 0, violation, matrix, from, to, result) ;
+  }
+
+  private static void compareToBlock(double[] point, int pointOffset, double violation,
+      ObjectiveMatrix matrix, int from, int to, int[] result) {
+    checkBlock(matrix, from, to, result.length) ;
+
+    int numberOfObjectives = matrix.getNumberOfObjectives() ;
+    double[] objectives = matrix.getObjectives() ;
+    double[] violations = matrix.getViolations() ;
+
+    for (int j = from; j < to; j++) {
+      int flag = compareViolation(violation, violations[j]) ;
+      if (flag == 0) {
+        flag = dominanceTest(point, pointOffset, objectives, j * numberOfObjectives,
+            numberOfObjectives) ;
+      }
+      result[j] = flag ;
+    }
+  }
+
+  /**
+   * Computes, for each row j in [from, to), a bit mask telling in which objectives the point is
+   * better (betterMasks[j]) and worse (worseMasks[j]) than the row. Objectives with equal values
+   * have their bit clear in both masks. Constraints are not considered. The point dominates row j
+   * if betterMasks[j] != 0 and worseMasks[j] == 0.
+   */
+  public static void computeMasks(double[] point, ObjectiveMatrix matrix, int from, int to,
+      long[] betterMasks, long[] worseMasks) {
+    int numberOfObjectives = matrix.getNumberOfObjectives() ;
+    if (numberOfObjectives > MAX_OBJECTIVES_IN_MASK) {
+      throw new JMetalException("The number of objectives (" + numberOfObjectives + ") is higher "
+          + "than " + MAX_OBJECTIVES_IN_MASK) ;
+    }
+    checkBlock(matrix, from, to, Math.min(betterMasks.length, worseMasks.length)) ;
+
+    double[] objectives = matrix.getObjectives() ;
+    for (int j = from; j < to; j++) {
+      int offset = j * numberOfObjectives ;
+      long better = 0L ;
+      long worse = 0L ;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        double value1 = point[i] ;
+        double value2 = objectives[offset + i] ;
+        better |= ((value1 < value2) ? 1L : 0L) << i ;
+        worse |= ((value1 > value2) ? 1L : 0L) << i ;
+      }
+      betterMasks[j] = better ;
+      worseMasks[j] = worse ;
+    }
+  }
+
+  /**
+   * Returns the mask of objectives in which the point and a row have the same value, given the
+   * masks computed by {@link #computeMasks}
+   */
+  public static long equalMask(long betterMask, long worseMask, int numberOfObjectives) {
+    long allObjectives = (numberOfObjectives == MAX_OBJECTIVES_IN_MASK) ?
+        -1L : ((1L << numberOfObjectives) - 1) ;
+    return ~(betterMask | worseMask) & allObjectives ;
+  }
+
+  /**
+   * Returns true if some row of the matrix dominates the point, taking constraints into account
+   */
+  public static boolean isDominatedByAny(double[] point, double violation, ObjectiveMatrix matrix) {
+    int numberOfObjectives = matrix.getNumberOfObjectives() ;
+    double[] objectives = matrix.getObjectives() ;
+    double[] violations = matrix.getViolations() ;
+
+    for (int j = 0; j < matrix.getNumberOfRows(); j++) {
+      int flag = compareViolation(violation, violations[j]) ;
+      if (flag == 0) {
+        flag = dominanceTest(point, 0, objectives, j * numberOfObjectives, numberOfObjectives) ;
+      }
+      if (flag == 1) {
+        return true ;
+      }
+    }
+
+    return false ;
+  }
+
+  private static void checkBlock(ObjectiveMatrix matrix, int from, int to, int resultLength) {
+    if ((from < 0) || (to > matrix.getNumberOfRows()) || (from > to)) {
+      throw new JMetalException("Invalid block [" + from + ", " + to + ") for a matrix of "
+          + matrix.getNumberOfRows() + " rows") ;
+    }
+    if (resultLength < to) {
+      throw new JMetalException("The result array has length " + resultLength + " and should be at "
+          + "least " + to) ;
+    }
+  }
+}
@@ -0,0 +1,183 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.dominance;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Packed, row-major copy of the objective values and the overall constraint violation degrees of
+ * a list of solutions. Row i holds the objectives of solution i in positions
+ * [i * numberOfObjectives, (i + 1) * numberOfObjectives) of {@link #getObjectives()}. This is the
+ * input format of {@link DominanceKernel}.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class ObjectiveMatrix {
+  private final int numberOfObjectives ;
+  private double[] objectives ;
+  private double[] violations ;
+  private int numberOfRows ;
+
+  /**
+   * Constructor
+   *
+   * @param numberOfObjectives Number of objectives (columns) of each row
+   * @param initialCapacity Number of rows to allocate initially
+   */
+  public ObjectiveMatrix(int numberOfObjectives, int initialCapacity) {
+    if (numberOfObjectives < 0) {
+      throw new JMetalException("The number of objectives is negative: " + numberOfObjectives) ;
+    } else if (initialCapacity < 0) {
+      throw new JMetalException("The initial capacity is negative: " + initialCapacity) ;
+    }
+
+    this.numberOfObjectives = numberOfObjectives ;
+    objectives = new double[numberOfObjectives * initialCapacity] ;
+    violations = new double[initialCapacity] ;
+    numberOfRows = 0 ;
+  }
+
+  /**
+   * Creates a matrix with one row per solution of the list, in the same order
+   *
+   * @param solutionList
+   * @return The packed objective matrix
+   */
+  public static <S extends Solution> ObjectiveMatrix of(List<S> solutionList) {
+    if (solutionList == null) {
+      throw new JMetalException("The solution list is null") ;
+    }
+
+    int numberOfObjectives = solutionList.isEmpty() ? 0 : solutionList.get(0).getNumberOfObjectives() ;
+    ObjectiveMatrix matrix = new ObjectiveMatrix(numberOfObjectives, solutionList.size()) ;
+    for (int i = 0; i < solutionList.size(); i++) {
+      matrix.add(solutionList.get(i)) ;
+    }
+
+    return matrix ;
+  }
+
+  /** Appends a row with the objectives and the constraint violation degree of the solution */
+  public void add(Solution solution) {
+    ensureCapacity(numberOfRows + 1) ;
+    numberOfRows++ ;
+    set(numberOfRows - 1, solution) ;
+  }
+
+  /** Overwrites the given row with the objectives and the violation degree of the solution */
+  public void set(int row, Solution solution) {
+    checkRow(row) ;
+    if (solution == null) {
+      throw new JMetalException("The solution is null") ;
+    } else if (solution.getNumberOfObjectives() != numberOfObjectives) {
+      throw new JMetalException("The solution has " + solution.getNumberOfObjectives() +
+          " objectives and the matrix has " + numberOfObjectives) ;
+    }
+
+    int offset = row * numberOfObjectives ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      objectives[offset + i] = solution.getObjective(i) ;
+    }
+    violations[row] = solution.getOverallConstraintViolationDegree() ;
+  }
+
+  /** Removes a row, shifting the following ones so that the row order is kept */
+  public void remove(int row) {
+    checkRow(row) ;
+    int rowsToMove = numberOfRows - row - 1 ;
+    if (rowsToMove > 0) {
+      System.arraycopy(objectives, (row + 1) * numberOfObjectives, objectives,
+          row * numberOfObjectives, rowsToMove * numberOfObjectives) ;
+      System.arraycopy(violations, row + 1, violations, row, rowsToMove) ;
+    }
+    numberOfRows-- ;
+  }
+
+  public void clear() {
+    numberOfRows = 0 ;
+  }
+
+  public int getNumberOfRows() {
+    return numberOfRows ;
+  }
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives ;
+  }
+
+  public double getObjective(int row, int objective) {
+    checkRow(row) ;
+    return objectives[row * numberOfObjectives + objective] ;
+  }
+
+  public double getViolation(int row) {
+    checkRow(row) ;
+    return violations[row] ;
+  }
+
+  /**
+   * Returns the backing array of objective values. Only the first
+   * getNumberOfRows() * getNumberOfObjectives() positions are meaningful, and the array can be
+   * replaced when the matrix grows.
+   */
+  public double[] getObjectives() {
+    return objectives ;
+  }
+
+  /** Returns the backing array of overall constraint violation degrees */
+  public double[] getViolations() {
+    return violations ;
+  }
+
+  /**
+   * Computes the Euclidean distances between every pair of rows. The distance between rows i and j
+   * is stored in positions i * getNumberOfRows() + j and j * getNumberOfRows() + i
+   */
+  public double[] computeDistances() {
+    double[] distances = new double[numberOfRows * numberOfRows] ;
+    for (int i = 0; i < numberOfRows; i++) {
+      for (int j = i + 1; j < numberOfRows; j++) {
+        double sum = 0.0 ;
+        for (int n = 0; n < numberOfObjectives; n++) {
+          double difference = objectives[i * numberOfObjectives + n]
+              - objectives[j * numberOfObjectives + n] ;
+          sum += difference * difference ;
+        }
+        distances[i * numberOfRows + j] = Math.sqrt(sum) ;
+        distances[j * numberOfRows + i] = distances[i * numberOfRows + j] ;
+      }
+    }
+
+    return distances ;
+  }
+
+  private void ensureCapacity(int rows) {
+    if (rows > violations.length) {
+      int newCapacity = Math.max(rows, violations.length * 2) ;
+      objectives = Arrays.copyOf(objectives, newCapacity * numberOfObjectives) ;
+      violations = Arrays.copyOf(violations, newCapacity) ;
+    }
+  }
+
+  private void checkRow(int row) {
+    if ((row < 0) || (row >= numberOfRows)) {
+      throw new JMetalException("Invalid row: " + row + ". Number of rows: " + numberOfRows) ;
+    }
+  }
+}
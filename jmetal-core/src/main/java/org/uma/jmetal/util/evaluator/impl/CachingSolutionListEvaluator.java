@@ -0,0 +1,303 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SolutionUtils;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.permutation.Permutation;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decorator of a {@link SolutionListEvaluator} that remembers the objectives and the constraint
+ * violation values of the last evaluated decision vectors. Solutions whose decision vector is
+ * already in the cache get those values copied instead of being evaluated, and solutions
+ * repeated in the same list are evaluated only once. The rest of solutions are evaluated by the
+ * decorated evaluator, so it can be used with both {@link SequentialSolutionListEvaluator} and
+ * {@link MultithreadedSolutionListEvaluator}.
+ *
+ * The cache holds at most a given number of entries, evicting the least recently used one. Keys
+ * store a copy of the decision variables (Double, Integer, BinarySet and Permutation values are
+ * encoded as long words; other types are kept as references and compared with equals(), so they
+ * must not be modified in place), so a hit never returns the values of a different vector. Only
+ * deterministic problems should be evaluated with this class.
+ *
+ * The evaluator can be shared by several threads. The cache is locked only to look up the
+ * solutions and to store the results, never while the decorated evaluator runs, so a vector
+ * received by two threads at the same time may be evaluated twice.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+@SuppressWarnings("serial")
+public class CachingSolutionListEvaluator<S extends Solution> implements SolutionListEvaluator<S> {
+  public static final int DEFAULT_CACHE_SIZE = 10000 ;
+
+  private final SolutionListEvaluator<S> evaluator ;
+  private final int cacheSize ;
+  private final LinkedHashMap<DecisionVector, EvaluationResult> cache ;
+
+  private long hits ;
+  private long misses ;
+
+  /** Constructor */
+  public CachingSolutionListEvaluator(SolutionListEvaluator<S> evaluator) {
+    this(evaluator, DEFAULT_CACHE_SIZE) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param evaluator Evaluator used with the solutions not found in the cache
+   * @param cacheSize Maximum number of entries of the cache
+   */
+  public CachingSolutionListEvaluator(SolutionListEvaluator<S> evaluator, final int cacheSize) {
+    if (evaluator == null) {
+      throw new JMetalException("The evaluator is null") ;
+    } else if (cacheSize <= 0) {
+      throw new JMetalException("The cache size must be positive: " + cacheSize) ;
+    }
+
+    this.evaluator = evaluator ;
+    this.cacheSize = cacheSize ;
+    cache = new LinkedHashMap<DecisionVector, EvaluationResult>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<DecisionVector, EvaluationResult> eldest) {
+        return size() > cacheSize ;
+      }
+    } ;
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem problem) {
+    List<DecisionVector> keys = new ArrayList<>(solutionList.size()) ;
+    for (S solution : solutionList) {
+      keys.add(new DecisionVector(solution)) ;
+    }
+
+    List<S> solutionsToEvaluate = new ArrayList<>() ;
+    List<DecisionVector> keysToEvaluate = new ArrayList<>() ;
+    Map<DecisionVector, List<S>> duplicates = new HashMap<>() ;
+    EvaluationResult[] cachedResults = new EvaluationResult[solutionList.size()] ;
+
+    synchronized (this) {
+      for (int i = 0; i < solutionList.size(); i++) {
+        DecisionVector key = keys.get(i) ;
+        cachedResults[i] = cache.get(key) ;
+        if (cachedResults[i] != null) {
+          hits++ ;
+        } else if (duplicates.containsKey(key)) {
+          duplicates.get(key).add(solutionList.get(i)) ;
+          hits++ ;
+        } else {
+          duplicates.put(key, new ArrayList<S>()) ;
+          solutionsToEvaluate.add(solutionList.get(i)) ;
+          keysToEvaluate.add(key) ;
+          misses++ ;
+        }
+      }
+    }
+
+    for (int i = 0; i < solutionList.size(); i++) {
+      if (cachedResults[i] != null) {
+        cachedResults[i].copyTo(solutionList.get(i));
+      }
+    }
+
+    if (solutionsToEvaluate.isEmpty()) {
+      return solutionList ;
+    }
+
+    evaluator.evaluate(solutionsToEvaluate, problem) ;
+
+    EvaluationResult[] results = new EvaluationResult[solutionsToEvaluate.size()] ;
+    for (int i = 0; i < solutionsToEvaluate.size(); i++) {
+      results[i] = new EvaluationResult(solutionsToEvaluate.get(i)) ;
+      for (S duplicate : duplicates.get(keysToEvaluate.get(i))) {
+        results[i].copyTo(duplicate);
+      }
+    }
+
+    synchronized (this) {
+      for (int i = 0; i < results.length; i++) {
+        cache.put(keysToEvaluate.get(i), results[i]) ;
+      }
+    }
+
+    return solutionList ;
+  }
+
+  @Override
+  public void shutdown() {
+    evaluator.shutdown();
+  }
+
+  /** Removes all the entries of the cache and resets the hit and miss counters */
+  public synchronized void clear() {
+    cache.clear();
+    hits = 0 ;
+    misses = 0 ;
+  }
+
+  public synchronized long getNumberOfHits() {
+    return hits ;
+  }
+
+  public synchronized long getNumberOfMisses() {
+    return misses ;
+  }
+
+  /** Returns the fraction of solutions which have not been evaluated, or 0 if none was received */
+  public synchronized double getHitRatio() {
+    long total = hits + misses ;
+    return (total == 0) ? 0.0 : (double) hits / total ;
+  }
+
+  public synchronized int getNumberOfEntries() {
+    return cache.size() ;
+  }
+
+  public int getCacheSize() {
+    return cacheSize ;
+  }
+
+  /** Objective values and constraint violation data of an evaluated solution */
+  private static class EvaluationResult implements Serializable {
+    private final double[] objectives ;
+    private final double overallConstraintViolationDegree ;
+    private final int numberOfViolatedConstraints ;
+
+    EvaluationResult(Solution solution) {
+      objectives = new double[solution.getNumberOfObjectives()] ;
+      for (int i = 0; i < objectives.length; i++) {
+        objectives[i] = solution.getObjective(i) ;
+      }
+      overallConstraintViolationDegree = solution.getOverallConstraintViolationDegree() ;
+      numberOfViolatedConstraints = solution.getNumberOfViolatedConstraints() ;
+    }
+
+    void copyTo(Solution solution) {
+      for (int i = 0; i < objectives.length; i++) {
+        solution.setObjective(i, objectives[i]);
+      }
+      solution.setOverallConstraintViolationDegree(overallConstraintViolationDegree);
+      solution.setNumberOfViolatedConstraints(numberOfViolatedConstraints);
+      SolutionUtils.markAsEvaluated(solution);
+    }
+  }
+
+  /**
+   * Exact copy of the decision variables of a solution with a precomputed 64 bit hash. Numeric,
+   * binary and permutation variables are packed into a long array; variables of other types are
+   * kept as objects.
+   */
+  private static class DecisionVector implements Serializable {
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L ;
+
+    private long[] words ;
+    private int numberOfWords ;
+    private final Object[] otherValues ;
+    private final long hash ;
+
+    DecisionVector(Solution solution) {
+      int numberOfVariables = solution.getNumberOfVariables() ;
+      words = new long[numberOfVariables + 1] ;
+      Object[] others = null ;
+
+      add(numberOfVariables) ;
+      for (int i = 0; i < numberOfVariables; i++) {
+        Object value = solution.getVariableValue(i) ;
+        if (value instanceof Double) {
+          add(Double.doubleToLongBits((Double)value)) ;
+        } else if (value instanceof Integer) {
+          add((Integer)value) ;
+        } else if (value instanceof BinarySet) {
+          BinarySet binarySet = (BinarySet) value ;
+          long[] bits = binarySet.toLongArray() ;
+          add(binarySet.getBinarySetLength()) ;
+          add(bits.length) ;
+          for (long word : bits) {
+            add(word) ;
+          }
+        } else if (value instanceof Permutation) {
+          // permutations are modified in place, so a copy of their elements is kept
+          int[] elements = ((Permutation) value).getElements() ;
+          add(elements.length) ;
+          for (int j = 0; j < elements.length; j += 2) {
+            long second = (j + 1 < elements.length) ? elements[j + 1] : 0 ;
+            add(((long) elements[j] << 32) | (second & 0xFFFFFFFFL)) ;
+          }
+        } else {
+          if (others == null) {
+            others = new Object[numberOfVariables] ;
+          }
+          others[i] = value ;
+          add(value == null ? 0 : value.hashCode()) ;
+        }
+      }
+
+      otherValues = others ;
+      long h = 0 ;
+      for (int i = 0; i < numberOfWords; i++) {
+        h = (h + words[i]) * MULTIPLIER ;
+        h ^= h >>> 29 ;
+      }
+      hash = h ;
+    }
+
+    private void add(long word) {
+      if (numberOfWords == words.length) {
+        words = Arrays.copyOf(words, words.length * 2) ;
+      }
+      words[numberOfWords++] = word ;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true ;
+      }
+      if (!(o instanceof DecisionVector)) {
+        return false ;
+      }
+
+      DecisionVector that = (DecisionVector) o ;
+      if ((hash != that.hash) || (numberOfWords != that.numberOfWords)) {
+        return false ;
+      }
+      for (int i = 0; i < numberOfWords; i++) {
+        if (words[i] != that.words[i]) {
+          return false ;
+        }
+      }
+
+      return Arrays.equals(otherValues, that.otherValues) ;
+    }
+
+    @Override
+    public int hashCode() {
+      return (int) (hash ^ (hash >>> 32)) ;
+    }
+  }
+}
@@ -0,0 +1,178 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.SeparableConstrainedProblem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * Evaluator that computes the constraints and the objectives of each solution in a single pass.
+ *
+ * If the problem is a {@link SeparableConstrainedProblem}, the constraints are evaluated first,
+ * and the objectives of solutions whose overall constraint violation degree is lower than
+ * -violationThreshold are not computed: their objectives are set to {@link #SKIPPED_OBJECTIVE}
+ * instead. The constraint comparators used by the algorithms rank those solutions by their
+ * violation degree, so the objective values are not needed to discard them. Other constrained
+ * problems are evaluated as in {@link SequentialSolutionListEvaluator} (objectives, then
+ * constraints).
+ *
+ * The list is split into as many chunks as threads, and each worker evaluates both phases of its
+ * chunk. With one thread no pool is created.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+@SuppressWarnings("serial")
+public class ConstraintFirstSolutionListEvaluator<S extends Solution> implements SolutionListEvaluator<S> {
+  /** Value assigned to the objectives of the solutions that are not evaluated */
+  public static final double SKIPPED_OBJECTIVE = Double.MAX_VALUE ;
+
+  private final int numberOfThreads ;
+  private final double violationThreshold ;
+  private transient ExecutorService executor ;
+  private final AtomicLong skippedEvaluations ;
+
+  /**
+   * Constructor. All the solutions get their objectives evaluated.
+   *
+   * @param numberOfThreads Number of threads. A value of 0 means using all available processors.
+   */
+  public ConstraintFirstSolutionListEvaluator(int numberOfThreads) {
+    this(numberOfThreads, Double.POSITIVE_INFINITY) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param numberOfThreads Number of threads. A value of 0 means using all available processors.
+   * @param violationThreshold The objectives of a solution of a separable constrained problem are
+   *                           not evaluated if its overall constraint violation degree is lower
+   *                           than -violationThreshold
+   */
+  public ConstraintFirstSolutionListEvaluator(int numberOfThreads, double violationThreshold) {
+    if (numberOfThreads < 0) {
+      throw new JMetalException("The number of threads cannot be negative: " + numberOfThreads) ;
+    } else if (violationThreshold < 0) {
+      throw new JMetalException("The violation threshold cannot be negative: " + violationThreshold) ;
+    }
+
+    this.numberOfThreads = (numberOfThreads == 0) ?
+        Runtime.getRuntime().availableProcessors() : numberOfThreads ;
+    this.violationThreshold = violationThreshold ;
+    skippedEvaluations = new AtomicLong(0) ;
+  }
+
+  @Override
+  public List<S> evaluate(final List<S> solutionList, final Problem problem) {
+    int chunks = Math.min(numberOfThreads, solutionList.size()) ;
+    if (chunks <= 1) {
+      evaluateRange(solutionList, 0, solutionList.size(), problem);
+      return solutionList ;
+    }
+
+    List<Callable<Object>> tasks = new ArrayList<>(chunks) ;
+    for (int i = 0; i < chunks; i++) {
+      final int from = (int) ((long) solutionList.size() * i / chunks) ;
+      final int to = (int) ((long) solutionList.size() * (i + 1) / chunks) ;
+      tasks.add(new Callable<Object>() {
+        @Override public Object call() {
+          evaluateRange(solutionList, from, to, problem);
+          return null;
+        }
+      }) ;
+    }
+
+    try {
+      for (Future<Object> future : getExecutor().invokeAll(tasks)) {
+        future.get() ;
+      }
+    } catch (InterruptedException e) {
+      JMetalLogger.logger.log(Level.SEVERE, "Error evaluating solutions", e);
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Error in ConstraintFirstSolutionListEvaluator.evaluate()") ;
+    } catch (ExecutionException e) {
+      JMetalLogger.logger.log(Level.SEVERE, "Error evaluating solutions", e);
+      throw new JMetalException("Error in ConstraintFirstSolutionListEvaluator.evaluate()") ;
+    }
+
+    return solutionList ;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void evaluateRange(List<S> solutionList, int from, int to, Problem problem) {
+    if (problem instanceof SeparableConstrainedProblem) {
+      SeparableConstrainedProblem constrainedProblem = (SeparableConstrainedProblem) problem ;
+      for (int i = from; i < to; i++) {
+        S solution = solutionList.get(i) ;
+        constrainedProblem.evaluateConstraints(solution);
+        if (solution.getOverallConstraintViolationDegree() < -violationThreshold) {
+          for (int j = 0; j < solution.getNumberOfObjectives(); j++) {
+            solution.setObjective(j, SKIPPED_OBJECTIVE);
+          }
+          skippedEvaluations.incrementAndGet() ;
+        } else {
+          problem.evaluate(solution);
+        }
+      }
+    } else if (problem instanceof ConstrainedProblem) {
+      for (int i = from; i < to; i++) {
+        problem.evaluate(solutionList.get(i));
+        ((ConstrainedProblem) problem).evaluateConstraints(solutionList.get(i));
+      }
+    } else {
+      for (int i = from; i < to; i++) {
+        problem.evaluate(solutionList.get(i));
+      }
+    }
+  }
+
+  private synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      executor = Executors.newFixedThreadPool(numberOfThreads) ;
+    }
+    return executor ;
+  }
+
+  /** Returns the number of solutions whose objectives have not been evaluated */
+  public long getNumberOfSkippedEvaluations() {
+    return skippedEvaluations.get() ;
+  }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads ;
+  }
+
+  @Override
+  public synchronized void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+      executor = null ;
+    }
+  }
+}
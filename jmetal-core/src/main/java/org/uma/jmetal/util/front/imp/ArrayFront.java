@@ -146,8 +146,16 @@ public class ArrayFront implements Front {
     }
   }
 
+  /** Opens a resource of the classpath or, if there is no resource with that name, a file */
   public InputStream createInputStream(String fileName) {
     InputStream inputStream = getClass().getResourceAsStream(fileName);
+    if ((inputStream == null) && new File(fileName).isFile()) {
+      try {
+        inputStream = new FileInputStream(fileName) ;
+      } catch (FileNotFoundException e) {
+        throw new JMetalException("Error opening the file " + fileName, e) ;
+      }
+    }
 
     return inputStream ;
   }
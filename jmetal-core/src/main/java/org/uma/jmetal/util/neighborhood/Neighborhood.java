@@ -0,0 +1,34 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.neighborhood;
+
+import java.io.Serializable;
+
+/**
+ * Neighborhood structure of a population whose solutions are placed in fixed positions (e.g. the
+ * cells of a cellular algorithm)
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public interface Neighborhood extends Serializable {
+  /** Returns the number of positions */
+  public int getSize() ;
+
+  /**
+   * Returns the positions of the neighbors of a position, not including itself. The array must
+   * not be modified
+   */
+  public int[] getNeighbors(int index) ;
+}
@@ -0,0 +1,92 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.neighborhood.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.neighborhood.Neighborhood;
+
+/**
+ * Moore neighborhood of a toroidal grid: the neighbors of a cell are the eight cells around it,
+ * wrapping at the borders. The positions are numbered by rows, and the number of columns of the
+ * grid is the largest divisor of the size not greater than its square root (e.g. a 10x10 grid for
+ * 100 positions). The neighbors of every cell are computed once, in the constructor.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+@SuppressWarnings("serial")
+public class C9 implements Neighborhood {
+  private final int rows ;
+  private final int columns ;
+  private final int[][] neighbors ;
+
+  /**
+   * Constructor
+   *
+   * @param size Number of cells of the grid; it must have at least three rows and three columns
+   */
+  public C9(int size) {
+    int columns = (int) Math.sqrt(size) ;
+    while ((columns > 1) && (size % columns != 0)) {
+      columns-- ;
+    }
+
+    if (columns < 3) {
+      throw new JMetalException("There is no grid with at least three rows and columns of size "
+          + size) ;
+    }
+    this.columns = columns ;
+    this.rows = size / columns ;
+
+    neighbors = new int[size][] ;
+    for (int i = 0; i < size; i++) {
+      int row = i / columns ;
+      int column = i % columns ;
+      int[] cellNeighbors = new int[8] ;
+      int k = 0 ;
+      for (int rowOffset = -1; rowOffset <= 1; rowOffset++) {
+        for (int columnOffset = -1; columnOffset <= 1; columnOffset++) {
+          if ((rowOffset != 0) || (columnOffset != 0)) {
+            int neighborRow = (row + rowOffset + rows) % rows ;
+            int neighborColumn = (column + columnOffset + columns) % columns ;
+            cellNeighbors[k++] = neighborRow * columns + neighborColumn ;
+          }
+        }
+      }
+      neighbors[i] = cellNeighbors ;
+    }
+  }
+
+  @Override
+  public int getSize() {
+    return neighbors.length ;
+  }
+
+  @Override
+  public int[] getNeighbors(int index) {
+    if ((index < 0) || (index >= neighbors.length)) {
+      throw new JMetalException("Invalid index: " + index) ;
+    }
+
+    return neighbors[index] ;
+  }
+
+  public int getRows() {
+    return rows ;
+  }
+
+  public int getColumns() {
+    return columns ;
+  }
+}
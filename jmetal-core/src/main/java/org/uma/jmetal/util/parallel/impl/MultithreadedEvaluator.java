@@ -20,6 +20,7 @@
 
 package org.uma.jmetal.util.parallel.impl;
 
+import org.uma.jmetal.problem.ConstrainedProblem;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
@@ -144,6 +145,9 @@ public class MultithreadedEvaluator implements SynchronousParallelTaskExecutor {
 
     public Solution call() throws Exception {
       problem.evaluate(solution);
+      if (problem instanceof ConstrainedProblem) {
+        ((ConstrainedProblem) problem).evaluateConstraints(solution);
+      }
 
       return solution;
     }
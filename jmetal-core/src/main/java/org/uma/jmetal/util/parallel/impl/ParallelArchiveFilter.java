@@ -0,0 +1,98 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.parallel.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Bulk update of an archive with a list of candidates. The candidates dominated by a member of
+ * the archive, which would be rejected by any Pareto archive, are discarded in parallel, each
+ * thread comparing its range of candidates against the (unmodified) archive. Only the remaining
+ * ones, usually a small fraction once the search has progressed, have to be added sequentially
+ * by the caller.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ * @param <S> Type of the solutions
+ */
+@SuppressWarnings("serial")
+public class ParallelArchiveFilter<S extends Solution> implements Serializable {
+  private final ParallelRangeExecutor executor ;
+  private final Comparator<Solution> dominanceComparator ;
+  private boolean[] dominated ;
+
+  /** Constructor */
+  public ParallelArchiveFilter(ParallelRangeExecutor executor) {
+    this(executor, new DominanceComparator()) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param executor Executor splitting the candidates among the threads
+   * @param dominanceComparator Comparator returning -1 if the first solution dominates the second
+   */
+  public ParallelArchiveFilter(ParallelRangeExecutor executor,
+      Comparator<Solution> dominanceComparator) {
+    this.executor = executor ;
+    this.dominanceComparator = dominanceComparator ;
+    dominated = new boolean[0] ;
+  }
+
+  /**
+   * Returns the candidates not dominated by any member of an archive, in their original order.
+   * The archive must not be modified while this method runs.
+   */
+  public List<S> filter(Archive<S> archive, final List<S> candidates) {
+    final List<S> members = archive.getSolutionList() ;
+    if (dominated.length < candidates.size()) {
+      dominated = new boolean[candidates.size()] ;
+    }
+
+    executor.execute(candidates.size(), new ParallelRangeExecutor.RangeTask() {
+      @Override public void execute(int from, int to, PseudoRandomGenerator randomGenerator) {
+        for (int i = from; i < to; i++) {
+          dominated[i] = isDominated(candidates.get(i), members) ;
+        }
+      }
+    });
+
+    List<S> result = new ArrayList<>() ;
+    for (int i = 0; i < candidates.size(); i++) {
+      if (!dominated[i]) {
+        result.add(candidates.get(i)) ;
+      }
+    }
+
+    return result ;
+  }
+
+  private boolean isDominated(S candidate, List<S> members) {
+    for (int j = 0; j < members.size(); j++) {
+      if (dominanceComparator.compare(members.get(j), candidate) == -1) {
+        return true ;
+      }
+    }
+
+    return false ;
+  }
+}
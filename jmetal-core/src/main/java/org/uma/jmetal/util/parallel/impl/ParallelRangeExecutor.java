@@ -0,0 +1,151 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.parallel.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+
+/**
+ * Runs a task over the indexes [0, size) of a data set (e.g. the particles of a swarm) split into
+ * as many contiguous ranges as threads. Each range is given its own random generator, seeded from
+ * a base seed, so the results only depend on the seed and on the number of threads, and not on
+ * the thread scheduling. The pool threads are daemons and are created on the first call.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+@SuppressWarnings("serial")
+public class ParallelRangeExecutor implements Serializable {
+  /** Task applied to a range of indexes */
+  public interface RangeTask {
+    /**
+     * @param from First index of the range
+     * @param to Index following the last one of the range
+     * @param randomGenerator Random generator of the range, which is not shared with other threads
+     */
+    void execute(int from, int to, PseudoRandomGenerator randomGenerator) ;
+  }
+
+  private final PseudoRandomGenerator[] randomGenerators ;
+  private transient ExecutorService executor ;
+
+  /**
+   * Constructor
+   *
+   * @param numberOfThreads Number of threads
+   * @param seed Seed of the random generators
+   */
+  public ParallelRangeExecutor(int numberOfThreads, long seed) {
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+    }
+
+    randomGenerators = new PseudoRandomGenerator[numberOfThreads] ;
+    for (int i = 0; i < numberOfThreads; i++) {
+      randomGenerators[i] = new JavaRandomGenerator(seed + i) ;
+    }
+  }
+
+  /**
+   * Applies a task to the indexes [0, size), and waits for it to finish
+   *
+   * @param size Number of indexes
+   * @param task Task to apply to each range
+   */
+  public void execute(int size, final RangeTask task) {
+    int chunks = Math.max(1, Math.min(randomGenerators.length, size)) ;
+    if (chunks == 1) {
+      task.execute(0, size, randomGenerators[0]);
+      return ;
+    }
+
+    List<Callable<Object>> tasks = new ArrayList<>(chunks) ;
+    for (int i = 0; i < chunks; i++) {
+      final int from = (int) ((long) size * i / chunks) ;
+      final int to = (int) ((long) size * (i + 1) / chunks) ;
+      final PseudoRandomGenerator randomGenerator = randomGenerators[i] ;
+      tasks.add(new Callable<Object>() {
+        @Override public Object call() {
+          task.execute(from, to, randomGenerator);
+          return null;
+        }
+      }) ;
+    }
+
+    try {
+      for (Future<Object> future : getExecutor().invokeAll(tasks)) {
+        future.get() ;
+      }
+    } catch (InterruptedException e) {
+      JMetalLogger.logger.log(Level.SEVERE, "Error executing the tasks", e);
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Error in ParallelRangeExecutor.execute()") ;
+    } catch (ExecutionException e) {
+      JMetalLogger.logger.log(Level.SEVERE, "Error executing the tasks", e);
+      throw new JMetalException("Error in ParallelRangeExecutor.execute()") ;
+    }
+  }
+
+  private synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      executor = Executors.newFixedThreadPool(randomGenerators.length, new ThreadFactory() {
+        @Override public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "ParallelRangeExecutor") ;
+          thread.setDaemon(true);
+          return thread ;
+        }
+      }) ;
+    }
+    return executor ;
+  }
+
+  public int getNumberOfThreads() {
+    return randomGenerators.length ;
+  }
+
+  /** Returns the random generators of the ranges, e.g. to store their state in a checkpoint */
+  public PseudoRandomGenerator[] getRandomGenerators() {
+    return randomGenerators ;
+  }
+
+  /** Replaces the random generators of the ranges, e.g. with the ones of a checkpoint */
+  public void setRandomGenerators(PseudoRandomGenerator[] randomGenerators) {
+    if (randomGenerators.length != this.randomGenerators.length) {
+      throw new JMetalException("Expected " + this.randomGenerators.length + " random generators "
+          + "instead of " + randomGenerators.length) ;
+    }
+    System.arraycopy(randomGenerators, 0, this.randomGenerators, 0, randomGenerators.length);
+  }
+
+  /** Stops the threads; a later call to execute() creates them again */
+  public synchronized void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+      executor = null ;
+    }
+  }
+}
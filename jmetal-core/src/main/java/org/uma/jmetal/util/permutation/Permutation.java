@@ -0,0 +1,300 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.permutation;
+
+import org.uma.jmetal.solution.ChangeTrackingVariable;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Permutation of the integers 0..n-1 stored in an int[], seen as a list of integers.
+ *
+ * The permutation is read as a cyclic sequence (e.g. a tour), and the moves applied with
+ * {@link #swap}, {@link #reverse} and {@link #setElements} record the edges between consecutive
+ * elements that they remove and add. A problem can then update the value of a solution from the
+ * recorded edges, in time proportional to the size of the changes, instead of evaluating it again.
+ * The edges are undirected, so this is only valid for symmetric costs. If the changes are not
+ * recorded (the permutation is new, it is modified through {@link #set} or {@link #getElements},
+ * or the changes affect too many edges), {@link #hasUntrackedChanges()} returns true and the
+ * solution has to be evaluated from scratch. Evaluators call {@link #clearChanges()} afterwards.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+@SuppressWarnings("serial")
+public class Permutation extends AbstractList<Integer>
+    implements RandomAccess, Cloneable, Serializable, ChangeTrackingVariable {
+  private int[] elements ;
+
+  /* For each recorded edge, the removed edge (2 elements) followed by the added one (2 elements) */
+  private int[] changedEdges ;
+  private int numberOfChangedEdges ;
+  private boolean untrackedChanges ;
+
+  /** Creates the identity permutation of a given length */
+  public Permutation(int length) {
+    elements = new int[length] ;
+    for (int i = 0; i < length; i++) {
+      elements[i] = i ;
+    }
+    changedEdges = new int[16] ;
+    untrackedChanges = true ;
+  }
+
+  /**
+   * Returns the array with the elements. Changes made through it must be followed by a call to
+   * {@link #setUntrackedChanges()}
+   */
+  public int[] getElements() {
+    return elements ;
+  }
+
+  /** Shuffles the permutation (Fisher-Yates) */
+  public void randomize(PseudoRandomGenerator randomGenerator) {
+    for (int i = elements.length - 1; i > 0; i--) {
+      int j = randomGenerator.nextInt(0, i) ;
+      int element = elements[i] ;
+      elements[i] = elements[j] ;
+      elements[j] = element ;
+    }
+    setUntrackedChanges();
+  }
+
+  /** Exchanges the elements at two positions */
+  public void swap(int i, int j) {
+    if (i == j) {
+      return ;
+    }
+
+    int[] positions = {i - 1, i, j - 1, j} ;
+    int count = recordRemovedEdges(positions, positions.length) ;
+
+    int element = elements[i] ;
+    elements[i] = elements[j] ;
+    elements[j] = element ;
+
+    recordAddedEdges(positions, count);
+  }
+
+  /** Reverses the elements between two positions, both included (a 2-opt move) */
+  public void reverse(int from, int to) {
+    if (from > to) {
+      throw new JMetalException("Invalid segment: " + from + ", " + to) ;
+    }
+
+    int[] positions = {from - 1, to} ;
+    int count = recordRemovedEdges(positions, positions.length) ;
+
+    for (int i = from, j = to; i < j; i++, j--) {
+      int element = elements[i] ;
+      elements[i] = elements[j] ;
+      elements[j] = element ;
+    }
+
+    recordAddedEdges(positions, count);
+  }
+
+  /** Replaces the elements by the ones of an array, recording the edges that change */
+  public void setElements(int[] newElements) {
+    if (newElements.length != elements.length) {
+      throw new JMetalException("Expected " + elements.length + " elements instead of "
+          + newElements.length) ;
+    }
+
+    int[] positions = null ;
+    int count = 0 ;
+    if (!untrackedChanges) {
+      positions = new int[getMaxNumberOfChangedEdges() + 2] ;
+      for (int i = 0; (i < elements.length) && (count < positions.length); i++) {
+        if (elements[i] != newElements[i]) {
+          if ((count == 0) || (positions[count - 1] != i - 1)) {
+            positions[count++] = i - 1 ;
+          }
+          if (count < positions.length) {
+            positions[count++] = i ;
+          }
+        }
+      }
+      count = recordRemovedEdges(positions, count) ;
+    }
+
+    System.arraycopy(newElements, 0, elements, 0, elements.length);
+
+    if (positions != null) {
+      recordAddedEdges(positions, count);
+    }
+  }
+
+  /** Overwrites this permutation with another one of the same length, including its changes */
+  public void copyFrom(Permutation permutation) {
+    if (permutation.elements.length != elements.length) {
+      throw new JMetalException("Expected " + elements.length + " elements instead of "
+          + permutation.elements.length) ;
+    }
+
+    System.arraycopy(permutation.elements, 0, elements, 0, elements.length);
+    if (changedEdges.length < permutation.changedEdges.length) {
+      changedEdges = new int[permutation.changedEdges.length] ;
+    }
+    System.arraycopy(permutation.changedEdges, 0, changedEdges, 0,
+        4 * permutation.numberOfChangedEdges);
+    numberOfChangedEdges = permutation.numberOfChangedEdges ;
+    untrackedChanges = permutation.untrackedChanges ;
+  }
+
+  /** Returns true if the changes since the last call to {@link #clearChanges()} are unknown */
+  public boolean hasUntrackedChanges() {
+    return untrackedChanges ;
+  }
+
+  /** Discards the recorded changes, so that the permutation must be evaluated from scratch */
+  public void setUntrackedChanges() {
+    untrackedChanges = true ;
+    numberOfChangedEdges = 0 ;
+  }
+
+  /** Forgets the changes, e.g. once a solution has been evaluated */
+  @Override public void clearChanges() {
+    untrackedChanges = false ;
+    numberOfChangedEdges = 0 ;
+  }
+
+  public int getNumberOfChangedEdges() {
+    return numberOfChangedEdges ;
+  }
+
+  /**
+   * Returns the recorded edges: the positions 4k and 4k + 1 hold the elements of the k-th removed
+   * edge, and 4k + 2 and 4k + 3 the ones of the edge added in its place
+   */
+  public int[] getChangedEdges() {
+    return changedEdges ;
+  }
+
+  @Override public Integer get(int index) {
+    return elements[index] ;
+  }
+
+  @Override public Integer set(int index, Integer element) {
+    int previousElement = elements[index] ;
+    elements[index] = element ;
+    setUntrackedChanges();
+
+    return previousElement ;
+  }
+
+  @Override public int size() {
+    return elements.length ;
+  }
+
+  @Override public boolean equals(Object o) {
+    if (o instanceof Permutation) {
+      return Arrays.equals(elements, ((Permutation) o).elements) ;
+    }
+
+    return super.equals(o) ;
+  }
+
+  @Override public int hashCode() {
+    return Arrays.hashCode(elements) ;
+  }
+
+  @Override public Object clone() {
+    try {
+      Permutation permutation = (Permutation) super.clone() ;
+      permutation.elements = elements.clone() ;
+      permutation.changedEdges = changedEdges.clone() ;
+
+      return permutation ;
+    } catch (CloneNotSupportedException e) {
+      throw new JMetalException(e) ;
+    }
+  }
+
+  @Override public String toString() {
+    StringBuilder result = new StringBuilder() ;
+    for (int i = 0; i < elements.length; i++) {
+      if (i > 0) {
+        result.append(' ') ;
+      }
+      result.append(elements[i]) ;
+    }
+
+    return result.toString() ;
+  }
+
+  /**
+   * Normalizes the positions of the edges affected by a move (an edge is identified by the
+   * position of its first element), removes the duplicates and records the current edges.
+   *
+   * @return The number of distinct positions, which are moved to the beginning of the array
+   */
+  private int recordRemovedEdges(int[] positions, int count) {
+    if (untrackedChanges) {
+      return 0 ;
+    }
+
+    int distinctPositions = 0 ;
+    for (int i = 0; i < count; i++) {
+      int position = (positions[i] + elements.length) % elements.length ;
+      boolean repeated = false ;
+      for (int j = 0; (j < distinctPositions) && !repeated; j++) {
+        repeated = positions[j] == position ;
+      }
+      if (!repeated) {
+        positions[distinctPositions++] = position ;
+      }
+    }
+
+    if (numberOfChangedEdges + distinctPositions > getMaxNumberOfChangedEdges()) {
+      setUntrackedChanges();
+      return 0 ;
+    }
+
+    if (changedEdges.length < 4 * (numberOfChangedEdges + distinctPositions)) {
+      changedEdges = Arrays.copyOf(changedEdges,
+          Math.max(2 * changedEdges.length, 4 * (numberOfChangedEdges + distinctPositions))) ;
+    }
+    for (int i = 0; i < distinctPositions; i++) {
+      int edge = 4 * (numberOfChangedEdges + i) ;
+      changedEdges[edge] = elements[positions[i]] ;
+      changedEdges[edge + 1] = elements[(positions[i] + 1) % elements.length] ;
+    }
+
+    return distinctPositions ;
+  }
+
+  private void recordAddedEdges(int[] positions, int count) {
+    if (untrackedChanges) {
+      return ;
+    }
+
+    for (int i = 0; i < count; i++) {
+      int edge = 4 * (numberOfChangedEdges + i) ;
+      changedEdges[edge + 2] = elements[positions[i]] ;
+      changedEdges[edge + 3] = elements[(positions[i] + 1) % elements.length] ;
+    }
+    numberOfChangedEdges += count ;
+  }
+
+  /** Beyond this number of edges, evaluating the permutation from scratch is cheap enough */
+  private int getMaxNumberOfChangedEdges() {
+    return Math.max(4, elements.length / 4) ;
+  }
+}
@@ -0,0 +1,142 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.pseudorandom;
+
+import org.uma.jmetal.util.JMetalException;
+
+/**
+ * Discrete distribution sampled with the alias method (Vose's version): building the table for n
+ * outcomes takes O(n), and each sample takes O(1), using one random integer and one random
+ * double. The table can be built again with new weights reusing its arrays.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class AliasTable {
+  private double[] probability ;
+  private int[] alias ;
+  private int[] work ;
+  private int size ;
+
+  /** Constructor */
+  public AliasTable() {
+    probability = new double[0] ;
+    alias = new int[0] ;
+    work = new int[0] ;
+    size = 0 ;
+  }
+
+  /**
+   * Builds the table for the first size weights of the array
+   *
+   * @param weights Non negative weights of the outcomes 0, 1, ..., size - 1 (not necessarily
+   *                normalized); at least one of them must be positive
+   */
+  public void build(double[] weights, int size) {
+    if ((size <= 0) || (size > weights.length)) {
+      throw new JMetalException("Invalid size: " + size) ;
+    }
+
+    double sum = 0.0 ;
+    for (int i = 0; i < size; i++) {
+      if (!(weights[i] >= 0.0)) {
+        throw new JMetalException("Invalid weight " + i + ": " + weights[i]) ;
+      }
+      sum += weights[i] ;
+    }
+    if (!(sum > 0.0) || Double.isInfinite(sum)) {
+      throw new JMetalException("The sum of the weights is " + sum) ;
+    }
+
+    if (probability.length < size) {
+      int capacity = Math.max(size, 2 * probability.length) ;
+      probability = new double[capacity] ;
+      alias = new int[capacity] ;
+      work = new int[capacity] ;
+    }
+    this.size = size ;
+
+    // Outcomes below the average are stacked from the start of the work array, and the ones above
+    // it from the end
+    int small = 0 ;
+    int large = size ;
+    for (int i = 0; i < size; i++) {
+      probability[i] = weights[i] * size / sum ;
+      if (probability[i] < 1.0) {
+        work[small++] = i ;
+      } else {
+        work[--large] = i ;
+      }
+    }
+
+    while ((small > 0) && (large < size)) {
+      int less = work[--small] ;
+      int more = work[large++] ;
+      alias[less] = more ;
+      probability[more] = (probability[more] + probability[less]) - 1.0 ;
+      if (probability[more] < 1.0) {
+        work[small++] = more ;
+      } else {
+        work[--large] = more ;
+      }
+    }
+
+    // The remaining outcomes have probability 1 up to rounding errors
+    while (large < size) {
+      probability[work[large++]] = 1.0 ;
+    }
+    while (small > 0) {
+      probability[work[--small]] = 1.0 ;
+    }
+  }
+
+  /** Returns a random outcome using the random generator of {@link JMetalRandom} */
+  public int sample() {
+    checkBuilt() ;
+    return sample(JMetalRandom.getInstance().nextInt(0, size - 1),
+        JMetalRandom.getInstance().nextDouble()) ;
+  }
+
+  /** Returns a random outcome using the given random generator */
+  public int sample(PseudoRandomGenerator randomGenerator) {
+    checkBuilt() ;
+    return sample(randomGenerator.nextInt(0, size - 1), randomGenerator.nextDouble()) ;
+  }
+
+  private int sample(int column, double random) {
+    return random < probability[column] ? column : alias[column] ;
+  }
+
+  private void checkBuilt() {
+    if (size == 0) {
+      throw new JMetalException("The table has not been built") ;
+    }
+  }
+
+  /** Returns the probability of an outcome given by the table (for testing purposes) */
+  double getProbability(int outcome) {
+    double result = probability[outcome] ;
+    for (int i = 0; i < size; i++) {
+      if ((i != outcome) && (alias[i] == outcome)) {
+        result += 1.0 - probability[i] ;
+      }
+    }
+
+    return result / size ;
+  }
+
+  public int size() {
+    return size ;
+  }
+}
@@ -26,6 +26,10 @@ public class JMetalRandom implements Serializable {
     this.randomGenerator = randomGenerator;
   }
 
+  public PseudoRandomGenerator getRandomGenerator() {
+    return randomGenerator ;
+  }
+
   public int nextInt(int lowerBound, int upperBound) {
     return randomGenerator.nextInt(lowerBound, upperBound) ;
   }
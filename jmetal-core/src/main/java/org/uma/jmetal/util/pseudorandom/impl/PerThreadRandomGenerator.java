@@ -0,0 +1,91 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.pseudorandom.impl;
+
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Random generator giving each thread its own {@link JavaRandomGenerator}, so that threads running
+ * independent algorithms with the singleton {@link org.uma.jmetal.util.pseudorandom.JMetalRandom}
+ * neither contend for the same generator nor interleave their sequences. The seed methods apply
+ * to the generator of the calling thread.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+@SuppressWarnings("serial")
+public class PerThreadRandomGenerator implements PseudoRandomGenerator {
+  private static final String name = "PerThreadRandomGenerator" ;
+
+  private final AtomicLong nextSeed ;
+  private transient volatile ThreadLocal<PseudoRandomGenerator> generators ;
+
+  /**
+   * Constructor
+   *
+   * @param seed Seed of the generator of the first thread; the next threads take the next values
+   */
+  public PerThreadRandomGenerator(long seed) {
+    nextSeed = new AtomicLong(seed) ;
+  }
+
+  /** Returns the generator of the calling thread */
+  public PseudoRandomGenerator getGenerator() {
+    if (generators == null) {
+      synchronized (this) {
+        if (generators == null) {
+          generators = new ThreadLocal<PseudoRandomGenerator>() {
+            @Override protected PseudoRandomGenerator initialValue() {
+              return new JavaRandomGenerator(nextSeed.getAndIncrement()) ;
+            }
+          } ;
+        }
+      }
+    }
+
+    return generators.get() ;
+  }
+
+  @Override
+  public int nextInt(int lowerBound, int upperBound) {
+    return getGenerator().nextInt(lowerBound, upperBound) ;
+  }
+
+  @Override
+  public double nextDouble(double lowerBound, double upperBound) {
+    return getGenerator().nextDouble(lowerBound, upperBound) ;
+  }
+
+  @Override
+  public double nextDouble() {
+    return getGenerator().nextDouble() ;
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    getGenerator().setSeed(seed);
+  }
+
+  @Override
+  public long getSeed() {
+    return getGenerator().getSeed() ;
+  }
+
+  @Override
+  public String getName() {
+    return name ;
+  }
+}
@@ -23,8 +23,8 @@ package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
-import org.uma.jmetal.util.comparator.DominanceComparator;
-import org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator;
+import org.uma.jmetal.util.dominance.DominanceKernel;
+import org.uma.jmetal.util.dominance.ObjectiveMatrix;
 import org.uma.jmetal.util.solutionattribute.Ranking;
 
 import java.util.*;
@@ -40,10 +40,6 @@ import java.util.*;
  */
 public class DominanceRanking implements Ranking<Solution> {
 
-  private static final Comparator<Solution> DOMINANCE_COMPARATOR = new DominanceComparator();
-  private static final Comparator<Solution> CONSTRAINT_VIOLATION_COMPARATOR =
-    new OverallConstraintViolationComparator();
-
   private List<ArrayList<Solution>> rankedSubpopulations;
 
   /**
@@ -80,15 +76,17 @@ public class DominanceRanking implements Ranking<Solution> {
       dominateMe[p] = 0;
     }
 
+    // The objectives are packed once, and each individual is compared against the block of
+    // individuals following it with the dominance kernel
+    ObjectiveMatrix objectives = ObjectiveMatrix.of(population) ;
+    int[] flags = new int[population.size()] ;
+
     int flagDominate;
     for (int p = 0; p < (population.size() - 1); p++) {
       // For all q individuals , calculate if p dominates q or vice versa
+      DominanceKernel.compareToBlock(objectives, p, p + 1, population.size(), flags);
       for (int q = p + 1; q < population.size(); q++) {
-        flagDominate =
-          CONSTRAINT_VIOLATION_COMPARATOR.compare(solutionSet.get(p), solutionSet.get(q));
-        if (flagDominate == 0) {
-          flagDominate = DOMINANCE_COMPARATOR.compare(solutionSet.get(p), solutionSet.get(q));
-        }
+        flagDominate = flags[q];
         if (flagDominate == -1) {
           iDominate[p].add(q);
           dominateMe[q]++;
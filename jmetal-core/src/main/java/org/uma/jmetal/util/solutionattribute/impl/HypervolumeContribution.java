@@ -21,8 +21,521 @@
 package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
+ * Hypervolume contribution of each solution of a non-dominated front, i.e., the hypervolume lost
+ * if the solution were removed. The contributions are exact for two and three objectives and
+ * estimated by Monte Carlo sampling for more, only in the parts of the exclusive region which
+ * cannot be reduced to three objectives.
+ *
+ * {@link #updateContributions(List, double[])} keeps the contributions of a front which changes in
+ * a few solutions at a time (as the last front of a steady-state algorithm): when a point q
+ * leaves or enters the front together with a solution r, the contribution of r only changes if the
+ * region dominated by both of them, whose lower corner is max(q, r), is not dominated by any other
+ * member of the front. Only the contributions passing that test are computed again.
+ *
+ * The members of the front are tracked by identity together with a copy of their objectives, so a
+ * solution whose objectives have changed since the last update (e.g. one recycled by a
+ * {@link org.uma.jmetal.solution.util.SolutionPool}) is handled as a removal of its old point and
+ * an insertion of the new one. A solution leaving the front before being recycled should be given
+ * to {@link #remove(Solution)}, as its contribution attribute can be overwritten when it is reused.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
  */
-public class HypervolumeContribution extends GenericSolutionAttribute<Solution<?>, Double> {
+public class HypervolumeContribution<S extends Solution>
+    extends GenericSolutionAttribute<S, Double> {
+  /** Maximum number of points entering or leaving the front that are updated incrementally */
+  private static final int MAX_INCREMENTAL_CHANGES = 4 ;
+
+  private final int numberOfSamples ;
+  private final JMetalRandom randomGenerator ;
+
+  private Map<S, double[]> members ;
+  private List<double[]> removedPoints ;
+  private double[] referencePoint ;
+
+  /** Constructor */
+  public HypervolumeContribution() {
+    this(10000) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param numberOfSamples Number of samples used to estimate a contribution with more than three
+   *                        objectives
+   */
+  public HypervolumeContribution(int numberOfSamples) {
+    if (numberOfSamples <= 0) {
+      throw new JMetalException("The number of samples must be positive: " + numberOfSamples) ;
+    }
+    this.numberOfSamples = numberOfSamples ;
+    randomGenerator = JMetalRandom.getInstance() ;
+    members = new IdentityHashMap<>() ;
+    removedPoints = new ArrayList<>() ;
+  }
+
+  /**
+   * Computes the contributions of all the solutions of a front
+   *
+   * @param front Non-dominated solutions
+   * @param referencePoint Reference point, dominated by all the solutions
+   */
+  public void computeContributions(List<S> front, double[] referencePoint) {
+    for (S solution : front) {
+      setAttribute(solution, computeContribution(solution, front, referencePoint)) ;
+    }
+
+    members.clear();
+    for (S solution : front) {
+      members.put(solution, getObjectives(solution)) ;
+    }
+    removedPoints.clear();
+    this.referencePoint = referencePoint.clone() ;
+  }
+
+  /**
+   * Forgets a solution which has left the front, so that the next update takes into account the
+   * removal of its point even if the solution is reused in the meantime
+   */
+  public void remove(S solution) {
+    double[] point = members.remove(solution) ;
+    if (point != null) {
+      removedPoints.add(point) ;
+    }
+  }
+
+  /**
+   * Updates the contributions of a front given to the previous call to this method or to
+   * {@link #computeContributions(List, double[])}. If the reference point has changed, or the
+   * front has changed in too many points, all the contributions are computed again.
+   */
+  public void updateContributions(List<S> front, double[] referencePoint) {
+    if ((this.referencePoint == null) || !Arrays.equals(this.referencePoint, referencePoint)) {
+      computeContributions(front, referencePoint);
+      return ;
+    }
+
+    Map<S, Boolean> current = new IdentityHashMap<>(front.size() * 2) ;
+    for (S solution : front) {
+      current.put(solution, Boolean.TRUE) ;
+    }
+
+    List<double[]> leavingPoints = new ArrayList<>(removedPoints) ;
+    for (Map.Entry<S, double[]> member : members.entrySet()) {
+      if (!current.containsKey(member.getKey())) {
+        leavingPoints.add(member.getValue()) ;
+      }
+    }
+    List<S> enteringSolutions = new ArrayList<>() ;
+    for (S solution : front) {
+      double[] point = members.get(solution) ;
+      if (point == null) {
+        enteringSolutions.add(solution) ;
+      } else if (!hasObjectives(solution, point)) {
+        leavingPoints.add(point) ;
+        enteringSolutions.add(solution) ;
+      }
+    }
+    if (leavingPoints.size() + enteringSolutions.size() > MAX_INCREMENTAL_CHANGES) {
+      computeContributions(front, referencePoint);
+      return ;
+    }
+
+    for (double[] leavingPoint : leavingPoints) {
+      updateAffectedContributions(leavingPoint, front, null, referencePoint);
+    }
+    for (S enteringSolution : enteringSolutions) {
+      setAttribute(enteringSolution,
+          computeContribution(enteringSolution, front, referencePoint)) ;
+      updateAffectedContributions(getObjectives(enteringSolution), front, enteringSolution,
+          referencePoint);
+    }
+
+    members.clear();
+    for (S solution : front) {
+      members.put(solution, getObjectives(solution)) ;
+    }
+    removedPoints.clear();
+  }
+
+  /**
+   * Computes again the contributions of the members of a front sharing with a point a region
+   * not dominated by other members
+   *
+   * @param point Point which has entered or left the front
+   * @param front Current front
+   * @param excluded Member of the front not to be updated (the solution of the point if it has
+   *                 entered)
+   */
+  private void updateAffectedContributions(double[] point, List<S> front, S excluded,
+      double[] referencePoint) {
+    int numberOfObjectives = referencePoint.length ;
+    double[] join = new double[numberOfObjectives] ;
+    for (S member : front) {
+      if (member == excluded) {
+        continue ;
+      }
+
+      boolean empty = false ;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        join[i] = Math.max(member.getObjective(i), point[i]) ;
+        empty |= join[i] >= referencePoint[i] ;
+      }
+
+      if (!empty && !isCovered(join, front, member, excluded)) {
+        setAttribute(member, computeContribution(member, front, referencePoint)) ;
+      }
+    }
+  }
+
+  /** Returns true if a member of the front, other than two given ones, weakly dominates a point */
+  private boolean isCovered(double[] point, List<S> front, S excluded1, S excluded2) {
+    for (S member : front) {
+      if ((member == excluded1) || (member == excluded2)) {
+        continue ;
+      }
+
+      boolean covers = true ;
+      for (int i = 0; covers && (i < point.length); i++) {
+        covers = member.getObjective(i) <= point[i] ;
+      }
+      if (covers) {
+        return true ;
+      }
+    }
+
+    return false ;
+  }
+
+  private double[] getObjectives(S solution) {
+    double[] objectives = new double[solution.getNumberOfObjectives()] ;
+    for (int i = 0; i < objectives.length; i++) {
+      objectives[i] = solution.getObjective(i) ;
+    }
+
+    return objectives ;
+  }
+
+  private boolean hasObjectives(S solution, double[] objectives) {
+    for (int i = 0; i < objectives.length; i++) {
+      if (solution.getObjective(i) != objectives[i]) {
+        return false ;
+      }
+    }
+
+    return true ;
+  }
+
+  /**
+   * Computes the contribution of a solution to a front, as the volume of its box minus the
+   * hypervolume of the other members clipped to that box
+   */
+  public double computeContribution(S solution, List<S> front, double[] referencePoint) {
+    int numberOfObjectives = referencePoint.length ;
+    double box = 1.0 ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      box *= Math.max(0.0, referencePoint[i] - solution.getObjective(i)) ;
+    }
+    if (box == 0.0) {
+      return 0.0 ;
+    }
+
+    double[][] clippedPoints = new double[front.size()][] ;
+    int size = 0 ;
+    for (S member : front) {
+      if (member == solution) {
+        continue ;
+      }
+
+      double[] point = new double[numberOfObjectives] ;
+      boolean inside = true ;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        point[i] = Math.max(member.getObjective(i), solution.getObjective(i)) ;
+        inside &= point[i] < referencePoint[i] ;
+      }
+      if (inside) {
+        clippedPoints[size++] = point ;
+      }
+    }
+
+    if (numberOfObjectives == 2) {
+      return box - hypervolume2D(clippedPoints, size, referencePoint) ;
+    } else if (numberOfObjectives == 3) {
+      return box - hypervolume3D(clippedPoints, size, referencePoint) ;
+    } else {
+      return estimateContribution(solution, clippedPoints, size, referencePoint) ;
+    }
+  }
+
+  private double hypervolume2D(double[][] points, int size, double[] referencePoint) {
+    Staircase staircase = new Staircase(referencePoint[0], referencePoint[1]) ;
+    for (int i = 0; i < size; i++) {
+      staircase.add(points[i][0], points[i][1]);
+    }
+
+    return staircase.area ;
+  }
+
+  /** Sweeps the points by the third objective, keeping the area of the 2D staircase below */
+  private double hypervolume3D(double[][] points, int size, double[] referencePoint) {
+    Arrays.sort(points, 0, size, new Comparator<double[]>() {
+      @Override public int compare(double[] point1, double[] point2) {
+        return Double.compare(point1[2], point2[2]) ;
+      }
+    });
+
+    Staircase staircase = new Staircase(referencePoint[0], referencePoint[1]) ;
+    double volume = 0.0 ;
+    for (int i = 0; i < size; i++) {
+      staircase.add(points[i][0], points[i][1]);
+      double nextZ = (i + 1 < size) ? points[i + 1][2] : referencePoint[2] ;
+      volume += staircase.area * (nextZ - points[i][2]) ;
+    }
+
+    return volume ;
+  }
+
+  /**
+   * Computes the volume of the region dominated only by a solution with more than three
+   * objectives. Let t be the maximum of the clipped points in each objective: above t_k, objective
+   * k no longer decides whether a point is dominated. The box from the solution to the reference
+   * point is split in each objective at t_k, and the part of the region in each cell is the
+   * product of the sides above t by the exclusive volume of the projection on the rest of
+   * objectives, bounded by t. The projections on up to three objectives are computed exactly and
+   * the rest are estimated by sampling the bounding box of their region, sharing the samples in
+   * proportion to the volumes of those boxes. Sampling the whole box up to the reference point
+   * instead would find no exclusive sample for most of the members of a large front.
+   */
+  private double estimateContribution(S solution, double[][] points, int size,
+      double[] referencePoint) {
+    int numberOfObjectives = referencePoint.length ;
+    double[] lowerCorner = new double[numberOfObjectives] ;
+    double[] upperCorner = new double[numberOfObjectives] ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      lowerCorner[i] = solution.getObjective(i) ;
+      upperCorner[i] = lowerCorner[i] ;
+      for (int j = 0; j < size; j++) {
+        upperCorner[i] = Math.max(upperCorner[i], points[j][i]) ;
+      }
+    }
+
+    double contribution = 0.0 ;
+    List<SampledRegion> sampledRegions = new ArrayList<>() ;
+    double sampledVolume = 0.0 ;
+    for (int cell = 0; cell < (1 << numberOfObjectives); cell++) {
+      double side = 1.0 ;
+      int[] objectives = new int[numberOfObjectives - Integer.bitCount(cell)] ;
+      for (int i = 0, k = 0; i < numberOfObjectives; i++) {
+        if ((cell & (1 << i)) != 0) {
+          side *= referencePoint[i] - upperCorner[i] ;
+        } else {
+          objectives[k++] = i ;
+        }
+      }
+      if ((side <= 0.0) || ((objectives.length == 0) && (size > 0))) {
+        continue ;
+      }
+
+      double[][] projectedPoints = project(points, size, objectives, upperCorner) ;
+      if (objectives.length <= 3) {
+        contribution += side * exclusiveVolume(projectedPoints, objectives, lowerCorner,
+            upperCorner) ;
+      } else {
+        SampledRegion region = new SampledRegion(side, projectedPoints, objectives, lowerCorner,
+            upperCorner) ;
+        sampledRegions.add(region) ;
+        sampledVolume += region.getVolume() ;
+      }
+    }
+
+    for (SampledRegion region : sampledRegions) {
+      int samples = (int) Math.ceil(numberOfSamples * region.getVolume() / sampledVolume) ;
+      contribution += region.estimateVolume(samples) ;
+    }
+
+    return contribution ;
+  }
+
+  /** Returns the points below the upper corner in some objectives, with only those objectives */
+  private double[][] project(double[][] points, int size, int[] objectives,
+      double[] upperCorner) {
+    double[][] projectedPoints = new double[size][] ;
+    int numberOfProjectedPoints = 0 ;
+    for (int j = 0; j < size; j++) {
+      double[] point = new double[objectives.length] ;
+      boolean inside = true ;
+      for (int i = 0; inside && (i < objectives.length); i++) {
+        point[i] = points[j][objectives[i]] ;
+        inside = point[i] < upperCorner[objectives[i]] ;
+      }
+      if (inside) {
+        projectedPoints[numberOfProjectedPoints++] = point ;
+      }
+    }
+
+    return Arrays.copyOf(projectedPoints, numberOfProjectedPoints) ;
+  }
+
+  /**
+   * Exact volume of the box between two corners, in up to three objectives, not dominated by
+   * the projected points
+   */
+  private double exclusiveVolume(double[][] points, int[] objectives, double[] lowerCorner,
+      double[] upperCorner) {
+    double[] lower = new double[objectives.length] ;
+    double[] upper = new double[objectives.length] ;
+    double box = 1.0 ;
+    for (int i = 0; i < objectives.length; i++) {
+      lower[i] = lowerCorner[objectives[i]] ;
+      upper[i] = upperCorner[objectives[i]] ;
+      box *= upper[i] - lower[i] ;
+    }
+
+    if (objectives.length == 1) {
+      double end = upper[0] ;
+      for (double[] point : points) {
+        end = Math.min(end, point[0]) ;
+      }
+      return Math.max(0.0, end - lower[0]) ;
+    } else if (objectives.length == 2) {
+      return Math.max(0.0, box - hypervolume2D(points, points.length, upper)) ;
+    } else {
+      return Math.max(0.0, box - hypervolume3D(points, points.length, upper)) ;
+    }
+  }
+
+  /**
+   * Part of the region dominated only by a solution, in a cell whose sides in some objectives are
+   * given, to be estimated by sampling the rest of objectives
+   */
+  private class SampledRegion {
+    private final double side ;
+    private final double[][] points ;
+    private final double[] lowerCorner ;
+    private final double[] upperCorner ;
+
+    /**
+     * The bounding box of the region ends in each objective at the first point which is not
+     * worse than the lower corner in the rest of objectives, as the region is closed towards it
+     */
+    SampledRegion(double side, double[][] points, int[] objectives, double[] lowerCorner,
+        double[] upperCorner) {
+      this.side = side ;
+      this.points = points ;
+      this.lowerCorner = new double[objectives.length] ;
+      this.upperCorner = new double[objectives.length] ;
+      for (int i = 0; i < objectives.length; i++) {
+        this.lowerCorner[i] = lowerCorner[objectives[i]] ;
+        this.upperCorner[i] = upperCorner[objectives[i]] ;
+      }
+
+      for (double[] point : points) {
+        int worseObjective = -1 ;
+        for (int i = 0; i < objectives.length; i++) {
+          if (point[i] > this.lowerCorner[i]) {
+            worseObjective = (worseObjective == -1) ? i : objectives.length ;
+          }
+        }
+        if ((worseObjective >= 0) && (worseObjective < objectives.length)) {
+          this.upperCorner[worseObjective] =
+              Math.min(this.upperCorner[worseObjective], point[worseObjective]) ;
+        }
+      }
+    }
+
+    double getVolume() {
+      double volume = side ;
+      for (int i = 0; i < lowerCorner.length; i++) {
+        volume *= Math.max(0.0, upperCorner[i] - lowerCorner[i]) ;
+      }
+
+      return volume ;
+    }
+
+    double estimateVolume(int samples) {
+      double volume = getVolume() ;
+      if (volume == 0.0) {
+        return 0.0 ;
+      }
+
+      double[] sample = new double[lowerCorner.length] ;
+      int exclusiveSamples = 0 ;
+      for (int n = 0; n < samples; n++) {
+        for (int i = 0; i < sample.length; i++) {
+          sample[i] = randomGenerator.nextDouble(lowerCorner[i], upperCorner[i]) ;
+        }
+
+        boolean dominated = false ;
+        for (int j = 0; !dominated && (j < points.length); j++) {
+          boolean weaklyDominates = true ;
+          for (int i = 0; weaklyDominates && (i < sample.length); i++) {
+            weaklyDominates = points[j][i] <= sample[i] ;
+          }
+          dominated = weaklyDominates ;
+        }
+        if (!dominated) {
+          exclusiveSamples++ ;
+        }
+      }
+
+      return volume * exclusiveSamples / samples ;
+    }
+  }
+
+  /**
+   * Non-dominated 2D points sorted by the first objective, with the area they dominate up to a
+   * reference point. The area is updated on each insertion from the neighbours of the point.
+   */
+  private static class Staircase {
+    private final double referenceX ;
+    private final double referenceY ;
+    private final TreeMap<Double, Double> points ;
+    private double area ;
+
+    Staircase(double referenceX, double referenceY) {
+      this.referenceX = referenceX ;
+      this.referenceY = referenceY ;
+      points = new TreeMap<>() ;
+    }
+
+    void add(double x, double y) {
+      Map.Entry<Double, Double> floor = points.floorEntry(x) ;
+      if ((floor != null) && (floor.getValue() <= y)) {
+        return ;
+      }
+
+      Map.Entry<Double, Double> ceiling = points.ceilingEntry(x) ;
+      while ((ceiling != null) && (ceiling.getValue() >= y)) {
+        remove(ceiling.getKey(), ceiling.getValue());
+        ceiling = points.ceilingEntry(x) ;
+      }
+
+      Map.Entry<Double, Double> lower = points.lowerEntry(x) ;
+      double previousY = (lower == null) ? referenceY : lower.getValue() ;
+      double nextX = (ceiling == null) ? referenceX : ceiling.getKey() ;
+      area += (previousY - y) * (nextX - x) ;
+      points.put(x, y) ;
+    }
+
+    private void remove(double x, double y) {
+      Map.Entry<Double, Double> lower = points.lowerEntry(x) ;
+      Map.Entry<Double, Double> higher = points.higherEntry(x) ;
+      double previousY = (lower == null) ? referenceY : lower.getValue() ;
+      double nextX = (higher == null) ? referenceX : higher.getKey() ;
+      area -= (previousY - y) * (nextX - x) ;
+      points.remove(x) ;
+    }
+  }
 }
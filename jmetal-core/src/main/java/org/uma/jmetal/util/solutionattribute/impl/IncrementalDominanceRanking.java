@@ -0,0 +1,283 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.solutionattribute.DensityEstimator;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Dominance ranking supporting the insertion and the removal of single solutions without sorting
+ * the whole set again, following the incremental non-dominated sorting of Buzdalov et al.:
+ *
+ * - Insertion: the front of the new solution is the first one with no member dominating it
+ *   (found by binary search, as a front containing a dominator is always preceded by another one).
+ *   The members of that front dominated by the new solution are pushed to the next front, which
+ *   in turn pushes the members dominated by them, and so on.
+ * - Removal: the members of the next front dominated by the removed solution, and by no remaining
+ *   member of its front, are moved up one front, and the same is repeated with the following ones.
+ *
+ * Only the fronts whose members change are touched; if a density estimator is given, it is
+ * recomputed for those fronts only. The ranks are stored with the attribute identifier of
+ * {@link DominanceRanking}, so the existing comparators can be used with this class.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class IncrementalDominanceRanking<S extends Solution> implements Ranking<S> {
+  private final Comparator<Solution> dominanceComparator ;
+  private final DensityEstimator<S> densityEstimator ;
+
+  private List<List<S>> subfronts ;
+  private BitSet modifiedSubfronts ;
+
+  /** Constructor */
+  public IncrementalDominanceRanking() {
+    this(null) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param densityEstimator Estimator to update on the modified subfronts (it can be null)
+   */
+  public IncrementalDominanceRanking(DensityEstimator<S> densityEstimator) {
+    this(densityEstimator, new DominanceComparator()) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param densityEstimator Estimator to update on the modified subfronts (it can be null)
+   * @param dominanceComparator Comparator returning -1 if the first solution dominates the second
+   */
+  public IncrementalDominanceRanking(DensityEstimator<S> densityEstimator,
+      Comparator<Solution> dominanceComparator) {
+    this.densityEstimator = densityEstimator ;
+    this.dominanceComparator = dominanceComparator ;
+    subfronts = new ArrayList<>() ;
+    modifiedSubfronts = new BitSet() ;
+  }
+
+  /** Ranks a list of solutions from scratch, discarding the current subfronts */
+  @Override
+  @SuppressWarnings("unchecked")
+  public Ranking computeRanking(List<S> solutionSet) {
+    DominanceRanking ranking = new DominanceRanking() ;
+    ranking.computeRanking((List<Solution>) solutionSet) ;
+
+    subfronts = new ArrayList<>(ranking.getNumberOfSubfronts()) ;
+    for (int i = 0; i < ranking.getNumberOfSubfronts(); i++) {
+      subfronts.add((List<S>) new ArrayList<>(ranking.getSubfront(i))) ;
+      modifiedSubfronts.set(i) ;
+    }
+    updateDensityEstimator() ;
+
+    return this ;
+  }
+
+  /**
+   * Inserts a solution into the ranking
+   *
+   * @return The rank of the solution
+   */
+  public int add(S solution) {
+    int rank = findSubfront(solution) ;
+
+    List<S> movedSolutions = new ArrayList<>(1) ;
+    movedSolutions.add(solution) ;
+    int index = rank ;
+    while (!movedSolutions.isEmpty()) {
+      if (index == subfronts.size()) {
+        subfronts.add(new ArrayList<S>()) ;
+      }
+
+      List<S> front = subfronts.get(index) ;
+      List<S> dominatedSolutions = new ArrayList<>() ;
+      int size = 0 ;
+      for (int i = 0; i < front.size(); i++) {
+        S member = front.get(i) ;
+        if (isDominatedByAny(member, movedSolutions)) {
+          dominatedSolutions.add(member) ;
+        } else {
+          front.set(size++, member) ;
+        }
+      }
+      truncate(front, size) ;
+
+      for (S movedSolution : movedSolutions) {
+        front.add(movedSolution) ;
+        setAttribute(movedSolution, index) ;
+      }
+      modifiedSubfronts.set(index) ;
+
+      movedSolutions = dominatedSolutions ;
+      index++ ;
+    }
+    updateDensityEstimator() ;
+
+    return rank ;
+  }
+
+  /**
+   * Removes a solution from the ranking
+   *
+   * @throws JMetalException if the solution has not been added to the ranking
+   */
+  public void remove(S solution) {
+    Integer rank = getAttribute(solution) ;
+    int position = (rank == null) || (rank < 0) || (rank >= subfronts.size()) ?
+        -1 : indexOf(subfronts.get(rank), solution) ;
+    if (position == -1) {
+      throw new JMetalException("The solution is not in the ranking") ;
+    }
+
+    List<S> front = subfronts.get(rank) ;
+    front.remove(position) ;
+    modifiedSubfronts.set(rank) ;
+
+    List<S> leavingSolutions = new ArrayList<>(1) ;
+    leavingSolutions.add(solution) ;
+    int index = rank ;
+    while (!leavingSolutions.isEmpty() && (index + 1 < subfronts.size())) {
+      List<S> nextFront = subfronts.get(index + 1) ;
+      List<S> promotedSolutions = new ArrayList<>() ;
+      int size = 0 ;
+      for (int i = 0; i < nextFront.size(); i++) {
+        S member = nextFront.get(i) ;
+        if (isDominatedByAny(member, leavingSolutions) && !isDominatedByAny(member, front)) {
+          promotedSolutions.add(member) ;
+        } else {
+          nextFront.set(size++, member) ;
+        }
+      }
+
+      if (!promotedSolutions.isEmpty()) {
+        truncate(nextFront, size) ;
+        for (S promotedSolution : promotedSolutions) {
+          front.add(promotedSolution) ;
+          setAttribute(promotedSolution, index) ;
+        }
+        modifiedSubfronts.set(index) ;
+        modifiedSubfronts.set(index + 1) ;
+      }
+
+      leavingSolutions = promotedSolutions ;
+      front = nextFront ;
+      index++ ;
+    }
+
+    while (!subfronts.isEmpty() && subfronts.get(subfronts.size() - 1).isEmpty()) {
+      subfronts.remove(subfronts.size() - 1) ;
+    }
+    updateDensityEstimator() ;
+  }
+
+  /**
+   * Replaces the subfronts, e.g. with the ones of a checkpoint. The ranks and the density values
+   * are not computed again, so they must already be stored in the solutions
+   */
+  public void setSubfronts(List<List<S>> subfronts) {
+    this.subfronts = subfronts ;
+    modifiedSubfronts.clear();
+  }
+
+  /** Returns the first subfront with no member dominating the solution */
+  private int findSubfront(S solution) {
+    int low = 0 ;
+    int high = subfronts.size() ;
+    while (low < high) {
+      int middle = (low + high) >>> 1 ;
+      if (isDominatedByAny(solution, subfronts.get(middle))) {
+        low = middle + 1 ;
+      } else {
+        high = middle ;
+      }
+    }
+
+    return low ;
+  }
+
+  private boolean isDominatedByAny(S solution, List<S> solutionList) {
+    for (int i = 0; i < solutionList.size(); i++) {
+      if (dominanceComparator.compare(solutionList.get(i), solution) == -1) {
+        return true ;
+      }
+    }
+
+    return false ;
+  }
+
+  private int indexOf(List<S> solutionList, S solution) {
+    for (int i = 0; i < solutionList.size(); i++) {
+      if (solutionList.get(i) == solution) {
+        return i ;
+      }
+    }
+
+    return -1 ;
+  }
+
+  private void truncate(List<S> solutionList, int size) {
+    while (solutionList.size() > size) {
+      solutionList.remove(solutionList.size() - 1) ;
+    }
+  }
+
+  private void updateDensityEstimator() {
+    if (densityEstimator != null) {
+      for (int i = modifiedSubfronts.nextSetBit(0); (i >= 0) && (i < subfronts.size());
+           i = modifiedSubfronts.nextSetBit(i + 1)) {
+        densityEstimator.computeDensityEstimator(subfronts.get(i));
+      }
+    }
+    modifiedSubfronts.clear();
+  }
+
+  @Override
+  public List<S> getSubfront(int rank) {
+    if (rank >= subfronts.size()) {
+      throw new JMetalException("Invalid rank: " + rank + ". Max rank = " + (subfronts.size() -1)) ;
+    }
+    return subfronts.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubfronts() {
+    return subfronts.size();
+  }
+
+  @Override
+  public void setAttribute(S solution, Integer value) {
+    solution.setAttribute(getAttributeID(), value);
+  }
+
+  @Override
+  public Integer getAttribute(S solution) {
+    return (Integer) solution.getAttribute(getAttributeID());
+  }
+
+  /** Returns the identifier used by {@link DominanceRanking} */
+  @Override
+  public Object getAttributeID() {
+    return DominanceRanking.class;
+  }
+}
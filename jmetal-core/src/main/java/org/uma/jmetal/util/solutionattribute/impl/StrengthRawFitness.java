@@ -0,0 +1,143 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.dominance.DominanceKernel;
+import org.uma.jmetal.util.dominance.ObjectiveMatrix;
+
+import java.util.List;
+
+/**
+ * Fitness of SPEA2: the raw fitness of a solution is the sum of the strengths (number of dominated
+ * solutions) of its dominators, and its density is 1 / (sigma_k + 2), where sigma_k is the
+ * distance in the objective space to its k-th nearest neighbor. Lower values are better, and the
+ * non-dominated solutions are the ones with a fitness lower than 1.
+ *
+ * The objectives are copied into an {@link ObjectiveMatrix}, so each pair of solutions is compared
+ * once, and the k-th distances are found by selection on each row of the distance matrix instead
+ * of sorting it. The values are stored with the attribute identifier of {@link Fitness}, so they
+ * can be used with {@link org.uma.jmetal.util.comparator.FitnessComparator}.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class StrengthRawFitness<S extends Solution> extends GenericSolutionAttribute<S, Double> {
+  private final int k ;
+
+  /** Constructor. The value of k is the square root of the number of solutions */
+  public StrengthRawFitness() {
+    this.k = 0 ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param k Rank of the nearest neighbor used to compute the density
+   */
+  public StrengthRawFitness(int k) {
+    if (k < 1) {
+      throw new JMetalException("The value of k must be positive: " + k) ;
+    }
+    this.k = k ;
+  }
+
+  /** Computes the fitness of every solution of the list */
+  public void computeFitness(List<S> solutionList) {
+    int size = solutionList.size() ;
+    if (size == 0) {
+      return ;
+    }
+
+    ObjectiveMatrix matrix = ObjectiveMatrix.of(solutionList) ;
+    boolean[] dominates = new boolean[size * size] ;
+    int[] strength = new int[size] ;
+    for (int i = 0; i < size; i++) {
+      for (int j = i + 1; j < size; j++) {
+        int flag = DominanceKernel.compare(matrix, i, j) ;
+        if (flag == -1) {
+          dominates[i * size + j] = true ;
+          strength[i]++ ;
+        } else if (flag == 1) {
+          dominates[j * size + i] = true ;
+          strength[j]++ ;
+        }
+      }
+    }
+
+    double[] distances = matrix.computeDistances() ;
+    int neighbor = Math.min(size - 1, (k == 0) ? (int) Math.sqrt(size) : k) ;
+    double[] row = new double[size - 1] ;
+    for (int j = 0; j < size; j++) {
+      double rawFitness = 0.0 ;
+      for (int i = 0; i < size; i++) {
+        if (dominates[i * size + j]) {
+          rawFitness += strength[i] ;
+        }
+      }
+
+      double density = 0.0 ;
+      if (neighbor > 0) {
+        for (int i = 0, position = 0; i < size; i++) {
+          if (i != j) {
+            row[position++] = distances[j * size + i] ;
+          }
+        }
+        density = 1.0 / (select(row, neighbor - 1) + 2.0) ;
+      }
+
+      setAttribute(solutionList.get(j), rawFitness + density);
+    }
+  }
+
+  /** Returns the value of the given position of the array once sorted (the array is reordered) */
+  private double select(double[] values, int position) {
+    int low = 0 ;
+    int high = values.length - 1 ;
+    while (low < high) {
+      double pivot = values[(low + high) >>> 1] ;
+      int i = low ;
+      int j = high ;
+      while (i <= j) {
+        while (values[i] < pivot) {
+          i++ ;
+        }
+        while (values[j] > pivot) {
+          j-- ;
+        }
+        if (i <= j) {
+          double aux = values[i] ;
+          values[i++] = values[j] ;
+          values[j--] = aux ;
+        }
+      }
+      if (position <= j) {
+        high = j ;
+      } else if (position >= i) {
+        low = i ;
+      } else {
+        break ;
+      }
+    }
+
+    return values[position] ;
+  }
+
+  /** Returns the identifier used by {@link Fitness} */
+  @Override
+  public Object getAttributeID() {
+    return Fitness.class ;
+  }
+}
@@ -0,0 +1,148 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.impl;
+
+import org.junit.After;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.impl.DifferentialEvolutionEngine.Variant;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class DifferentialEvolutionEngineTest {
+  private DifferentialEvolutionEngine engine ;
+
+  @After public void tearDown() {
+    if (engine != null) {
+      engine.shutdown();
+    }
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldGetVariantRaiseAnExceptionIfTheNameIsUnknown() {
+    Variant.getVariant("rand/2/exp") ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldLoadRaiseAnExceptionIfThePopulationHasLessThanFourSolutions() {
+    MockProblem problem = new MockProblem() ;
+    engine = new DifferentialEvolutionEngine(problem, Variant.RAND_1_BIN, 0.5, 0.5, 0.5, 1, 1) ;
+
+    engine.load(createPopulation(problem, 3));
+  }
+
+  @Test public void shouldGenerateTrialsProduceTheSameVectorsWithinTheBoundsForTheSameSeed() {
+    MockProblem problem = new MockProblem() ;
+    List<DoubleSolution> population = createPopulation(problem, 20) ;
+    double[][] first = generateTrials(problem, population, Variant.RAND_1_BIN) ;
+    double[][] second = generateTrials(problem, population, Variant.RAND_1_BIN) ;
+
+    for (int i = 0; i < first.length; i++) {
+      assertArrayEquals(first[i], second[i], 0.0) ;
+      for (int j = 0; j < first[i].length; j++) {
+        assertEquals(true, first[i][j] >= problem.getLowerBound(j)) ;
+        assertEquals(true, first[i][j] <= problem.getUpperBound(j)) ;
+      }
+    }
+  }
+
+  @Test public void shouldBestVariantWithZeroCrAndFCopyTheBestVectorInASingleVariable() {
+    MockProblem problem = new MockProblem() ;
+    List<DoubleSolution> population = createPopulation(problem, 10) ;
+    engine = new DifferentialEvolutionEngine(problem, Variant.BEST_1_BIN, 0.0, 0.0, 0.0, 2, 1) ;
+    engine.load(population);
+
+    engine.generateTrials(3);
+
+    for (int i = 0; i < population.size(); i++) {
+      int changedVariables = 0 ;
+      for (int j = 0; j < problem.getNumberOfVariables(); j++) {
+        double value = engine.getTrials()[i][j] ;
+        if (value != population.get(i).getVariableValue(j)) {
+          assertEquals(population.get(3).getVariableValue(j), value, 0.0) ;
+          changedVariables++ ;
+        }
+      }
+      assertEquals(true, changedVariables <= 1) ;
+    }
+  }
+
+  @Test public void shouldAcceptTrialSwapTheRowsOfThePopulationAndTheTrials() {
+    MockProblem problem = new MockProblem() ;
+    engine = new DifferentialEvolutionEngine(problem, Variant.CURRENT_TO_RAND_1,
+        0.5, 0.5, 0.5, 1, 1) ;
+    engine.load(createPopulation(problem, 5));
+    engine.generateTrials(-1);
+    double[] target = engine.getPopulation()[2] ;
+    double[] trial = engine.getTrials()[2] ;
+
+    engine.acceptTrial(2);
+
+    assertSame(trial, engine.getPopulation()[2]) ;
+    assertSame(target, engine.getTrials()[2]) ;
+  }
+
+  private double[][] generateTrials(MockProblem problem, List<DoubleSolution> population,
+      Variant variant) {
+    engine = new DifferentialEvolutionEngine(problem, variant, 0.9, 0.8, 0.5, 3, 1) ;
+    engine.load(population);
+    engine.generateTrials(0);
+    List<DoubleSolution> trials = createPopulation(problem, population.size()) ;
+    engine.storeTrials(trials);
+    engine.shutdown();
+
+    double[][] result = new double[trials.size()][problem.getNumberOfVariables()] ;
+    for (int i = 0; i < trials.size(); i++) {
+      for (int j = 0; j < problem.getNumberOfVariables(); j++) {
+        result[i][j] = trials.get(i).getVariableValue(j) ;
+      }
+    }
+
+    return result ;
+  }
+
+  private List<DoubleSolution> createPopulation(MockProblem problem, int size) {
+    List<DoubleSolution> population = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      population.add(problem.createSolution()) ;
+    }
+
+    return population ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem extends AbstractDoubleProblem {
+    MockProblem() {
+      setNumberOfVariables(4);
+      setNumberOfObjectives(1);
+      setLowerLimit(Arrays.asList(-1.0, 0.0, 0.0, 2.0));
+      setUpperLimit(Arrays.asList(1.0, 1.0, 5.0, 3.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
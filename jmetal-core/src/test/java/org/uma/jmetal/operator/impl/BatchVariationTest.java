@@ -0,0 +1,285 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator.impl;
+
+import org.junit.After;
+import org.junit.Test;
+import org.uma.jmetal.operator.BatchCrossoverOperator;
+import org.uma.jmetal.operator.BatchMutationOperator;
+import org.uma.jmetal.operator.impl.crossover.BLXAlphaCrossover;
+import org.uma.jmetal.operator.impl.crossover.HUXCrossover;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.BitFlipMutation;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.mutation.UniformMutation;
+import org.uma.jmetal.problem.impl.AbstractBinaryProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.BinarySolution;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class BatchVariationTest {
+  private static final long SEED = 12345 ;
+  private static final double EPSILON = 0.0000000001 ;
+
+  @After
+  public void tearDown() {
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator());
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheNumberOfThreadsIsNotPositive() {
+    new BatchVariation<double[]>(null, null, 0, SEED) ;
+  }
+
+  @Test public void shouldBatchSBXCrossoverProduceTheSameChildrenAsDoCrossover() {
+    MockDoubleProblem problem = new MockDoubleProblem(5) ;
+    SBXCrossover crossover = new SBXCrossover(0.9, 20.0) ;
+    List<DoubleSolution> parents = createSolutions(problem, 10) ;
+
+    double[][] expected = crossScalar(crossover, parents) ;
+    double[][] offspring = new double[10][5] ;
+    crossover.createBatchOperator(problem).execute(toMatrix(parents), offspring, 0, 5,
+        new JavaRandomGenerator(SEED));
+
+    assertArrayEquals(expected, offspring) ;
+  }
+
+  @Test public void shouldBatchBLXAlphaCrossoverProduceTheSameChildrenAsDoCrossover() {
+    MockDoubleProblem problem = new MockDoubleProblem(5) ;
+    BLXAlphaCrossover crossover = new BLXAlphaCrossover(0.9, 0.5) ;
+    List<DoubleSolution> parents = createSolutions(problem, 10) ;
+
+    double[][] expected = crossScalar(crossover, parents) ;
+    double[][] offspring = new double[10][5] ;
+    crossover.createBatchOperator(problem).execute(toMatrix(parents), offspring, 0, 5,
+        new JavaRandomGenerator(SEED));
+
+    assertArrayEquals(expected, offspring) ;
+  }
+
+  @Test public void shouldBatchPolynomialMutationProduceTheSameValuesAsExecute() {
+    MockDoubleProblem problem = new MockDoubleProblem(5) ;
+    PolynomialMutation mutation = new PolynomialMutation(0.5, 20.0) ;
+    List<DoubleSolution> solutions = createSolutions(problem, 6) ;
+    double[][] population = toMatrix(solutions) ;
+
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(SEED));
+    for (DoubleSolution solution : solutions) {
+      mutation.execute(solution) ;
+    }
+    mutation.createBatchOperator(problem).execute(population, 0, 6, new JavaRandomGenerator(SEED));
+
+    assertArrayEquals(toMatrix(solutions), population) ;
+  }
+
+  @Test public void shouldBatchUniformMutationProduceTheSameValuesAsExecute() {
+    MockDoubleProblem problem = new MockDoubleProblem(5) ;
+    UniformMutation mutation = new UniformMutation(0.5, 0.4) ;
+    List<DoubleSolution> solutions = createSolutions(problem, 6) ;
+    double[][] population = toMatrix(solutions) ;
+
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(SEED));
+    for (DoubleSolution solution : solutions) {
+      mutation.execute(solution) ;
+    }
+    mutation.createBatchOperator(problem).execute(population, 0, 6, new JavaRandomGenerator(SEED));
+
+    assertArrayEquals(toMatrix(solutions), population) ;
+  }
+
+  @Test public void shouldBatchHUXCrossoverProduceTheSameChildrenAsDoCrossover() {
+    MockBinaryProblem problem = new MockBinaryProblem(150) ;
+    HUXCrossover crossover = new HUXCrossover(0.9) ;
+    List<BinarySolution> parents = new ArrayList<>() ;
+    for (int i = 0; i < 6; i++) {
+      parents.add(problem.createSolution()) ;
+    }
+    long[][] matingPool = toWords(parents) ;
+    long[][] offspring = new long[6][matingPool[0].length] ;
+
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(SEED));
+    List<BinarySolution> children = new ArrayList<>() ;
+    for (int k = 0; k < 3; k++) {
+      children.addAll(crossover.execute(Arrays.asList(parents.get(2 * k), parents.get(2 * k + 1))));
+    }
+    crossover.createBatchOperator().execute(matingPool, offspring, 0, 3,
+        new JavaRandomGenerator(SEED));
+
+    assertArrayEquals(toWords(children), offspring) ;
+    assertArrayEquals(toWords(parents), matingPool) ;
+  }
+
+  @Test public void shouldBatchBitFlipMutationProduceTheSameBitsAsExecute() {
+    MockBinaryProblem problem = new MockBinaryProblem(150) ;
+    BitFlipMutation mutation = new BitFlipMutation(0.1) ;
+    List<BinarySolution> solutions = new ArrayList<>() ;
+    for (int i = 0; i < 4; i++) {
+      solutions.add(problem.createSolution()) ;
+    }
+    long[][] population = toWords(solutions) ;
+
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(SEED));
+    for (BinarySolution solution : solutions) {
+      mutation.execute(solution) ;
+    }
+    mutation.createBatchOperator(150).execute(population, 0, 4, new JavaRandomGenerator(SEED));
+
+    assertArrayEquals(toWords(solutions), population) ;
+  }
+
+  @Test public void shouldExecuteProduceTheSameOffspringWithTheSameSeedAndNumberOfThreads() {
+    MockDoubleProblem problem = new MockDoubleProblem(8) ;
+    BatchCrossoverOperator<double[]> crossover =
+        new SBXCrossover(1.0, 20.0).createBatchOperator(problem) ;
+    BatchMutationOperator<double[]> mutation =
+        new PolynomialMutation(1.0 / 8, 20.0).createBatchOperator(problem) ;
+    double[][] matingPool = toMatrix(createSolutions(problem, 11)) ;
+
+    BatchVariation<double[]> variation1 = new BatchVariation<>(crossover, mutation, 3, SEED) ;
+    BatchVariation<double[]> variation2 = new BatchVariation<>(crossover, mutation, 3, SEED) ;
+    double[][] offspring1 = new double[11][8] ;
+    double[][] offspring2 = new double[11][8] ;
+    variation1.execute(matingPool, offspring1);
+    variation2.execute(matingPool, offspring2);
+    variation1.shutdown();
+    variation2.shutdown();
+
+    assertArrayEquals(offspring1, offspring2) ;
+    for (double[] row : offspring1) {
+      for (int j = 0; j < row.length; j++) {
+        assertTrue(row[j] >= problem.getLowerBound(j) && row[j] <= problem.getUpperBound(j)) ;
+      }
+    }
+  }
+
+  @Test public void shouldExecuteCopyTheParentsIfThereAreNoOperators() {
+    MockDoubleProblem problem = new MockDoubleProblem(3) ;
+    double[][] matingPool = toMatrix(createSolutions(problem, 5)) ;
+    double[][] offspring = new double[5][3] ;
+
+    BatchVariation<double[]> variation = new BatchVariation<>(null, null, 2, SEED) ;
+    variation.execute(matingPool, offspring);
+    variation.shutdown();
+
+    for (int i = 0; i < matingPool.length; i++) {
+      assertArrayEquals(matingPool[i], offspring[i], EPSILON) ;
+    }
+  }
+
+  @Test public void shouldCopyVariablesAndSetVariablesBeSymmetric() {
+    MockDoubleProblem problem = new MockDoubleProblem(3) ;
+    List<DoubleSolution> solutions = createSolutions(problem, 2) ;
+    double[][] buffer = new double[2][3] ;
+
+    BatchVariation.copyVariables(solutions, buffer);
+    buffer[1][2] = 0.25 ;
+    BatchVariation.setVariables(buffer, solutions);
+
+    assertEquals(0.25, solutions.get(1).getVariableValue(2), EPSILON) ;
+    assertEquals(buffer[0][0], solutions.get(0).getVariableValue(0), EPSILON) ;
+  }
+
+  private double[][] crossScalar(Object crossover, List<DoubleSolution> parents) {
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(SEED));
+    List<DoubleSolution> children = new ArrayList<>() ;
+    for (int k = 0; k < parents.size() / 2; k++) {
+      List<DoubleSolution> pair = Arrays.asList(parents.get(2 * k), parents.get(2 * k + 1)) ;
+      if (crossover instanceof SBXCrossover) {
+        children.addAll(((SBXCrossover) crossover).execute(pair)) ;
+      } else {
+        children.addAll(((BLXAlphaCrossover) crossover).execute(pair)) ;
+      }
+    }
+    return toMatrix(children) ;
+  }
+
+  private List<DoubleSolution> createSolutions(MockDoubleProblem problem, int size) {
+    List<DoubleSolution> solutions = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      solutions.add(problem.createSolution()) ;
+    }
+    return solutions ;
+  }
+
+  private double[][] toMatrix(List<DoubleSolution> solutions) {
+    double[][] matrix = new double[solutions.size()][solutions.get(0).getNumberOfVariables()] ;
+    BatchVariation.copyVariables(solutions, matrix);
+    return matrix ;
+  }
+
+  private long[][] toWords(List<BinarySolution> solutions) {
+    long[][] words = new long[solutions.size()][] ;
+    for (int i = 0; i < solutions.size(); i++) {
+      BinarySet bits = solutions.get(i).getVariableValue(0) ;
+      words[i] = Arrays.copyOf(bits.toLongArray(), (bits.getBinarySetLength() + 63) / 64) ;
+    }
+    return words ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockDoubleProblem extends AbstractDoubleProblem {
+    MockDoubleProblem(int numberOfVariables) {
+      setNumberOfVariables(numberOfVariables);
+      setNumberOfObjectives(1);
+
+      List<Double> lowerLimit = new ArrayList<>(numberOfVariables) ;
+      List<Double> upperLimit = new ArrayList<>(numberOfVariables) ;
+      for (int i = 0; i < numberOfVariables; i++) {
+        lowerLimit.add(-1.0);
+        upperLimit.add(2.0);
+      }
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+      solution.setObjective(0, solution.getVariableValue(0));
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockBinaryProblem extends AbstractBinaryProblem {
+    private int numberOfBits ;
+
+    MockBinaryProblem(int numberOfBits) {
+      this.numberOfBits = numberOfBits ;
+      setNumberOfVariables(1);
+      setNumberOfObjectives(1);
+    }
+
+    @Override protected int getBitsPerVariable(int index) {
+      return numberOfBits ;
+    }
+
+    @Override public void evaluate(BinarySolution solution) {
+      solution.setObjective(0, solution.getVariableValue(0).cardinality());
+    }
+  }
+}
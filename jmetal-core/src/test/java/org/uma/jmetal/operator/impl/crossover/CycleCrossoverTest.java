@@ -0,0 +1,96 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator.impl.crossover;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractIntegerPermutationProblem;
+import org.uma.jmetal.solution.PermutationSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.permutation.Permutation;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class CycleCrossoverTest {
+  @Test (expected = JMetalException.class)
+  public void shouldConstructorFailWhenPassedANegativeProbabilityValue() {
+    new CycleCrossover(-0.1) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldExecuteFailIfTheListContainsOnlyOneSolution() {
+    MockPermutationProblem problem = new MockPermutationProblem(10) ;
+    new CycleCrossover(0.9).execute(Arrays.asList(problem.createSolution())) ;
+  }
+
+  @Test public void shouldTheOffspringBePermutations() {
+    MockPermutationProblem problem = new MockPermutationProblem(50) ;
+    CycleCrossover crossover = new CycleCrossover(1.0) ;
+    for (int i = 0; i < 100; i++) {
+      List<PermutationSolution<Permutation>> offspring = crossover.execute(
+          Arrays.asList(problem.createSolution(), problem.createSolution())) ;
+
+      for (PermutationSolution<Permutation> solution : offspring) {
+        int[] elements = solution.getVariableValue(0).getElements().clone() ;
+        Arrays.sort(elements);
+        assertArrayEquals(new Permutation(50).getElements(), elements) ;
+      }
+    }
+  }
+
+  @Test public void shouldEachElementKeepThePositionItHasInOneOfTheParents() {
+    MockPermutationProblem problem = new MockPermutationProblem(30) ;
+    for (int i = 0; i < 100; i++) {
+      PermutationSolution<Permutation> parent1 = problem.createSolution() ;
+      PermutationSolution<Permutation> parent2 = problem.createSolution() ;
+      List<PermutationSolution<Permutation>> offspring =
+          new CycleCrossover(1.0).execute(Arrays.asList(parent1, parent2)) ;
+
+      for (int j = 0; j < 30; j++) {
+        int element1 = offspring.get(0).getVariableValue(0).get(j) ;
+        int element2 = offspring.get(1).getVariableValue(0).get(j) ;
+        assertTrue((element1 == parent1.getVariableValue(0).get(j))
+            || (element1 == parent2.getVariableValue(0).get(j))) ;
+        assertEquals(parent1.getVariableValue(0).get(j) + parent2.getVariableValue(0).get(j),
+            element1 + element2) ;
+      }
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockPermutationProblem extends AbstractIntegerPermutationProblem {
+    private final int length ;
+
+    MockPermutationProblem(int length) {
+      this.length = length ;
+      setNumberOfVariables(1);
+      setNumberOfObjectives(1);
+    }
+
+    @Override public int getPermutationLength(int index) {
+      return length ;
+    }
+
+    @Override public void evaluate(PermutationSolution<Permutation> solution) {
+    }
+  }
+}
@@ -0,0 +1,87 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator.impl.crossover;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractBinaryProblem;
+import org.uma.jmetal.solution.BinarySolution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class HUXCrossoverTest {
+  @Test public void shouldExecuteNotModifyTheParents() {
+    MockBinaryProblem problem = new MockBinaryProblem(150) ;
+    BinarySolution parent1 = problem.createSolution() ;
+    BinarySolution parent2 = problem.createSolution() ;
+    BinarySet bits1 = (BinarySet) parent1.getVariableValue(0).clone() ;
+    BinarySet bits2 = (BinarySet) parent2.getVariableValue(0).clone() ;
+
+    List<BinarySolution> offspring = new HUXCrossover(1.0).execute(Arrays.asList(parent1, parent2));
+
+    assertEquals(bits1, parent1.getVariableValue(0)) ;
+    assertEquals(bits2, parent2.getVariableValue(0)) ;
+    assertNotSame(parent1, offspring.get(0)) ;
+    assertNotSame(parent2, offspring.get(1)) ;
+    assertNotSame(parent1.getVariableValue(0), offspring.get(0).getVariableValue(0)) ;
+  }
+
+  @Test public void shouldExecuteOnlyExchangeTheBitsInWhichTheParentsDiffer() {
+    MockBinaryProblem problem = new MockBinaryProblem(150) ;
+    BinarySolution parent1 = problem.createSolution() ;
+    BinarySolution parent2 = problem.createSolution() ;
+
+    List<BinarySolution> offspring = new HUXCrossover(1.0).execute(Arrays.asList(parent1, parent2));
+
+    BinarySet p1 = parent1.getVariableValue(0) ;
+    BinarySet p2 = parent2.getVariableValue(0) ;
+    BinarySet o1 = offspring.get(0).getVariableValue(0) ;
+    BinarySet o2 = offspring.get(1).getVariableValue(0) ;
+    for (int bit = 0; bit < 150; bit++) {
+      if (p1.get(bit) == p2.get(bit)) {
+        assertTrue(o1.get(bit) == p1.get(bit) && o2.get(bit) == p1.get(bit)) ;
+      } else {
+        assertTrue(o1.get(bit) != o2.get(bit)) ;
+      }
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockBinaryProblem extends AbstractBinaryProblem {
+    private int numberOfBits ;
+
+    MockBinaryProblem(int numberOfBits) {
+      this.numberOfBits = numberOfBits ;
+      setNumberOfVariables(1);
+      setNumberOfObjectives(1);
+    }
+
+    @Override protected int getBitsPerVariable(int index) {
+      return numberOfBits ;
+    }
+
+    @Override public void evaluate(BinarySolution solution) {
+      solution.setObjective(0, solution.getVariableValue(0).cardinality());
+    }
+  }
+}
@@ -0,0 +1,88 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator.impl.crossover;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractIntegerPermutationProblem;
+import org.uma.jmetal.solution.PermutationSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.permutation.Permutation;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class PMXCrossoverTest {
+  @Test (expected = JMetalException.class)
+  public void shouldConstructorFailWhenPassedANegativeProbabilityValue() {
+    new PMXCrossover(-0.1) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldExecuteFailIfTheListContainsOnlyOneSolution() {
+    MockPermutationProblem problem = new MockPermutationProblem(10) ;
+    new PMXCrossover(0.9).execute(Arrays.asList(problem.createSolution())) ;
+  }
+
+  @Test public void shouldTheOffspringBePermutations() {
+    MockPermutationProblem problem = new MockPermutationProblem(50) ;
+    PMXCrossover crossover = new PMXCrossover(1.0) ;
+    for (int i = 0; i < 100; i++) {
+      List<PermutationSolution<Permutation>> offspring = crossover.execute(
+          Arrays.asList(problem.createSolution(), problem.createSolution())) ;
+
+      for (PermutationSolution<Permutation> solution : offspring) {
+        int[] elements = solution.getVariableValue(0).getElements().clone() ;
+        Arrays.sort(elements);
+        assertArrayEquals(new Permutation(50).getElements(), elements) ;
+      }
+    }
+  }
+
+  @Test public void shouldTheOffspringOfIdenticalParentsBeEqualToThem() {
+    MockPermutationProblem problem = new MockPermutationProblem(30) ;
+    PermutationSolution<Permutation> parent = problem.createSolution() ;
+    List<PermutationSolution<Permutation>> parents = Arrays.asList(parent,
+        (PermutationSolution<Permutation>) parent.copy()) ;
+
+    List<PermutationSolution<Permutation>> offspring = new PMXCrossover(1.0).execute(parents) ;
+
+    assertEquals(parent.getVariableValue(0), offspring.get(0).getVariableValue(0)) ;
+    assertEquals(parent.getVariableValue(0), offspring.get(1).getVariableValue(0)) ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockPermutationProblem extends AbstractIntegerPermutationProblem {
+    private final int length ;
+
+    MockPermutationProblem(int length) {
+      this.length = length ;
+      setNumberOfVariables(1);
+      setNumberOfObjectives(1);
+    }
+
+    @Override public int getPermutationLength(int index) {
+      return length ;
+    }
+
+    @Override public void evaluate(PermutationSolution<Permutation> solution) {
+    }
+  }
+}
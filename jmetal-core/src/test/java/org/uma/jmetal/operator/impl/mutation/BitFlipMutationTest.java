@@ -64,7 +64,7 @@ public class BitFlipMutationTest {
     JMetalRandom randomGenerator = mock(JMetalRandom.class) ;
     double mutationProbability = 0.01;
 
-    Mockito.when(randomGenerator.nextDouble()).thenReturn(0.02, 0.02, 0.02, 0.02) ;
+    Mockito.when(randomGenerator.nextDouble()).thenReturn(0.5) ;
 
     BitFlipMutation mutation = new BitFlipMutation(mutationProbability) ;
     BinaryProblem problem = new MockBinaryProblem(1) ;
@@ -76,7 +76,7 @@ public class BitFlipMutationTest {
     mutation.execute(solution) ;
 
     assertEquals(oldSolution, solution) ;
-    verify(randomGenerator, times(4)).nextDouble();
+    verify(randomGenerator, times(1)).nextDouble();
   }
 
   @Test
@@ -84,7 +84,7 @@ public class BitFlipMutationTest {
     JMetalRandom randomGenerator = mock(JMetalRandom.class) ;
     double mutationProbability = 0.01;
 
-    Mockito.when(randomGenerator.nextDouble()).thenReturn(0.02, 0.0, 0.02, 0.02) ;
+    Mockito.when(randomGenerator.nextDouble()).thenReturn(0.015, 0.5) ;
 
     BitFlipMutation mutation = new BitFlipMutation(mutationProbability) ;
     BinaryProblem problem = new MockBinaryProblem(1) ;
@@ -96,7 +96,7 @@ public class BitFlipMutationTest {
     mutation.execute(solution) ;
 
     assertNotEquals(oldSolution.getVariableValue(0).get(1), solution.getVariableValue(0).get(1)) ;
-    verify(randomGenerator, times(4)).nextDouble();
+    verify(randomGenerator, times(2)).nextDouble();
   }
 
   @Test
@@ -104,7 +104,7 @@ public class BitFlipMutationTest {
     JMetalRandom randomGenerator = mock(JMetalRandom.class) ;
     double mutationProbability = 0.01;
 
-    Mockito.when(randomGenerator.nextDouble()).thenReturn(0.02, 0.02, 0.02, 0.02, 0.2, 0.2, 0.2, 0.2) ;
+    Mockito.when(randomGenerator.nextDouble()).thenReturn(0.5) ;
 
     BitFlipMutation mutation = new BitFlipMutation(mutationProbability) ;
     BinaryProblem problem = new MockBinaryProblem(2) ;
@@ -116,7 +116,7 @@ public class BitFlipMutationTest {
     mutation.execute(solution) ;
 
     assertEquals(oldSolution, solution) ;
-    verify(randomGenerator, times(8)).nextDouble();
+    verify(randomGenerator, times(1)).nextDouble();
   }
 
   @Test
@@ -124,7 +124,7 @@ public class BitFlipMutationTest {
     JMetalRandom randomGenerator = mock(JMetalRandom.class) ;
     double mutationProbability = 0.01;
 
-    Mockito.when(randomGenerator.nextDouble()).thenReturn(0.01, 0.02, 0.02, 0.02, 0.02, 0.02, 0.01, 0.02) ;
+    Mockito.when(randomGenerator.nextDouble()).thenReturn(0.005, 0.055, 0.5) ;
 
     BitFlipMutation mutation = new BitFlipMutation(mutationProbability) ;
     BinaryProblem problem = new MockBinaryProblem(2) ;
@@ -137,7 +137,7 @@ public class BitFlipMutationTest {
 
     assertNotEquals(oldSolution.getVariableValue(0).get(0), solution.getVariableValue(0).get(0)) ;
     assertNotEquals(oldSolution.getVariableValue(1).get(2), solution.getVariableValue(1).get(2)) ;
-    verify(randomGenerator, times(8)).nextDouble();
+    verify(randomGenerator, times(3)).nextDouble();
  }
 
   /**
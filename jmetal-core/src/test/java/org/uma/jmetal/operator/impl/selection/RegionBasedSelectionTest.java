@@ -0,0 +1,76 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator.impl.selection;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.archive.impl.HashedAdaptiveGridArchive;
+import org.uma.jmetal.util.point.impl.PointSolution;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class RegionBasedSelectionTest {
+  @Test public void shouldExecuteSelectTheRegionsWithTheProbabilityOfWinningATournament() {
+    HashedAdaptiveGridArchive<PointSolution> archive = new HashedAdaptiveGridArchive<>(10, 2, 2) ;
+    PointSolution crowded1 = createSolution(0.0, 1.0) ;
+    PointSolution crowded2 = createSolution(0.01, 0.99) ;
+    PointSolution isolated = createSolution(1.0, 0.0) ;
+    archive.add(crowded1) ;
+    archive.add(crowded2) ;
+    archive.add(isolated) ;
+
+    // The isolated region wins unless both regions drawn are the crowded one
+    RegionBasedSelection<PointSolution> selection = new RegionBasedSelection<>() ;
+    int isolatedSelections = 0 ;
+    int crowded1Selections = 0 ;
+    for (int i = 0; i < 10000; i++) {
+      PointSolution solution = selection.execute(archive) ;
+      isolatedSelections += (solution == isolated) ? 1 : 0 ;
+      crowded1Selections += (solution == crowded1) ? 1 : 0 ;
+    }
+
+    assertEquals(0.75, isolatedSelections / 10000.0, 0.03) ;
+    assertEquals(0.125, crowded1Selections / 10000.0, 0.03) ;
+  }
+
+  @Test public void shouldExecuteTakeIntoAccountTheChangesOfTheArchive() {
+    HashedAdaptiveGridArchive<PointSolution> archive = new HashedAdaptiveGridArchive<>(10, 2, 2) ;
+    archive.add(createSolution(0.5, 0.5)) ;
+    RegionBasedSelection<PointSolution> selection = new RegionBasedSelection<>() ;
+    selection.execute(archive) ;
+
+    PointSolution dominating = createSolution(0.1, 0.1) ;
+    archive.add(dominating) ;
+
+    assertEquals(dominating, selection.execute(archive)) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldExecuteRaiseAnExceptionIfTheArchiveIsEmpty() {
+    new RegionBasedSelection<PointSolution>().execute(
+        new HashedAdaptiveGridArchive<PointSolution>(10, 2, 2)) ;
+  }
+
+  private PointSolution createSolution(double... objectives) {
+    PointSolution solution = new PointSolution(objectives.length) ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+    return solution ;
+  }
+}
@@ -0,0 +1,120 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.solution.util;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractBinaryProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.BinarySolution;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class SolutionPoolTest {
+  @Test (expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheCapacityIsNegative() {
+    new SolutionPool<DoubleSolution>(-1) ;
+  }
+
+  @Test public void shouldAcquireCopyTheSolutionIfThePoolIsEmpty() {
+    MockDoubleProblem problem = new MockDoubleProblem() ;
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>(10) ;
+    DoubleSolution solution = problem.createSolution() ;
+
+    DoubleSolution copy = pool.acquire(solution) ;
+
+    assertNotSame(solution, copy) ;
+    assertEquals(solution, copy) ;
+    assertEquals(1, pool.getNumberOfNewSolutions()) ;
+  }
+
+  @Test public void shouldAcquireOverwriteAReleasedSolution() {
+    MockDoubleProblem problem = new MockDoubleProblem() ;
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>(10) ;
+    DoubleSolution discarded = problem.createSolution() ;
+    discarded.setAttribute("rank", 4) ;
+    DoubleSolution solution = problem.createSolution() ;
+    solution.setObjective(1, 2.5) ;
+    solution.setOverallConstraintViolationDegree(-1.0) ;
+    solution.setAttribute("crowding", 0.5) ;
+
+    pool.release(discarded) ;
+    DoubleSolution copy = pool.acquire(solution) ;
+
+    assertSame(discarded, copy) ;
+    assertEquals(solution, copy) ;
+    assertEquals(0, pool.getNumberOfFreeSolutions()) ;
+    assertEquals(1, pool.getNumberOfRecycledSolutions()) ;
+  }
+
+  @Test public void shouldReleaseNotExceedTheCapacity() {
+    MockDoubleProblem problem = new MockDoubleProblem() ;
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>(2) ;
+
+    pool.release(Arrays.asList(problem.createSolution(), problem.createSolution(),
+        problem.createSolution())) ;
+
+    assertEquals(2, pool.getNumberOfFreeSolutions()) ;
+  }
+
+  @Test public void shouldAcquireNotShareTheBitSetsOfBinarySolutions() {
+    MockBinaryProblem problem = new MockBinaryProblem() ;
+    SolutionPool<BinarySolution> pool = new SolutionPool<>(1) ;
+    BinarySolution solution = problem.createSolution() ;
+
+    pool.release(problem.createSolution());
+    BinarySolution copy = pool.acquire(solution) ;
+    assertEquals(solution, copy) ;
+
+    copy.getVariableValue(0).flip(0);
+    assertEquals(!copy.getVariableValue(0).get(0), solution.getVariableValue(0).get(0)) ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockDoubleProblem extends AbstractDoubleProblem {
+    MockDoubleProblem() {
+      setNumberOfVariables(3);
+      setNumberOfObjectives(2);
+      setLowerLimit(Arrays.asList(0.0, 0.0, 0.0));
+      setUpperLimit(Arrays.asList(1.0, 1.0, 1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockBinaryProblem extends AbstractBinaryProblem {
+    MockBinaryProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(2);
+    }
+
+    @Override protected int getBitsPerVariable(int index) {
+      return 8 ;
+    }
+
+    @Override public void evaluate(BinarySolution solution) {
+    }
+  }
+}
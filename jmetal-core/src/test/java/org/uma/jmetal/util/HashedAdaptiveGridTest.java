@@ -0,0 +1,98 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.point.impl.PointSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class HashedAdaptiveGridTest {
+
+  private PointSolution createSolution(double... objectives) {
+    PointSolution solution = new PointSolution(objectives.length) ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+    return solution ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheLocationsDoNotFitInALong() {
+    new HashedAdaptiveGrid<PointSolution>(5, 13) ;
+  }
+
+  @Test public void shouldAGridWithManyObjectivesBeCreated() {
+    HashedAdaptiveGrid<PointSolution> grid = new HashedAdaptiveGrid<>(5, 10) ;
+
+    assertEquals(0, grid.occupiedHypercubes()) ;
+    assertEquals(-1, grid.getMostPopulatedHypercube()) ;
+  }
+
+  @Test public void shouldUpdateGridCountTheSolutionsOfEachHypercube() {
+    HashedAdaptiveGrid<PointSolution> grid = new HashedAdaptiveGrid<>(2, 2, 0.0) ;
+    List<PointSolution> solutionList = new ArrayList<>() ;
+    solutionList.add(createSolution(0.0, 1.0)) ;
+    solutionList.add(createSolution(0.1, 0.9)) ;
+    solutionList.add(createSolution(1.0, 0.0)) ;
+
+    grid.updateGrid(solutionList);
+
+    assertEquals(2, grid.occupiedHypercubes()) ;
+    assertEquals(2, grid.getMaxDensity()) ;
+    assertEquals(grid.location(solutionList.get(0)), grid.getMostPopulatedHypercube()) ;
+    assertEquals(1, grid.getLocationDensity(grid.location(solutionList.get(2)))) ;
+  }
+
+  @Test public void shouldRemoveSolutionUpdateTheMostPopulatedHypercube() {
+    HashedAdaptiveGrid<PointSolution> grid = new HashedAdaptiveGrid<>(2, 2, 0.0) ;
+    List<PointSolution> solutionList = new ArrayList<>() ;
+    solutionList.add(createSolution(0.0, 1.0)) ;
+    solutionList.add(createSolution(0.1, 0.9)) ;
+    solutionList.add(createSolution(1.0, 0.0)) ;
+    grid.updateGrid(solutionList);
+
+    grid.removeSolution(grid.location(solutionList.get(0)));
+
+    assertEquals(1, grid.getMaxDensity()) ;
+    assertEquals(2, grid.occupiedHypercubes()) ;
+
+    grid.removeSolution(grid.location(solutionList.get(1)));
+
+    assertEquals(1, grid.occupiedHypercubes()) ;
+    assertEquals(grid.location(solutionList.get(2)), grid.getMostPopulatedHypercube()) ;
+  }
+
+  @Test public void shouldUpdateGridOnlyRebuildWhenTheSolutionIsOutOfTheLimits() {
+    HashedAdaptiveGrid<PointSolution> grid = new HashedAdaptiveGrid<>(2, 2) ;
+    List<PointSolution> solutionList = new ArrayList<>() ;
+    solutionList.add(createSolution(0.0, 1.0)) ;
+    solutionList.add(createSolution(1.0, 0.0)) ;
+    grid.updateGrid(solutionList);
+
+    assertFalse(grid.updateGrid(createSolution(0.5, 0.5), solutionList)) ;
+    assertFalse(grid.updateGrid(createSolution(1.05, 0.0), solutionList)) ;
+    assertTrue(grid.updateGrid(createSolution(2.0, 0.0), solutionList)) ;
+    assertEquals(2, grid.occupiedHypercubes()) ;
+  }
+}
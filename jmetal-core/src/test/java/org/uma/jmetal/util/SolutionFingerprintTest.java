@@ -0,0 +1,74 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class SolutionFingerprintTest {
+  @Test public void shouldSolutionsWithTheSameVariablesHaveTheSameFingerprint() {
+    MockProblem problem = new MockProblem() ;
+    DoubleSolution solution = createSolution(problem, 0.25, 0.5) ;
+    DoubleSolution copy = (DoubleSolution) solution.copy() ;
+    copy.setObjective(0, 1.0);
+
+    assertEquals(SolutionFingerprint.getFingerprint(solution),
+        SolutionFingerprint.getFingerprint(copy)) ;
+    assertNotEquals(SolutionFingerprint.getFingerprint(solution),
+        SolutionFingerprint.getFingerprint(createSolution(problem, 0.5, 0.25))) ;
+  }
+
+  @Test public void shouldContainsAllCompareTheDecisionVectors() {
+    MockProblem problem = new MockProblem() ;
+    List<DoubleSolution> solutionList = Arrays.asList(createSolution(problem, 0.1, 0.2),
+        createSolution(problem, 0.3, 0.4)) ;
+    List<DoubleSolution> otherSolutionList = Arrays.asList(createSolution(problem, 0.3, 0.4)) ;
+
+    assertTrue(SolutionFingerprint.containsAll(solutionList, otherSolutionList)) ;
+    assertFalse(SolutionFingerprint.containsAll(otherSolutionList, solutionList)) ;
+  }
+
+  private DoubleSolution createSolution(MockProblem problem, double x1, double x2) {
+    DoubleSolution solution = problem.createSolution() ;
+    solution.setVariableValue(0, x1);
+    solution.setVariableValue(1, x2);
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem extends AbstractDoubleProblem {
+    MockProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(2);
+      setLowerLimit(Arrays.asList(0.0, 0.0));
+      setUpperLimit(Arrays.asList(1.0, 1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
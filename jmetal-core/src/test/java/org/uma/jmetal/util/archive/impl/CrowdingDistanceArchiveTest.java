@@ -0,0 +1,74 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.Solution;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class CrowdingDistanceArchiveTest {
+  @Test public void shouldAddRemoveAllTheConsecutiveSolutionsDominatedByTheNewOne() {
+    MockProblem problem = new MockProblem() ;
+    CrowdingDistanceArchive<Solution> archive = new CrowdingDistanceArchive<>(10) ;
+    archive.add(createSolution(problem, 2.0, 3.0)) ;
+    archive.add(createSolution(problem, 3.0, 2.0)) ;
+    archive.add(createSolution(problem, 0.0, 5.0)) ;
+
+    assertTrue(archive.add(createSolution(problem, 1.0, 1.0))) ;
+
+    assertEquals(2, archive.getSolutionList().size()) ;
+  }
+
+  @Test public void shouldAddReturnFalseIfTheNewSolutionIsTheOneRemovedByTheTruncation() {
+    MockProblem problem = new MockProblem() ;
+    CrowdingDistanceArchive<Solution> archive = new CrowdingDistanceArchive<>(3) ;
+    archive.add(createSolution(problem, 0.0, 4.0)) ;
+    archive.add(createSolution(problem, 2.0, 2.0)) ;
+    archive.add(createSolution(problem, 4.0, 0.0)) ;
+
+    assertFalse(archive.add(createSolution(problem, 2.1, 1.9))) ;
+    assertEquals(3, archive.getSolutionList().size()) ;
+  }
+
+  private Solution createSolution(MockProblem problem, double f1, double f2) {
+    DoubleSolution solution = problem.createSolution() ;
+    solution.setObjective(0, f1);
+    solution.setObjective(1, f2);
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem extends AbstractDoubleProblem {
+    MockProblem() {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(2);
+      setLowerLimit(Arrays.asList(0.0));
+      setUpperLimit(Arrays.asList(1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
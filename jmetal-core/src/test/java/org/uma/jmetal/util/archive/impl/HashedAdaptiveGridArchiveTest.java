@@ -0,0 +1,72 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.HashedAdaptiveGrid;
+import org.uma.jmetal.util.point.impl.PointSolution;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class HashedAdaptiveGridArchiveTest {
+  @Test public void shouldTheRegionsContainTheSolutionsOfEachHypercube() {
+    Random random = new Random(1) ;
+    HashedAdaptiveGridArchive<PointSolution> archive = new HashedAdaptiveGridArchive<>(20, 3, 2) ;
+    for (int i = 0; i < 2000; i++) {
+      double x = random.nextDouble() * (1.0 + i / 500.0) ;
+      archive.add(createSolution(x, 1.0 - x + random.nextDouble() * 0.05)) ;
+
+      HashedAdaptiveGrid<PointSolution> grid = archive.getGrid() ;
+      assertTrue(archive.getSolutionList().size() <= 20) ;
+      int solutionsInRegions = 0 ;
+      for (int j = 0; j < grid.occupiedHypercubes(); j++) {
+        long location = grid.getOccupiedHypercube(j) ;
+        assertEquals(grid.getLocationDensity(location), archive.getRegion(location).size()) ;
+        solutionsInRegions += archive.getRegion(location).size() ;
+      }
+      assertEquals(archive.getSolutionList().size(), solutionsInRegions) ;
+      for (PointSolution solution : archive.getSolutionList()) {
+        assertTrue(archive.getRegion(grid.location(solution)).contains(solution)) ;
+      }
+    }
+  }
+
+  @Test public void shouldAddRemoveASolutionOfTheMostPopulatedRegionWhenTheArchiveIsFull() {
+    HashedAdaptiveGridArchive<PointSolution> archive = new HashedAdaptiveGridArchive<>(3, 2, 2) ;
+    PointSolution first = createSolution(0.0, 1.0) ;
+    archive.add(first) ;
+    archive.add(createSolution(0.01, 0.99)) ;
+    archive.add(createSolution(1.0, 0.0)) ;
+
+    archive.add(createSolution(0.5, 0.5)) ;
+
+    assertEquals(3, archive.getSolutionList().size()) ;
+    assertTrue(!archive.getSolutionList().contains(first)) ;
+  }
+
+  private PointSolution createSolution(double... objectives) {
+    PointSolution solution = new PointSolution(objectives.length) ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+    return solution ;
+  }
+}
@@ -0,0 +1,230 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.SolutionPool;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContribution;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class HypervolumeArchiveTest {
+  @Test public void shouldAddRemoveTheSolutionsDominatedByTheNewOne() {
+    MockProblem problem = new MockProblem(2) ;
+    HypervolumeArchive<Solution> archive = new HypervolumeArchive<>(10) ;
+    archive.add(createSolution(problem, 2.0, 3.0)) ;
+    archive.add(createSolution(problem, 3.0, 2.0)) ;
+    archive.add(createSolution(problem, 0.0, 5.0)) ;
+
+    assertTrue(archive.add(createSolution(problem, 1.0, 1.0))) ;
+    assertFalse(archive.add(createSolution(problem, 1.5, 1.5))) ;
+
+    assertEquals(2, archive.getSolutionList().size()) ;
+  }
+
+  @Test public void shouldAddRemoveTheSolutionWithTheLowestContributionWhenTheArchiveIsFull() {
+    MockProblem problem = new MockProblem(2) ;
+    HypervolumeArchive<Solution> archive = new HypervolumeArchive<>(3, 1.0, 10000) ;
+    archive.add(createSolution(problem, 0.0, 4.0)) ;
+    archive.add(createSolution(problem, 1.0, 2.0)) ;
+    archive.add(createSolution(problem, 4.0, 0.0)) ;
+
+    Solution solution = createSolution(problem, 2.0, 1.0) ;
+    assertTrue(archive.add(solution)) ;
+
+    assertEquals(3, archive.getSolutionList().size()) ;
+    assertTrue(archive.getSolutionList().contains(solution)) ;
+  }
+
+  @Test public void shouldAddReturnFalseIfTheNewSolutionIsTheOneRemoved() {
+    MockProblem problem = new MockProblem(2) ;
+    HypervolumeArchive<Solution> archive = new HypervolumeArchive<>(3, 1.0, 10000) ;
+    archive.add(createSolution(problem, 0.0, 4.0)) ;
+    archive.add(createSolution(problem, 2.0, 2.0)) ;
+    archive.add(createSolution(problem, 4.0, 0.0)) ;
+
+    assertFalse(archive.add(createSolution(problem, 2.1, 1.9))) ;
+    assertEquals(3, archive.getSolutionList().size()) ;
+  }
+
+  @Test public void shouldTheIncrementalContributionsBeEqualToTheOnesComputedFromScratch() {
+    MockProblem problem = new MockProblem(3) ;
+    Random random = new Random(1) ;
+    HypervolumeArchive<Solution> archive = new HypervolumeArchive<>(20) ;
+    for (int step = 0; step < 300; step++) {
+      double x = random.nextDouble() ;
+      double y = random.nextDouble() * (1.0 - x) ;
+      archive.add(createSolution(problem, x, y, 1.0 - x - y + random.nextDouble() * 0.1)) ;
+      archive.computeContributions();
+
+      List<Solution> front = archive.getSolutionList() ;
+      double[] contributions = new double[front.size()] ;
+      for (int i = 0; i < front.size(); i++) {
+        contributions[i] = archive.getContribution(front.get(i)) ;
+      }
+      new HypervolumeContribution<>().computeContributions(front, archive.getReferencePoint());
+      for (int i = 0; i < front.size(); i++) {
+        assertEquals(archive.getContribution(front.get(i)), contributions[i], 1e-9) ;
+      }
+    }
+  }
+
+  @Test public void shouldTheContributionsBeRightWhenTheRejectedSolutionsAreRecycled() {
+    MockProblem problem = new MockProblem(3) ;
+    Random random = new Random(2) ;
+    HypervolumeArchive<Solution> archive = new HypervolumeArchive<>(10) ;
+    HypervolumeArchive<Solution> referenceArchive = new HypervolumeArchive<>(10) ;
+    SolutionPool<Solution> solutionPool = new SolutionPool<>(1) ;
+    Solution template = createSolution(problem, 0.0, 0.0, 0.0) ;
+    int numberOfRejectedSolutions = 0 ;
+    for (int step = 0; step < 300; step++) {
+      double x = random.nextDouble() ;
+      double y = random.nextDouble() * (1.0 - x) ;
+      Solution solution = solutionPool.acquire(template) ;
+      solution.setObjective(0, x);
+      solution.setObjective(1, y);
+      solution.setObjective(2, 1.0 - x - y + random.nextDouble() * 0.1);
+
+      referenceArchive.add(solution.copy()) ;
+      if (!archive.add(solution)) {
+        solutionPool.release(solution);
+        numberOfRejectedSolutions++ ;
+      }
+
+      List<Solution> front = archive.getSolutionList() ;
+      List<Solution> referenceFront = referenceArchive.getSolutionList() ;
+      assertEquals(referenceFront.size(), front.size()) ;
+      for (int i = 0; i < front.size(); i++) {
+        assertArrayEquals(getObjectives(referenceFront.get(i)), getObjectives(front.get(i)), 0.0) ;
+      }
+    }
+    assertTrue(numberOfRejectedSolutions > 0) ;
+    assertTrue(solutionPool.getNumberOfRecycledSolutions() > 0) ;
+
+    archive.computeContributions();
+    List<Solution> front = archive.getSolutionList() ;
+    double[] contributions = new double[front.size()] ;
+    for (int i = 0; i < front.size(); i++) {
+      contributions[i] = archive.getContribution(front.get(i)) ;
+    }
+    new HypervolumeContribution<>().computeContributions(front, archive.getReferencePoint());
+    for (int i = 0; i < front.size(); i++) {
+      assertEquals(archive.getContribution(front.get(i)), contributions[i], 1e-9) ;
+    }
+  }
+
+  @Test public void shouldAddRemoveOneOfTwoCloseSolutionsWithFiveObjectives() {
+    MockProblem problem = new MockProblem(5) ;
+    Random random = new Random(3) ;
+    HypervolumeArchive<Solution> archive = new HypervolumeArchive<>(30) ;
+    for (int k = 0; k < 30; k++) {
+      double[] objectives = new double[5] ;
+      for (int i = 0; i < 5; i++) {
+        objectives[i] = Math.abs(random.nextGaussian()) ;
+      }
+      assertTrue(archive.add(createSolution(problem, toUnitSphere(objectives)))) ;
+    }
+
+    Solution solution = archive.getSolutionList().get(10) ;
+    double[] objectives = getObjectives(solution) ;
+    for (int i = 0; i < 5; i++) {
+      objectives[i] *= 1.0 + ((i % 2 == 0) ? 1e-3 : -1e-3) ;
+    }
+    Solution closeSolution = createSolution(problem, toUnitSphere(objectives)) ;
+    archive.add(closeSolution) ;
+
+    assertEquals(30, archive.getSolutionList().size()) ;
+    assertTrue(archive.getSolutionList().contains(solution)
+        != archive.getSolutionList().contains(closeSolution)) ;
+
+    archive.computeContributions();
+    for (Solution member : archive.getSolutionList()) {
+      assertTrue(archive.getContribution(member) > 0.0) ;
+    }
+  }
+
+  /** Scales a vector of positive values to the unit sphere, as the Pareto front of DTLZ2 */
+  private double[] toUnitSphere(double[] objectives) {
+    double norm = 0.0 ;
+    for (double value : objectives) {
+      norm += value * value ;
+    }
+    for (int i = 0; i < objectives.length; i++) {
+      objectives[i] /= Math.sqrt(norm) ;
+    }
+    return objectives ;
+  }
+
+  @Test public void shouldTheComparatorPreferTheSolutionsWithHigherContributions() {
+    MockProblem problem = new MockProblem(2) ;
+    HypervolumeArchive<Solution> archive = new HypervolumeArchive<>(10, 1.0, 10000) ;
+    Solution solution1 = createSolution(problem, 0.0, 1.0) ;
+    Solution solution2 = createSolution(problem, 0.9, 0.9) ;
+    archive.add(solution1) ;
+    archive.add(solution2) ;
+    archive.computeContributions();
+
+    assertEquals(-1, archive.getComparator().compare(solution1, solution2)) ;
+    assertEquals(1, archive.getComparator().compare(solution2, solution1)) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheOffsetIsNotPositive() {
+    new HypervolumeArchive<Solution>(10, 0.0, 10000) ;
+  }
+
+  private double[] getObjectives(Solution solution) {
+    double[] objectives = new double[solution.getNumberOfObjectives()] ;
+    for (int i = 0; i < objectives.length; i++) {
+      objectives[i] = solution.getObjective(i) ;
+    }
+    return objectives ;
+  }
+
+  private Solution createSolution(MockProblem problem, double... objectives) {
+    DoubleSolution solution = problem.createSolution() ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem extends AbstractDoubleProblem {
+    MockProblem(int numberOfObjectives) {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(numberOfObjectives);
+      setLowerLimit(Arrays.asList(0.0));
+      setUpperLimit(Arrays.asList(1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
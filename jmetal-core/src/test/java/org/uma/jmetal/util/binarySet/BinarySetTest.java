@@ -0,0 +1,114 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.binarySet;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class BinarySetTest {
+  @Test public void shouldSetWordsIgnoreTheBitsBeyondTheLength() {
+    BinarySet binarySet = new BinarySet(70) ;
+    binarySet.setWords(new long[] {-1L, -1L});
+
+    assertEquals(70, binarySet.cardinality()) ;
+    assertArrayEquals(new long[] {-1L, 0x3FL}, binarySet.getWords()) ;
+  }
+
+  @Test public void shouldRandomizeOnlySetBitsWithinTheLength() {
+    JavaRandomGenerator randomGenerator = new JavaRandomGenerator(1) ;
+    int ones = 0 ;
+    for (int i = 0; i < 100; i++) {
+      BinarySet binarySet = new BinarySet(100) ;
+      binarySet.randomize(randomGenerator);
+
+      assertTrue(binarySet.length() <= 100) ;
+      ones += binarySet.cardinality() ;
+    }
+
+    assertEquals(5000, ones, 300) ;
+  }
+
+  @Test public void shouldGetHammingDistanceCountTheDifferentBits() {
+    BinarySet binarySet1 = new BinarySet(130) ;
+    BinarySet binarySet2 = new BinarySet(130) ;
+    binarySet1.set(0);
+    binarySet1.set(64);
+    binarySet1.set(129);
+    binarySet2.set(64);
+    binarySet2.set(100);
+
+    assertEquals(3, binarySet1.getHammingDistance(binarySet2)) ;
+    assertEquals(0, binarySet1.getHammingDistance(binarySet1)) ;
+  }
+
+  @Test public void shouldTheFingerprintBeKeptUpToDateByTheOperationsOnTheBits() {
+    Random random = new Random(1) ;
+    BinarySet binarySet = new BinarySet(200) ;
+    for (int step = 0; step < 1000; step++) {
+      int bit = random.nextInt(200) ;
+      switch (random.nextInt(6)) {
+        case 0: binarySet.set(bit); break ;
+        case 1: binarySet.clear(bit); break ;
+        case 2: binarySet.flip(bit); break ;
+        case 3: binarySet.set(bit, random.nextBoolean()); break ;
+        case 4: binarySet.flip(bit, Math.min(200, bit + 10)); break ;
+        default:
+          long[] words = binarySet.getWords() ;
+          words[random.nextInt(words.length)] = random.nextLong() ;
+          binarySet.setWords(words);
+      }
+
+      assertEquals(getFingerprintFromScratch(binarySet), binarySet.getFingerprint()) ;
+    }
+  }
+
+  @Test public void shouldCopiesHaveTheSameFingerprint() {
+    BinarySet binarySet = new BinarySet(100) ;
+    binarySet.randomize(new JavaRandomGenerator(1));
+
+    BinarySet copy = new BinarySet(100) ;
+    copy.or(binarySet);
+    BinarySet xored = (BinarySet) binarySet.clone() ;
+    xored.xor(binarySet);
+
+    assertEquals(binarySet.getFingerprint(), ((BinarySet) binarySet.clone()).getFingerprint()) ;
+    assertEquals(binarySet.getFingerprint(), copy.getFingerprint()) ;
+    assertEquals(0, xored.getFingerprint()) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldGetHammingDistanceRaiseAnExceptionIfTheLengthsAreDifferent() {
+    new BinarySet(10).getHammingDistance(new BinarySet(11)) ;
+  }
+
+  private long getFingerprintFromScratch(BinarySet binarySet) {
+    BinarySet copy = new BinarySet(binarySet.getBinarySetLength()) ;
+    for (int i = binarySet.nextSetBit(0); i >= 0; i = binarySet.nextSetBit(i + 1)) {
+      copy.set(i);
+    }
+
+    return copy.getFingerprint() ;
+  }
+}
@@ -0,0 +1,166 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.checkpoint;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class CheckpointManagerTest {
+  private File file ;
+
+  @Before public void setup() throws IOException {
+    file = File.createTempFile("checkpoint", ".ckpt") ;
+    file.delete() ;
+  }
+
+  @After public void cleanup() {
+    file.delete() ;
+  }
+
+  @Test public void shouldRestoreReturnFalseIfThereIsNoCheckpoint() {
+    CheckpointManager manager = new CheckpointManager(file.getPath(), 1) ;
+
+    assertFalse(manager.restore(new MockAlgorithm(new MockProblem()))) ;
+  }
+
+  @Test public void shouldRestoreTheStateAndTheRandomGenerator() {
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(1));
+    MockProblem problem = new MockProblem() ;
+    MockAlgorithm algorithm = new MockAlgorithm(problem) ;
+    algorithm.iterations = 12 ;
+    for (int i = 0; i < 5; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      solution.setObjective(0, i);
+      algorithm.population.add(solution) ;
+    }
+
+    CheckpointManager manager = new CheckpointManager(file.getPath(), 1) ;
+    manager.save(algorithm);
+    manager.close();
+    double[] expectedRandomValues = nextDoubles(10) ;
+
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(2));
+    MockAlgorithm resumedAlgorithm = new MockAlgorithm(problem) ;
+    assertTrue(new CheckpointManager(file.getPath(), 1).restore(resumedAlgorithm)) ;
+
+    assertEquals(12, resumedAlgorithm.iterations) ;
+    assertEquals(algorithm.population, resumedAlgorithm.population) ;
+    assertEquals(Arrays.toString(expectedRandomValues), Arrays.toString(nextDoubles(10))) ;
+  }
+
+  @Test public void shouldUpdateTakeACheckpointEveryIntervalIterations() {
+    MockAlgorithm algorithm = new MockAlgorithm(new MockProblem()) ;
+    CheckpointManager manager = new CheckpointManager(file.getPath(), 3) ;
+
+    manager.update(algorithm);
+    manager.update(algorithm);
+    manager.close();
+    assertFalse(file.exists()) ;
+
+    manager.update(algorithm);
+    manager.close();
+    assertTrue(file.exists()) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldRestoreRaiseAnExceptionIfTheCheckpointBelongsToAnotherAlgorithm() {
+    MockProblem problem = new MockProblem() ;
+    CheckpointManager manager = new CheckpointManager(file.getPath(), 1) ;
+    manager.save(new MockAlgorithm(problem));
+    manager.close();
+
+    manager.restore(new AnotherMockAlgorithm(problem)) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheIntervalIsNotPositive() {
+    new CheckpointManager(file.getPath(), 0) ;
+  }
+
+  private double[] nextDoubles(int size) {
+    double[] values = new double[size] ;
+    for (int i = 0; i < size; i++) {
+      values[i] = JMetalRandom.getInstance().nextDouble() ;
+    }
+    return values ;
+  }
+
+  private static class MockAlgorithm implements Checkpointable {
+    private final Problem<DoubleSolution> problem ;
+    private int iterations ;
+    private List<DoubleSolution> population ;
+
+    MockAlgorithm(Problem<DoubleSolution> problem) {
+      this.problem = problem ;
+      population = new ArrayList<>() ;
+    }
+
+    @Override public Problem<?> getProblem() {
+      return problem ;
+    }
+
+    @Override public void saveState(ObjectOutputStream out) throws IOException {
+      out.writeInt(iterations);
+      out.writeObject(population);
+    }
+
+    @Override @SuppressWarnings("unchecked")
+    public void restoreState(ObjectInputStream in) throws IOException, ClassNotFoundException {
+      iterations = in.readInt() ;
+      population = (List<DoubleSolution>) in.readObject() ;
+    }
+  }
+
+  private static class AnotherMockAlgorithm extends MockAlgorithm {
+    AnotherMockAlgorithm(Problem<DoubleSolution> problem) {
+      super(problem) ;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem extends AbstractDoubleProblem {
+    MockProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(1);
+      setLowerLimit(Arrays.asList(0.0, 0.0));
+      setUpperLimit(Arrays.asList(1.0, 1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
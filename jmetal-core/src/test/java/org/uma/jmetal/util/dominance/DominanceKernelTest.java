@@ -0,0 +1,187 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.dominance;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.point.impl.PointSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class DominanceKernelTest {
+
+  @Test public void shouldDominanceTestReturnMinusOneIfTheFirstRowDominates() {
+    double[] objectives = {1.0, 2.0, 1.0, 3.0} ;
+
+    assertEquals(-1, DominanceKernel.dominanceTest(objectives, 0, objectives, 2, 2)) ;
+  }
+
+  @Test public void shouldDominanceTestReturnOneIfTheFirstRowIsDominated() {
+    double[] objectives1 = {2.0, 3.0} ;
+    double[] objectives2 = {1.0, 3.0} ;
+
+    assertEquals(1, DominanceKernel.dominanceTest(objectives1, 0, objectives2, 0, 2)) ;
+  }
+
+  @Test public void shouldDominanceTestReturnZeroIfTheRowsAreNonDominatedOrEqual() {
+    double[] objectives = {1.0, 3.0, 2.0, 2.0, 2.0, 2.0} ;
+
+    assertEquals(0, DominanceKernel.dominanceTest(objectives, 0, objectives, 2, 2)) ;
+    assertEquals(0, DominanceKernel.dominanceTest(objectives, 2, objectives, 4, 2)) ;
+  }
+
+  @Test public void shouldCompareToBlockGiveTheSameResultsAsTheDominanceComparator() {
+    int numberOfObjectives = 3 ;
+    Random random = new Random(1) ;
+    List<Solution> solutionList = new ArrayList<>() ;
+    for (int i = 0; i < 50; i++) {
+      PointSolution solution = new PointSolution(numberOfObjectives) ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.setObjective(j, random.nextInt(4));
+      }
+      solutionList.add(solution) ;
+    }
+
+    ObjectiveMatrix matrix = ObjectiveMatrix.of(solutionList) ;
+    DominanceComparator comparator = new DominanceComparator() ;
+    int[] result = new int[solutionList.size()] ;
+    for (int i = 0; i < solutionList.size(); i++) {
+      DominanceKernel.compareToBlock(matrix, i, 0, solutionList.size(), result);
+      for (int j = 0; j < solutionList.size(); j++) {
+        assertEquals(comparator.compare(solutionList.get(i), solutionList.get(j)), result[j]) ;
+      }
+    }
+  }
+
+  @Test public void shouldCompareTakeTheConstraintViolationIntoAccount() {
+    ObjectiveMatrix matrix = new ObjectiveMatrix(2, 2) ;
+    PointSolution solution = new PointSolution(2) ;
+    solution.setObjective(0, 1.0);
+    solution.setObjective(1, 1.0);
+    matrix.add(solution);
+    matrix.add(solution);
+    matrix.getViolations()[0] = -1.0 ;
+
+    assertEquals(1, DominanceKernel.compare(matrix, 0, 1)) ;
+    assertEquals(-1, DominanceKernel.compare(matrix, 1, 0)) ;
+  }
+
+  @Test public void shouldComputeMasksSetTheBitsOfTheBetterAndWorseObjectives() {
+    ObjectiveMatrix matrix = new ObjectiveMatrix(3, 1) ;
+    PointSolution solution = new PointSolution(3) ;
+    solution.setObjective(0, 1.0);
+    solution.setObjective(1, 1.0);
+    solution.setObjective(2, 1.0);
+    matrix.add(solution);
+
+    long[] better = new long[1] ;
+    long[] worse = new long[1] ;
+    DominanceKernel.computeMasks(new double[]{0.0, 1.0, 2.0}, matrix, 0, 1, better, worse);
+
+    assertEquals(1L, better[0]) ;
+    assertEquals(4L, worse[0]) ;
+    assertEquals(2L, DominanceKernel.equalMask(better[0], worse[0], 3)) ;
+  }
+
+  @Test public void shouldIsDominatedByAnyReturnTrueOnlyIfSomeRowDominatesThePoint() {
+    ObjectiveMatrix matrix = new ObjectiveMatrix(2, 0) ;
+    PointSolution solution = new PointSolution(2) ;
+    solution.setObjective(0, 1.0);
+    solution.setObjective(1, 3.0);
+    matrix.add(solution);
+    solution.setObjective(0, 3.0);
+    solution.setObjective(1, 1.0);
+    matrix.add(solution);
+
+    assertTrue(DominanceKernel.isDominatedByAny(new double[]{2.0, 4.0}, 0.0, matrix)) ;
+    assertFalse(DominanceKernel.isDominatedByAny(new double[]{2.0, 2.0}, 0.0, matrix)) ;
+  }
+
+  @Test public void shouldIsSolutionDominatedBySolutionListGiveTheSameResultsAsTheComparator() {
+    int numberOfObjectives = 3 ;
+    Random random = new Random(1) ;
+    List<Solution> solutionList = new ArrayList<>() ;
+    for (int i = 0; i < 50; i++) {
+      PointSolution solution = new PointSolution(numberOfObjectives) ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.setObjective(j, random.nextInt(4));
+      }
+      solution.setOverallConstraintViolationDegree(-random.nextInt(2));
+      solutionList.add(solution) ;
+    }
+
+    ObjectiveMatrix matrix = ObjectiveMatrix.of(solutionList.subList(0, 10)) ;
+    DominanceComparator comparator = new DominanceComparator() ;
+    int dominatedSolutions = 0 ;
+    for (Solution solution : solutionList) {
+      boolean expected = false ;
+      for (Solution other : solutionList.subList(0, 10)) {
+        expected |= comparator.compare(solution, other) == 1 ;
+      }
+      dominatedSolutions += expected ? 1 : 0 ;
+
+      assertEquals(expected, SolutionListUtils.isSolutionDominatedBySolutionList(solution,
+          solutionList.subList(0, 10))) ;
+      assertEquals(expected, SolutionListUtils.isSolutionDominatedBySolutionList(solution,
+          matrix)) ;
+    }
+    assertTrue(dominatedSolutions > 0) ;
+    assertTrue(dominatedSolutions < solutionList.size()) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldIsSolutionDominatedBySolutionListFailIfTheNumberOfObjectivesIsDifferent() {
+    List<Solution> solutionList = new ArrayList<>() ;
+    solutionList.add(new PointSolution(2)) ;
+
+    SolutionListUtils.isSolutionDominatedBySolutionList(new PointSolution(3), solutionList) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldCompareToBlockRaiseAnExceptionIfTheBlockIsOutOfBounds() {
+    ObjectiveMatrix matrix = new ObjectiveMatrix(2, 1) ;
+    matrix.add(new PointSolution(2));
+
+    DominanceKernel.compareToBlock(matrix, 0, 0, 2, new int[2]);
+  }
+
+  @Test public void shouldRemoveKeepTheOrderOfTheRemainingRows() {
+    ObjectiveMatrix matrix = new ObjectiveMatrix(1, 1) ;
+    PointSolution solution = new PointSolution(1) ;
+    for (int i = 0; i < 4; i++) {
+      solution.setObjective(0, i);
+      matrix.add(solution);
+    }
+
+    matrix.remove(1);
+
+    assertEquals(3, matrix.getNumberOfRows()) ;
+    assertEquals(0.0, matrix.getObjective(0, 0), 0.0) ;
+    assertEquals(2.0, matrix.getObjective(1, 0), 0.0) ;
+    assertEquals(3.0, matrix.getObjective(2, 0), 0.0) ;
+  }
+}
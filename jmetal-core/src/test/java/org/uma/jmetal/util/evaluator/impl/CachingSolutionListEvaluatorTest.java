@@ -0,0 +1,259 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractIntegerPermutationProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.PermutationSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.permutation.Permutation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class CachingSolutionListEvaluatorTest {
+  private static final double EPSILON = 0.0000000001 ;
+
+  private CountingProblem problem ;
+
+  @Before
+  public void startup() {
+    problem = new CountingProblem() ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheCacheSizeIsNotPositive() {
+    new CachingSolutionListEvaluator<DoubleSolution>(
+        new SequentialSolutionListEvaluator<DoubleSolution>(), 0) ;
+  }
+
+  @Test public void shouldEvaluateCopyTheObjectivesOfSolutionsAlreadyEvaluated() {
+    CachingSolutionListEvaluator<DoubleSolution> evaluator = new CachingSolutionListEvaluator<>(
+        new SequentialSolutionListEvaluator<DoubleSolution>()) ;
+
+    DoubleSolution solution = problem.createSolution() ;
+    evaluator.evaluate(new ArrayList<>(Arrays.asList(solution)), problem) ;
+
+    DoubleSolution copy = (DoubleSolution) solution.copy() ;
+    copy.setObjective(0, -1.0);
+    evaluator.evaluate(new ArrayList<>(Arrays.asList(copy)), problem) ;
+
+    assertEquals(1, problem.evaluations) ;
+    assertEquals(solution.getObjective(0), copy.getObjective(0), EPSILON) ;
+    assertEquals(solution.getObjective(1), copy.getObjective(1), EPSILON) ;
+    assertEquals(1, evaluator.getNumberOfHits()) ;
+    assertEquals(1, evaluator.getNumberOfMisses()) ;
+    assertEquals(0.5, evaluator.getHitRatio(), EPSILON) ;
+  }
+
+  @Test public void shouldEvaluateOnlyOnceTheSolutionsRepeatedInTheList() {
+    CachingSolutionListEvaluator<DoubleSolution> evaluator = new CachingSolutionListEvaluator<>(
+        new SequentialSolutionListEvaluator<DoubleSolution>()) ;
+
+    DoubleSolution solution = problem.createSolution() ;
+    List<DoubleSolution> solutionList = new ArrayList<>() ;
+    solutionList.add(solution) ;
+    solutionList.add((DoubleSolution) solution.copy()) ;
+    solutionList.add(problem.createSolution()) ;
+
+    evaluator.evaluate(solutionList, problem) ;
+
+    assertEquals(2, problem.evaluations) ;
+    assertEquals(solutionList.get(0).getObjective(1), solutionList.get(1).getObjective(1), EPSILON) ;
+  }
+
+  @Test public void shouldTheLeastRecentlyUsedEntryBeEvicted() {
+    CachingSolutionListEvaluator<DoubleSolution> evaluator = new CachingSolutionListEvaluator<>(
+        new SequentialSolutionListEvaluator<DoubleSolution>(), 1) ;
+
+    DoubleSolution solution1 = problem.createSolution() ;
+    DoubleSolution solution2 = problem.createSolution() ;
+    evaluator.evaluate(new ArrayList<>(Arrays.asList(solution1)), problem) ;
+    evaluator.evaluate(new ArrayList<>(Arrays.asList(solution2)), problem) ;
+    evaluator.evaluate(new ArrayList<>(Arrays.asList((DoubleSolution) solution1.copy())), problem) ;
+
+    assertEquals(3, problem.evaluations) ;
+    assertEquals(1, evaluator.getNumberOfEntries()) ;
+  }
+
+  @Test public void shouldTheKeyOfAPermutationNotChangeWhenTheSolutionIsModified() {
+    CountingPermutationProblem permutationProblem = new CountingPermutationProblem() ;
+    CachingSolutionListEvaluator<PermutationSolution<Permutation>> evaluator =
+        new CachingSolutionListEvaluator<>(
+            new SequentialSolutionListEvaluator<PermutationSolution<Permutation>>()) ;
+
+    PermutationSolution<Permutation> solution = permutationProblem.createSolution() ;
+    @SuppressWarnings("unchecked")
+    PermutationSolution<Permutation> copy = (PermutationSolution<Permutation>) solution.copy() ;
+    evaluator.evaluate(new ArrayList<>(Arrays.asList(solution)), permutationProblem) ;
+    solution.getVariableValue(0).swap(0, 1);
+    evaluator.evaluate(new ArrayList<>(Arrays.asList(solution)), permutationProblem) ;
+    evaluator.evaluate(new ArrayList<>(Arrays.asList(copy)), permutationProblem) ;
+
+    assertEquals(2, permutationProblem.evaluations) ;
+    assertEquals(1, evaluator.getNumberOfHits()) ;
+    assertEquals(permutationProblem.getValue(copy), copy.getObjective(0), EPSILON) ;
+  }
+
+  @Test public void shouldTheRecordedChangesBeClearedWhenTheObjectivesAreCopiedFromTheCache() {
+    CountingPermutationProblem permutationProblem = new CountingPermutationProblem() ;
+    CachingSolutionListEvaluator<PermutationSolution<Permutation>> evaluator =
+        new CachingSolutionListEvaluator<>(
+            new SequentialSolutionListEvaluator<PermutationSolution<Permutation>>()) ;
+
+    PermutationSolution<Permutation> solution = permutationProblem.createSolution() ;
+    @SuppressWarnings("unchecked")
+    PermutationSolution<Permutation> copy = (PermutationSolution<Permutation>) solution.copy() ;
+    @SuppressWarnings("unchecked")
+    PermutationSolution<Permutation> duplicate = (PermutationSolution<Permutation>) solution.copy() ;
+    evaluator.evaluate(new ArrayList<>(Arrays.asList(solution, duplicate)), permutationProblem) ;
+    copy.getVariableValue(0).swap(0, 1);
+    copy.getVariableValue(0).swap(0, 1);
+    evaluator.evaluate(new ArrayList<>(Arrays.asList(copy)), permutationProblem) ;
+
+    assertEquals(1, permutationProblem.evaluations) ;
+    assertFalse(duplicate.getVariableValue(0).hasUntrackedChanges()) ;
+    assertFalse(copy.getVariableValue(0).hasUntrackedChanges()) ;
+    assertEquals(0, copy.getVariableValue(0).getNumberOfChangedEdges()) ;
+  }
+
+  @Test public void shouldOtherThreadsUseTheCacheWhileTheDecoratedEvaluatorIsRunning()
+      throws Exception {
+    final BlockingEvaluator blockingEvaluator = new BlockingEvaluator() ;
+    final CachingSolutionListEvaluator<DoubleSolution> evaluator =
+        new CachingSolutionListEvaluator<DoubleSolution>(blockingEvaluator) ;
+    final DoubleSolution solution = problem.createSolution() ;
+    evaluator.evaluate(new ArrayList<>(Arrays.asList(solution)), problem) ;
+
+    blockingEvaluator.block() ;
+    ExecutorService executor = Executors.newFixedThreadPool(2) ;
+    try {
+      Future<?> slowEvaluation = executor.submit(new Callable<Object>() {
+        @Override public Object call() {
+          return evaluator.evaluate(new ArrayList<>(Arrays.asList(problem.createSolution())),
+              problem) ;
+        }
+      }) ;
+      assertTrue(blockingEvaluator.started.await(10, TimeUnit.SECONDS)) ;
+
+      final DoubleSolution copy = (DoubleSolution) solution.copy() ;
+      executor.submit(new Callable<Object>() {
+        @Override public Object call() {
+          return evaluator.evaluate(new ArrayList<>(Arrays.asList(copy)), problem) ;
+        }
+      }).get(10, TimeUnit.SECONDS) ;
+
+      assertEquals(solution.getObjective(1), copy.getObjective(1), EPSILON) ;
+      assertEquals(1, evaluator.getNumberOfHits()) ;
+      assertEquals(2, evaluator.getNumberOfMisses()) ;
+
+      blockingEvaluator.release.countDown();
+      slowEvaluation.get(10, TimeUnit.SECONDS) ;
+      assertEquals(2, evaluator.getNumberOfEntries()) ;
+    } finally {
+      blockingEvaluator.release.countDown();
+      executor.shutdownNow() ;
+    }
+  }
+
+  /** Evaluator which, once blocked, waits to be released before evaluating */
+  @SuppressWarnings("serial")
+  private static class BlockingEvaluator extends SequentialSolutionListEvaluator<DoubleSolution> {
+    private final CountDownLatch started = new CountDownLatch(1) ;
+    private final CountDownLatch release = new CountDownLatch(1) ;
+    private volatile boolean blocked ;
+
+    void block() {
+      blocked = true ;
+    }
+
+    @Override public List<DoubleSolution> evaluate(List<DoubleSolution> solutionList,
+        Problem problem) {
+      if (blocked) {
+        started.countDown();
+        try {
+          release.await() ;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return super.evaluate(solutionList, problem) ;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class CountingPermutationProblem extends AbstractIntegerPermutationProblem {
+    private int evaluations ;
+
+    CountingPermutationProblem() {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(1);
+    }
+
+    @Override public int getPermutationLength(int index) {
+      return 5 ;
+    }
+
+    @Override public void evaluate(PermutationSolution<Permutation> solution) {
+      evaluations++ ;
+      solution.setObjective(0, getValue(solution));
+    }
+
+    double getValue(PermutationSolution<Permutation> solution) {
+      int[] elements = solution.getVariableValue(0).getElements() ;
+      double value = 0.0 ;
+      for (int i = 0; i < elements.length; i++) {
+        value += i * elements[i] ;
+      }
+      return value ;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class CountingProblem extends AbstractDoubleProblem {
+    private int evaluations ;
+
+    CountingProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(2);
+      setLowerLimit(Arrays.asList(0.0, 0.0));
+      setUpperLimit(Arrays.asList(1.0, 1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+      evaluations++ ;
+      solution.setObjective(0, solution.getVariableValue(0));
+      solution.setObjective(1, solution.getVariableValue(0) + solution.getVariableValue(1));
+    }
+  }
+}
@@ -0,0 +1,104 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.SeparableConstrainedProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class ConstraintFirstSolutionListEvaluatorTest {
+  private static final double EPSILON = 0.0000000001 ;
+
+  @Test (expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheNumberOfThreadsIsNegative() {
+    new ConstraintFirstSolutionListEvaluator<DoubleSolution>(-1) ;
+  }
+
+  @Test public void shouldEvaluateComputeObjectivesAndConstraintsOfAllTheSolutions() {
+    SeparableProblem problem = new SeparableProblem() ;
+    List<DoubleSolution> solutionList = createSolutions(problem, 0.2, 0.7) ;
+
+    new ConstraintFirstSolutionListEvaluator<DoubleSolution>(1).evaluate(solutionList, problem) ;
+
+    assertEquals(2, problem.evaluations.get()) ;
+    assertEquals(0.2, solutionList.get(0).getObjective(0), EPSILON) ;
+    assertEquals(-0.3, solutionList.get(0).getOverallConstraintViolationDegree(), EPSILON) ;
+    assertEquals(0.0, solutionList.get(1).getOverallConstraintViolationDegree(), EPSILON) ;
+  }
+
+  @Test public void shouldEvaluateSkipTheObjectivesOfHeavilyInfeasibleSolutions() {
+    SeparableProblem problem = new SeparableProblem() ;
+    List<DoubleSolution> solutionList = createSolutions(problem, 0.1, 0.45, 0.9) ;
+    ConstraintFirstSolutionListEvaluator<DoubleSolution> evaluator =
+        new ConstraintFirstSolutionListEvaluator<>(2, 0.25) ;
+
+    evaluator.evaluate(solutionList, problem) ;
+    evaluator.shutdown();
+
+    assertEquals(2, problem.evaluations.get()) ;
+    assertEquals(1, evaluator.getNumberOfSkippedEvaluations()) ;
+    assertEquals(ConstraintFirstSolutionListEvaluator.SKIPPED_OBJECTIVE,
+        solutionList.get(0).getObjective(0), EPSILON) ;
+    assertEquals(0.45, solutionList.get(1).getObjective(0), EPSILON) ;
+  }
+
+  private List<DoubleSolution> createSolutions(SeparableProblem problem, double... values) {
+    List<DoubleSolution> solutionList = new ArrayList<>() ;
+    for (double value : values) {
+      DoubleSolution solution = problem.createSolution() ;
+      solution.setVariableValue(0, value);
+      solutionList.add(solution) ;
+    }
+    return solutionList ;
+  }
+
+  /** Problem with one objective (f(x) = x) and one constraint (x >= 0.5) */
+  @SuppressWarnings("serial")
+  private static class SeparableProblem extends AbstractDoubleProblem
+      implements SeparableConstrainedProblem<DoubleSolution> {
+    private AtomicInteger evaluations = new AtomicInteger(0) ;
+
+    SeparableProblem() {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(1);
+      setNumberOfConstraints(1);
+      setLowerLimit(Arrays.asList(0.0));
+      setUpperLimit(Arrays.asList(1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+      evaluations.incrementAndGet() ;
+      solution.setObjective(0, solution.getVariableValue(0));
+    }
+
+    @Override public void evaluateConstraints(DoubleSolution solution) {
+      double constraint = solution.getVariableValue(0) - 0.5 ;
+      solution.setOverallConstraintViolationDegree(constraint < 0 ? constraint : 0.0);
+      solution.setNumberOfViolatedConstraints(constraint < 0 ? 1 : 0);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.neighborhood.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class C9Test {
+  @Test public void shouldTheGridOfOneHundredCellsHaveTenRowsAndTenColumns() {
+    C9 neighborhood = new C9(100) ;
+
+    assertEquals(10, neighborhood.getRows()) ;
+    assertEquals(10, neighborhood.getColumns()) ;
+  }
+
+  @Test public void shouldTheGridUseTheLargestDivisorNotGreaterThanTheSquareRoot() {
+    C9 neighborhood = new C9(24) ;
+
+    assertEquals(6, neighborhood.getRows()) ;
+    assertEquals(4, neighborhood.getColumns()) ;
+  }
+
+  @Test public void shouldGetNeighborsReturnTheEightSurroundingCells() {
+    C9 neighborhood = new C9(16) ;
+
+    int[] neighbors = neighborhood.getNeighbors(5).clone() ;
+    Arrays.sort(neighbors);
+
+    assertArrayEquals(new int[] {0, 1, 2, 4, 6, 8, 9, 10}, neighbors) ;
+  }
+
+  @Test public void shouldGetNeighborsWrapAroundTheBorders() {
+    C9 neighborhood = new C9(16) ;
+
+    int[] neighbors = neighborhood.getNeighbors(0).clone() ;
+    Arrays.sort(neighbors);
+
+    assertArrayEquals(new int[] {1, 3, 4, 5, 7, 12, 13, 15}, neighbors) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldTheConstructorRaiseAnExceptionIfThereIsNoGridWithThreeRowsAndColumns() {
+    new C9(14) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldGetNeighborsRaiseAnExceptionIfTheIndexIsInvalid() {
+    new C9(9).getNeighbors(9) ;
+  }
+}
@@ -0,0 +1,117 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.parallel.impl;
+
+import org.junit.After;
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class ParallelArchiveFilterTest {
+  private ParallelRangeExecutor executor ;
+
+  @After public void tearDown() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheNumberOfThreadsIsZero() {
+    new ParallelRangeExecutor(0, 1) ;
+  }
+
+  @Test public void shouldExecuteCoverAllTheIndexesWithTheSameRandomNumbersForTheSameSeed() {
+    final double[] first = new double[10] ;
+    final double[] second = new double[10] ;
+    executor = new ParallelRangeExecutor(3, 1) ;
+    executor.execute(10, createTask(first));
+    executor.shutdown();
+    executor = new ParallelRangeExecutor(3, 1) ;
+    executor.execute(10, createTask(second));
+
+    for (int i = 0; i < first.length; i++) {
+      assertEquals(true, first[i] > 0.0) ;
+      assertEquals(first[i], second[i], 0.0) ;
+    }
+  }
+
+  @Test public void shouldFilterDiscardTheCandidatesDominatedByTheArchive() {
+    MockProblem problem = new MockProblem() ;
+    NonDominatedSolutionListArchive<DoubleSolution> archive =
+        new NonDominatedSolutionListArchive<>() ;
+    archive.add(createSolution(problem, 1.0, 3.0)) ;
+    archive.add(createSolution(problem, 3.0, 1.0)) ;
+
+    List<DoubleSolution> candidates = new ArrayList<>() ;
+    candidates.add(createSolution(problem, 2.0, 4.0)) ;
+    candidates.add(createSolution(problem, 2.0, 2.0)) ;
+    candidates.add(createSolution(problem, 4.0, 2.0)) ;
+    candidates.add(createSolution(problem, 0.5, 5.0)) ;
+    candidates.add(createSolution(problem, 3.0, 1.0)) ;
+
+    executor = new ParallelRangeExecutor(2, 1) ;
+    List<DoubleSolution> result =
+        new ParallelArchiveFilter<DoubleSolution>(executor).filter(archive, candidates) ;
+
+    assertEquals(3, result.size()) ;
+    assertSame(candidates.get(1), result.get(0)) ;
+    assertSame(candidates.get(3), result.get(1)) ;
+    assertSame(candidates.get(4), result.get(2)) ;
+  }
+
+  private ParallelRangeExecutor.RangeTask createTask(final double[] values) {
+    return new ParallelRangeExecutor.RangeTask() {
+      @Override public void execute(int from, int to, PseudoRandomGenerator randomGenerator) {
+        for (int i = from; i < to; i++) {
+          values[i] = 1.0 + randomGenerator.nextDouble() ;
+        }
+      }
+    } ;
+  }
+
+  private DoubleSolution createSolution(MockProblem problem, double f1, double f2) {
+    DoubleSolution solution = problem.createSolution() ;
+    solution.setObjective(0, f1);
+    solution.setObjective(1, f2);
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem extends AbstractDoubleProblem {
+    MockProblem() {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(2);
+      setLowerLimit(Arrays.asList(0.0));
+      setUpperLimit(Arrays.asList(1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
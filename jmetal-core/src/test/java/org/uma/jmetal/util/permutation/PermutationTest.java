@@ -0,0 +1,139 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.permutation;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class PermutationTest {
+  @Test public void shouldRandomizeKeepAPermutation() {
+    Permutation permutation = new Permutation(50) ;
+    permutation.randomize(new JavaRandomGenerator(1));
+
+    int[] elements = permutation.getElements().clone() ;
+    Arrays.sort(elements);
+    assertArrayEquals(new Permutation(50).getElements(), elements) ;
+    assertTrue(permutation.hasUntrackedChanges()) ;
+  }
+
+  @Test public void shouldTheRecordedEdgesGiveTheChangeOfTheTourLength() {
+    Random random = new Random(1) ;
+    int[][] distances = createSymmetricDistances(random, 20) ;
+    Permutation tour = new Permutation(20) ;
+    tour.randomize(new JavaRandomGenerator(1));
+    tour.clearChanges();
+
+    for (int step = 0; step < 500; step++) {
+      long length = getTourLength(tour, distances) ;
+      int i = random.nextInt(20) ;
+      int j = random.nextInt(20) ;
+      switch (random.nextInt(3)) {
+        case 0:
+          tour.swap(i, j);
+          break ;
+        case 1:
+          tour.reverse(Math.min(i, j), Math.max(i, j));
+          break ;
+        default:
+          int[] elements = tour.getElements().clone() ;
+          elements[i] = tour.get(j) ;
+          elements[j] = tour.get(i) ;
+          tour.setElements(elements);
+      }
+
+      if (!tour.hasUntrackedChanges()) {
+        assertEquals(getTourLength(tour, distances), length + getLengthChange(tour, distances)) ;
+      }
+      tour.clearChanges();
+    }
+  }
+
+  @Test public void shouldCopyFromCopyTheElementsAndTheChanges() {
+    Permutation permutation = new Permutation(10) ;
+    permutation.clearChanges();
+    permutation.swap(2, 5);
+
+    Permutation copy = new Permutation(10) ;
+    copy.copyFrom(permutation);
+
+    assertEquals(permutation, copy) ;
+    assertFalse(copy.hasUntrackedChanges()) ;
+    assertEquals(permutation.getNumberOfChangedEdges(), copy.getNumberOfChangedEdges()) ;
+  }
+
+  @Test public void shouldTooManyChangesLeaveThemUntracked() {
+    Permutation permutation = new Permutation(100) ;
+    permutation.clearChanges();
+    permutation.reverse(10, 20);
+    assertFalse(permutation.hasUntrackedChanges()) ;
+
+    int[] elements = permutation.getElements().clone() ;
+    for (int i = 0; i < 50; i++) {
+      int element = elements[2 * i] ;
+      elements[2 * i] = elements[2 * i + 1] ;
+      elements[2 * i + 1] = element ;
+    }
+    permutation.setElements(elements);
+
+    assertTrue(permutation.hasUntrackedChanges()) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldSetElementsRaiseAnExceptionIfTheLengthIsDifferent() {
+    new Permutation(10).setElements(new int[11]);
+  }
+
+  private int[][] createSymmetricDistances(Random random, int numberOfCities) {
+    int[][] distances = new int[numberOfCities][numberOfCities] ;
+    for (int i = 0; i < numberOfCities; i++) {
+      for (int j = 0; j < i; j++) {
+        distances[i][j] = distances[j][i] = random.nextInt(100) ;
+      }
+    }
+
+    return distances ;
+  }
+
+  private long getTourLength(Permutation tour, int[][] distances) {
+    long length = 0 ;
+    for (int i = 0; i < tour.size(); i++) {
+      length += distances[tour.get(i)][tour.get((i + 1) % tour.size())] ;
+    }
+
+    return length ;
+  }
+
+  private long getLengthChange(Permutation tour, int[][] distances) {
+    int[] edges = tour.getChangedEdges() ;
+    long change = 0 ;
+    for (int i = 0; i < 4 * tour.getNumberOfChangedEdges(); i += 4) {
+      change += distances[edges[i + 2]][edges[i + 3]] - distances[edges[i]][edges[i + 1]] ;
+    }
+
+    return change ;
+  }
+}
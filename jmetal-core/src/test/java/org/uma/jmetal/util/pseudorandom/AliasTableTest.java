@@ -0,0 +1,74 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.pseudorandom;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class AliasTableTest {
+  @Test public void shouldBuildGiveEachOutcomeTheProbabilityOfItsWeight() {
+    Random random = new Random(1) ;
+    AliasTable table = new AliasTable() ;
+    for (int size = 1; size < 50; size += 7) {
+      double[] weights = new double[size + 3] ;
+      double sum = 0.0 ;
+      for (int i = 0; i < size; i++) {
+        weights[i] = (random.nextInt(4) == 0) ? 0.0 : random.nextDouble() ;
+        sum += weights[i] ;
+      }
+      weights[0] += 1.0 ;
+      sum += 1.0 ;
+
+      table.build(weights, size);
+
+      assertEquals(size, table.size()) ;
+      for (int i = 0; i < size; i++) {
+        assertEquals(weights[i] / sum, table.getProbability(i), 1e-12) ;
+      }
+    }
+  }
+
+  @Test public void shouldSampleNeverReturnAnOutcomeWithZeroWeight() {
+    AliasTable table = new AliasTable() ;
+    table.build(new double[] {0.0, 3.0, 0.0, 1.0}, 4);
+
+    int[] counts = new int[4] ;
+    for (int i = 0; i < 4000; i++) {
+      counts[table.sample()]++ ;
+    }
+
+    assertEquals(0, counts[0]) ;
+    assertEquals(0, counts[2]) ;
+    assertTrue(counts[1] > counts[3]) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldBuildRaiseAnExceptionIfAllTheWeightsAreZero() {
+    new AliasTable().build(new double[] {0.0, 0.0}, 2);
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldSampleRaiseAnExceptionIfTheTableHasNotBeenBuilt() {
+    new AliasTable().sample() ;
+  }
+}
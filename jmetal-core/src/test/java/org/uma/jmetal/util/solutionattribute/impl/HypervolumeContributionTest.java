@@ -0,0 +1,313 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.SolutionPool;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class HypervolumeContributionTest {
+  @Test public void shouldComputeContributionsReturnTheExclusiveAreasInTwoObjectives() {
+    MockProblem problem = new MockProblem(2) ;
+    List<Solution> front = new ArrayList<>() ;
+    front.add(createSolution(problem, 1.0, 3.0)) ;
+    front.add(createSolution(problem, 2.0, 2.0)) ;
+    front.add(createSolution(problem, 3.0, 1.0)) ;
+
+    HypervolumeContribution<Solution> contribution = new HypervolumeContribution<>() ;
+    contribution.computeContributions(front, new double[] {4.0, 4.0});
+
+    assertEquals(1.0, contribution.getAttribute(front.get(0)), 1e-12) ;
+    assertEquals(1.0, contribution.getAttribute(front.get(1)), 1e-12) ;
+    assertEquals(1.0, contribution.getAttribute(front.get(2)), 1e-12) ;
+  }
+
+  @Test public void shouldComputeContributionsBeExactInThreeObjectives() {
+    MockProblem problem = new MockProblem(3) ;
+    List<Solution> front = createIntegerFront(problem, new Random(1), 3, 30) ;
+    double[] referencePoint = {10.0, 10.0, 10.0} ;
+
+    HypervolumeContribution<Solution> contribution = new HypervolumeContribution<>() ;
+    contribution.computeContributions(front, referencePoint);
+
+    for (Solution solution : front) {
+      assertEquals(countExclusiveCells(solution, front, 10), contribution.getAttribute(solution),
+          1e-9) ;
+    }
+  }
+
+  @Test public void shouldUpdateContributionsGiveTheSameValuesAsComputingThemAgain() {
+    MockProblem problem = new MockProblem(3) ;
+    Random random = new Random(2) ;
+    List<Solution> front = createIntegerFront(problem, random, 3, 40) ;
+    double[] referencePoint = {10.0, 10.0, 10.0} ;
+
+    HypervolumeContribution<Solution> contribution = new HypervolumeContribution<>() ;
+    contribution.computeContributions(front, referencePoint);
+    for (int step = 0; step < 20; step++) {
+      front.remove(random.nextInt(front.size())) ;
+      Solution solution = createSolution(problem, random.nextInt(10), random.nextInt(10),
+          random.nextInt(10)) ;
+      front.add(solution) ;
+      front = SolutionListUtils.getNondominatedSolutions(front) ;
+
+      contribution.updateContributions(front, referencePoint);
+
+      for (Solution member : front) {
+        assertEquals(countExclusiveCells(member, front, 10), contribution.getAttribute(member),
+            1e-9) ;
+      }
+    }
+  }
+
+  @Test public void shouldUpdateContributionsBeRightWhenTheRemovedSolutionsAreRecycled() {
+    MockProblem problem = new MockProblem(3) ;
+    Random random = new Random(3) ;
+    List<Solution> front = createIntegerFront(problem, random, 3, 40) ;
+    double[] referencePoint = {10.0, 10.0, 10.0} ;
+    SolutionPool<Solution> solutionPool = new SolutionPool<>(10) ;
+    Solution template = createSolution(problem, 0.0, 0.0, 0.0) ;
+
+    HypervolumeContribution<Solution> contribution = new HypervolumeContribution<>() ;
+    contribution.computeContributions(front, referencePoint);
+    for (int step = 0; step < 50; step++) {
+      Solution offspring = solutionPool.acquire(template) ;
+      for (int i = 0; i < 3; i++) {
+        offspring.setObjective(i, random.nextInt(10));
+      }
+      front.add(offspring) ;
+      List<Solution> nondominatedSolutions = SolutionListUtils.getNondominatedSolutions(front) ;
+      for (Solution solution : front) {
+        if (!containsSolution(nondominatedSolutions, solution)) {
+          contribution.remove(solution);
+          solutionPool.release(solution);
+        }
+      }
+      front = nondominatedSolutions ;
+
+      contribution.updateContributions(front, referencePoint);
+      double[] updatedContributions = new double[front.size()] ;
+      for (int i = 0; i < front.size(); i++) {
+        updatedContributions[i] = contribution.getAttribute(front.get(i)) ;
+      }
+      new HypervolumeContribution<Solution>().computeContributions(front, referencePoint);
+      for (int i = 0; i < front.size(); i++) {
+        assertEquals(contribution.getAttribute(front.get(i)), updatedContributions[i], 1e-9) ;
+      }
+
+      Solution worst = front.get(0) ;
+      for (Solution solution : front) {
+        if (contribution.getAttribute(solution) < contribution.getAttribute(worst)) {
+          worst = solution ;
+        }
+      }
+      front.remove(worst) ;
+      contribution.remove(worst);
+      solutionPool.release(worst);
+    }
+
+    assertTrue(solutionPool.getNumberOfRecycledSolutions() > 0) ;
+  }
+
+  @Test public void shouldUpdateContributionsTakeIntoAccountTheObjectivesChangedInPlace() {
+    MockProblem problem = new MockProblem(3) ;
+    Random random = new Random(4) ;
+    List<Solution> front = createIntegerFront(problem, random, 3, 40) ;
+    double[] referencePoint = {10.0, 10.0, 10.0} ;
+
+    HypervolumeContribution<Solution> contribution = new HypervolumeContribution<>() ;
+    contribution.computeContributions(front, referencePoint);
+    for (int step = 0; step < 20; step++) {
+      Solution solution = front.get(random.nextInt(front.size())) ;
+      for (int i = 0; i < 3; i++) {
+        solution.setObjective(i, random.nextInt(10));
+      }
+      front = SolutionListUtils.getNondominatedSolutions(front) ;
+
+      contribution.updateContributions(front, referencePoint);
+
+      for (Solution member : front) {
+        assertEquals(countExclusiveCells(member, front, 10), contribution.getAttribute(member),
+            1e-9) ;
+      }
+    }
+  }
+
+  @Test public void shouldEstimateContributionsWithMoreThanThreeObjectives() {
+    MockProblem problem = new MockProblem(4) ;
+    List<Solution> front = new ArrayList<>() ;
+    front.add(createSolution(problem, 0.0, 1.0, 1.0, 1.0)) ;
+    front.add(createSolution(problem, 1.0, 0.0, 1.0, 1.0)) ;
+
+    HypervolumeContribution<Solution> contribution = new HypervolumeContribution<>(20000) ;
+    contribution.computeContributions(front, new double[] {2.0, 2.0, 2.0, 2.0});
+
+    assertEquals(1.0, contribution.getAttribute(front.get(0)), 0.05) ;
+    assertEquals(1.0, contribution.getAttribute(front.get(1)), 0.05) ;
+  }
+
+  private boolean containsSolution(List<Solution> solutionList, Solution solution) {
+    for (Solution member : solutionList) {
+      if (member == solution) {
+        return true ;
+      }
+    }
+    return false ;
+  }
+
+  @Test public void shouldEstimateContributionsCloseToTheExactOnesInFourObjectives() {
+    MockProblem problem = new MockProblem(4) ;
+    List<Solution> front = createIntegerFront(problem, new Random(5), 4, 60) ;
+    double[] referencePoint = {10.0, 10.0, 10.0, 10.0} ;
+
+    JMetalRandom.getInstance().setSeed(1);
+    HypervolumeContribution<Solution> contribution = new HypervolumeContribution<>(100000) ;
+    contribution.computeContributions(front, referencePoint);
+
+    for (Solution solution : front) {
+      double exactContribution = countExclusiveCells(solution, front, 10) ;
+      assertEquals(exactContribution, contribution.getAttribute(solution),
+          0.1 * exactContribution + 1.0) ;
+    }
+    for (Solution solution1 : front) {
+      for (Solution solution2 : front) {
+        if (countExclusiveCells(solution1, front, 10) > 1.5 * countExclusiveCells(solution2,
+            front, 10)) {
+          assertTrue(contribution.getAttribute(solution1) > contribution.getAttribute(solution2));
+        }
+      }
+    }
+  }
+
+  @Test public void shouldEstimateNonZeroContributionsOnLargeFrontsWithFourAndFiveObjectives() {
+    for (int numberOfObjectives = 4; numberOfObjectives <= 5; numberOfObjectives++) {
+      MockProblem problem = new MockProblem(numberOfObjectives) ;
+      Random random = new Random(6) ;
+      List<Solution> front = new ArrayList<>() ;
+      double[] referencePoint = new double[numberOfObjectives] ;
+      for (int k = 0; k < 100; k++) {
+        // point of the positive orthant of the unit sphere, as the Pareto front of DTLZ2
+        double[] objectives = new double[numberOfObjectives] ;
+        double norm = 0.0 ;
+        for (int i = 0; i < numberOfObjectives; i++) {
+          objectives[i] = Math.abs(random.nextGaussian()) ;
+          norm += objectives[i] * objectives[i] ;
+        }
+        for (int i = 0; i < numberOfObjectives; i++) {
+          objectives[i] /= Math.sqrt(norm) ;
+          referencePoint[i] = Math.max(referencePoint[i], objectives[i] + 100.0) ;
+        }
+        front.add(createSolution(problem, objectives)) ;
+      }
+
+      JMetalRandom.getInstance().setSeed(1);
+      HypervolumeContribution<Solution> contribution = new HypervolumeContribution<>() ;
+      contribution.computeContributions(front, referencePoint);
+
+      for (Solution solution : front) {
+        assertTrue(contribution.getAttribute(solution) > 0.0) ;
+      }
+    }
+  }
+
+  /** Non-dominated front of random integer points in [0, 10) */
+  private List<Solution> createIntegerFront(MockProblem problem, Random random,
+      int numberOfObjectives, int size) {
+    List<Solution> solutionList = new ArrayList<>() ;
+    for (int i = 0; i < size; i++) {
+      double[] objectives = new double[numberOfObjectives] ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        objectives[j] = random.nextInt(10) ;
+      }
+      solutionList.add(createSolution(problem, objectives)) ;
+    }
+
+    return SolutionListUtils.getNondominatedSolutions(solutionList) ;
+  }
+
+  /**
+   * Number of unit cells of [0, upperLimit)^m dominated by a solution and by no other one, m
+   * being the number of objectives
+   */
+  private double countExclusiveCells(Solution solution, List<Solution> front, int upperLimit) {
+    int numberOfObjectives = solution.getNumberOfObjectives() ;
+    int numberOfCells = (int) Math.pow(upperLimit, numberOfObjectives) ;
+    int[] cell = new int[numberOfObjectives] ;
+    int cells = 0 ;
+    for (int index = 0; index < numberOfCells; index++) {
+      for (int i = 0, rest = index; i < numberOfObjectives; i++, rest /= upperLimit) {
+        cell[i] = rest % upperLimit ;
+      }
+      if (dominatesCell(solution, cell)) {
+        boolean exclusive = true ;
+        for (Solution member : front) {
+          if ((member != solution) && dominatesCell(member, cell)) {
+            exclusive = false ;
+          }
+        }
+        if (exclusive) {
+          cells++ ;
+        }
+      }
+    }
+
+    return cells ;
+  }
+
+  private boolean dominatesCell(Solution solution, int[] cell) {
+    for (int i = 0; i < cell.length; i++) {
+      if (solution.getObjective(i) > cell[i]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  private Solution createSolution(MockProblem problem, double... objectives) {
+    DoubleSolution solution = problem.createSolution() ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem extends AbstractDoubleProblem {
+    MockProblem(int numberOfObjectives) {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(numberOfObjectives);
+      setLowerLimit(Arrays.asList(0.0));
+      setUpperLimit(Arrays.asList(1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
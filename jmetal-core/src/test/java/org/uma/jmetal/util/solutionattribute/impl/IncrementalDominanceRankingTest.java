@@ -0,0 +1,120 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class IncrementalDominanceRankingTest {
+  @Test public void shouldAddPushTheDominatedSolutionsToTheNextSubfronts() {
+    MockProblem problem = new MockProblem() ;
+    IncrementalDominanceRanking<Solution> ranking = new IncrementalDominanceRanking<>() ;
+    Solution solution1 = createSolution(problem, 3.0, 3.0) ;
+    Solution solution2 = createSolution(problem, 2.0, 2.0) ;
+    Solution solution3 = createSolution(problem, 1.0, 4.0) ;
+
+    assertEquals(0, ranking.add(solution1)) ;
+    assertEquals(0, ranking.add(solution2)) ;
+    assertEquals(0, ranking.add(solution3)) ;
+
+    assertEquals(2, ranking.getNumberOfSubfronts()) ;
+    assertEquals(1, (int) ranking.getAttribute(solution1)) ;
+    assertEquals(0, (int) ranking.getAttribute(solution2)) ;
+  }
+
+  @Test public void shouldRemovePromoteTheSolutionsNoLongerDominated() {
+    MockProblem problem = new MockProblem() ;
+    IncrementalDominanceRanking<Solution> ranking = new IncrementalDominanceRanking<>() ;
+    Solution solution1 = createSolution(problem, 1.0, 1.0) ;
+    Solution solution2 = createSolution(problem, 2.0, 2.0) ;
+    Solution solution3 = createSolution(problem, 3.0, 3.0) ;
+    ranking.computeRanking(new ArrayList<>(Arrays.asList(solution1, solution2, solution3))) ;
+
+    ranking.remove(solution1);
+
+    assertEquals(2, ranking.getNumberOfSubfronts()) ;
+    assertEquals(0, (int) ranking.getAttribute(solution2)) ;
+    assertEquals(1, (int) ranking.getAttribute(solution3)) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldRemoveRaiseAnExceptionIfTheSolutionIsNotInTheRanking() {
+    MockProblem problem = new MockProblem() ;
+    IncrementalDominanceRanking<Solution> ranking = new IncrementalDominanceRanking<>() ;
+    ranking.add(createSolution(problem, 1.0, 1.0)) ;
+
+    ranking.remove(createSolution(problem, 1.0, 1.0));
+  }
+
+  @Test public void shouldRandomInsertionsAndRemovalsGiveTheSameRanksAsDominanceRanking() {
+    MockProblem problem = new MockProblem() ;
+    Random random = new Random(1) ;
+    IncrementalDominanceRanking<Solution> ranking =
+        new IncrementalDominanceRanking<>(new CrowdingDistance<Solution>()) ;
+    List<Solution> population = new ArrayList<>() ;
+
+    for (int step = 0; step < 500; step++) {
+      if ((population.size() > 0) && (random.nextInt(3) == 0)) {
+        ranking.remove(population.remove(random.nextInt(population.size())));
+      } else {
+        Solution solution = createSolution(problem, random.nextInt(10), random.nextInt(10)) ;
+        population.add(solution) ;
+        ranking.add(solution) ;
+      }
+
+      List<Integer> ranks = new ArrayList<>() ;
+      for (Solution solution : population) {
+        ranks.add(ranking.getAttribute(solution)) ;
+      }
+      new DominanceRanking().computeRanking(population) ;
+      for (int i = 0; i < population.size(); i++) {
+        assertEquals(ranks.get(i), ranking.getAttribute(population.get(i))) ;
+      }
+    }
+  }
+
+  private Solution createSolution(MockProblem problem, double f1, double f2) {
+    DoubleSolution solution = problem.createSolution() ;
+    solution.setObjective(0, f1);
+    solution.setObjective(1, f2);
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem extends AbstractDoubleProblem {
+    MockProblem() {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(2);
+      setLowerLimit(Arrays.asList(0.0));
+      setUpperLimit(Arrays.asList(1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
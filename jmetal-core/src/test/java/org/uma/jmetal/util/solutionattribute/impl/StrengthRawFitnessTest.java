@@ -0,0 +1,113 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class StrengthRawFitnessTest {
+  @Test public void shouldComputeFitnessAddTheStrengthsOfTheDominatorsAndTheDensity() {
+    MockProblem problem = new MockProblem() ;
+    List<Solution> solutionList = new ArrayList<>() ;
+    solutionList.add(createSolution(problem, 1.0, 1.0)) ;
+    solutionList.add(createSolution(problem, 2.0, 2.0)) ;
+    solutionList.add(createSolution(problem, 3.0, 3.0)) ;
+
+    StrengthRawFitness<Solution> fitness = new StrengthRawFitness<>(1) ;
+    fitness.computeFitness(solutionList);
+
+    double density = 1.0 / (Math.sqrt(2.0) + 2.0) ;
+    assertEquals(0.0 + density, fitness.getAttribute(solutionList.get(0)), 1e-12) ;
+    assertEquals(2.0 + density, fitness.getAttribute(solutionList.get(1)), 1e-12) ;
+    assertEquals(3.0 + density, fitness.getAttribute(solutionList.get(2)), 1e-12) ;
+  }
+
+  @Test public void shouldComputeFitnessUseTheKthNearestNeighbor() {
+    MockProblem problem = new MockProblem() ;
+    List<Solution> solutionList = new ArrayList<>() ;
+    solutionList.add(createSolution(problem, 0.0, 4.0)) ;
+    solutionList.add(createSolution(problem, 1.0, 3.0)) ;
+    solutionList.add(createSolution(problem, 3.0, 1.0)) ;
+    solutionList.add(createSolution(problem, 4.0, 0.0)) ;
+
+    new StrengthRawFitness<Solution>(2).computeFitness(solutionList);
+
+    assertEquals(1.0 / (Math.sqrt(18.0) + 2.0),
+        new Fitness().getAttribute(solutionList.get(0)), 1e-12) ;
+    assertEquals(1.0 / (Math.sqrt(8.0) + 2.0),
+        new Fitness().getAttribute(solutionList.get(1)), 1e-12) ;
+  }
+
+  @Test public void shouldOnlyTheNonDominatedSolutionsHaveAFitnessLowerThanOne() {
+    MockProblem problem = new MockProblem() ;
+    Random random = new Random(1) ;
+    List<Solution> solutionList = new ArrayList<>() ;
+    for (int i = 0; i < 50; i++) {
+      solutionList.add(createSolution(problem, random.nextInt(10), random.nextInt(10))) ;
+    }
+
+    new StrengthRawFitness<Solution>().computeFitness(solutionList);
+
+    DominanceComparator comparator = new DominanceComparator() ;
+    for (Solution solution : solutionList) {
+      boolean dominated = false ;
+      for (Solution other : solutionList) {
+        dominated |= comparator.compare(other, solution) == -1 ;
+      }
+      assertEquals(!dominated, new Fitness().getAttribute(solution) < 1.0) ;
+      assertTrue(new Fitness().getAttribute(solution) > 0.0) ;
+    }
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldTheConstructorRaiseAnExceptionIfKIsNotPositive() {
+    new StrengthRawFitness<Solution>(0) ;
+  }
+
+  private Solution createSolution(MockProblem problem, double f1, double f2) {
+    DoubleSolution solution = problem.createSolution() ;
+    solution.setObjective(0, f1);
+    solution.setObjective(1, f2);
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem extends AbstractDoubleProblem {
+    MockProblem() {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(2);
+      setLowerLimit(Arrays.asList(0.0));
+      setUpperLimit(Arrays.asList(1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
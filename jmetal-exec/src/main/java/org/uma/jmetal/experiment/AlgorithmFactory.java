@@ -0,0 +1,34 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.experiment;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.problem.Problem;
+
+/**
+ * Creates the algorithms of an experimental study from their names. It is called concurrently by
+ * the threads running the study, and each call must return a new algorithm with its own operators
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public interface AlgorithmFactory {
+  public Algorithm<?> createAlgorithm(String algorithmName, Problem<?> problem) ;
+
+  /**
+   * Returns an estimation of the relative cost of a run, used to start the longest runs first
+   * (e.g. the number of evaluations times the size of the problem)
+   */
+  public double getEstimatedCost(String algorithmName, Problem<?> problem) ;
+}
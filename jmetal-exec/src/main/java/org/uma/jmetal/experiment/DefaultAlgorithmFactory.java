@@ -0,0 +1,301 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.experiment;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.multiobjective.mocell.MOCellBuilder;
+import org.uma.jmetal.algorithm.multiobjective.mocell.MOCellBuilder.MOCellVariant;
+import org.uma.jmetal.algorithm.multiobjective.moead.MOEADBuilder;
+import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAIIBuilder;
+import org.uma.jmetal.algorithm.multiobjective.pesa2.PESA2Builder;
+import org.uma.jmetal.algorithm.multiobjective.smpso.SMPSOBuilder;
+import org.uma.jmetal.algorithm.multiobjective.smsemoa.SMSEMOABuilder;
+import org.uma.jmetal.algorithm.multiobjective.spea2.SPEA2Builder;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.archive.impl.HypervolumeArchive;
+import org.uma.jmetal.util.comparator.FitnessComparator;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Algorithm factory for NSGA-II, SMS-EMOA, SPEA2, PESA-II, SMPSO, SMPSOhv, MOCell and the parallel
+ * MOEA/D with the polynomial mutation and, except MOEA/D, the SBX crossover (subclasses can
+ * provide other operators). If the experiment uses configuration files for the algorithms, the
+ * settings of an algorithm are read from the file <algorithmName>.conf, looked up in the
+ * experiment base directory and then in the classpath; they can also be given directly to
+ * {@link #createAlgorithm(String, Problem, Properties)}. The keys are (all of them are optional):
+ *
+ * - algorithm: NSGAII, SMSEMOA, SPEA2, PESA2 (or PESAII), SMPSO, SMPSOhv, MOCell or ParallelMOEAD
+ *   (by default, the one whose name is a prefix of the algorithm name, so NSGAIIb is a NSGA-II)
+ * - populationSize, maxEvaluations
+ * - swarmSize and maxIterations (SMPSO and SMPSOhv, by default the population size and the
+ *   maximum number of evaluations divided by the swarm size)
+ * - archiveSize (MOCell, SPEA2, PESA2, SMPSO and SMPSOhv), feedback and mocellVariant (MOCell
+ *   only)
+ * - biSections (PESA2 only)
+ * - T, delta, nr, CR, F and numberOfThreads (ParallelMOEAD only, which reads the weight vectors
+ *   from the MOEAD_Weights directory). The number of threads is 1 by default, as the runs of an
+ *   experiment are already executed in parallel; with more threads, the results of a run depend on
+ *   how its threads are scheduled, so they cannot be reproduced from the seed
+ * - crossoverProbability, crossoverDistributionIndex
+ * - mutationProbability (1/number of variables by default), mutationDistributionIndex
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class DefaultAlgorithmFactory implements AlgorithmFactory {
+  private static final List<String> ALGORITHMS = Arrays.asList("SMSEMOA", "SMPSOhv", "SMPSO",
+      "SPEA2", "PESA2", "PESAII", "NSGAII", "MOCell", "ParallelMOEAD") ;
+
+  private final ExperimentConfiguration configuration ;
+  private final ConcurrentMap<String, Properties> algorithmSettings ;
+
+  /** Constructor of a factory not using configuration files */
+  public DefaultAlgorithmFactory() {
+    this(null) ;
+  }
+
+  /** Constructor */
+  public DefaultAlgorithmFactory(ExperimentConfiguration configuration) {
+    this.configuration = configuration ;
+    algorithmSettings = new ConcurrentHashMap<>() ;
+  }
+
+  @Override
+  public Algorithm<?> createAlgorithm(String algorithmName, Problem<?> problem) {
+    return createAlgorithm(algorithmName, problem, getSettings(algorithmName)) ;
+  }
+
+  /**
+   * Creates an algorithm with the given settings instead of the ones of its configuration file
+   *
+   * @throws JMetalException if the algorithm is not supported
+   */
+  public Algorithm<?> createAlgorithm(String algorithmName, Problem<?> problem,
+      Properties settings) {
+    int populationSize = getInt(settings, "populationSize", 100) ;
+    int maxEvaluations = getInt(settings, "maxEvaluations", 25000) ;
+
+    CrossoverOperator<?, ?> crossover = createCrossover(problem, settings) ;
+    MutationOperator<?> mutation = createMutation(problem, settings) ;
+
+    Algorithm<?> algorithm ;
+    String name = getAlgorithm(algorithmName, settings) ;
+    switch (name) {
+      case "NSGAII":
+        algorithm = new NSGAIIBuilder(problem)
+            .setPopulationSize(populationSize)
+            .setMaxIterations(maxEvaluations / populationSize)
+            .setCrossoverOperator(crossover)
+            .setMutationOperator(mutation)
+            .setSelectionOperator(new BinaryTournamentSelection())
+            .build() ;
+        break ;
+      case "SMSEMOA":
+        algorithm = new SMSEMOABuilder(problem)
+            .setPopulationSize(populationSize)
+            .setMaxEvaluations(maxEvaluations)
+            .setCrossoverOperator(crossover)
+            .setMutationOperator(mutation)
+            .setSelectionOperator(new BinaryTournamentSelection())
+            .build() ;
+        break ;
+      case "SPEA2":
+        algorithm = new SPEA2Builder(problem)
+            .setPopulationSize(populationSize)
+            .setArchiveSize(getInt(settings, "archiveSize", populationSize))
+            .setMaxEvaluations(maxEvaluations)
+            .setCrossoverOperator(crossover)
+            .setMutationOperator(mutation)
+            .setSelectionOperator(new BinaryTournamentSelection(new FitnessComparator()))
+            .build() ;
+        break ;
+      case "PESA2":
+      case "PESAII":
+        algorithm = new PESA2Builder(problem)
+            .setPopulationSize(getInt(settings, "populationSize", 10))
+            .setArchiveSize(getInt(settings, "archiveSize", 100))
+            .setBiSections(getInt(settings, "biSections", 5))
+            .setMaxEvaluations(maxEvaluations)
+            .setCrossoverOperator(crossover)
+            .setMutationOperator(mutation)
+            .build() ;
+        break ;
+      case "MOCell":
+        algorithm = new MOCellBuilder(problem,
+            MOCellVariant.valueOf(settings.getProperty("mocellVariant", "AsyncMOCell4").trim()))
+            .setPopulationSize(populationSize)
+            .setMaxEvaluations(maxEvaluations)
+            .setArchive(new CrowdingDistanceArchive(getInt(settings, "archiveSize", 100)))
+            .setFeedback(getInt(settings, "feedback", 20))
+            .setCrossoverOperator(crossover)
+            .setMutationOperator(mutation)
+            .setSelectionOperator(new BinaryTournamentSelection())
+            .build() ;
+        break ;
+      case "ParallelMOEAD":
+        algorithm = new MOEADBuilder(asDoubleProblem(algorithmName, problem),
+            MOEADBuilder.Variant.ParallelMOEAD)
+            .setPopulationSize(populationSize)
+            .setResultPopulationSize(populationSize)
+            .setMaxEvaluations(maxEvaluations)
+            .setNeighborSize(getInt(settings, "T", 20))
+            .setNeighborhoodSelectionProbability(getDouble(settings, "delta", 0.9))
+            .setMaximumNumberOfReplacedSolutions(getInt(settings, "nr", 2))
+            .setCrossover(new DifferentialEvolutionCrossover(getDouble(settings, "CR", 1.0),
+                getDouble(settings, "F", 0.5), "rand/1/bin"))
+            .setMutation(mutation)
+            .setDataDirectory("MOEAD_Weights")
+            .setNumberOfThreads(getInt(settings, "numberOfThreads", 1))
+            .build() ;
+        break ;
+      default:
+        int swarmSize = getInt(settings, "swarmSize", populationSize) ;
+        int archiveSize = getInt(settings, "archiveSize", swarmSize) ;
+        Archive leaders = "SMPSOhv".equals(name) ?
+            new HypervolumeArchive(archiveSize) : new CrowdingDistanceArchive(archiveSize) ;
+        algorithm = new SMPSOBuilder(asDoubleProblem(algorithmName, problem), leaders)
+            .setSwarmSize(swarmSize)
+            .setMaxIterations(getInt(settings, "maxIterations", maxEvaluations / swarmSize))
+            .setMutation(mutation)
+            .build() ;
+    }
+
+    return algorithm ;
+  }
+
+  @Override
+  public double getEstimatedCost(String algorithmName, Problem<?> problem) {
+    double maxEvaluations = getInt(getSettings(algorithmName), "maxEvaluations", 25000) ;
+
+    return maxEvaluations * (problem.getNumberOfVariables() + problem.getNumberOfObjectives()) ;
+  }
+
+  /** Returns true if an algorithm with the given settings can be created by this factory */
+  public boolean isSupported(String algorithmName, Properties settings) {
+    return findAlgorithm(algorithmName, settings) != null ;
+  }
+
+  /** Returns the crossover of the genetic algorithms, an SBX crossover by default */
+  protected CrossoverOperator<?, ?> createCrossover(Problem<?> problem, Properties settings) {
+    return new SBXCrossover(
+        getDouble(settings, "crossoverProbability", 0.9),
+        getDouble(settings, "crossoverDistributionIndex", 20.0)) ;
+  }
+
+  /** Returns the mutation of all the algorithms, a polynomial mutation by default */
+  protected MutationOperator<?> createMutation(Problem<?> problem, Properties settings) {
+    return new PolynomialMutation(
+        getDouble(settings, "mutationProbability", 1.0 / problem.getNumberOfVariables()),
+        getDouble(settings, "mutationDistributionIndex", 20.0)) ;
+  }
+
+  private DoubleProblem asDoubleProblem(String algorithmName, Problem<?> problem) {
+    if (!(problem instanceof DoubleProblem)) {
+      throw new JMetalException(algorithmName + " requires a DoubleProblem: " + problem.getName()) ;
+    }
+
+    return (DoubleProblem) problem ;
+  }
+
+  private String getAlgorithm(String algorithmName, Properties settings) {
+    String algorithm = findAlgorithm(algorithmName, settings) ;
+    if (algorithm == null) {
+      String name = settings.getProperty("algorithm") ;
+      throw new JMetalException("Unknown algorithm: " + (name == null ? algorithmName :
+          name.trim())) ;
+    }
+
+    return algorithm ;
+  }
+
+  /** Returns the algorithm of the list to create, or null if there is none */
+  private String findAlgorithm(String algorithmName, Properties settings) {
+    String algorithm = settings.getProperty("algorithm") ;
+    if (algorithm != null) {
+      algorithm = algorithm.trim() ;
+      if (ALGORITHMS.contains(algorithm)) {
+        return algorithm ;
+      }
+    } else {
+      for (String name : ALGORITHMS) {
+        if (algorithmName.startsWith(name)) {
+          return name ;
+        }
+      }
+    }
+
+    return null ;
+  }
+
+  private Properties getSettings(String algorithmName) {
+    Properties settings = algorithmSettings.get(algorithmName) ;
+    if (settings == null) {
+      settings = readSettings(algorithmName) ;
+      algorithmSettings.putIfAbsent(algorithmName, settings) ;
+    }
+
+    return settings ;
+  }
+
+  private Properties readSettings(String algorithmName) {
+    Properties settings = new Properties() ;
+    if ((configuration == null) || !configuration.isUseConfigurationFilesForAlgorithms()) {
+      return settings ;
+    }
+
+    String fileName = algorithmName + ".conf" ;
+    File file = new File(configuration.getExperimentBaseDirectory(), fileName) ;
+    try (InputStream stream = file.isFile() ? new FileInputStream(file) :
+        getClass().getResourceAsStream("/" + fileName)) {
+      if (stream != null) {
+        settings.load(stream);
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error reading the configuration of " + algorithmName, e) ;
+    }
+
+    return settings ;
+  }
+
+  private int getInt(Properties settings, String key, int defaultValue) {
+    String value = settings.getProperty(key) ;
+
+    return value == null ? defaultValue : Integer.parseInt(value.trim()) ;
+  }
+
+  private double getDouble(Properties settings, String key, double defaultValue) {
+    String value = settings.getProperty(key) ;
+
+    return value == null ? defaultValue : Double.parseDouble(value.trim()) ;
+  }
+}
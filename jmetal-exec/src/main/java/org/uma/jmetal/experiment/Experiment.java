@@ -0,0 +1,530 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.experiment;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GeneralizedSpread;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.Spread;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.ProblemUtils;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.fileoutput.SolutionSetOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.FrontUtils;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.PerThreadRandomGenerator;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Runs an experimental study: every algorithm of the configuration is run on every problem the
+ * given number of times, and the results are written into the experiment directory as
+ * data/<algorithm>/<problem>/FUN<run>.tsv and VAR<run>.tsv.
+ *
+ * - The runs are executed by a work-stealing pool, starting by the most expensive ones according
+ *   to the algorithm factory, so that the last runs to finish are short ones.
+ * - Each thread has its own random generator, and each run is given a seed derived from the seed
+ *   of the configuration and its position in the study, so the results of a run do not depend on
+ *   the thread executing it. The exception are the algorithms running in several threads of their
+ *   own, such as ParallelMOEAD with more than one thread (see {@link DefaultAlgorithmFactory}).
+ * - A run whose FUN and VAR files exist is not executed again, so an interrupted study can be
+ *   resumed. The files are written under a temporary name and renamed, the FUN file last.
+ * - If the Pareto fronts of the problems are given, the quality indicators of each run are computed
+ *   as soon as it finishes, and the file data/<algorithm>/<problem>/<indicator> is written when all
+ *   the runs of the algorithm on the problem are done. Otherwise, they are computed at the end
+ *   against the reference fronts generated from the results of all the algorithms.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class Experiment {
+  private static final List<String> PROBLEM_PACKAGES = Arrays.asList(
+      "org.uma.jmetal.problem.multiobjective.zdt",
+      "org.uma.jmetal.problem.multiobjective.dtlz",
+      "org.uma.jmetal.problem.multiobjective.wfg",
+      "org.uma.jmetal.problem.multiobjective.lz09",
+      "org.uma.jmetal.problem.multiobjective.cec2009Competition",
+      "org.uma.jmetal.problem.multiobjective",
+      "org.uma.jmetal.problem.singleobjective") ;
+
+  private static final List<String> UNSUPPORTED_OPTIONS = Arrays.asList(
+      "generateFriedmanTables", "generateLatexTables", "generateWilconxonTables",
+      "generateBoxplotsWithR", "generateBoxplotsWithMatlab") ;
+
+  private static final String SEPARATOR = "\t" ;
+
+  private final ExperimentConfiguration configuration ;
+  private final AlgorithmFactory algorithmFactory ;
+  private final Map<String, String> problemClassNames ;
+
+  private Front[] referenceFronts ;
+  private ConcurrentMap<String, IndicatorValues> indicatorValues ;
+  private List<String> failures ;
+
+  private double totalCost ;
+  private double completedCost ;
+  private int totalRuns ;
+  private int completedRuns ;
+  private long startTime ;
+
+  /** Constructor */
+  public Experiment(ExperimentConfiguration configuration) {
+    this(configuration, new DefaultAlgorithmFactory(configuration)) ;
+  }
+
+  /** Constructor */
+  public Experiment(ExperimentConfiguration configuration, AlgorithmFactory algorithmFactory) {
+    this.configuration = configuration ;
+    this.algorithmFactory = algorithmFactory ;
+
+    problemClassNames = new HashMap<>() ;
+    for (String problemName : configuration.getProblemList()) {
+      problemClassNames.put(problemName, getProblemClassName(problemName)) ;
+    }
+  }
+
+  /**
+   * Runs the study
+   *
+   * @throws JMetalException if any run fails; the rest of the runs are completed anyway
+   */
+  public void run() {
+    for (String option : UNSUPPORTED_OPTIONS) {
+      if (configuration.getBoolean(option, false)) {
+        JMetalLogger.logger.warning("Option " + option + " is not supported and is ignored") ;
+      }
+    }
+
+    failures = Collections.synchronizedList(new ArrayList<String>()) ;
+    indicatorValues = new ConcurrentHashMap<>() ;
+    List<Job> jobs = createJobs() ;
+
+    boolean computeIndicators = configuration.isGenerateQualityIndicators() ;
+    boolean useParetoFronts = !configuration.getParetoFrontFileList().isEmpty() ;
+    if (computeIndicators && useParetoFronts) {
+      referenceFronts = readReferenceFronts(configuration.getParetoFrontDirectory(),
+          configuration.getParetoFrontFileList()) ;
+    }
+
+    PseudoRandomGenerator randomGenerator = JMetalRandom.getInstance().getRandomGenerator() ;
+    JMetalRandom.getInstance().setRandomGenerator(
+        new PerThreadRandomGenerator(configuration.getSeed()));
+    try {
+      execute(jobs, configuration.isRunTheAlgorithms(), computeIndicators && useParetoFronts);
+
+      if (configuration.isGenerateReferenceParetoFronts()) {
+        generateReferenceFronts() ;
+      }
+      if (computeIndicators && !useParetoFronts) {
+        List<String> fileList = new ArrayList<>() ;
+        for (String problemName : configuration.getProblemList()) {
+          fileList.add(problemName + ".rf") ;
+        }
+        referenceFronts = readReferenceFronts(getReferenceFrontDirectory(), fileList) ;
+        execute(jobs, false, true);
+      }
+    } finally {
+      JMetalRandom.getInstance().setRandomGenerator(randomGenerator);
+    }
+
+    if (!failures.isEmpty()) {
+      for (String failure : failures) {
+        JMetalLogger.logger.severe(failure) ;
+      }
+      throw new JMetalException(failures.size() + " of " + jobs.size() + " runs failed") ;
+    }
+  }
+
+  /** Returns the runs of the study, the most expensive ones first */
+  private List<Job> createJobs() {
+    List<Job> jobs = new ArrayList<>() ;
+    List<String> algorithmNameList = configuration.getAlgorithmNameList() ;
+    List<String> problemList = configuration.getProblemList() ;
+    for (int i = 0; i < algorithmNameList.size(); i++) {
+      for (int j = 0; j < problemList.size(); j++) {
+        Problem<?> problem = loadProblem(problemList.get(j)) ;
+        double cost = algorithmFactory.getEstimatedCost(algorithmNameList.get(i), problem) ;
+        for (int run = 0; run < configuration.getIndependentRuns(); run++) {
+          long seed = configuration.getSeed() + 0x9E3779B97F4A7C15L * (jobs.size() + 1) ;
+          jobs.add(new Job(algorithmNameList.get(i), problemList.get(j), j, run, cost, seed)) ;
+        }
+      }
+    }
+
+    List<Job> sortedJobs = new ArrayList<>(jobs) ;
+    Collections.sort(sortedJobs, new Comparator<Job>() {
+      @Override public int compare(Job job1, Job job2) {
+        return Double.compare(job2.cost, job1.cost) ;
+      }
+    });
+
+    return sortedJobs ;
+  }
+
+  private void execute(List<Job> jobs, final boolean runAlgorithms,
+      final boolean computeIndicators) {
+    totalCost = 0.0 ;
+    completedCost = 0.0 ;
+    totalRuns = 0 ;
+    completedRuns = 0 ;
+    if (runAlgorithms) {
+      for (Job job : jobs) {
+        if (!hasResults(job)) {
+          totalCost += job.cost ;
+          totalRuns++ ;
+        }
+      }
+    }
+    startTime = System.currentTimeMillis() ;
+
+    ForkJoinPool pool = new ForkJoinPool(configuration.getNumberOfExecutionThreads(),
+        ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true) ;
+    try {
+      List<ForkJoinTask<?>> tasks = new ArrayList<>(jobs.size()) ;
+      for (final Job job : jobs) {
+        tasks.add(pool.submit(new Runnable() {
+          @Override public void run() {
+            try {
+              execute(job, runAlgorithms, computeIndicators);
+            } catch (RuntimeException e) {
+              JMetalLogger.logger.warning(job + " failed: " + e) ;
+              failures.add(job + ": " + e) ;
+            }
+          }
+        })) ;
+      }
+      for (ForkJoinTask<?> task : tasks) {
+        task.join() ;
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private void execute(Job job, boolean runAlgorithm, boolean computeIndicators) {
+    Front front ;
+    if (hasResults(job)) {
+      front = readFront(getFunFile(job)) ;
+    } else if (runAlgorithm) {
+      JMetalRandom.getInstance().setSeed(job.seed);
+      Problem<?> problem = loadProblem(getProblemName(job)) ;
+      Algorithm<?> algorithm = algorithmFactory.createAlgorithm(job.algorithmName, problem) ;
+      algorithm.run();
+      @SuppressWarnings("unchecked")
+      List<Solution> result = (List<Solution>) algorithm.getResult() ;
+
+      writeSolutions(getVarFile(job), result, true);
+      writeSolutions(getFunFile(job), result, false);
+      front = result.isEmpty() ? new ArrayFront() : new ArrayFront(result) ;
+
+      updateProgress(job) ;
+    } else {
+      throw new JMetalException("There are no results of " + job) ;
+    }
+
+    if (computeIndicators) {
+      computeIndicators(job, front) ;
+    }
+  }
+
+  /**
+   * Logs the estimated remaining time, from the fraction of the estimated cost already completed
+   * or, if the costs are zero, from the fraction of runs
+   */
+  private synchronized void updateProgress(Job job) {
+    completedRuns++ ;
+    completedCost += job.cost ;
+
+    double completedFraction = totalCost > 0.0 ?
+        completedCost / totalCost : (double) completedRuns / totalRuns ;
+    long elapsedTime = System.currentTimeMillis() - startTime ;
+    long remainingTime = completedFraction > 0.0 ?
+        (long) (elapsedTime * (1.0 - completedFraction) / completedFraction) : 0 ;
+    JMetalLogger.logger.info(job + " done (" + completedRuns + " runs completed, "
+        + (int) (100.0 * completedFraction) + "% of the estimated cost). "
+        + "Remaining time: " + (remainingTime / 1000) + " s") ;
+  }
+
+  private void computeIndicators(Job job, Front front) {
+    List<QualityIndicator> indicators = createIndicators() ;
+    double[] values = new double[indicators.size()] ;
+    for (int i = 0; i < indicators.size(); i++) {
+      values[i] = indicators.get(i).execute(front, referenceFronts[job.problemIndex]) ;
+    }
+
+    String key = job.algorithmName + File.separator + getProblemName(job) ;
+    IndicatorValues pairValues = indicatorValues.get(key) ;
+    if (pairValues == null) {
+      indicatorValues.putIfAbsent(key, new IndicatorValues(indicators.size(),
+          configuration.getIndependentRuns())) ;
+      pairValues = indicatorValues.get(key) ;
+    }
+
+    if (pairValues.set(job.run, values)) {
+      File directory = getOutputDirectory(job.algorithmName, getProblemName(job)) ;
+      for (int i = 0; i < indicators.size(); i++) {
+        writeValues(new File(directory, indicators.get(i).getName()), pairValues.values[i]) ;
+      }
+    }
+  }
+
+  /** Creates the indicators of the configuration; they are not shared between threads */
+  private List<QualityIndicator> createIndicators() {
+    List<QualityIndicator> indicators = new ArrayList<>() ;
+    for (String indicatorName : configuration.getIndicatorList()) {
+      switch (indicatorName.toUpperCase()) {
+        case "HV":
+          indicators.add(new Hypervolume()) ;
+          break ;
+        case "EPSILON":
+          indicators.add(new Epsilon()) ;
+          break ;
+        case "SPREAD":
+          indicators.add(new Spread()) ;
+          break ;
+        case "GSPREAD":
+          indicators.add(new GeneralizedSpread()) ;
+          break ;
+        case "GD":
+          indicators.add(new GenerationalDistance()) ;
+          break ;
+        case "IGD":
+          indicators.add(new InvertedGenerationalDistance()) ;
+          break ;
+        default:
+          throw new JMetalException("Unknown quality indicator: " + indicatorName) ;
+      }
+    }
+
+    return indicators ;
+  }
+
+  /** Writes the non-dominated points of the results of all the algorithms on each problem */
+  private void generateReferenceFronts() {
+    File directory = new File(getReferenceFrontDirectory()) ;
+    createDirectory(directory);
+
+    List<String> problemList = configuration.getProblemList() ;
+    for (String problemName : problemList) {
+      List<Solution> points = new ArrayList<>() ;
+      for (String algorithmName : configuration.getAlgorithmNameList()) {
+        for (int run = 0; run < configuration.getIndependentRuns(); run++) {
+          File file = new File(getOutputDirectory(algorithmName, problemName),
+              "FUN" + run + ".tsv") ;
+          if (file.isFile()) {
+            points.addAll(FrontUtils.convertFrontToSolutionList(readFront(file))) ;
+          }
+        }
+      }
+
+      writeSolutions(new File(directory, problemName + ".rf"),
+          SolutionListUtils.getNondominatedSolutions(points), false);
+    }
+  }
+
+  private Front[] readReferenceFronts(String directory, List<String> fileList) {
+    Front[] fronts = new Front[fileList.size()] ;
+    for (int i = 0; i < fronts.length; i++) {
+      String fileName = directory.isEmpty() ? fileList.get(i) :
+          directory + File.separator + fileList.get(i) ;
+      if (!new File(fileName).isFile() && (Experiment.class.getResource(fileName) == null)) {
+        throw new JMetalException("Pareto front not found: " + fileName) ;
+      }
+      fronts[i] = readFront(fileName) ;
+    }
+
+    return fronts ;
+  }
+
+  private Front readFront(File file) {
+    return readFront(file.getPath()) ;
+  }
+
+  private Front readFront(String fileName) {
+    ArrayFront front = new ArrayFront() ;
+    try {
+      front.readFrontFromFile(fileName);
+    } catch (FileNotFoundException e) {
+      throw new JMetalException("Error reading the front " + fileName, e) ;
+    }
+
+    return front ;
+  }
+
+  /** Writes the variables or the objectives of a list of solutions, replacing the file at once */
+  private void writeSolutions(File file, List<Solution> solutionList, boolean variables) {
+    createDirectory(file.getParentFile());
+    File temporaryFile = new File(file.getPath() + ".tmp") ;
+    try {
+      if (solutionList.isEmpty()) {
+        new FileWriter(temporaryFile).close();
+      } else {
+        DefaultFileOutputContext context = new DefaultFileOutputContext(temporaryFile.getPath()) ;
+        context.setSeparator(SEPARATOR);
+        if (variables) {
+          SolutionSetOutput.printVariablesToFile(context, solutionList);
+        } else {
+          SolutionSetOutput.printObjectivesToFile(context, solutionList);
+        }
+      }
+      Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE) ;
+    } catch (IOException e) {
+      throw new JMetalException("Error writing the file " + file, e) ;
+    }
+  }
+
+  private void writeValues(File file, double[] values) {
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+      for (double value : values) {
+        writer.write("" + value);
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error writing the file " + file, e) ;
+    }
+  }
+
+  private void createDirectory(File directory) {
+    try {
+      Files.createDirectories(directory.toPath()) ;
+    } catch (IOException e) {
+      throw new JMetalException("Error creating the directory " + directory, e) ;
+    }
+  }
+
+  private boolean hasResults(Job job) {
+    return getFunFile(job).isFile() && getVarFile(job).isFile() ;
+  }
+
+  private File getFunFile(Job job) {
+    return new File(getOutputDirectory(job.algorithmName, getProblemName(job)),
+        "FUN" + job.run + ".tsv") ;
+  }
+
+  private File getVarFile(Job job) {
+    return new File(getOutputDirectory(job.algorithmName, getProblemName(job)),
+        "VAR" + job.run + ".tsv") ;
+  }
+
+  private File getOutputDirectory(String algorithmName, String problemName) {
+    return new File(configuration.getExperimentDirectory() + File.separator + "data"
+        + File.separator + algorithmName + File.separator + problemName) ;
+  }
+
+  private String getReferenceFrontDirectory() {
+    return configuration.getExperimentDirectory() + File.separator + "referenceFronts" ;
+  }
+
+  private String getProblemName(Job job) {
+    return job.problemName ;
+  }
+
+  private Problem<?> loadProblem(String problemName) {
+    return ProblemUtils.loadProblem(problemClassNames.get(problemName)) ;
+  }
+
+  /** Returns the class of a problem given by its simple name or its fully qualified name */
+  private String getProblemClassName(String problemName) {
+    List<String> candidates = new ArrayList<>() ;
+    candidates.add(problemName) ;
+    for (String problemPackage : PROBLEM_PACKAGES) {
+      candidates.add(problemPackage + "." + problemName) ;
+    }
+
+    for (String className : candidates) {
+      try {
+        Class.forName(className) ;
+        return className ;
+      } catch (ClassNotFoundException e) {
+        // Try the next package
+      }
+    }
+
+    throw new JMetalException("Problem not found: " + problemName) ;
+  }
+
+  /** Run of an algorithm on a problem */
+  private static class Job {
+    private final String algorithmName ;
+    private final String problemName ;
+    private final int problemIndex ;
+    private final int run ;
+    private final double cost ;
+    private final long seed ;
+
+    Job(String algorithmName, String problemName, int problemIndex, int run, double cost,
+        long seed) {
+      this.algorithmName = algorithmName ;
+      this.problemName = problemName ;
+      this.problemIndex = problemIndex ;
+      this.run = run ;
+      this.cost = cost ;
+      this.seed = seed ;
+    }
+
+    @Override public String toString() {
+      return algorithmName + " on " + problemName + " (run " + run + ")" ;
+    }
+  }
+
+  /** Indicator values of the runs of an algorithm on a problem */
+  private static class IndicatorValues {
+    private final double[][] values ;
+    private int remainingRuns ;
+
+    IndicatorValues(int numberOfIndicators, int numberOfRuns) {
+      values = new double[numberOfIndicators][numberOfRuns] ;
+      remainingRuns = numberOfRuns ;
+    }
+
+    /** Stores the values of a run and returns true if they were the last ones missing */
+    synchronized boolean set(int run, double[] runValues) {
+      for (int i = 0; i < runValues.length; i++) {
+        values[i][run] = runValues[i] ;
+      }
+      remainingRuns-- ;
+
+      return remainingRuns == 0 ;
+    }
+  }
+}
@@ -0,0 +1,191 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.experiment;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Settings of an experimental study, read from a properties file like the experiment.conf of
+ * jmetal-core: the algorithms, the problems and their Pareto fronts, the number of independent
+ * runs, the quality indicators and the directories and threads to use.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class ExperimentConfiguration {
+  private final Properties properties ;
+
+  private final String experimentName ;
+  private final String experimentBaseDirectory ;
+  private final String paretoFrontDirectory ;
+  private final int independentRuns ;
+  private final int numberOfExecutionThreads ;
+  private final long seed ;
+  private final List<String> algorithmNameList ;
+  private final List<String> problemList ;
+  private final List<String> paretoFrontFileList ;
+  private final List<String> indicatorList ;
+
+  /** Constructor */
+  public ExperimentConfiguration(Properties properties) {
+    this.properties = properties ;
+
+    experimentName = getRequiredProperty("experimentName") ;
+    experimentBaseDirectory = getRequiredProperty("experimentBaseDirectory") ;
+    paretoFrontDirectory = properties.getProperty("paretoFrontDirectory", "") ;
+    independentRuns = Integer.parseInt(properties.getProperty("independentRuns", "1").trim()) ;
+    numberOfExecutionThreads = Integer.parseInt(
+        properties.getProperty("numberOfExecutionThreads", "0").trim()) ;
+    seed = Long.parseLong(properties.getProperty("seed", "1").trim()) ;
+    algorithmNameList = getList("algorithmNameList") ;
+    problemList = getList("problemList") ;
+    paretoFrontFileList = getList("paretoFrontFileList") ;
+    indicatorList = getList("indicatorList") ;
+
+    if (independentRuns <= 0) {
+      throw new JMetalException("The number of independent runs is not positive: "
+          + independentRuns) ;
+    }
+    if (algorithmNameList.isEmpty() || problemList.isEmpty()) {
+      throw new JMetalException("The algorithm and problem lists cannot be empty") ;
+    }
+    if (!paretoFrontFileList.isEmpty() && (paretoFrontFileList.size() != problemList.size())) {
+      throw new JMetalException("There are " + problemList.size() + " problems and "
+          + paretoFrontFileList.size() + " Pareto front files") ;
+    }
+  }
+
+  /**
+   * Reads the configuration from a file
+   *
+   * @param fileName Path of the file, or name of a resource in the classpath
+   */
+  public static ExperimentConfiguration read(String fileName) {
+    Properties properties = new Properties() ;
+    try (InputStream stream = new File(fileName).isFile() ?
+        new FileInputStream(fileName) :
+        ExperimentConfiguration.class.getResourceAsStream("/" + fileName)) {
+      if (stream == null) {
+        throw new JMetalException("Experiment configuration not found: " + fileName) ;
+      }
+      properties.load(stream);
+    } catch (IOException e) {
+      throw new JMetalException("Error reading the experiment configuration " + fileName, e) ;
+    }
+
+    return new ExperimentConfiguration(properties) ;
+  }
+
+  public String getExperimentName() {
+    return experimentName ;
+  }
+
+  public String getExperimentBaseDirectory() {
+    return experimentBaseDirectory ;
+  }
+
+  /** Returns the directory with the outputs of the study */
+  public String getExperimentDirectory() {
+    return experimentBaseDirectory + File.separator + experimentName ;
+  }
+
+  public String getParetoFrontDirectory() {
+    return paretoFrontDirectory ;
+  }
+
+  public int getIndependentRuns() {
+    return independentRuns ;
+  }
+
+  /** Returns the number of threads, or the number of processors if it is not set */
+  public int getNumberOfExecutionThreads() {
+    return numberOfExecutionThreads > 0 ?
+        numberOfExecutionThreads : Runtime.getRuntime().availableProcessors() ;
+  }
+
+  /** Returns the seed from which the seeds of the independent runs are derived */
+  public long getSeed() {
+    return seed ;
+  }
+
+  public List<String> getAlgorithmNameList() {
+    return algorithmNameList ;
+  }
+
+  public List<String> getProblemList() {
+    return problemList ;
+  }
+
+  public List<String> getParetoFrontFileList() {
+    return paretoFrontFileList ;
+  }
+
+  public List<String> getIndicatorList() {
+    return indicatorList ;
+  }
+
+  public boolean isRunTheAlgorithms() {
+    return getBoolean("runTheAlgorithms", true) ;
+  }
+
+  public boolean isGenerateQualityIndicators() {
+    return getBoolean("generateQualityIndicators", false) ;
+  }
+
+  public boolean isGenerateReferenceParetoFronts() {
+    return getBoolean("generateReferenceParetoFronts", false) ;
+  }
+
+  public boolean isUseConfigurationFilesForAlgorithms() {
+    return getBoolean("useConfigurationFilesForAlgorithms", false) ;
+  }
+
+  /** Returns a boolean property, e.g. one of the statistical reports */
+  public boolean getBoolean(String key, boolean defaultValue) {
+    return Boolean.parseBoolean(properties.getProperty(key, "" + defaultValue).trim()) ;
+  }
+
+  private String getRequiredProperty(String key) {
+    String value = properties.getProperty(key) ;
+    if (value == null) {
+      throw new JMetalException("Missing property in the experiment configuration: " + key) ;
+    }
+
+    return value.trim() ;
+  }
+
+  private List<String> getList(String key) {
+    String value = properties.getProperty(key, "").trim() ;
+    if (value.isEmpty()) {
+      return Collections.emptyList() ;
+    }
+
+    List<String> list = new ArrayList<>() ;
+    for (String element : Arrays.asList(value.split(","))) {
+      list.add(element.trim()) ;
+    }
+
+    return Collections.unmodifiableList(list) ;
+  }
+}
@@ -0,0 +1,50 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.experiment;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+
+/**
+ * Class to run the experimental study described by a configuration file
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class ExperimentRunner {
+  /**
+   * @param args Command line arguments.
+   * Usage: two options
+   *        - org.uma.jmetal.experiment.ExperimentRunner
+   *        - org.uma.jmetal.experiment.ExperimentRunner configurationFile
+   * The default configuration file is the resource experiment.conf
+   */
+  public static void main(String[] args) throws JMetalException {
+    String configurationFile ;
+    if (args.length == 1) {
+      configurationFile = args[0] ;
+    } else {
+      configurationFile = "experiment.conf" ;
+    }
+
+    ExperimentConfiguration configuration = ExperimentConfiguration.read(configurationFile) ;
+
+    long startTime = System.currentTimeMillis() ;
+    new Experiment(configuration).run();
+
+    JMetalLogger.logger.info("Total execution time: "
+        + (System.currentTimeMillis() - startTime) + "ms");
+    JMetalLogger.logger.info("Results written in " + configuration.getExperimentDirectory());
+  }
+}
@@ -0,0 +1,62 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.launcher;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+
+import java.util.Properties;
+
+/**
+ * Provider of the problems, operators and algorithms that can be run by the {@link Launcher}.
+ * The implementations are found with a {@link java.util.ServiceLoader}, so they must have a
+ * constructor without arguments and be listed in the file
+ * META-INF/services/org.uma.jmetal.launcher.ComponentProvider of their jar. Each method returns
+ * null if the provider does not know the component, and the next provider is asked.
+ *
+ * The components are created by name with plain constructor calls, so no reflection or context
+ * scanning is involved when a run starts. Each call must return a new instance, as the runs can
+ * be executed concurrently.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public interface ComponentProvider {
+  /**
+   * Creates a problem
+   *
+   * @param problemName Name of the problem (e.g. ZDT1)
+   * @param settings Settings of the run, with the optional parameters of the problem
+   */
+  public Problem<?> createProblem(String problemName, Properties settings) ;
+
+  public CrossoverOperator<?, ?> createCrossover(String crossoverName, Problem<?> problem,
+      Properties settings) ;
+
+  public MutationOperator<?> createMutation(String mutationName, Problem<?> problem,
+      Properties settings) ;
+
+  /**
+   * Creates an algorithm
+   *
+   * @param algorithmName Name of the algorithm (e.g. NSGAII)
+   * @param problem Problem to solve
+   * @param settings Settings of the run
+   * @param registry Registry to create the operators named in the settings
+   */
+  public Algorithm<?> createAlgorithm(String algorithmName, Problem<?> problem,
+      Properties settings, ComponentRegistry registry) ;
+}
@@ -0,0 +1,112 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.launcher;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.ProblemUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of the {@link ComponentProvider}s in the classpath, which are loaded once and asked in
+ * turn for each component. A problem whose name contains a dot and is not known by any provider
+ * is loaded by reflection with {@link ProblemUtils#loadProblem(String)}, so any problem class can
+ * still be run by its fully qualified name.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class ComponentRegistry {
+  private final List<ComponentProvider> providers ;
+
+  /** Constructor. The providers are found with a {@link ServiceLoader} */
+  public ComponentRegistry() {
+    this(ServiceLoader.load(ComponentProvider.class)) ;
+  }
+
+  /** Constructor */
+  public ComponentRegistry(Iterable<ComponentProvider> providers) {
+    List<ComponentProvider> providerList = new ArrayList<>() ;
+    for (ComponentProvider provider : providers) {
+      providerList.add(provider) ;
+    }
+    if (providerList.isEmpty()) {
+      throw new JMetalException("There are no component providers") ;
+    }
+    this.providers = Collections.unmodifiableList(providerList) ;
+  }
+
+  public Problem<?> createProblem(String problemName, Properties settings) {
+    for (ComponentProvider provider : providers) {
+      Problem<?> problem = provider.createProblem(problemName, settings) ;
+      if (problem != null) {
+        return problem ;
+      }
+    }
+
+    if (problemName.contains(".")) {
+      return ProblemUtils.loadProblem(problemName) ;
+    }
+    throw new JMetalException("Unknown problem: " + problemName) ;
+  }
+
+  public CrossoverOperator<?, ?> createCrossover(String crossoverName, Problem<?> problem,
+      Properties settings) {
+    for (ComponentProvider provider : providers) {
+      CrossoverOperator<?, ?> crossover = provider.createCrossover(crossoverName, problem,
+          settings) ;
+      if (crossover != null) {
+        return crossover ;
+      }
+    }
+
+    throw new JMetalException("Unknown crossover: " + crossoverName) ;
+  }
+
+  public MutationOperator<?> createMutation(String mutationName, Problem<?> problem,
+      Properties settings) {
+    for (ComponentProvider provider : providers) {
+      MutationOperator<?> mutation = provider.createMutation(mutationName, problem, settings) ;
+      if (mutation != null) {
+        return mutation ;
+      }
+    }
+
+    throw new JMetalException("Unknown mutation: " + mutationName) ;
+  }
+
+  public Algorithm<?> createAlgorithm(String algorithmName, Problem<?> problem,
+      Properties settings) {
+    for (ComponentProvider provider : providers) {
+      Algorithm<?> algorithm = provider.createAlgorithm(algorithmName, problem, settings, this) ;
+      if (algorithm != null) {
+        return algorithm ;
+      }
+    }
+
+    throw new JMetalException("Unknown algorithm: " + algorithmName) ;
+  }
+
+  public List<ComponentProvider> getProviders() {
+    return providers ;
+  }
+}
@@ -0,0 +1,252 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.launcher;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.experiment.DefaultAlgorithmFactory;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.impl.crossover.BLXAlphaCrossover;
+import org.uma.jmetal.operator.impl.crossover.PMXCrossover;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.crossover.SinglePointCrossover;
+import org.uma.jmetal.operator.impl.mutation.BitFlipMutation;
+import org.uma.jmetal.operator.impl.mutation.NonUniformMutation;
+import org.uma.jmetal.operator.impl.mutation.PermutationSwapMutation;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.mutation.UniformMutation;
+import org.uma.jmetal.problem.BinaryProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.multiobjective.Binh2;
+import org.uma.jmetal.problem.multiobjective.ConstrEx;
+import org.uma.jmetal.problem.multiobjective.Fonseca;
+import org.uma.jmetal.problem.multiobjective.Golinski;
+import org.uma.jmetal.problem.multiobjective.Kursawe;
+import org.uma.jmetal.problem.multiobjective.Osyczka2;
+import org.uma.jmetal.problem.multiobjective.Schaffer;
+import org.uma.jmetal.problem.multiobjective.Srinivas;
+import org.uma.jmetal.problem.multiobjective.Tanaka;
+import org.uma.jmetal.problem.multiobjective.Viennet2;
+import org.uma.jmetal.problem.multiobjective.Viennet3;
+import org.uma.jmetal.problem.multiobjective.Viennet4;
+import org.uma.jmetal.problem.multiobjective.Water;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ1;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ3;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ4;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ5;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ6;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ7;
+import org.uma.jmetal.problem.multiobjective.lz09.LZ09F1;
+import org.uma.jmetal.problem.multiobjective.lz09.LZ09F2;
+import org.uma.jmetal.problem.multiobjective.lz09.LZ09F3;
+import org.uma.jmetal.problem.multiobjective.lz09.LZ09F4;
+import org.uma.jmetal.problem.multiobjective.lz09.LZ09F5;
+import org.uma.jmetal.problem.multiobjective.lz09.LZ09F6;
+import org.uma.jmetal.problem.multiobjective.lz09.LZ09F7;
+import org.uma.jmetal.problem.multiobjective.lz09.LZ09F8;
+import org.uma.jmetal.problem.multiobjective.lz09.LZ09F9;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG1;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG2;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG3;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG4;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG5;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG6;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG7;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG8;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG9;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT2;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT3;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT4;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT5;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT6;
+import org.uma.jmetal.problem.singleobjective.Griewank;
+import org.uma.jmetal.problem.singleobjective.OneMax;
+import org.uma.jmetal.problem.singleobjective.Rastrigin;
+import org.uma.jmetal.problem.singleobjective.Rosenbrock;
+import org.uma.jmetal.problem.singleobjective.Sphere;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Properties;
+
+/**
+ * Provider of the benchmark problems of jmetal-problem, the usual crossover and mutation
+ * operators and the algorithms of {@link DefaultAlgorithmFactory}.
+ *
+ * - Problems: ZDT1-6 and the single-objective Sphere, Griewank, Rastrigin, Rosenbrock and OneMax
+ *   (key numberOfVariables, the number of bits for OneMax), DTLZ1-7 (keys numberOfObjectives and
+ *   numberOfVariables, by default the number of objectives plus 4, 9 or 19 for DTLZ1, DTLZ2-6 and
+ *   DTLZ7), WFG1-9, LZ09F1-9 and the classic ones (Fonseca, Kursawe, Schaffer, ...), the latter
+ *   with their default sizes.
+ * - Crossovers: SBX, BLXAlpha (key crossoverAlpha), SinglePoint and PMX, with the key
+ *   crossoverProbability, and crossoverDistributionIndex for SBX.
+ * - Mutations: Polynomial, Uniform and NonUniform (keys mutationPerturbation and, for NonUniform,
+ *   maxIterations), BitFlip and PermutationSwap, with the key mutationProbability (1/number of
+ *   variables by default, 1/number of bits for binary problems), and mutationDistributionIndex
+ *   for Polynomial.
+ * - Algorithms: the ones of {@link DefaultAlgorithmFactory}, with its keys. The crossover and the
+ *   mutation are the ones named by the keys crossover and mutation, if they are set.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class DefaultComponentProvider implements ComponentProvider {
+  @Override
+  public Problem<?> createProblem(String problemName, Properties settings) {
+    try {
+      switch (problemName) {
+        case "ZDT1": return new ZDT1(getInt(settings, "numberOfVariables", 30)) ;
+        case "ZDT2": return new ZDT2(getInt(settings, "numberOfVariables", 30)) ;
+        case "ZDT3": return new ZDT3(getInt(settings, "numberOfVariables", 30)) ;
+        case "ZDT4": return new ZDT4(getInt(settings, "numberOfVariables", 10)) ;
+        case "ZDT5": return new ZDT5(getInt(settings, "numberOfVariables", 11)) ;
+        case "ZDT6": return new ZDT6(getInt(settings, "numberOfVariables", 10)) ;
+        case "DTLZ1": return new DTLZ1(getDTLZVariables(settings, 5), getObjectives(settings)) ;
+        case "DTLZ2": return new DTLZ2(getDTLZVariables(settings, 10), getObjectives(settings)) ;
+        case "DTLZ3": return new DTLZ3(getDTLZVariables(settings, 10), getObjectives(settings)) ;
+        case "DTLZ4": return new DTLZ4(getDTLZVariables(settings, 10), getObjectives(settings)) ;
+        case "DTLZ5": return new DTLZ5(getDTLZVariables(settings, 10), getObjectives(settings)) ;
+        case "DTLZ6": return new DTLZ6(getDTLZVariables(settings, 10), getObjectives(settings)) ;
+        case "DTLZ7": return new DTLZ7(getDTLZVariables(settings, 20), getObjectives(settings)) ;
+        case "WFG1": return new WFG1() ;
+        case "WFG2": return new WFG2() ;
+        case "WFG3": return new WFG3() ;
+        case "WFG4": return new WFG4() ;
+        case "WFG5": return new WFG5() ;
+        case "WFG6": return new WFG6() ;
+        case "WFG7": return new WFG7() ;
+        case "WFG8": return new WFG8() ;
+        case "WFG9": return new WFG9() ;
+        case "LZ09F1": return new LZ09F1() ;
+        case "LZ09F2": return new LZ09F2() ;
+        case "LZ09F3": return new LZ09F3() ;
+        case "LZ09F4": return new LZ09F4() ;
+        case "LZ09F5": return new LZ09F5() ;
+        case "LZ09F6": return new LZ09F6() ;
+        case "LZ09F7": return new LZ09F7() ;
+        case "LZ09F8": return new LZ09F8() ;
+        case "LZ09F9": return new LZ09F9() ;
+        case "Binh2": return new Binh2() ;
+        case "ConstrEx": return new ConstrEx() ;
+        case "Fonseca": return new Fonseca() ;
+        case "Golinski": return new Golinski() ;
+        case "Kursawe": return new Kursawe() ;
+        case "Osyczka2": return new Osyczka2() ;
+        case "Schaffer": return new Schaffer() ;
+        case "Srinivas": return new Srinivas() ;
+        case "Tanaka": return new Tanaka() ;
+        case "Viennet2": return new Viennet2() ;
+        case "Viennet3": return new Viennet3() ;
+        case "Viennet4": return new Viennet4() ;
+        case "Water": return new Water() ;
+        case "Sphere": return new Sphere(getInt(settings, "numberOfVariables", 10)) ;
+        case "Griewank": return new Griewank(getInt(settings, "numberOfVariables", 10)) ;
+        case "Rastrigin": return new Rastrigin(getInt(settings, "numberOfVariables", 10)) ;
+        case "Rosenbrock": return new Rosenbrock(getInt(settings, "numberOfVariables", 10)) ;
+        case "OneMax": return new OneMax(getInt(settings, "numberOfVariables", 256)) ;
+        default: return null ;
+      }
+    } catch (ClassNotFoundException e) {
+      throw new JMetalException("Error creating the problem " + problemName, e) ;
+    }
+  }
+
+  @Override
+  public CrossoverOperator<?, ?> createCrossover(String crossoverName, Problem<?> problem,
+      Properties settings) {
+    double probability = getDouble(settings, "crossoverProbability", 0.9) ;
+    switch (crossoverName) {
+      case "SBX":
+        return new SBXCrossover(probability,
+            getDouble(settings, "crossoverDistributionIndex", 20.0)) ;
+      case "BLXAlpha":
+        return new BLXAlphaCrossover(probability, getDouble(settings, "crossoverAlpha", 0.5)) ;
+      case "SinglePoint":
+        return new SinglePointCrossover(probability) ;
+      case "PMX":
+        return new PMXCrossover(probability) ;
+      default:
+        return null ;
+    }
+  }
+
+  @Override
+  public MutationOperator<?> createMutation(String mutationName, Problem<?> problem,
+      Properties settings) {
+    int size = problem instanceof BinaryProblem ?
+        ((BinaryProblem) problem).getTotalNumberOfBits() : problem.getNumberOfVariables() ;
+    double probability = getDouble(settings, "mutationProbability", 1.0 / size) ;
+    switch (mutationName) {
+      case "Polynomial":
+        return new PolynomialMutation(probability,
+            getDouble(settings, "mutationDistributionIndex", 20.0)) ;
+      case "Uniform":
+        return new UniformMutation(probability, getDouble(settings, "mutationPerturbation", 0.5)) ;
+      case "NonUniform":
+        return new NonUniformMutation(probability, getDouble(settings, "mutationPerturbation", 0.5),
+            getInt(settings, "maxIterations", 250)) ;
+      case "BitFlip":
+        return new BitFlipMutation(probability) ;
+      case "PermutationSwap":
+        return new PermutationSwapMutation(probability) ;
+      default:
+        return null ;
+    }
+  }
+
+  @Override
+  public Algorithm<?> createAlgorithm(String algorithmName, Problem<?> problem,
+      Properties settings, final ComponentRegistry registry) {
+    DefaultAlgorithmFactory factory = new DefaultAlgorithmFactory() {
+      @Override
+      protected CrossoverOperator<?, ?> createCrossover(Problem<?> problem, Properties settings) {
+        String crossoverName = settings.getProperty("crossover") ;
+        return crossoverName == null ? super.createCrossover(problem, settings) :
+            registry.createCrossover(crossoverName.trim(), problem, settings) ;
+      }
+
+      @Override
+      protected MutationOperator<?> createMutation(Problem<?> problem, Properties settings) {
+        String mutationName = settings.getProperty("mutation") ;
+        return mutationName == null ? super.createMutation(problem, settings) :
+            registry.createMutation(mutationName.trim(), problem, settings) ;
+      }
+    } ;
+
+    return factory.isSupported(algorithmName, settings) ?
+        factory.createAlgorithm(algorithmName, problem, settings) : null ;
+  }
+
+  private int getObjectives(Properties settings) {
+    return getInt(settings, "numberOfObjectives", 3) ;
+  }
+
+  /** Returns the number of variables of a DTLZ problem, M + k - 1 by default */
+  private int getDTLZVariables(Properties settings, int k) {
+    return getInt(settings, "numberOfVariables", getObjectives(settings) + k - 1) ;
+  }
+
+  private int getInt(Properties settings, String key, int defaultValue) {
+    String value = settings.getProperty(key) ;
+
+    return value == null ? defaultValue : Integer.parseInt(value.trim()) ;
+  }
+
+  private double getDouble(Properties settings, String key, double defaultValue) {
+    String value = settings.getProperty(key) ;
+
+    return value == null ? defaultValue : Double.parseDouble(value.trim()) ;
+  }
+}
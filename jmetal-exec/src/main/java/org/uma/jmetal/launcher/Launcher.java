@@ -0,0 +1,320 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.launcher;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.PerThreadRandomGenerator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lightweight launcher running many jobs (see {@link LauncherJob}) in the same JVM, so that the
+ * start-up of the JVM is paid once and the later runs use code already compiled by the JIT. The
+ * problems, operators and algorithms are created by the {@link ComponentProvider}s found by a
+ * {@link java.util.ServiceLoader}, without reflection or dependency injection containers.
+ *
+ * There are three modes:
+ *
+ * - Job file: each non-empty line not starting with # is a job. The jobs are executed by a pool
+ *   of threads (one by default), each with its own random generator, and the launcher fails at
+ *   the end if any of them has failed.
+ * - Server: the launcher listens on a port of the loopback interface. Each line sent by a client
+ *   is a job, answered when it finishes with "OK <job> <runs> <time>ms <outputDirectory>" or
+ *   "ERROR <message>". The lines "quit" and "shutdown" close the connection and stop the server,
+ *   respectively. Each connection is read by a thread of its own, and its jobs are executed by a
+ *   pool of threads (one by default), so an idle client does not block the others.
+ * - Single job, given in the command line.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class Launcher {
+  private final ComponentRegistry registry ;
+  private final int numberOfThreads ;
+
+  private volatile ServerSocket serverSocket ;
+  private final Set<Socket> connections =
+      Collections.newSetFromMap(new ConcurrentHashMap<Socket, Boolean>()) ;
+
+  /** Constructor */
+  public Launcher(ComponentRegistry registry, int numberOfThreads) {
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+    }
+    this.registry = registry ;
+    this.numberOfThreads = numberOfThreads ;
+  }
+
+  /**
+   * @param args Command line arguments.
+   * Usage: three options
+   *        - org.uma.jmetal.launcher.Launcher jobFile [numberOfThreads]
+   *        - org.uma.jmetal.launcher.Launcher --server port [numberOfThreads]
+   *        - org.uma.jmetal.launcher.Launcher algorithmName problemName [key=value ...]
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length == 0) {
+      throw new JMetalException("Usage: Launcher jobFile [numberOfThreads] | "
+          + "Launcher --server port [numberOfThreads] | "
+          + "Launcher algorithmName problemName [key=value ...]") ;
+    }
+
+    PseudoRandomGenerator randomGenerator = JMetalRandom.getInstance().getRandomGenerator() ;
+    JMetalRandom.getInstance().setRandomGenerator(new PerThreadRandomGenerator(1));
+    try {
+      if ("--server".equals(args[0])) {
+        int numberOfThreads = args.length > 2 ? Integer.parseInt(args[2]) : 1 ;
+        new Launcher(new ComponentRegistry(), numberOfThreads).serve(Integer.parseInt(args[1]));
+      } else if (new File(args[0]).isFile()) {
+        int numberOfThreads = args.length > 1 ? Integer.parseInt(args[1]) : 1 ;
+        new Launcher(new ComponentRegistry(), numberOfThreads).executeJobFile(args[0]);
+      } else {
+        StringBuilder line = new StringBuilder() ;
+        for (String arg : args) {
+          line.append(arg).append(' ') ;
+        }
+        new Launcher(new ComponentRegistry(), 1).execute(LauncherJob.parse(line.toString()));
+      }
+    } finally {
+      JMetalRandom.getInstance().setRandomGenerator(randomGenerator);
+    }
+  }
+
+  /** Executes the jobs of a file */
+  public void executeJobFile(String fileName) {
+    List<LauncherJob> jobs = new ArrayList<>() ;
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+        new FileInputStream(fileName), StandardCharsets.UTF_8))) {
+      String line ;
+      while ((line = reader.readLine()) != null) {
+        if (!isIgnored(line)) {
+          jobs.add(LauncherJob.parse(line)) ;
+        }
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error reading the job file " + fileName, e) ;
+    }
+
+    final List<String> failures = Collections.synchronizedList(new ArrayList<String>()) ;
+    long startTime = System.currentTimeMillis() ;
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads) ;
+    try {
+      for (final LauncherJob job : jobs) {
+        executor.execute(new Runnable() {
+          @Override public void run() {
+            try {
+              execute(job) ;
+            } catch (RuntimeException e) {
+              JMetalLogger.logger.severe(job + " failed: " + e);
+              failures.add(job + ": " + e) ;
+            }
+          }
+        });
+      }
+    } finally {
+      shutdown(executor) ;
+    }
+
+    JMetalLogger.logger.info(jobs.size() + " jobs executed in "
+        + (System.currentTimeMillis() - startTime) + "ms");
+    if (!failures.isEmpty()) {
+      throw new JMetalException(failures.size() + " of " + jobs.size() + " jobs failed") ;
+    }
+  }
+
+  /** Executes a job, logging its computing time */
+  public long execute(LauncherJob job) {
+    long computingTime = job.execute(registry) ;
+    JMetalLogger.logger.info(job + " (" + job.getRuns() + " runs) done in " + computingTime
+        + "ms. Results written in " + job.getOutputDirectory());
+
+    return computingTime ;
+  }
+
+  /**
+   * Serves the jobs sent to a port of the loopback interface until a client sends "shutdown" or
+   * {@link #stop()} is called. The connections still open when the jobs being executed are done
+   * are closed.
+   */
+  public void serve(int port) throws IOException {
+    final ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads) ;
+    ExecutorService connectionExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+      @Override public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "Launcher connection") ;
+        thread.setDaemon(true);
+        return thread ;
+      }
+    }) ;
+    try (ServerSocket socket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+      serverSocket = socket ;
+      JMetalLogger.logger.info("Launcher listening on " + socket.getLocalSocketAddress());
+      while (!socket.isClosed()) {
+        final Socket connection ;
+        try {
+          connection = socket.accept() ;
+        } catch (IOException e) {
+          if (socket.isClosed()) {
+            break ;
+          }
+          throw e ;
+        }
+        connections.add(connection) ;
+        connectionExecutor.execute(new Runnable() {
+          @Override public void run() {
+            serve(connection, executor) ;
+          }
+        });
+      }
+    } finally {
+      serverSocket = null ;
+      try {
+        shutdown(executor) ;
+      } finally {
+        for (Socket connection : connections) {
+          close(connection) ;
+        }
+        connectionExecutor.shutdownNow() ;
+      }
+    }
+  }
+
+  /** Stops the server, once the jobs being executed are done */
+  public void stop() {
+    ServerSocket socket = serverSocket ;
+    if (socket != null) {
+      try {
+        socket.close();
+      } catch (IOException e) {
+        JMetalLogger.logger.warning("Error closing the server socket: " + e);
+      }
+    }
+  }
+
+  /** Returns the port of the server, or -1 if it is not running */
+  public int getLocalPort() {
+    ServerSocket socket = serverSocket ;
+
+    return socket == null ? -1 : socket.getLocalPort() ;
+  }
+
+  private void serve(Socket connection, ExecutorService executor) {
+    try (Socket socket = connection;
+         BufferedReader reader = new BufferedReader(new InputStreamReader(
+             socket.getInputStream(), StandardCharsets.UTF_8));
+         PrintWriter writer = new PrintWriter(new OutputStreamWriter(
+             socket.getOutputStream(), StandardCharsets.UTF_8), true)) {
+      String line ;
+      while ((line = reader.readLine()) != null) {
+        String request = line.trim() ;
+        if ("quit".equals(request)) {
+          break ;
+        } else if ("shutdown".equals(request)) {
+          writer.println("OK shutdown");
+          stop() ;
+          break ;
+        } else if (!isIgnored(request)) {
+          writer.println(answer(request, executor));
+        }
+      }
+    } catch (IOException e) {
+      if (!connection.isClosed()) {
+        JMetalLogger.logger.warning("Error serving a connection: " + e);
+      }
+    } finally {
+      connections.remove(connection) ;
+    }
+  }
+
+  /** Executes the job of a request in the pool, and waits for it to finish */
+  private String answer(final String request, ExecutorService executor) {
+    try {
+      return executor.submit(new Callable<String>() {
+        @Override public String call() {
+          return answer(request) ;
+        }
+      }).get() ;
+    } catch (RejectedExecutionException e) {
+      return "ERROR The server is shutting down" ;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return "ERROR Interrupted" ;
+    } catch (ExecutionException e) {
+      return "ERROR " + e.getCause() ;
+    }
+  }
+
+  private String answer(String request) {
+    try {
+      LauncherJob job = LauncherJob.parse(request) ;
+      long computingTime = execute(job) ;
+
+      return "OK " + job.getAlgorithmName() + " " + job.getProblemName() + " " + job.getRuns()
+          + " " + computingTime + "ms " + job.getOutputDirectory() ;
+    } catch (RuntimeException e) {
+      JMetalLogger.logger.severe("Request " + request + " failed: " + e);
+      return "ERROR " + e.getMessage() ;
+    }
+  }
+
+  private void close(Socket connection) {
+    try {
+      connection.close();
+    } catch (IOException e) {
+      JMetalLogger.logger.warning("Error closing a connection: " + e);
+    }
+  }
+
+  private boolean isIgnored(String line) {
+    String trimmedLine = line.trim() ;
+
+    return trimmedLine.isEmpty() || trimmedLine.startsWith("#") ;
+  }
+
+  private void shutdown(ExecutorService executor) {
+    executor.shutdown();
+    try {
+      while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+        JMetalLogger.logger.info("Waiting for the jobs being executed");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the jobs", e) ;
+    }
+  }
+}
@@ -0,0 +1,173 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.launcher;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.fileoutput.SolutionSetOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Independent runs of an algorithm on a problem, given by a line of a job file or of a request to
+ * the launcher server:
+ *
+ *   algorithmName problemName [key=value ...]
+ *
+ * The settings are the ones of the algorithm, the problem and the operators (see
+ * {@link DefaultComponentProvider}) and these ones:
+ *
+ * - runs: number of independent runs (1 by default)
+ * - seed: seed from which the seeds of the runs are derived (1 by default), so the results of a
+ *   job do not depend on the jobs executed before it in the same JVM
+ * - outputDirectory: directory of the files FUN<run>.tsv and VAR<run>.tsv (by default,
+ *   results/algorithmName/problemName)
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class LauncherJob {
+  private static final String SEPARATOR = "\t" ;
+
+  private final String algorithmName ;
+  private final String problemName ;
+  private final Properties settings ;
+  private final int runs ;
+  private final long seed ;
+  private final String outputDirectory ;
+
+  /** Constructor */
+  public LauncherJob(String algorithmName, String problemName, Properties settings) {
+    this.algorithmName = algorithmName ;
+    this.problemName = problemName ;
+    this.settings = settings ;
+
+    try {
+      runs = Integer.parseInt(settings.getProperty("runs", "1").trim()) ;
+      seed = Long.parseLong(settings.getProperty("seed", "1").trim()) ;
+    } catch (NumberFormatException e) {
+      throw new JMetalException("Invalid number in the job " + this, e) ;
+    }
+    if (runs <= 0) {
+      throw new JMetalException("The number of runs is not positive: " + runs) ;
+    }
+    outputDirectory = settings.getProperty("outputDirectory",
+        "results" + File.separator + algorithmName + File.separator + problemName).trim() ;
+  }
+
+  /**
+   * Parses a job
+   *
+   * @param line Algorithm name, problem name and settings as key=value, separated by spaces
+   */
+  public static LauncherJob parse(String line) {
+    String[] tokens = line.trim().split("\\s+") ;
+    if (tokens.length < 2) {
+      throw new JMetalException("A job needs an algorithm and a problem: " + line) ;
+    }
+
+    Properties settings = new Properties() ;
+    for (int i = 2; i < tokens.length; i++) {
+      int separator = tokens[i].indexOf('=') ;
+      if (separator <= 0) {
+        throw new JMetalException("Invalid setting in the job " + line + ": " + tokens[i]) ;
+      }
+      settings.setProperty(tokens[i].substring(0, separator), tokens[i].substring(separator + 1));
+    }
+
+    return new LauncherJob(tokens[0], tokens[1], settings) ;
+  }
+
+  /**
+   * Executes the runs of the job, seeding the random generator of the calling thread before each
+   * of them
+   *
+   * @return Computing time of the runs, in milliseconds
+   */
+  public long execute(ComponentRegistry registry) {
+    long computingTime = 0 ;
+    for (int run = 0; run < runs; run++) {
+      JMetalRandom.getInstance().setSeed(seed + 0x9E3779B97F4A7C15L * (run + 1));
+      Problem<?> problem = registry.createProblem(problemName, settings) ;
+      Algorithm<?> algorithm = registry.createAlgorithm(algorithmName, problem, settings) ;
+
+      long startTime = System.currentTimeMillis() ;
+      algorithm.run();
+      computingTime += System.currentTimeMillis() - startTime ;
+
+      @SuppressWarnings("unchecked")
+      List<Solution> result = (List<Solution>) algorithm.getResult() ;
+      writeResult(result, run) ;
+    }
+
+    return computingTime ;
+  }
+
+  private void writeResult(List<Solution> result, int run) {
+    File directory = new File(outputDirectory) ;
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new JMetalException("Error creating the directory " + directory) ;
+    }
+
+    String funFile = new File(directory, "FUN" + run + ".tsv").getPath() ;
+    String varFile = new File(directory, "VAR" + run + ".tsv").getPath() ;
+    if (result.isEmpty()) {
+      try {
+        new FileWriter(funFile).close();
+        new FileWriter(varFile).close();
+      } catch (IOException e) {
+        throw new JMetalException("Error writing the results of " + this, e) ;
+      }
+    } else {
+      new SolutionSetOutput.Printer(result)
+          .setVarFileOutputContext(new DefaultFileOutputContext(varFile))
+          .setFunFileOutputContext(new DefaultFileOutputContext(funFile))
+          .setSeparator(SEPARATOR)
+          .print();
+    }
+  }
+
+  public String getAlgorithmName() {
+    return algorithmName ;
+  }
+
+  public String getProblemName() {
+    return problemName ;
+  }
+
+  public Properties getSettings() {
+    return settings ;
+  }
+
+  public int getRuns() {
+    return runs ;
+  }
+
+  public String getOutputDirectory() {
+    return outputDirectory ;
+  }
+
+  @Override
+  public String toString() {
+    return algorithmName + " on " + problemName ;
+  }
+}
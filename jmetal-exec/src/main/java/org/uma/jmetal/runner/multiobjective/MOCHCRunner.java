@@ -36,6 +36,7 @@ import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.util.AlgorithmRunner;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.ProblemUtils;
+import org.uma.jmetal.util.evaluator.impl.CachingSolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 import org.uma.jmetal.util.fileoutput.SolutionSetOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
@@ -76,6 +77,9 @@ public class MOCHCRunner {
 
     mutationOperator = new BitFlipMutation(0.35) ;
 
+    CachingSolutionListEvaluator<BinarySolution> evaluator =
+        new CachingSolutionListEvaluator<>(new SequentialSolutionListEvaluator<BinarySolution>()) ;
+
     algorithm = new MOCHCBuilder(problem)
             .setInitialConvergenceCount(0.25)
             .setConvergenceValue(3)
@@ -86,7 +90,7 @@ public class MOCHCRunner {
             .setNewGenerationSelection(newGenerationSelection)
             .setCataclysmicMutation(mutationOperator)
             .setParentSelection(parentsSelection)
-            .setEvaluator(new SequentialSolutionListEvaluator())
+            .setEvaluator(evaluator)
             .build() ;
 
     AlgorithmRunner algorithmRunner = new AlgorithmRunner.Executor(algorithm)
@@ -102,6 +106,7 @@ public class MOCHCRunner {
             .print();
 
     JMetalLogger.logger.info("Total execution time: " + computingTime + "ms");
+    JMetalLogger.logger.info("Evaluation cache hit ratio: " + evaluator.getHitRatio());
     JMetalLogger.logger.info("Objectives values have been written to file FUN.tsv");
     JMetalLogger.logger.info("Variables values have been written to file VAR.tsv");
   }
@@ -0,0 +1,119 @@
+//  MOCellRunner.java
+//
+//  Author:
+//       Antonio J. Nebro <antonio@lcc.uma.es>
+//
+//  Copyright (c) 2014 Antonio J. Nebro
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.runner.multiobjective;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.multiobjective.mocell.MOCell;
+import org.uma.jmetal.algorithm.multiobjective.mocell.MOCellBuilder;
+import org.uma.jmetal.algorithm.multiobjective.mocell.MOCellBuilder.MOCellVariant;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.ProblemUtils;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.fileoutput.SolutionSetOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.impl.PerThreadRandomGenerator;
+
+import java.util.List;
+
+/**
+ * Class to configure and run the MOCell algorithm. The asynchronous variant updates the cells of
+ * the grid with as many threads as processors
+ */
+public class MOCellRunner {
+  /**
+   * @param args Command line arguments.
+   * @throws JMetalException
+   * Usage: three options
+   *        - org.uma.jmetal.runner.multiobjective.MOCellRunner
+   *        - org.uma.jmetal.runner.multiobjective.MOCellRunner problemName
+   *        - org.uma.jmetal.runner.multiobjective.MOCellRunner problemName variant
+   */
+  public static void main(String[] args) throws JMetalException {
+    Problem problem;
+    Algorithm algorithm;
+    CrossoverOperator crossover;
+    MutationOperator mutation;
+    SelectionOperator selection;
+
+    String problemName ;
+    MOCellVariant variant = MOCellVariant.AsyncMOCell4 ;
+    if (args.length >= 1) {
+      problemName = args[0] ;
+      if (args.length == 2) {
+        variant = MOCellVariant.valueOf(args[1]) ;
+      }
+    } else {
+      problemName = "org.uma.jmetal.problem.multiobjective.zdt.ZDT1";
+    }
+
+    problem = ProblemUtils.loadProblem(problemName);
+
+    double crossoverProbability = 0.9 ;
+    double crossoverDistributionIndex = 20.0 ;
+    crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex) ;
+
+    double mutationProbability = 1.0 / problem.getNumberOfVariables() ;
+    double mutationDistributionIndex = 20.0 ;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex) ;
+
+    selection = new BinaryTournamentSelection();
+
+    JMetalRandom.getInstance().setRandomGenerator(new PerThreadRandomGenerator(1));
+
+    algorithm = new MOCellBuilder(problem, variant)
+            .setCrossoverOperator(crossover)
+            .setMutationOperator(mutation)
+            .setSelectionOperator(selection)
+            .setMaxEvaluations(25000)
+            .setPopulationSize(100)
+            .setArchive(new CrowdingDistanceArchive(100))
+            .setFeedback(20)
+            .setNumberOfThreads(Runtime.getRuntime().availableProcessors())
+            .build() ;
+
+    AlgorithmRunner algorithmRunner = new AlgorithmRunner.Executor(algorithm)
+            .execute() ;
+
+    List<Solution> population = ((MOCell)algorithm).getResult() ;
+    long computingTime = algorithmRunner.getComputingTime() ;
+
+    new SolutionSetOutput.Printer(population)
+            .setSeparator("\t")
+            .setVarFileOutputContext(new DefaultFileOutputContext("VAR.tsv"))
+            .setFunFileOutputContext(new DefaultFileOutputContext("FUN.tsv"))
+            .print();
+
+    JMetalLogger.logger.info("Total execution time: " + computingTime + "ms");
+    JMetalLogger.logger.info("Objectives values have been written to file FUN.tsv");
+    JMetalLogger.logger.info("Variables values have been written to file VAR.tsv");
+  }
+}
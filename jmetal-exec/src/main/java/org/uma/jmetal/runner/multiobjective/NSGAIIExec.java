@@ -14,11 +14,14 @@ import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.Operator;
 import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.operator.impl.crossover.PMXCrossover;
 import org.uma.jmetal.operator.impl.crossover.SinglePointCrossover;
 import org.uma.jmetal.operator.impl.mutation.BitFlipMutation;
+import org.uma.jmetal.operator.impl.mutation.PermutationSwapMutation;
 import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
 import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.multiobjective.tsp.MultiobjectiveTSP;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.AlgorithmRunner;
 import org.uma.jmetal.util.JMetalException;
@@ -34,6 +37,7 @@ import java.util.List;
 
 /**
  * Run it with intellij: Params: nsgaII org.uma.jmetal.problem.multiobjective.Kursawe
+ * The bi-objective TSP (kroA100 and kroB100) is solved with the params: nsgaII tsp
  */
 public class NSGAIIExec {
   public static void main(String[] args) throws Exception {
@@ -63,8 +67,8 @@ public class NSGAIIExec {
           return (Algorithm) ctx.getBean("nsgaIIReal", args[2], args);
         case binary:
           return (Algorithm) ctx.getBean("nsgaIIBinary", args[2], args);
-        //case tsp:
-        //  return nsgIITsp();
+        case tsp:
+          return (Algorithm) ctx.getBean("nsgaIITsp");
       }
       throw new JMetalException("NSGII version not implemented");
     }
@@ -99,13 +103,15 @@ public class NSGAIIExec {
           .setMaxEvaluations(25000).setPopulationSize(100).build("NSGAII");
     }
 */
-    //@Bean(name = "nsgaIITsp")
-    //@Scope("prototype")
-    //@Lazy
-    //public Algorithm nsgIITsp() throws FileNotFoundException {
-    //  return new NSGAIITemplate.Builder(multiObjectiveTSP(), evaluator()).setPopulationSize(100).setMaxEvaluations(1000000)
-    //      .setCrossover(crossover(0.95)).setMutation(swapMutation()).setSelection(selection()).build("NSGAII");
-    //}
+    @Bean(name = "nsgaIITsp")
+    @Scope("prototype")
+    @Lazy
+    public Algorithm nsgaIITsp() {
+      return new NSGAIIBuilder(multiObjectiveTSP()).setCrossoverOperator(pmxCrossover(0.95))
+          .setMutationOperator(swapMutation()).setSelectionOperator(selection())
+          .setSolutionListEvaluator(evaluator()).setMaxIterations(10000).setPopulationSize(100)
+          .build();
+    }
 
     @Bean
     @Lazy
@@ -113,12 +119,12 @@ public class NSGAIIExec {
       return new SequentialSolutionListEvaluator();
     }
 
-    //@Bean
-    //@Scope("prototype")
-    //@Lazy
-    //public Operator crossover(Double probability) {
-    //  return new PMXCrossover.Builder().setProbability(probability).build();
-    //}
+    @Bean(name = "pmxCrossover")
+    @Scope("prototype")
+    @Lazy
+    public CrossoverOperator pmxCrossover(Double probability) {
+      return new PMXCrossover(probability);
+    }
 
     //@Bean
     //@Lazy
@@ -137,16 +143,18 @@ public class NSGAIIExec {
       return new SinglePointCrossover(probability);
     }
 
-    //@Bean
-    //@Lazy
-    //public Problem multiObjectiveTSP() throws FileNotFoundException {
-    //  return new MultiObjectiveTSP("Permutation", "kroA100.tsp", "kroB100.tsp");
-    //}
-    //@Bean(name = "swapMutation")
-    //@Lazy
-    //public Operator swapMutation() {
-    //  return new SwapMutation.Builder().setProbability(0.2).build();
-    //}
+    @Bean
+    @Lazy
+    public Problem multiObjectiveTSP() {
+      return new MultiobjectiveTSP("tspInstances/kroA100.tsp", "tspInstances/kroB100.tsp");
+    }
+
+    @Bean(name = "swapMutation")
+    @Lazy
+    public MutationOperator swapMutation() {
+      return new PermutationSwapMutation(0.2);
+    }
+
     @Bean(name = "flipMutation")
     @Scope("prototype")
     public Operator flipMutation(Double probability) {
@@ -166,6 +174,6 @@ public class NSGAIIExec {
   }
 
   public static enum NsgaIIType {
-    binary, real, permutation
+    binary, real, permutation, tsp
   }
 }
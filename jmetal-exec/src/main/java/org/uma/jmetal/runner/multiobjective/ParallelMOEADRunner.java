@@ -0,0 +1,121 @@
+//  MOCellRunner.java
+//
+//  Author:
+//       Antonio J. Nebro <antonio@lcc.uma.es>
+//
+//  Copyright (c) 2014 Antonio J. Nebro
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.runner.multiobjective;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.multiobjective.moead.AbstractMOEAD;
+import org.uma.jmetal.algorithm.multiobjective.moead.MOEADBuilder;
+import org.uma.jmetal.algorithm.multiobjective.moead.ParallelMOEAD;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.ProblemUtils;
+import org.uma.jmetal.util.fileoutput.SolutionSetOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.impl.PerThreadRandomGenerator;
+
+import java.util.List;
+
+/**
+ * Class to configure and run the parallel MOEA/D algorithm. The weight vectors are read from the
+ * MOEAD_Weights directory, so the population size must match one of its files for problems with
+ * more than two objectives (e.g. 300 for three objectives or 1000 for five)
+ */
+public class ParallelMOEADRunner {
+  /**
+   * @param args Command line arguments.
+   * @throws JMetalException
+   * Usage: three options
+   *        - org.uma.jmetal.runner.multiobjective.ParallelMOEADRunner
+   *        - org.uma.jmetal.runner.multiobjective.ParallelMOEADRunner problemName
+   *        - org.uma.jmetal.runner.multiobjective.ParallelMOEADRunner problemName numberOfThreads
+   */
+  public static void main(String[] args) throws JMetalException {
+    DoubleProblem problem;
+    Algorithm algorithm;
+    MutationOperator mutation;
+    DifferentialEvolutionCrossover crossover;
+
+    String problemName ;
+    int numberOfThreads = Runtime.getRuntime().availableProcessors() ;
+    if (args.length >= 1) {
+      problemName = args[0] ;
+      if (args.length == 2) {
+        numberOfThreads = Integer.parseInt(args[1]) ;
+      }
+    } else {
+      problemName = "org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2";
+    }
+
+    problem = (DoubleProblem)ProblemUtils.loadProblem(problemName);
+
+    double cr = 1.0 ;
+    double f = 0.5 ;
+    crossover = new DifferentialEvolutionCrossover(cr, f, "rand/1/bin") ;
+
+    double mutationProbability = 1.0 / problem.getNumberOfVariables() ;
+    double mutationDistributionIndex = 20.0 ;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex) ;
+
+    int populationSize = problem.getNumberOfObjectives() > 3 ? 1000 : 300 ;
+
+    JMetalRandom.getInstance().setRandomGenerator(new PerThreadRandomGenerator(1));
+
+    algorithm = new MOEADBuilder(problem, MOEADBuilder.Variant.ParallelMOEAD)
+        .setCrossover(crossover)
+        .setMutation(mutation)
+        .setMaxEvaluations(150000)
+        .setPopulationSize(populationSize)
+        .setResultPopulationSize(populationSize)
+        .setNeighborhoodSelectionProbability(0.9)
+        .setMaximumNumberOfReplacedSolutions(2)
+        .setNeighborSize(20)
+        .setFunctionType(AbstractMOEAD.FunctionType.TCHE)
+        .setDataDirectory("MOEAD_Weights")
+        .setNumberOfThreads(numberOfThreads)
+        .build() ;
+
+    AlgorithmRunner algorithmRunner = new AlgorithmRunner.Executor(algorithm)
+        .execute() ;
+
+    List<DoubleSolution> population = ((ParallelMOEAD)algorithm).getResult() ;
+    long computingTime = algorithmRunner.getComputingTime() ;
+    int evaluations = ((ParallelMOEAD)algorithm).getEvaluations() ;
+
+    new SolutionSetOutput.Printer(population)
+        .setSeparator("\t")
+        .setVarFileOutputContext(new DefaultFileOutputContext("VAR.tsv"))
+        .setFunFileOutputContext(new DefaultFileOutputContext("FUN.tsv"))
+        .print();
+
+    JMetalLogger.logger.info("Total execution time: " + computingTime + "ms");
+    JMetalLogger.logger.info("Evaluations per second with " + numberOfThreads + " threads: "
+        + (long)(evaluations * 1000.0 / Math.max(computingTime, 1))) ;
+    JMetalLogger.logger.info("Objectives values have been written to file FUN.tsv");
+    JMetalLogger.logger.info("Variables values have been written to file VAR.tsv");
+  }
+}
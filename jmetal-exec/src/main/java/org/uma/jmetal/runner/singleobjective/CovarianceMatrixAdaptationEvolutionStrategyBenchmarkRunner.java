@@ -0,0 +1,90 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.runner.singleobjective;
+
+import org.uma.jmetal.algorithm.singleobjective.evolutionstrategy.CovarianceMatrixAdaptationEvolutionStrategy;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.singleobjective.Sphere;
+import org.uma.jmetal.util.JMetalLogger;
+
+/**
+ * Measures the time per generation of the modes of CMA-ES on the Sphere problem. The modes
+ * storing the full covariance matrix are skipped, and reported as such, when its three n x n
+ * matrices do not fit in half of the heap.
+ */
+public class CovarianceMatrixAdaptationEvolutionStrategyBenchmarkRunner {
+  private static final int[] DEFAULT_DIMENSIONS = {100, 1000, 5000} ;
+  private static final int DEFAULT_GENERATIONS = 50 ;
+  private static final int LAMBDA = 10 ;
+
+  private enum Mode {STANDARD, PARALLEL, ASYNCHRONOUS, SEPARABLE, LIMITED_MEMORY}
+
+  /**
+   * @param args Command line arguments.
+   * Usage: CovarianceMatrixAdaptationEvolutionStrategyBenchmarkRunner
+   *        [numberOfGenerations [dimension ...]] (by default, 50 generations with n = 100, 1000 and
+   *        5000)
+   */
+  public static void main(String[] args) throws Exception {
+    int generations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GENERATIONS ;
+    int[] dimensions = DEFAULT_DIMENSIONS ;
+    if (args.length > 1) {
+      dimensions = new int[args.length - 1] ;
+      for (int i = 1; i < args.length; i++) {
+        dimensions[i - 1] = Integer.parseInt(args[i]) ;
+      }
+    }
+
+    // warm-up, so that the first measures do not include the compilation by the JIT
+    for (Mode mode : Mode.values()) {
+      measure(mode, 50, generations) ;
+    }
+
+    for (int dimension : dimensions) {
+      for (Mode mode : Mode.values()) {
+        boolean fullMatrix = (mode != Mode.SEPARABLE) && (mode != Mode.LIMITED_MEMORY) ;
+        double matrixSize = 3.0 * dimension * dimension * 8 ;
+        if (fullMatrix && (matrixSize > Runtime.getRuntime().maxMemory() / 2)) {
+          JMetalLogger.logger.info("n = " + dimension + ", " + mode + ": skipped, the covariance "
+              + "matrix does not fit in the heap");
+        } else {
+          double time = measure(mode, dimension, generations) ;
+          JMetalLogger.logger.info("n = " + dimension + ", " + mode + ": "
+              + String.format("%.3f", time) + " ms per generation");
+        }
+      }
+    }
+  }
+
+  /** Returns the mean time of a generation, in milliseconds */
+  private static double measure(Mode mode, int dimension, int generations) {
+    DoubleProblem problem = new Sphere(dimension) ;
+    CovarianceMatrixAdaptationEvolutionStrategy algorithm =
+        new CovarianceMatrixAdaptationEvolutionStrategy.Builder(problem)
+            .setLambda(LAMBDA)
+            .setMaxEvaluations(LAMBDA * generations)
+            .setSeed(1)
+            .setNumberOfThreads(mode == Mode.PARALLEL || mode == Mode.ASYNCHRONOUS ?
+                Runtime.getRuntime().availableProcessors() : 1)
+            .setAsynchronousEigendecomposition(mode == Mode.ASYNCHRONOUS)
+            .setSeparable(mode == Mode.SEPARABLE)
+            .setLimitedMemory(mode == Mode.LIMITED_MEMORY)
+            .build() ;
+
+    long startTime = System.nanoTime() ;
+    algorithm.run();
+
+    return (System.nanoTime() - startTime) / 1.0e6 / generations ;
+  }
+}
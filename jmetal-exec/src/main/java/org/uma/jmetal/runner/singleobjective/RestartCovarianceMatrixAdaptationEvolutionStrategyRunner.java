@@ -0,0 +1,74 @@
+//  RestartCovarianceMatrixAdaptationEvolutionStrategyRunner.java
+//
+//  Author:
+//       Antonio J. Nebro <antonio@lcc.uma.es>
+//
+//  Copyright (c) 2014 Antonio J. Nebro
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.runner.singleobjective;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.singleobjective.evolutionstrategy.RestartCovarianceMatrixAdaptationEvolutionStrategy;
+import org.uma.jmetal.algorithm.singleobjective.evolutionstrategy.RestartCovarianceMatrixAdaptationEvolutionStrategy.RestartStrategy;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.singleobjective.CEC2005Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.fileoutput.SolutionSetOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ */
+public class RestartCovarianceMatrixAdaptationEvolutionStrategyRunner {
+  /**
+   */
+  public static void main(String[] args) throws Exception {
+
+    Algorithm algorithm;
+    DoubleProblem problem = new CEC2005Problem(9, 10) ;
+
+    algorithm = new RestartCovarianceMatrixAdaptationEvolutionStrategy.Builder(problem)
+            .setMaxEvaluations(100000)
+            .setRestartStrategy(RestartStrategy.BIPOP)
+            .setNumberOfThreads(Runtime.getRuntime().availableProcessors())
+            .build() ;
+
+
+    AlgorithmRunner algorithmRunner = new AlgorithmRunner.Executor(algorithm)
+            .execute() ;
+
+    Solution solution = ((RestartCovarianceMatrixAdaptationEvolutionStrategy)algorithm).getResult() ;
+    List<Solution> population = new ArrayList<>(1) ;
+    population.add(solution) ;
+
+    long computingTime = algorithmRunner.getComputingTime() ;
+
+    new SolutionSetOutput.Printer(population)
+            .setSeparator("\t")
+            .setVarFileOutputContext(new DefaultFileOutputContext("VAR.tsv"))
+            .setFunFileOutputContext(new DefaultFileOutputContext("FUN.tsv"))
+            .print();
+
+    JMetalLogger.logger.info("Total execution time: " + computingTime + "ms");
+    JMetalLogger.logger.info("Objectives values have been written to file FUN.tsv");
+    JMetalLogger.logger.info("Variables values have been written to file VAR.tsv");
+
+  }
+}
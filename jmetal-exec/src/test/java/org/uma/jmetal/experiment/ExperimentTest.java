@@ -0,0 +1,253 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.experiment;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalLogger;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class ExperimentTest {
+  private File directory ;
+  private Properties properties ;
+
+  @Before public void setup() throws IOException {
+    directory = File.createTempFile("experiment", "") ;
+    directory.delete() ;
+    directory.mkdirs() ;
+
+    properties = new Properties() ;
+    properties.setProperty("experimentName", "study") ;
+    properties.setProperty("experimentBaseDirectory", directory.getPath()) ;
+    properties.setProperty("algorithmNameList", "Cheap,Expensive") ;
+    properties.setProperty("problemList", "ZDT6,ZDT1") ;
+    properties.setProperty("independentRuns", "2") ;
+    properties.setProperty("numberOfExecutionThreads", "1") ;
+  }
+
+  @After public void cleanup() {
+    delete(directory) ;
+  }
+
+  @Test public void shouldTheMostExpensiveRunsBeExecutedFirst() {
+    RecordingAlgorithmFactory factory = new RecordingAlgorithmFactory(1.0) ;
+    new Experiment(new ExperimentConfiguration(properties), factory).run();
+
+    assertEquals(Arrays.asList(
+        "Expensive ZDT1", "Expensive ZDT1", "Cheap ZDT1", "Cheap ZDT1",
+        "Expensive ZDT6", "Expensive ZDT6", "Cheap ZDT6", "Cheap ZDT6"), factory.runs) ;
+  }
+
+  @Test public void shouldTheRunsWithResultsNotBeExecutedAgain() throws IOException {
+    ExperimentConfiguration configuration = new ExperimentConfiguration(properties) ;
+    new Experiment(configuration, new RecordingAlgorithmFactory(1.0)).run();
+    File funFile = getDataFile("Cheap", "ZDT1", "FUN1.tsv") ;
+    byte[] funContent = Files.readAllBytes(funFile.toPath()) ;
+    assertTrue(getDataFile("Expensive", "ZDT6", "FUN0.tsv").delete()) ;
+    assertTrue(getDataFile("Cheap", "ZDT6", "VAR1.tsv").delete()) ;
+
+    RecordingAlgorithmFactory factory = new RecordingAlgorithmFactory(1.0) ;
+    new Experiment(configuration, factory).run();
+
+    assertEquals(Arrays.asList("Expensive ZDT6", "Cheap ZDT6"), factory.runs) ;
+    assertArrayEquals(funContent, Files.readAllBytes(funFile.toPath())) ;
+    assertTrue(getDataFile("Expensive", "ZDT6", "FUN0.tsv").isFile()) ;
+    assertTrue(getDataFile("Cheap", "ZDT6", "VAR1.tsv").isFile()) ;
+    assertFalse(new File(funFile.getPath() + ".tmp").exists()) ;
+  }
+
+  @Test public void shouldTheIndicatorFilesBeWrittenWhenTheRunsOfAPairAreDone()
+      throws IOException {
+    writeFront(new File(directory, "ZDT1.pf")) ;
+    writeFront(new File(directory, "ZDT6.pf")) ;
+    properties.setProperty("paretoFrontDirectory", directory.getPath()) ;
+    properties.setProperty("paretoFrontFileList", "ZDT6.pf,ZDT1.pf") ;
+    properties.setProperty("generateQualityIndicators", "true") ;
+    properties.setProperty("indicatorList", "IGD,EPSILON") ;
+
+    final List<Boolean> firstPairIndicatorsWritten = new ArrayList<>() ;
+    RecordingAlgorithmFactory factory = new RecordingAlgorithmFactory(1.0) {
+      @Override public Algorithm<?> createAlgorithm(String algorithmName, Problem<?> problem) {
+        firstPairIndicatorsWritten.add(getDataFile("Expensive", "ZDT1", "IGD").isFile()) ;
+        return super.createAlgorithm(algorithmName, problem) ;
+      }
+    } ;
+    new Experiment(new ExperimentConfiguration(properties), factory).run();
+
+    assertEquals(Arrays.asList(false, false, true, true, true, true, true, true),
+        firstPairIndicatorsWritten) ;
+    for (String algorithmName : Arrays.asList("Cheap", "Expensive")) {
+      for (String problemName : Arrays.asList("ZDT1", "ZDT6")) {
+        for (String indicatorName : Arrays.asList("IGD", "EPSILON")) {
+          File file = getDataFile(algorithmName, problemName, indicatorName) ;
+          assertEquals(2, Files.readAllLines(file.toPath()).size()) ;
+        }
+      }
+    }
+  }
+
+  @Test public void shouldTheResultsNotDependOnTheNumberOfThreads() throws IOException {
+    try (FileWriter writer = new FileWriter(new File(directory, "NSGAII.conf"))) {
+      writer.write("populationSize=20\nmaxEvaluations=1000\n");
+    }
+    properties.setProperty("algorithmNameList", "NSGAII,NSGAIIb") ;
+    properties.setProperty("useConfigurationFilesForAlgorithms", "true") ;
+    properties.setProperty("independentRuns", "3") ;
+    new Experiment(new ExperimentConfiguration(properties)).run();
+
+    properties.setProperty("experimentName", "parallelStudy") ;
+    properties.setProperty("numberOfExecutionThreads", "3") ;
+    new Experiment(new ExperimentConfiguration(properties)).run();
+
+    for (String algorithmName : Arrays.asList("NSGAII", "NSGAIIb")) {
+      for (String problemName : Arrays.asList("ZDT1", "ZDT6")) {
+        for (int run = 0; run < 3; run++) {
+          for (String prefix : Arrays.asList("FUN", "VAR")) {
+            String fileName = prefix + run + ".tsv" ;
+            byte[] expected = Files.readAllBytes(
+                getDataFile(algorithmName, problemName, fileName).toPath()) ;
+            byte[] actual = Files.readAllBytes(new File(directory, "parallelStudy"
+                + File.separator + "data" + File.separator + algorithmName + File.separator
+                + problemName + File.separator + fileName).toPath()) ;
+            assertTrue(expected.length > 0) ;
+            assertArrayEquals(expected, actual) ;
+          }
+        }
+      }
+    }
+  }
+
+  @Test public void shouldTheProgressBeLoggedIfTheCostsAreZero() {
+    final List<String> messages = Collections.synchronizedList(new ArrayList<String>()) ;
+    Handler handler = new Handler() {
+      @Override public void publish(LogRecord record) {
+        messages.add(record.getMessage()) ;
+      }
+
+      @Override public void flush() {
+      }
+
+      @Override public void close() {
+      }
+    } ;
+    JMetalLogger.logger.addHandler(handler);
+    try {
+      new Experiment(new ExperimentConfiguration(properties), new RecordingAlgorithmFactory(0.0))
+          .run();
+    } finally {
+      JMetalLogger.logger.removeHandler(handler);
+    }
+
+    List<String> progressMessages = new ArrayList<>() ;
+    for (String message : messages) {
+      if (message.contains("runs completed")) {
+        progressMessages.add(message) ;
+      }
+    }
+    assertEquals(8, progressMessages.size()) ;
+    assertTrue(progressMessages.get(3), progressMessages.get(3).contains(" 50% ")) ;
+    assertTrue(progressMessages.get(7), progressMessages.get(7).contains(" 100% ")) ;
+  }
+
+  private File getDataFile(String algorithmName, String problemName, String fileName) {
+    return new File(directory, "study" + File.separator + "data" + File.separator
+        + algorithmName + File.separator + problemName + File.separator + fileName) ;
+  }
+
+  private void writeFront(File file) throws IOException {
+    try (FileWriter writer = new FileWriter(file)) {
+      writer.write("0.0 1.0\n0.5 0.3\n1.0 0.0\n");
+    }
+  }
+
+  private static void delete(File file) {
+    File[] files = file.listFiles() ;
+    if (files != null) {
+      for (File child : files) {
+        delete(child) ;
+      }
+    }
+    file.delete() ;
+  }
+
+  /**
+   * Factory of algorithms returning random solutions of the problem, which records the runs. The
+   * cost of a run is the number of variables of the problem, twice for the expensive algorithm
+   */
+  private static class RecordingAlgorithmFactory implements AlgorithmFactory {
+    private final double costFactor ;
+    private final List<String> runs = Collections.synchronizedList(new ArrayList<String>()) ;
+
+    RecordingAlgorithmFactory(double costFactor) {
+      this.costFactor = costFactor ;
+    }
+
+    @Override public Algorithm<?> createAlgorithm(String algorithmName, Problem<?> problem) {
+      runs.add(algorithmName + " " + problem.getName()) ;
+      return new RandomSearch(problem) ;
+    }
+
+    @Override public double getEstimatedCost(String algorithmName, Problem<?> problem) {
+      return costFactor * problem.getNumberOfVariables() * ("Expensive".equals(algorithmName) ?
+          2 : 1) ;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class RandomSearch implements Algorithm<List<Solution<?>>> {
+    private final Problem<Solution<?>> problem ;
+    private final List<Solution<?>> result = new ArrayList<>() ;
+
+    @SuppressWarnings("unchecked")
+    RandomSearch(Problem<?> problem) {
+      this.problem = (Problem<Solution<?>>) problem ;
+    }
+
+    @Override public void run() {
+      for (int i = 0; i < 5; i++) {
+        Solution<?> solution = problem.createSolution() ;
+        problem.evaluate(solution);
+        result.add(solution) ;
+      }
+    }
+
+    @Override public List<Solution<?>> getResult() {
+      return result ;
+    }
+  }
+}
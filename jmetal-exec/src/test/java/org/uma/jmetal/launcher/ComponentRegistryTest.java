@@ -0,0 +1,100 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.launcher;
+
+import org.junit.Test;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT2;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class ComponentRegistryTest {
+  @Test (expected = JMetalException.class)
+  public void shouldTheConstructorFailIfThereAreNoProviders() {
+    new ComponentRegistry(new ArrayList<ComponentProvider>()) ;
+  }
+
+  @Test public void shouldTheProvidersBeAskedInTurn() {
+    ComponentRegistry registry = new ComponentRegistry(Arrays.<ComponentProvider>asList(
+        new UnknownComponentProvider(), new DefaultComponentProvider())) ;
+    Properties settings = new Properties() ;
+    settings.setProperty("numberOfVariables", "5") ;
+
+    Problem<?> problem = registry.createProblem("ZDT1", settings) ;
+
+    assertTrue(problem instanceof ZDT1) ;
+    assertEquals(5, problem.getNumberOfVariables()) ;
+    assertNotNull(registry.createAlgorithm("NSGAII", problem, settings)) ;
+    assertNotNull(registry.createMutation("Polynomial", problem, settings)) ;
+  }
+
+  @Test public void shouldAProblemNamedByItsClassBeLoadedByReflection() {
+    ComponentRegistry registry = new ComponentRegistry(
+        Arrays.<ComponentProvider>asList(new UnknownComponentProvider())) ;
+
+    Problem<?> problem = registry.createProblem(ZDT2.class.getName(), new Properties()) ;
+
+    assertTrue(problem instanceof ZDT2) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldAnUnknownProblemNotBeLoadedByReflection() {
+    new ComponentRegistry(Arrays.<ComponentProvider>asList(new UnknownComponentProvider()))
+        .createProblem("ZDT2", new Properties()) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldAnUnknownAlgorithmRaiseAnException() {
+    ComponentRegistry registry = new ComponentRegistry(
+        Arrays.<ComponentProvider>asList(new DefaultComponentProvider())) ;
+
+    registry.createAlgorithm("Unknown", new ZDT1(), new Properties()) ;
+  }
+
+  private static class UnknownComponentProvider implements ComponentProvider {
+    @Override public Problem<?> createProblem(String problemName, Properties settings) {
+      return null;
+    }
+
+    @Override public CrossoverOperator<?, ?> createCrossover(String crossoverName,
+        Problem<?> problem, Properties settings) {
+      return null;
+    }
+
+    @Override public MutationOperator<?> createMutation(String mutationName, Problem<?> problem,
+        Properties settings) {
+      return null;
+    }
+
+    @Override public Algorithm<?> createAlgorithm(String algorithmName, Problem<?> problem,
+        Properties settings, ComponentRegistry registry) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.launcher;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class LauncherJobTest {
+  private File directory ;
+
+  @Before public void setup() throws IOException {
+    directory = File.createTempFile("launcher", "") ;
+    directory.delete() ;
+  }
+
+  @After public void cleanup() {
+    delete(directory) ;
+  }
+
+  @Test public void shouldParseTheAlgorithmTheProblemAndTheSettings() {
+    LauncherJob job = LauncherJob.parse("  NSGAII\tZDT1   runs=3 seed=7 populationSize=20 ") ;
+
+    assertEquals("NSGAII", job.getAlgorithmName()) ;
+    assertEquals("ZDT1", job.getProblemName()) ;
+    assertEquals(3, job.getRuns()) ;
+    assertEquals("20", job.getSettings().getProperty("populationSize")) ;
+    assertEquals("7", job.getSettings().getProperty("seed")) ;
+  }
+
+  @Test public void shouldUseTheDefaultSettings() {
+    LauncherJob job = LauncherJob.parse("SMPSO ZDT4") ;
+
+    assertEquals(1, job.getRuns()) ;
+    assertEquals("results" + File.separator + "SMPSO" + File.separator + "ZDT4",
+        job.getOutputDirectory()) ;
+    assertTrue(job.getSettings().isEmpty()) ;
+  }
+
+  @Test public void shouldKeepTheEqualSignsOfTheValues() {
+    LauncherJob job = LauncherJob.parse("NSGAII ZDT1 outputDirectory=a=b") ;
+
+    assertEquals("a=b", job.getOutputDirectory()) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldParseFailIfTheProblemIsMissing() {
+    LauncherJob.parse("NSGAII") ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldParseFailIfASettingHasNoValue() {
+    LauncherJob.parse("NSGAII ZDT1 runs") ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldParseFailIfASettingHasNoKey() {
+    LauncherJob.parse("NSGAII ZDT1 =3") ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldParseFailIfTheNumberOfRunsIsNotANumber() {
+    LauncherJob.parse("NSGAII ZDT1 runs=many") ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldParseFailIfTheNumberOfRunsIsNotPositive() {
+    LauncherJob.parse("NSGAII ZDT1 runs=0") ;
+  }
+
+  @Test public void shouldTheResultsOfAJobDependOnlyOnItsSeed() throws IOException {
+    ComponentRegistry registry = new ComponentRegistry(
+        Arrays.<ComponentProvider>asList(new DefaultComponentProvider())) ;
+    String settings = " populationSize=10 maxEvaluations=200 runs=2 seed=5 outputDirectory=" ;
+    File first = new File(directory, "first") ;
+    File second = new File(directory, "second") ;
+
+    LauncherJob.parse("NSGAII ZDT1" + settings + first).execute(registry) ;
+    LauncherJob.parse("SMPSO ZDT2" + settings + new File(directory, "other")).execute(registry) ;
+    LauncherJob.parse("NSGAII ZDT1" + settings + second).execute(registry) ;
+
+    for (String name : new String[] {"FUN0.tsv", "VAR0.tsv", "FUN1.tsv", "VAR1.tsv"}) {
+      byte[] expected = Files.readAllBytes(new File(first, name).toPath()) ;
+      assertTrue(expected.length > 0) ;
+      assertArrayEquals(expected, Files.readAllBytes(new File(second, name).toPath())) ;
+    }
+  }
+
+  static void delete(File file) {
+    File[] files = file.listFiles() ;
+    if (files != null) {
+      for (File child : files) {
+        delete(child) ;
+      }
+    }
+    file.delete() ;
+  }
+}
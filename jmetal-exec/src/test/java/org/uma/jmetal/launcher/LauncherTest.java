@@ -0,0 +1,153 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.launcher;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class LauncherTest {
+  private static final int TIMEOUT = 30000 ;
+
+  private File directory ;
+  private Launcher launcher ;
+  private Thread server ;
+
+  @Before public void setup() throws Exception {
+    directory = File.createTempFile("launcher", "") ;
+    directory.delete() ;
+
+    launcher = new Launcher(new ComponentRegistry(
+        Arrays.<ComponentProvider>asList(new DefaultComponentProvider())), 1) ;
+    server = new Thread(new Runnable() {
+      @Override public void run() {
+        try {
+          launcher.serve(0) ;
+        } catch (IOException e) {
+          throw new RuntimeException(e) ;
+        }
+      }
+    }) ;
+    server.setDaemon(true);
+    server.start();
+    long deadline = System.currentTimeMillis() + TIMEOUT ;
+    while (launcher.getLocalPort() < 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  @After public void cleanup() throws InterruptedException {
+    launcher.stop();
+    server.join(TIMEOUT);
+    LauncherJobTest.delete(directory) ;
+  }
+
+  @Test public void shouldAnswerOkWhenAJobIsDone() throws IOException {
+    try (Client client = new Client()) {
+      String answer = client.send("NSGAII ZDT1 populationSize=10 maxEvaluations=100 runs=2 "
+          + "outputDirectory=" + directory) ;
+
+      assertTrue(answer, answer.startsWith("OK NSGAII ZDT1 2 ")) ;
+      assertTrue(answer, answer.endsWith("ms " + directory)) ;
+      assertTrue(new File(directory, "FUN1.tsv").isFile()) ;
+    }
+  }
+
+  @Test public void shouldAnswerErrorWhenAJobFails() throws IOException {
+    try (Client client = new Client()) {
+      assertTrue(client.send("NSGAII").startsWith("ERROR ")) ;
+      assertTrue(client.send("NSGAII Unknown").startsWith("ERROR ")) ;
+      assertTrue(client.send("NSGAII ZDT1 populationSize=10 maxEvaluations=100 outputDirectory="
+          + directory).startsWith("OK ")) ;
+    }
+  }
+
+  @Test public void shouldQuitCloseOnlyTheConnection() throws IOException {
+    try (Client client = new Client()) {
+      client.writer.println("# comment");
+      client.writer.println("quit");
+      assertNull(client.reader.readLine()) ;
+    }
+
+    assertTrue(launcher.getLocalPort() > 0) ;
+    try (Client client = new Client()) {
+      assertTrue(client.send("NSGAII").startsWith("ERROR ")) ;
+    }
+  }
+
+  @Test public void shouldAnIdleConnectionNotBlockTheOthers() throws IOException {
+    try (Client idleClient = new Client(); Client client = new Client()) {
+      String answer = client.send("NSGAII ZDT1 populationSize=10 maxEvaluations=100 "
+          + "outputDirectory=" + directory) ;
+
+      assertTrue(answer, answer.startsWith("OK ")) ;
+    }
+  }
+
+  @Test public void shouldShutdownStopTheServerAndCloseTheConnections()
+      throws IOException, InterruptedException {
+    try (Client idleClient = new Client(); Client client = new Client()) {
+      assertEquals("OK shutdown", client.send("shutdown")) ;
+      server.join(TIMEOUT);
+
+      assertFalse(server.isAlive()) ;
+      assertEquals(-1, launcher.getLocalPort()) ;
+      assertNull(idleClient.reader.readLine()) ;
+    }
+  }
+
+  private class Client implements AutoCloseable {
+    private final Socket socket ;
+    private final BufferedReader reader ;
+    private final PrintWriter writer ;
+
+    Client() throws IOException {
+      socket = new Socket(InetAddress.getLoopbackAddress(), launcher.getLocalPort()) ;
+      socket.setSoTimeout(TIMEOUT);
+      reader = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+          StandardCharsets.UTF_8)) ;
+      writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(),
+          StandardCharsets.UTF_8), true) ;
+    }
+
+    String send(String request) throws IOException {
+      writer.println(request);
+      return reader.readLine() ;
+    }
+
+    @Override public void close() throws IOException {
+      socket.close();
+    }
+  }
+}
@@ -66,18 +66,9 @@ public class OneZeroMax extends AbstractBinaryProblem {
     int counterOnes;
     int counterZeroes;
 
-    counterOnes = 0;
-    counterZeroes = 0;
-
     BitSet bitset = solution.getVariableValue(0) ;
-
-    for (int i = 0; i < bitset.length(); i++) {
-      if (bitset.get(i)) {
-        counterOnes++;
-      } else {
-        counterZeroes++;
-      }
-    }
+    counterOnes = bitset.cardinality() ;
+    counterZeroes = bits - counterOnes ;
 
     // OneZeroMax is a maximization problem: multiply by -1 to minimize
     solution.setObjective(0, -1.0 * counterOnes);
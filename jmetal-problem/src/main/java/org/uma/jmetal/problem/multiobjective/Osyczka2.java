@@ -21,7 +21,7 @@
 
 package org.uma.jmetal.problem.multiobjective;
 
-import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.SeparableConstrainedProblem;
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 
@@ -31,7 +31,7 @@ import java.util.List;
 /**
  * Class representing problem Oyczka2
  */
-public class Osyczka2 extends AbstractDoubleProblem implements ConstrainedProblem<DoubleSolution> {
+public class Osyczka2 extends AbstractDoubleProblem implements SeparableConstrainedProblem<DoubleSolution> {
  /**
   * Constructor.
   * Creates a default instance of the Osyczka2 problem.
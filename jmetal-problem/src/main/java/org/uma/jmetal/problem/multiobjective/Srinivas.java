@@ -20,7 +20,7 @@
 
 package org.uma.jmetal.problem.multiobjective;
 
-import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.SeparableConstrainedProblem;
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 
@@ -28,7 +28,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 /** Class representing problem Srinivas */
-public class Srinivas extends AbstractDoubleProblem implements ConstrainedProblem<DoubleSolution> {
+public class Srinivas extends AbstractDoubleProblem implements SeparableConstrainedProblem<DoubleSolution> {
 
   /** Constructor */
   public Srinivas()  {
@@ -21,7 +21,7 @@
 
 package org.uma.jmetal.problem.multiobjective;
 
-import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.SeparableConstrainedProblem;
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 
@@ -31,7 +31,7 @@ import java.util.List;
 /**
  * Class representing problem Water
  */
-public class Water extends AbstractDoubleProblem implements ConstrainedProblem<DoubleSolution> {
+public class Water extends AbstractDoubleProblem implements SeparableConstrainedProblem<DoubleSolution> {
 
   // defining the lower and upper limits
   public static final Double [] LOWERLIMIT = {0.01, 0.01, 0.01};
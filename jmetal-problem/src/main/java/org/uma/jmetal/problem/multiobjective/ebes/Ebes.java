@@ -13,13 +13,17 @@ import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.impl.GenericDoubleSolution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
 
 import java.io.BufferedReader;
 import java.io.FileInputStream;
 import java.io.InputStreamReader;
 import java.io.PrintStream;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Scanner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -27,6 +31,13 @@ import java.util.logging.Logger;
 /**
  * Class representing problem EBEs
  * Spatial Bars Structure (Estructuras de Barras Espaciales)
+ *
+ * The structure data file is read only once per JVM: its nodes, elements and loads are kept in an
+ * immutable {@link Model} shared by all the instances. The solver state (stiffness matrix,
+ * displacements, efforts and strains) is allocated once and reused between evaluations, and every
+ * thread evaluating solutions gets its own copy of it, so the methods evaluate() and
+ * evaluateConstraints() can be invoked concurrently. The constraints of a solution must be
+ * evaluated in the same thread used to evaluate its objectives.
  */
 public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<DoubleSolution> {
   /**
@@ -701,12 +712,80 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
   int  selectedOF = 12;
   String []OF_;
 
+  // structures read from the data files, shared by all the instances
+  private static final Map<String, Model> models_ = new HashMap<>();
+
+  // data file and objectives read from EBEs.txt, shared by all the instances
+  private static String problemFile_;
+  private static String[] problemObjectives_;
+
+  // structure of this problem
+  private Model model_;
+
+  // solver state of each thread; the first thread uses this instance
+  private transient volatile ThreadLocal<Ebes> workspaces_;
+  private boolean workspaceClaimed_;
+
   public Ebes() {
 
     EBEsInitialize();
 
   }
 
+  /**
+   * Creates a workspace of a problem: the structure is shared and the solver state is private
+   */
+  private Ebes(Ebes problem) {
+    setName(problem.getName());
+    numberOfEval_ = 1;
+    OF_ = problem.OF_;
+
+    problem.model_.copyTo(this);
+
+    setNumberOfVariables(Variable_Position());
+    setNumberOfObjectives(problem.getNumberOfObjectives());
+    setNumberOfConstraints(problem.getNumberOfConstraints());
+
+    ArrayList<Double> lowerLimit = new ArrayList<>(getNumberOfVariables());
+    ArrayList<Double> upperLimit = new ArrayList<>(getNumberOfVariables());
+    for (int i = 0; i < getNumberOfVariables(); i++) {
+      lowerLimit.add(problem.getLowerBound(i));
+      upperLimit.add(problem.getUpperBound(i));
+    }
+    setLowerLimit(lowerLimit);
+    setUpperLimit(upperLimit);
+
+    elementsBetweenDiffGreat_ = problem.elementsBetweenDiffGreat_;
+    matrixWidthBand_ = problem.matrixWidthBand_;
+  }
+
+  /**
+   * Returns the instance holding the solver state of the calling thread
+   */
+  private Ebes getWorkspace() {
+    ThreadLocal<Ebes> workspaces = workspaces_;
+    if (workspaces == null) {
+      synchronized (this) {
+        if (workspaces_ == null) {
+          workspaces_ = new ThreadLocal<Ebes>() {
+            @Override
+            protected Ebes initialValue() {
+              synchronized (Ebes.this) {
+                if (!workspaceClaimed_) {
+                  workspaceClaimed_ = true;
+                  return Ebes.this;
+                }
+              }
+              return new Ebes(Ebes.this);
+            }
+          };
+        }
+        workspaces = workspaces_;
+      }
+    }
+    return workspaces.get();
+  }
+
   public void EBEsInitialize()  {
 
     // CALCULAR dd Y CA (CANTIDADES DE NUDOS COARTADOS) AL CARGAR EL ARCHIVO
@@ -717,11 +796,11 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
     setName("Ebes");
     numberOfEval_ = 1;
 
-    String file = EBEsReadProblems() + ".ebe";
+    String file = EBEsLoadProblem() + ".ebe";
 
     try {
       // read file topology structural
-      EBEsReadDataFile(file);
+      EBEsLoadModel(file);
     } catch (JMetalException ex) {
       Logger.getLogger(Ebes.class.getName()).log(Level.SEVERE, null, ex);
     }
@@ -754,30 +833,28 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
     setNumberOfObjectives(OF_.length);
 
     // problem data print
-    System.out.println("Structure");
-    System.out.println("  file: " + file);
-    System.out.println("  Number of Nodes: " + numberOfNodes);
-    System.out.println("  Number of Bars: " + numberOfElements_);
-    System.out.println("  Number of Groups: " + numberOfGroupElements_);
-    System.out.println("Optimization multi-objective: ");
-    System.out.println("  Number of objective function: " + getNumberOfObjectives());
     String txt="";
     for(int i=0; i<getNumberOfObjectives(); i++)
     {
       txt = txt + OF_[i] + " ";
     }
-    System.out.println("  " + txt);
-    System.out.println("  Number of Variables: " + getNumberOfVariables());
-    System.out.println("  Number of constraints for Geometric: " + numberOfConstraintsGeometric_);
-    System.out.println("  Number of constraints for Stress: " + (numberOfGroupElements_ * 3));
-    System.out.println("  Number of constraints for Deflection: " + numberOfConstraintsNodes_);
-    System.out.println("  Number of Constraints: " + numberOfConstraints_);
+    JMetalLogger.logger.info("Structure\n"
+        + "  file: " + file + "\n"
+        + "  Number of Nodes: " + numberOfNodes + "\n"
+        + "  Number of Bars: " + numberOfElements_ + "\n"
+        + "  Number of Groups: " + numberOfGroupElements_ + "\n"
+        + "Optimization multi-objective: \n"
+        + "  Number of objective function: " + getNumberOfObjectives() + "\n"
+        + "  " + txt + "\n"
+        + "  Number of Variables: " + getNumberOfVariables() + "\n"
+        + "  Number of constraints for Geometric: " + numberOfConstraintsGeometric_ + "\n"
+        + "  Number of constraints for Stress: " + (numberOfGroupElements_ * 3) + "\n"
+        + "  Number of constraints for Deflection: " + numberOfConstraintsNodes_ + "\n"
+        + "  Number of Constraints: " + numberOfConstraints_);
 
     // objectives
     // Weight, Deflections, stress squared absolute error;
 
-    System.out.println("Algorithm configuration: ");
-
     //Fill lower and upper limits
     Double[] lowerLimit_ = new Double[getNumberOfVariables()];
     Double[] upperLimit_ = new Double[getNumberOfVariables()];
@@ -923,6 +1000,24 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
    */
   @Override
   public void evaluate(DoubleSolution solution) {
+    getWorkspace().EBEsEvaluate(solution);
+  }
+
+  /**
+   * Evaluates the constraint overhead of a solution 
+   * @param solution The solution
+   * @throws JMetalException
+   */
+  @Override
+  public void evaluateConstraints(DoubleSolution solution) {
+    getWorkspace().EBEsEvaluateConstraints(solution);
+  }
+
+  /**
+   * Computes the objectives of a solution using the solver state of this instance
+   * @param solution The solution to evaluate
+   */
+  public void EBEsEvaluate(DoubleSolution solution) {
 
     int hi=0;
     double [] fx = new double[getNumberOfObjectives()] ; // functions
@@ -989,7 +1084,7 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
 
     numberOfEval_++;
 
-    if((numberOfEval_ % 1000) == 0) System.out.println(numberOfEval_);
+    if((numberOfEval_ % 1000) == 0) JMetalLogger.logger.fine("Evaluations: " + numberOfEval_);
 
     //  END OBJETIVES FUNCTION
 
@@ -1022,12 +1117,11 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
   } // evaluate
 
   /**
-   * Evaluates the constraint overhead of a solution 
+   * Computes the constraint overhead of a solution using the solver state computed by the last
+   * call to EBEsEvaluate()
    * @param solution The solution
-   * @throws JMetalException
    */
-  @Override
-  public void evaluateConstraints(DoubleSolution solution) {
+  public void EBEsEvaluateConstraints(DoubleSolution solution) {
     double [] constraint = new double[this.getNumberOfConstraints()];
     double[] x = new double[getNumberOfVariables()] ;
     
@@ -1372,10 +1466,10 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
       WeightElement_[el][Qa_] = 0.0;
       WeightElement_[el][Qb_] = 0.0;
 
-      Qi = new double[numberOfLibertyDegree_];
-      Qj = new double[numberOfLibertyDegree_];
-      pi = new double[numberOfLibertyDegree_];
-      pj = new double[numberOfLibertyDegree_];
+      Arrays.fill(Qi, 0.0);
+      Arrays.fill(Qj, 0.0);
+      Arrays.fill(pi, 0.0);
+      Arrays.fill(pj, 0.0);
       EBEsWeightDistributedUniformly(el, WeightElement_[el]);
 
       int hi = 0;
@@ -1417,47 +1511,11 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
   public void EBEsCalculus() throws JMetalException{
     //  Module de calc
 
-    // Effort in boundary element
-    Efforti_ = new double[numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
-    Effortj_ = new double[numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
-
-    // corrimientos y rotaciones de los nudos por hipÃ³tesis de cargas 
-    DisplacementNodes_= new double[numberOfLibertyDegree_* numberOfNodes][numberOfWeigthHypothesis_];
-
-    // Strain in extrem i por hipÃ³tesis de cargas
-    Straini_ = new double[3][numberOfElements_][numberOfWeigthHypothesis_];
-    // Strain in extrem j  por hipÃ³tesis de cargas
-    Strainj_ = new double[3][numberOfElements_][numberOfWeigthHypothesis_];
-    // Strain minimun por hipÃ³tesis de cargas
-    // StrainMin_ = new double[2][numberOfElements_][numberOfWeigthHypothesis_];
-    OldStrainMin_ = StrainMin_;
-      StrainMin_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    // Strain maximus  por hipÃ³tesis de cargas     
-    // StrainMax_ = new double[2][numberOfElements_][numberOfWeigthHypothesis_];
-      OldStrainMax_ = StrainMax_;
-    StrainMax_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    // stress tangencial mamimun
-    StrainCutMax_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    // Negative Strain residual  por hipÃ³tesis de cargas
-    StrainResidualMin_ = new double[numberOfWeigthHypothesis_];
-    // Positive Strain residual  por hipÃ³tesis de cargas
-    StrainResidualMax_ = new double[numberOfWeigthHypothesis_];
-    // Cut Strain residual  por hipÃ³tesis de cargas
-    StrainResidualCut_ = new double[numberOfWeigthHypothesis_];
-
-    MatrixStiffness_ = new double [numberOfLibertyDegree_* numberOfLibertyDegree_* numberOfNodes *(elementsBetweenDiffGreat_+1)];
-
-    // load inself witch element
-    WeightElement_ = new double[numberOfElements_][8];
-
-    //variables load in extrem of beams
-    cbi= new double [numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
-    cbj= new double [numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
-
-    // total equivalent load nodes in all structure witch load on elements and load nodes
-    PQ= new double [numberOfLibertyDegree_* numberOfNodes][numberOfWeigthHypothesis_];
-
-    Reaction_= new double [numberOfLibertyDegree_* numberOfNodes][numberOfWeigthHypothesis_];
+    if (MatrixStiffness_ != null) {
+      EBEsResetSolverState();
+    } else {
+      EBEsAllocateSolverState();
+    }
 
     EBEsWeightNodes();
 
@@ -1537,10 +1595,99 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
 
   } // end EBEsCalculus
 
+  public void EBEsAllocateSolverState(){
+
+    // Effort in boundary element
+    Efforti_ = new double[numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
+    Effortj_ = new double[numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
+
+    // node displacements and rotations for each load hypothesis
+    DisplacementNodes_= new double[numberOfLibertyDegree_* numberOfNodes][numberOfWeigthHypothesis_];
+
+    // Strain in extrem i for each load hypothesis
+    Straini_ = new double[3][numberOfElements_][numberOfWeigthHypothesis_];
+    // Strain in extrem j for each load hypothesis
+    Strainj_ = new double[3][numberOfElements_][numberOfWeigthHypothesis_];
+    // Strain minimun for each load hypothesis
+    OldStrainMin_ = StrainMin_;
+    StrainMin_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    // Strain maximus for each load hypothesis
+    OldStrainMax_ = StrainMax_;
+    StrainMax_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    // stress tangencial mamimun
+    StrainCutMax_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    // Negative Strain residual for each load hypothesis
+    StrainResidualMin_ = new double[numberOfWeigthHypothesis_];
+    // Positive Strain residual for each load hypothesis
+    StrainResidualMax_ = new double[numberOfWeigthHypothesis_];
+    // Cut Strain residual for each load hypothesis
+    StrainResidualCut_ = new double[numberOfWeigthHypothesis_];
+
+    MatrixStiffness_ = new double [numberOfLibertyDegree_* numberOfLibertyDegree_* numberOfNodes *(elementsBetweenDiffGreat_+1)];
+
+    // load inself witch element
+    WeightElement_ = new double[numberOfElements_][8];
+
+    //variables load in extrem of beams
+    cbi= new double [numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
+    cbj= new double [numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
+
+    // total equivalent load nodes in all structure witch load on elements and load nodes
+    PQ= new double [numberOfLibertyDegree_* numberOfNodes][numberOfWeigthHypothesis_];
+
+    Reaction_= new double [numberOfLibertyDegree_* numberOfNodes][numberOfWeigthHypothesis_];
+  }
+
+  public void EBEsResetSolverState(){
+
+    // the arrays of the previous evaluation are cleared instead of allocated again
+    EBEsClear(Efforti_);
+    EBEsClear(Effortj_);
+    EBEsClear(DisplacementNodes_);
+    EBEsClear(Straini_);
+    EBEsClear(Strainj_);
+
+    // the strains of the previous evaluation are kept, and the ones of the evaluation
+    // before it are reused
+    double [][] recycled = OldStrainMin_;
+    OldStrainMin_ = StrainMin_;
+    StrainMin_ = (recycled != null) ? recycled : new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    EBEsClear(StrainMin_);
+    recycled = OldStrainMax_;
+    OldStrainMax_ = StrainMax_;
+    StrainMax_ = (recycled != null) ? recycled : new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    EBEsClear(StrainMax_);
+
+    EBEsClear(StrainCutMax_);
+    Arrays.fill(StrainResidualMin_, 0.0);
+    Arrays.fill(StrainResidualMax_, 0.0);
+    Arrays.fill(StrainResidualCut_, 0.0);
+    Arrays.fill(MatrixStiffness_, 0.0);
+    EBEsClear(WeightElement_);
+    EBEsClear(cbi);
+    EBEsClear(cbj);
+    EBEsClear(PQ);
+    EBEsClear(Reaction_);
+  }
+
+  private static void EBEsClear(double [][] m){
+    for (double [] row : m) {
+      Arrays.fill(row, 0.0);
+    }
+  }
+
+  private static void EBEsClear(double [][][] m){
+    for (double [][] matrix : m) {
+      EBEsClear(matrix);
+    }
+  }
+
   public void EBEsAssignAxialForces(int hi){
 
-    AxialForcei_ = new double[numberOfElements_];
-    AxialForcej_ = new double[numberOfElements_];
+    if (AxialForcei_ == null) {
+      AxialForcei_ = new double[numberOfElements_];
+      AxialForcej_ = new double[numberOfElements_];
+    }
 
     for(int el=0;el<numberOfElements_;el++){
       AxialForcei_[el] = Efforti_[aX_][el][hi];
@@ -1730,10 +1877,10 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
     //bucle para todas las barras cargadas
     for(int i = 0; i< numberOfWeigthsElements_;i++){
 
-      Qi = new double[numberOfLibertyDegree_];
-      Qj = new double[numberOfLibertyDegree_];
-      pi = new double[numberOfLibertyDegree_];
-      pj = new double[numberOfLibertyDegree_];
+      Arrays.fill(Qi, 0.0);
+      Arrays.fill(Qj, 0.0);
+      Arrays.fill(pi, 0.0);
+      Arrays.fill(pj, 0.0);
       //int hi = (int)OverloadInElement_[nQ][QH_];
       // load element
       int el = (int)OverloadInElement_[i][QE_];
@@ -5008,6 +5155,43 @@ public void EbesMutation(int groupId, int hi, Variable[] x) {
   }
 
 
+  /**
+   * Reads the data file and the objectives from EBEs.txt, or takes them from the values already
+   * read
+   * @return The name of the data file, without extension
+   */
+  private String EBEsLoadProblem() {
+    synchronized (models_) {
+      if (problemObjectives_ == null) {
+        String file = EBEsReadProblems();
+        if (OF_ == null) {
+          return file;
+        }
+        problemFile_ = file;
+        problemObjectives_ = OF_;
+      }
+      OF_ = problemObjectives_;
+      return problemFile_;
+    }
+  }
+
+  /**
+   * Reads the structure from a data file, or takes it from the structures already read
+   * @param fileName The data file
+   */
+  public void EBEsLoadModel(String fileName) throws JMetalException{
+    synchronized (models_) {
+      model_ = models_.get(fileName);
+      if (model_ == null) {
+        EBEsReadDataFile(fileName);
+        model_ = new Model(this);
+        models_.put(fileName, model_);
+      }
+    }
+
+    model_.copyTo(this);
+  }
+
   public final void EBEsReadDataFile(String fileName) throws JMetalException{
 
     int i, j=0;
@@ -5458,4 +5642,79 @@ public void EbesMutation(int groupId, int hi, Variable[] x) {
     return ENS;
   }
 
+  /**
+   * Structure read from a data file. Its arrays are not modified after being read, except the
+   * groups, which hold the section of the current solution and are copied for each instance.
+   */
+  private static final class Model implements Serializable {
+    private final int numberOfNodes;
+    private final int numberOfNodesRestricts;
+    private final int numberOfGroupElements;
+    private final int numberOfElements;
+    private final int numberOfWeigthsNodes;
+    private final int numberOfWeigthsElements;
+    private final int numberOfWeigthHypothesis;
+    private final int numberOfConstraintsNodes;
+    private final boolean lLoadsOwnWeight;
+    private final boolean lSecondOrderGeometric;
+    private final boolean lBuckling;
+    private final double [][] node;
+    private final double [][] nodeRestrict;
+    private final double [][] groups;
+    private final double [][] element;
+    private final double [][] weightNode;
+    private final double [][] overloadInElement;
+    private final double [][] nodeCheck;
+
+    Model(Ebes problem) {
+      numberOfNodes = problem.numberOfNodes;
+      numberOfNodesRestricts = problem.numberOfNodesRestricts_;
+      numberOfGroupElements = problem.numberOfGroupElements_;
+      numberOfElements = problem.numberOfElements_;
+      numberOfWeigthsNodes = problem.numberOfWeigthsNodes_;
+      numberOfWeigthsElements = problem.numberOfWeigthsElements_;
+      numberOfWeigthHypothesis = problem.numberOfWeigthHypothesis_;
+      numberOfConstraintsNodes = problem.numberOfConstraintsNodes_;
+      lLoadsOwnWeight = problem.lLoadsOwnWeight;
+      lSecondOrderGeometric = problem.lSecondOrderGeometric;
+      lBuckling = problem.lBuckling;
+      node = problem.Node_;
+      nodeRestrict = problem.NodeRestrict_;
+      groups = copy(problem.Groups_);
+      element = problem.Element_;
+      weightNode = problem.WeightNode_;
+      overloadInElement = problem.OverloadInElement_;
+      nodeCheck = problem.nodeCheck_;
+    }
+
+    void copyTo(Ebes problem) {
+      problem.numberOfNodes = numberOfNodes;
+      problem.numberOfNodesRestricts_ = numberOfNodesRestricts;
+      problem.numberOfGroupElements_ = numberOfGroupElements;
+      problem.numberOfElements_ = numberOfElements;
+      problem.numberOfWeigthsNodes_ = numberOfWeigthsNodes;
+      problem.numberOfWeigthsElements_ = numberOfWeigthsElements;
+      problem.numberOfWeigthHypothesis_ = numberOfWeigthHypothesis;
+      problem.numberOfConstraintsNodes_ = numberOfConstraintsNodes;
+      problem.lLoadsOwnWeight = lLoadsOwnWeight;
+      problem.lSecondOrderGeometric = lSecondOrderGeometric;
+      problem.lBuckling = lBuckling;
+      problem.Node_ = node;
+      problem.NodeRestrict_ = nodeRestrict;
+      problem.Groups_ = copy(groups);
+      problem.Element_ = element;
+      problem.WeightNode_ = weightNode;
+      problem.OverloadInElement_ = overloadInElement;
+      problem.nodeCheck_ = nodeCheck;
+      problem.model_ = this;
+    }
+
+    private static double [][] copy(double [][] m) {
+      double [][] result = new double[m.length][];
+      for (int i = 0; i < m.length; i++) {
+        result[i] = m[i].clone();
+      }
+      return result;
+    }
+  }
 }
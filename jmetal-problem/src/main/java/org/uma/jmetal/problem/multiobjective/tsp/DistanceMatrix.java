@@ -0,0 +1,168 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.problem.multiobjective.tsp;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.permutation.Permutation;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Serializable;
+
+/**
+ * Distances between the cities of a TSPLIB instance, stored in a single row-major int[] of n * n
+ * values, so that the distances from a city are contiguous in memory. The file is parsed only
+ * once, when the matrix is created; the coordinates can be given with the EUC_2D, CEIL_2D or ATT
+ * distance types.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+@SuppressWarnings("serial")
+public class DistanceMatrix implements Serializable {
+  private final String name ;
+  private final int numberOfCities ;
+  private final int[] distances ;
+
+  /**
+   * Constructor
+   *
+   * @param fileName Path of a TSPLIB file, or name of a resource in the classpath
+   */
+  public DistanceMatrix(String fileName) {
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(open(fileName)))) {
+      String instanceName = fileName ;
+      String edgeWeightType = "EUC_2D" ;
+      int dimension = -1 ;
+
+      String line = reader.readLine() ;
+      while ((line != null) && !line.trim().startsWith("NODE_COORD_SECTION")) {
+        int separator = line.indexOf(':') ;
+        if (separator != -1) {
+          String key = line.substring(0, separator).trim() ;
+          String value = line.substring(separator + 1).trim() ;
+          if ("NAME".equals(key)) {
+            instanceName = value ;
+          } else if ("DIMENSION".equals(key)) {
+            dimension = Integer.parseInt(value) ;
+          } else if ("EDGE_WEIGHT_TYPE".equals(key)) {
+            edgeWeightType = value ;
+          }
+        }
+        line = reader.readLine() ;
+      }
+      if ((line == null) || (dimension <= 0)) {
+        throw new JMetalException("The file " + fileName + " has no dimension or coordinates") ;
+      }
+
+      double[] x = new double[dimension] ;
+      double[] y = new double[dimension] ;
+      for (int i = 0; i < dimension; i++) {
+        line = reader.readLine() ;
+        if (line == null) {
+          throw new JMetalException("The file " + fileName + " has less than " + dimension
+              + " cities") ;
+        }
+        String[] fields = line.trim().split("\\s+") ;
+        int city = Integer.parseInt(fields[0]) - 1 ;
+        x[city] = Double.parseDouble(fields[1]) ;
+        y[city] = Double.parseDouble(fields[2]) ;
+      }
+
+      name = instanceName ;
+      numberOfCities = dimension ;
+      distances = new int[dimension * dimension] ;
+      for (int i = 0; i < dimension; i++) {
+        for (int j = 0; j < i; j++) {
+          int distance = computeDistance(edgeWeightType, x[i] - x[j], y[i] - y[j]) ;
+          distances[i * dimension + j] = distance ;
+          distances[j * dimension + i] = distance ;
+        }
+      }
+    } catch (IOException | NumberFormatException e) {
+      throw new JMetalException("Error reading the TSPLIB file " + fileName, e) ;
+    }
+  }
+
+  public String getName() {
+    return name ;
+  }
+
+  public int getNumberOfCities() {
+    return numberOfCities ;
+  }
+
+  public int getDistance(int city1, int city2) {
+    return distances[city1 * numberOfCities + city2] ;
+  }
+
+  /** Returns the length of the closed tour visiting the cities in the order of an array */
+  public long getTourLength(int[] tour) {
+    long length = 0 ;
+    int previousCity = tour[tour.length - 1] ;
+    for (int city : tour) {
+      length += distances[previousCity * numberOfCities + city] ;
+      previousCity = city ;
+    }
+
+    return length ;
+  }
+
+  /**
+   * Returns the difference between the length of a tour and its length when its changes were
+   * cleared, computed from the edges recorded by the permutation
+   */
+  public long getTourLengthChange(Permutation tour) {
+    int[] changedEdges = tour.getChangedEdges() ;
+    long change = 0 ;
+    for (int i = 0; i < 4 * tour.getNumberOfChangedEdges(); i += 4) {
+      change -= distances[changedEdges[i] * numberOfCities + changedEdges[i + 1]] ;
+      change += distances[changedEdges[i + 2] * numberOfCities + changedEdges[i + 3]] ;
+    }
+
+    return change ;
+  }
+
+  private static int computeDistance(String edgeWeightType, double dx, double dy) {
+    switch (edgeWeightType) {
+      case "EUC_2D":
+        return (int) (Math.sqrt(dx * dx + dy * dy) + 0.5) ;
+      case "CEIL_2D":
+        return (int) Math.ceil(Math.sqrt(dx * dx + dy * dy)) ;
+      case "ATT":
+        double distance = Math.sqrt((dx * dx + dy * dy) / 10.0) ;
+        int roundedDistance = (int) (distance + 0.5) ;
+        return roundedDistance < distance ? roundedDistance + 1 : roundedDistance ;
+      default:
+        throw new JMetalException("Unsupported edge weight type: " + edgeWeightType) ;
+    }
+  }
+
+  private static InputStream open(String fileName) throws IOException {
+    if (new File(fileName).exists()) {
+      return new FileInputStream(fileName) ;
+    }
+
+    InputStream stream = DistanceMatrix.class.getResourceAsStream("/" + fileName) ;
+    if (stream == null) {
+      throw new JMetalException("File not found: " + fileName) ;
+    }
+
+    return stream ;
+  }
+}
@@ -0,0 +1,86 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.problem.multiobjective.tsp;
+
+import org.uma.jmetal.problem.impl.AbstractIntegerPermutationProblem;
+import org.uma.jmetal.solution.PermutationSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.permutation.Permutation;
+
+/**
+ * Multi-objective traveling salesman problem: each objective is the length of the tour with the
+ * distances of a TSPLIB instance (e.g. kroA100 and kroB100), all of them with the same number of
+ * cities. With a single instance, e.g. eil101, it is the classic TSP.
+ *
+ * The solutions whose tours were evaluated before and have been changed by recorded moves (see
+ * {@link Permutation}) are evaluated by adding the length of the added edges and subtracting the
+ * one of the removed edges, instead of traversing the whole tour.
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+@SuppressWarnings("serial")
+public class MultiobjectiveTSP extends AbstractIntegerPermutationProblem {
+  private final DistanceMatrix[] distanceMatrices ;
+
+  /**
+   * Constructor
+   *
+   * @param distanceFiles TSPLIB files (or classpath resources) with the distances of each objective
+   */
+  public MultiobjectiveTSP(String... distanceFiles) {
+    if (distanceFiles.length == 0) {
+      throw new JMetalException("No distance files") ;
+    }
+
+    distanceMatrices = new DistanceMatrix[distanceFiles.length] ;
+    String name = "MultiobjectiveTSP" ;
+    for (int i = 0; i < distanceFiles.length; i++) {
+      distanceMatrices[i] = new DistanceMatrix(distanceFiles[i]) ;
+      if (distanceMatrices[i].getNumberOfCities() != distanceMatrices[0].getNumberOfCities()) {
+        throw new JMetalException("The instances have different number of cities: "
+            + distanceMatrices[0].getNumberOfCities() + ", "
+            + distanceMatrices[i].getNumberOfCities()) ;
+      }
+      name += "_" + distanceMatrices[i].getName() ;
+    }
+
+    setNumberOfVariables(1);
+    setNumberOfObjectives(distanceFiles.length);
+    setName(name);
+  }
+
+  @Override
+  public int getPermutationLength(int index) {
+    return distanceMatrices[0].getNumberOfCities() ;
+  }
+
+  public DistanceMatrix getDistanceMatrix(int objective) {
+    return distanceMatrices[objective] ;
+  }
+
+  @Override
+  public void evaluate(PermutationSolution<Permutation> solution) {
+    Permutation tour = solution.getVariableValue(0) ;
+    for (int i = 0; i < distanceMatrices.length; i++) {
+      if (tour.hasUntrackedChanges()) {
+        solution.setObjective(i, distanceMatrices[i].getTourLength(tour.getElements()));
+      } else {
+        solution.setObjective(i,
+            solution.getObjective(i) + distanceMatrices[i].getTourLengthChange(tour));
+      }
+    }
+    tour.clearChanges();
+  }
+}
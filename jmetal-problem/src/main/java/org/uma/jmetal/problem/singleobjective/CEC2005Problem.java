@@ -32,16 +32,25 @@ import java.util.List;
 
 /**
  * Class representing for solving the CEC2005 competition problems.
+ *
+ * The test functions keep working buffers, so each thread evaluating solutions uses its own
+ * {@link TestFunc} object. The support data files are read only once (see {@link Benchmark}),
+ * so creating those objects does not parse them again.
  */
 public class CEC2005Problem extends AbstractDoubleProblem {
   TestFunc testFunction;
 
+  private final int problemID ;
+  private transient volatile ThreadLocal<TestFunc> testFunctions ;
+  private boolean testFunctionClaimed ;
+
   /** Constructor */
   public CEC2005Problem(int problemID, int numberOfVariables) {
     setNumberOfVariables(numberOfVariables);
     setNumberOfObjectives(1);
     setNumberOfConstraints(0) ;
     setName("CEC2005");
+    this.problemID = problemID ;
 
     Benchmark cec2005ProblemFactory = new Benchmark();
     testFunction = cec2005ProblemFactory.testFunctionFactory(problemID, numberOfVariables);
@@ -123,9 +132,34 @@ public class CEC2005Problem extends AbstractDoubleProblem {
       x[i] = solution.getVariableValue(i) ;
     }
     double result;
-    result = testFunction.f(x);
+    result = getTestFunction().f(x);
 
     solution.setObjective(0, result);
   }
+
+  /** Returns the test function object of the calling thread */
+  private TestFunc getTestFunction() {
+    ThreadLocal<TestFunc> functions = testFunctions ;
+    if (functions == null) {
+      synchronized (this) {
+        if (testFunctions == null) {
+          testFunctions = new ThreadLocal<TestFunc>() {
+            @Override
+            protected TestFunc initialValue() {
+              synchronized (CEC2005Problem.this) {
+                if (!testFunctionClaimed) {
+                  testFunctionClaimed = true ;
+                  return testFunction ;
+                }
+              }
+              return new Benchmark().testFunctionFactory(problemID, getNumberOfVariables()) ;
+            }
+          } ;
+        }
+        functions = testFunctions ;
+      }
+    }
+    return functions.get() ;
+  }
 }
 
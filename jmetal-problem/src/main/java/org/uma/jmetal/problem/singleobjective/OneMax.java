@@ -67,15 +67,8 @@ public class OneMax extends AbstractBinaryProblem {
   public void evaluate(BinarySolution solution) {
     int counterOnes;
 
-    counterOnes = 0;
-
     BitSet bitset = solution.getVariableValue(0) ;
-
-    for (int i = 0; i < bitset.length(); i++) {
-      if (bitset.get(i)) {
-        counterOnes++;
-      }
-    }
+    counterOnes = bitset.cardinality() ;
 
     // OneMax is a maximization problem: multiply by -1 to minimize
     solution.setObjective(0, -1.0 * counterOnes);
@@ -55,6 +55,10 @@ import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.InputStreamReader;
 import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.StringTokenizer;
 import java.util.logging.Level;
@@ -66,31 +70,31 @@ public class Benchmark {
   static final public int NUM_TEST_FUNC = 25;
   static final public String DEFAULT_FILE_BIAS = CEC2005SUPPORTDATADIRECTORY + "/fbias_data.txt";
   static final public String[] test_func_class_names = {
-    "F01_shifted_sphere",
-    "F02_shifted_schwefel",
-    "F03_shifted_rotated_high_cond_elliptic",
-    "F04_shifted_schwefel_noise",
-    "F05_schwefel_global_opt_bound",
-    "F06_shifted_rosenbrock",
-    "F07_shifted_rotated_griewank",
-    "F08_shifted_rotated_ackley_global_opt_bound",
-    "F09_shifted_rastrigin",
-    "F10_shifted_rotated_rastrigin",
-    "F11_shifted_rotated_weierstrass",
-    "F12_schwefel",
-    "F13_shifted_expanded_griewank_rosenbrock",
-    "F14_shifted_rotated_expanded_scaffer",
-    "F15_hybrid_composition_1",
-    "F16_rotated_hybrid_composition_1",
-    "F17_rotated_hybrid_composition_1_noise",
-    "F18_rotated_hybrid_composition_2",
-    "F19_rotated_hybrid_composition_2_narrow_basin_global_opt",
-    "F20_rotated_hybrid_composition_2_global_opt_bound",
-    "F21_rotated_hybrid_composition_3",
-    "F22_rotated_hybrid_composition_3_high_cond_num_matrix",
-    "F23_noncontinuous_rotated_hybrid_composition_3",
-    "F24_rotated_hybrid_composition_4",
-    "F25_rotated_hybrid_composition_4_bound"
+    "F01ShiftedSphere",
+    "F02ShiftedSchwefel",
+    "F03ShiftedRotatedHighCondElliptic",
+    "F04ShiftedSchwefelNoise",
+    "F05SchwefelGlobalOptBound",
+    "F06ShiftedRosenbrock",
+    "F07ShiftedRotatedGriewank",
+    "F08ShiftedRotatedAckleyGlobalOptBound",
+    "F09ShiftedRastrigin",
+    "F10ShiftedRotatedRastrigin",
+    "F11ShiftedRotatedWeierstrass",
+    "F12Schwefel",
+    "F13ShiftedExpandedGriewankRosenbrock",
+    "F14ShiftedRotatedExpandedScaffer",
+    "F15HybridComposition1",
+    "F16RotatedHybridComposition1",
+    "F17RotatedHybridComposition1Noise",
+    "F18RotatedHybridComposition2",
+    "F19RotatedHybridComposition2NarrowBasinGlobalOpt",
+    "F20RotatedHybridComposition2GlobalOptBound",
+    "F21RotatedHybridComposition3",
+    "F22RotatedHybridComposition3HighCondNumMatrix",
+    "F23NoncontinuousRotatedHybridComposition3",
+    "F24RotatedHybridComposition4",
+    "F25RotatedHybridComposition4Bound"
   };
 
   // For certain functions, some essential data can be calculated beforehand.
@@ -109,12 +113,31 @@ public class Benchmark {
   // If you want to plan a specific seed, do it here.
   static final public Random random = new Random();
 
+  // Random number generators of the noisy functions, one per thread.
+  // Their seeds are taken from the previous generator.
+  static final private ThreadLocal<Random> noiseRandom = new ThreadLocal<Random>() {
+    @Override
+    protected Random initialValue() {
+      return new Random(random.nextLong());
+    }
+  };
+
   // Class loader & reflection
   static final public ClassLoader loader = ClassLoader.getSystemClassLoader();
   static final Class[] test_func_arg_types = {int.class, double.class};
 
   // Class variables
-  static private double[] m_iSqrt;
+  static final private double[] m_iSqrt = new double[MAX_SUPPORT_DIM];
+
+  static {
+    for (int i = 0; i < MAX_SUPPORT_DIM; i++) {
+      m_iSqrt[i] = Math.sqrt(((double) i) + 1.0);
+    }
+  }
+
+  // Support data files already read. Each file is parsed only once and its rows are
+  // shared by all the test functions; they must not be modified.
+  static final private Map<String, double[][]> supportData = new HashMap<String, double[][]>();
 
   // Instance variables
   private double[] m_biases;
@@ -128,13 +151,8 @@ public class Benchmark {
 
   public Benchmark(String file_bias) throws JMetalException {
     m_biases = new double[NUM_TEST_FUNC];
-    m_iSqrt = new double[MAX_SUPPORT_DIM];
 
     loadRowVectorFromFile(file_bias, NUM_TEST_FUNC, m_biases);
-
-    for (int i = 0; i < MAX_SUPPORT_DIM; i++) {
-      m_iSqrt[i] = Math.sqrt(((double) i) + 1.0);
-    }
   }
 
   // Entry point
@@ -168,11 +186,16 @@ public class Benchmark {
 
     // NOISE
     // Comment the next line to remove the noise
-    sum *= (1.0 + 0.1 * Math.abs(random.nextGaussian()));
+    sum *= (1.0 + 0.1 * Math.abs(nextGaussian()));
 
     return (sum);
   }
 
+  // Gaussian noise of the noisy functions
+  static public double nextGaussian() {
+    return (noiseRandom.get().nextGaussian());
+  }
+
   // Schwefel's problem 1.2
   static public double schwefel_102(double[] x) {
 
@@ -501,12 +524,7 @@ public class Benchmark {
   static public void loadRowVectorFromFile(String file, int columns, double[] row)
     throws JMetalException {
     try {
-      BufferedReader brSrc =
-              new BufferedReader(
-                      new InputStreamReader(new FileInputStream(ClassLoader.getSystemResource(file).getPath()))) ;
-      //BufferedReader brSrc = new BufferedReader(new FileReader(file));
-      loadRowVector(brSrc, columns, row);
-      brSrc.close();
+      copyRow(getSupportData(file), 0, columns, row);
     } catch (Exception e) {
       JMetalLogger.logger.log(Level.SEVERE, "Error in Benchmark.java", e);
       throw new JMetalException("Error in Benchmark.java");
@@ -526,12 +544,12 @@ public class Benchmark {
   static public void loadColumnVectorFromFile(String file, int rows, double[] column)
     throws JMetalException {
     try {
-      BufferedReader brSrc =
-              new BufferedReader(
-                      new InputStreamReader(new FileInputStream(ClassLoader.getSystemResource(file).getPath()))) ;
-      //BufferedReader brSrc = new BufferedReader(new FileReader(file));
-      loadColumnVector(brSrc, rows, column);
-      brSrc.close();
+      double[][] data = getSupportData(file);
+      double[] value = new double[1];
+      for (int i = 0; i < rows; i++) {
+        copyRow(data, i, 1, value);
+        column[i] = value[0];
+      }
     } catch (Exception e) {
       JMetalLogger.logger.log(Level.SEVERE, "Error in Benchmark.java", e);
       throw new JMetalException("Error in Benchmark.java");
@@ -551,14 +569,12 @@ public class Benchmark {
   static public void loadNMatrixFromFile(String file, int N, int rows, int columns,
     double[][][] matrix) throws JMetalException {
     try {
-      BufferedReader brSrc =
-              new BufferedReader(
-                      new InputStreamReader(new FileInputStream(ClassLoader.getSystemResource(file).getPath()))) ;
-      //BufferedReader brSrc = new BufferedReader(new FileReader(file));
+      double[][] data = getSupportData(file);
       for (int i = 0; i < N; i++) {
-        loadMatrix(brSrc, rows, columns, matrix[i]);
+        for (int j = 0; j < rows; j++) {
+          copyRow(data, i * rows + j, columns, matrix[i][j]);
+        }
       }
-      brSrc.close();
     } catch (Exception e) {
       throw new JMetalException("Error in Benchmark.java", e);
     }
@@ -567,12 +583,10 @@ public class Benchmark {
   static public void loadMatrixFromFile(String file, int rows, int columns, double[][] matrix)
     throws JMetalException {
     try {
-      BufferedReader brSrc =
-              new BufferedReader(
-                      new InputStreamReader(new FileInputStream(ClassLoader.getSystemResource(file).getPath()))) ;
-      //BufferedReader brSrc = new BufferedReader(new FileReader(file));
-      loadMatrix(brSrc, rows, columns, matrix);
-      brSrc.close();
+      double[][] data = getSupportData(file);
+      for (int i = 0; i < rows; i++) {
+        copyRow(data, i, columns, matrix[i]);
+      }
     } catch (Exception e) {
       throw new JMetalException("Error in Benchmark.java", e);
     }
@@ -585,6 +599,45 @@ public class Benchmark {
     }
   }
 
+  // Returns the rows of a support data file, reading it the first time it is requested
+  static private double[][] getSupportData(String file) throws Exception {
+    synchronized (supportData) {
+      double[][] data = supportData.get(file);
+      if (data == null) {
+        data = readSupportData(file);
+        supportData.put(file, data);
+      }
+      return (data);
+    }
+  }
+
+  static private double[][] readSupportData(String file) throws Exception {
+    BufferedReader brSrc =
+            new BufferedReader(
+                    new InputStreamReader(new FileInputStream(ClassLoader.getSystemResource(file).getPath()))) ;
+    List<double[]> rows = new ArrayList<double[]>();
+    String line;
+    while ((line = brSrc.readLine()) != null) {
+      StringTokenizer stTokenizer = new StringTokenizer(line);
+      double[] row = new double[stTokenizer.countTokens()];
+      for (int i = 0; i < row.length; i++) {
+        row[i] = Double.parseDouble(stTokenizer.nextToken());
+      }
+      rows.add(row);
+    }
+    brSrc.close();
+
+    return (rows.toArray(new double[rows.size()][]));
+  }
+
+  static private void copyRow(double[][] data, int index, int columns, double[] row)
+    throws JMetalException {
+    if ((index >= data.length) || (data[index].length < columns)) {
+      throw new JMetalException("Row " + index + " has not " + columns + " values");
+    }
+    System.arraycopy(data[index], 0, row, 0, columns);
+  }
+
   //
   // Use this function to manufacture new test function objects
   //
@@ -88,7 +88,7 @@ public class F04ShiftedSchwefelNoise extends TestFunc {
 
     // NOISE
     // Comment the next line to remove the noise
-    result *= (1.0 + 0.4 * Math.abs(Benchmark.random.nextGaussian()));
+    result *= (1.0 + 0.4 * Math.abs(Benchmark.nextGaussian()));
 
     result += mBias;
 
@@ -149,7 +149,7 @@ public class F17RotatedHybridComposition1Noise extends TestFunc {
 
     // NOISE
     // Comment the next line to remove the noise
-    result *= (1.0 + 0.2 * Math.abs(Benchmark.random.nextGaussian()));
+    result *= (1.0 + 0.2 * Math.abs(Benchmark.nextGaussian()));
 
     return (result);
   }
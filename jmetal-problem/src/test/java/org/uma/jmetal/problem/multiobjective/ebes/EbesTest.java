@@ -0,0 +1,110 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.problem.multiobjective.ebes;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.DoubleSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests of {@link Ebes} with the two bar frame of src/test/resources/ebes, which is the structure
+ * named in the EBEs.txt file of the test resources
+ *
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class EbesTest {
+  private static final int NUMBER_OF_SOLUTIONS = 50 ;
+  private static final int NUMBER_OF_THREADS = 4 ;
+
+  @Test public void shouldTheInstancesShareTheStructureAndTheProblemFile() {
+    Ebes problem = new Ebes() ;
+    Ebes otherProblem = new Ebes() ;
+
+    assertEquals(2, problem.getNumberOfVariables()) ;
+    assertEquals(2, problem.getNumberOfObjectives()) ;
+    assertEquals(7, problem.getNumberOfConstraints()) ;
+    assertSame(problem.OF_, otherProblem.OF_) ;
+    assertSame(problem.Node_, otherProblem.Node_) ;
+    assertSame(problem.Element_, otherProblem.Element_) ;
+    assertNotSame(problem.Groups_, otherProblem.Groups_) ;
+  }
+
+  @Test public void shouldTheEvaluationInSeveralThreadsGiveTheSameResultsAsInOneThread()
+      throws Exception {
+    Ebes problem = new Ebes() ;
+    List<DoubleSolution> expected = new ArrayList<>(NUMBER_OF_SOLUTIONS) ;
+    for (int i = 0; i < NUMBER_OF_SOLUTIONS; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      problem.evaluate(solution);
+      problem.evaluateConstraints(solution);
+      expected.add(solution) ;
+    }
+
+    final Ebes sharedProblem = new Ebes() ;
+    final CountDownLatch start = new CountDownLatch(1) ;
+    List<Future<List<DoubleSolution>>> results = new ArrayList<>(NUMBER_OF_THREADS) ;
+    ExecutorService executor = Executors.newFixedThreadPool(NUMBER_OF_THREADS) ;
+    try {
+      for (int t = 0; t < NUMBER_OF_THREADS; t++) {
+        final List<DoubleSolution> solutions = new ArrayList<>(NUMBER_OF_SOLUTIONS) ;
+        for (DoubleSolution solution : expected) {
+          solutions.add((DoubleSolution) solution.copy()) ;
+        }
+        results.add(executor.submit(new Callable<List<DoubleSolution>>() {
+          @Override public List<DoubleSolution> call() throws Exception {
+            start.await() ;
+            for (DoubleSolution solution : solutions) {
+              sharedProblem.evaluate(solution);
+              sharedProblem.evaluateConstraints(solution);
+            }
+            return solutions ;
+          }
+        })) ;
+      }
+      start.countDown();
+
+      for (Future<List<DoubleSolution>> result : results) {
+        List<DoubleSolution> solutions = result.get(60, TimeUnit.SECONDS) ;
+        for (int i = 0; i < NUMBER_OF_SOLUTIONS; i++) {
+          assertSameEvaluation(expected.get(i), solutions.get(i)) ;
+        }
+      }
+    } finally {
+      executor.shutdownNow() ;
+    }
+  }
+
+  private void assertSameEvaluation(DoubleSolution expected, DoubleSolution solution) {
+    for (int i = 0; i < expected.getNumberOfObjectives(); i++) {
+      assertEquals(expected.getObjective(i), solution.getObjective(i), 0.0) ;
+    }
+    assertEquals(expected.getOverallConstraintViolationDegree(),
+        solution.getOverallConstraintViolationDegree(), 0.0) ;
+    assertEquals(expected.getNumberOfViolatedConstraints(),
+        solution.getNumberOfViolatedConstraints()) ;
+  }
+}
@@ -0,0 +1,123 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.problem.multiobjective.tsp;
+
+import org.junit.Test;
+import org.uma.jmetal.operator.impl.crossover.PMXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PermutationSwapMutation;
+import org.uma.jmetal.operator.impl.mutation.TwoOptMutation;
+import org.uma.jmetal.solution.PermutationSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.evaluator.impl.CachingSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.permutation.Permutation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class MultiobjectiveTSPTest {
+  @Test public void shouldReadTheInstancesFromTheClasspath() {
+    MultiobjectiveTSP problem =
+        new MultiobjectiveTSP("tspInstances/kroA100.tsp", "tspInstances/kroB100.tsp") ;
+
+    assertEquals(2, problem.getNumberOfObjectives()) ;
+    assertEquals(100, problem.getPermutationLength(0)) ;
+    assertEquals("kroA100", problem.getDistanceMatrix(0).getName()) ;
+    // Cities 1 (1380, 939) and 2 (2848, 96) of kroA100
+    assertEquals(1693, problem.getDistanceMatrix(0).getDistance(0, 1)) ;
+    assertEquals(1693, problem.getDistanceMatrix(0).getDistance(1, 0)) ;
+  }
+
+  @Test public void shouldTheIncrementalEvaluationGiveTheLengthOfTheTours() {
+    MultiobjectiveTSP problem =
+        new MultiobjectiveTSP("tspInstances/kroA100.tsp", "tspInstances/kroB100.tsp") ;
+    PermutationSwapMutation swapMutation = new PermutationSwapMutation(1.0) ;
+    TwoOptMutation twoOptMutation = new TwoOptMutation(1.0) ;
+    PMXCrossover crossover = new PMXCrossover(1.0) ;
+
+    PermutationSolution<Permutation> solution1 = problem.createSolution() ;
+    PermutationSolution<Permutation> solution2 = problem.createSolution() ;
+    problem.evaluate(solution1);
+    problem.evaluate(solution2);
+    for (int i = 0; i < 200; i++) {
+      List<PermutationSolution<Permutation>> offspring =
+          crossover.execute(Arrays.asList(solution1, solution2)) ;
+      solution1 = offspring.get(0) ;
+      solution2 = offspring.get(1) ;
+      swapMutation.execute(solution1) ;
+      twoOptMutation.execute(solution2) ;
+      problem.evaluate(solution1);
+      problem.evaluate(solution2);
+
+      for (PermutationSolution<Permutation> solution : offspring) {
+        int[] tour = solution.getVariableValue(0).getElements() ;
+        assertEquals(problem.getDistanceMatrix(0).getTourLength(tour), solution.getObjective(0),
+            0.0) ;
+        assertEquals(problem.getDistanceMatrix(1).getTourLength(tour), solution.getObjective(1),
+            0.0) ;
+      }
+    }
+  }
+
+  @Test public void shouldTheIncrementalEvaluationBeRightWithTheValuesOfACache() {
+    MultiobjectiveTSP problem =
+        new MultiobjectiveTSP("tspInstances/kroA100.tsp", "tspInstances/kroB100.tsp") ;
+    CachingSolutionListEvaluator<PermutationSolution<Permutation>> evaluator =
+        new CachingSolutionListEvaluator<>(
+            new SequentialSolutionListEvaluator<PermutationSolution<Permutation>>()) ;
+    Random random = new Random(1) ;
+
+    PermutationSolution<Permutation> solution = problem.createSolution() ;
+    evaluator.evaluate(Arrays.asList(solution), problem) ;
+    for (int step = 0; step < 100; step++) {
+      int i = random.nextInt(100) ;
+      int j = random.nextInt(100) ;
+      List<PermutationSolution<Permutation>> offspring = new ArrayList<>() ;
+      for (int k = 0; k < 3; k++) {
+        @SuppressWarnings("unchecked")
+        PermutationSolution<Permutation> child =
+            (PermutationSolution<Permutation>) solution.copy() ;
+        child.getVariableValue(0).swap(i, j);
+        offspring.add(child) ;
+      }
+      // The second child is a duplicate of the first one and the third is found in the cache
+      evaluator.evaluate(offspring.subList(0, 2), problem) ;
+      evaluator.evaluate(offspring.subList(2, 3), problem) ;
+
+      for (PermutationSolution<Permutation> child : offspring) {
+        int[] tour = child.getVariableValue(0).getElements() ;
+        assertEquals(problem.getDistanceMatrix(0).getTourLength(tour), child.getObjective(0),
+            0.0) ;
+        assertEquals(problem.getDistanceMatrix(1).getTourLength(tour), child.getObjective(1),
+            0.0) ;
+      }
+      solution = offspring.get(1 + step % 2) ;
+    }
+    assertTrue(evaluator.getNumberOfHits() >= 200) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldConstructorFailIfTheInstancesHaveDifferentNumberOfCities() {
+    new MultiobjectiveTSP("tspInstances/kroA100.tsp", "eil101.tsp") ;
+  }
+}